@@ -27,6 +27,7 @@ import io.jenetics.Genotype;
 import io.jenetics.engine.Codec;
 import io.jenetics.engine.Codecs;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionRandom;
 import io.jenetics.engine.EvolutionResult;
 import io.jenetics.util.DoubleRange;
 import io.jenetics.util.ISeq;
@@ -35,10 +36,11 @@ import io.jenetics.util.RandomRegistry;
 /**
  * This GA produces the same results on every run. The {@code RandomRegistry.with}
  * block allows you to <em>inject</em> a random engine with the same start state
- * at every call.
+ * at every call. The second engine uses the <em>reproducible</em> evolution
+ * mode, which gives the same results independent of the used executor.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.3
+ * @version 9.0
  * @since 4.3
  */
 public class ReproducibleGA {
@@ -71,6 +73,19 @@ public class ReproducibleGA {
 				);
 
 		System.out.println(result.bestPhenotype());
+
+		// Reproducible results, also with concurrent evolution steps.
+		final Engine<DoubleGene, Double> parallelEngine =
+			Engine.builder(Function.identity(), CODEC)
+				.random(EvolutionRandom.of(456))
+				.build();
+
+		final EvolutionResult<DoubleGene, Double> parallelResult =
+			parallelEngine.stream(population)
+				.limit(100)
+				.collect(EvolutionResult.toBestEvolutionResult());
+
+		System.out.println(parallelResult.bestPhenotype());
 	}
 
 }
@@ -38,7 +38,7 @@ import io.jenetics.prog.op.MathOp;
 import io.jenetics.prog.op.Op;
 import io.jenetics.prog.op.Var;
 import io.jenetics.prog.regression.Error;
-import io.jenetics.prog.regression.LossFunction;
+import io.jenetics.prog.regression.MeanLoss;
 import io.jenetics.prog.regression.Regression;
 import io.jenetics.prog.regression.Sample;
 
@@ -98,7 +98,7 @@ public class SymbolicRegression {
 
 	private static final Regression<Double> REGRESSION = Regression.of(
 		Regression.codecOf(OPS, TMS, 5, t -> t.gene().size() < 30),
-		Error.of(LossFunction::mse),
+		Error.of(MeanLoss.MSE),
 		SAMPLES
 	);
 
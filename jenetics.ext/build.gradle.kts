@@ -56,6 +56,8 @@ tasks.test { dependsOn(tasks.compileJmhJava) }
 jmh {
 	//includes.add(".*TreePerf.*")
 	includes.add(".*CsvSupportPerf.*")
+	includes.add(".*NSGA2EnginePerf.*")
+	profilers.add("gc")
 }
 
 tasks.javadoc {
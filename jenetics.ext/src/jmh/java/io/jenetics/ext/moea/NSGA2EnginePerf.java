@@ -0,0 +1,147 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.ext.SimulatedBinaryCrossover;
+import io.jenetics.util.ISeq;
+
+/**
+ * Benchmarks complete generations of a multi-objective engine, which uses
+ * the {@link NSGA2Selector} as survivor selector. This is the counterpart of
+ * the {@code EnginePerf} benchmark of the base module, which can't use the
+ * selectors of this module.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class NSGA2EnginePerf {
+
+	public enum ExecutorType { COMMON_POOL, FIXED_POOL, VIRTUAL_THREADS, CALLER }
+
+	@Param({"50", "500", "5000"})
+	public int populationSize;
+
+	@Param({"10", "100", "1000"})
+	public int length;
+
+	@Param({"COMMON_POOL", "FIXED_POOL", "VIRTUAL_THREADS", "CALLER"})
+	public ExecutorType executor;
+
+	private ExecutorService _service;
+	private Engine<DoubleGene, Vec<double[]>> _engine;
+	private EvolutionStart<DoubleGene, Vec<double[]>> _start;
+
+	// Two conflicting, cheap objectives.
+	private static Vec<double[]> fitness(final Genotype<DoubleGene> gt) {
+		final double[] x = gt.chromosome()
+			.as(DoubleChromosome.class)
+			.toArray();
+
+		double f1 = 0;
+		double f2 = 0;
+		for (double v : x) {
+			f1 += v*v;
+			f2 += (v - 2)*(v - 2);
+		}
+
+		return Vec.of(f1, f2);
+	}
+
+	@Setup
+	public void setup() {
+		final Executor exec = switch (executor) {
+			case COMMON_POOL -> ForkJoinPool.commonPool();
+			case FIXED_POOL -> _service = Executors.newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors()
+			);
+			case VIRTUAL_THREADS -> _service =
+				Executors.newVirtualThreadPerTaskExecutor();
+			case CALLER -> Runnable::run;
+		};
+
+		_engine = Engine
+			.builder(
+				NSGA2EnginePerf::fitness,
+				Genotype.of(DoubleChromosome.of(-5, 5, length))
+			)
+			.populationSize(populationSize)
+			.alterers(
+				new SimulatedBinaryCrossover<>(1),
+				new Mutator<>(1.0/length)
+			)
+			.offspringSelector(new TournamentSelector<>(5))
+			.survivorsSelector(NSGA2Selector.ofVec())
+			.minimizing()
+			.executor(exec)
+			.build();
+
+		// Creating and evaluating the start population once.
+		_start = _engine
+			.evolve(EvolutionStart.of(ISeq.empty(), 1))
+			.toEvolutionStart();
+	}
+
+	@TearDown
+	public void shutdown() {
+		if (_service != null) {
+			_service.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	public EvolutionResult<DoubleGene, Vec<double[]>> evolve() {
+		return _engine.evolve(_start);
+	}
+
+}
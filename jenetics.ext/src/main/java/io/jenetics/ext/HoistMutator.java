@@ -0,0 +1,121 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import java.util.ArrayList;
+
+import io.jenetics.Chromosome;
+import io.jenetics.MutatorResult;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.internal.util.TreeGenes;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * Replaces the tree with one of its, randomly chosen, subtrees. The
+ * <em>hoist</em> mutation is a simple way for reducing the size of the
+ * (program) trees and for counteracting <em>bloat</em>.
+ * <pre> {@code
+ *     Tree A                 Hoisted node "3"
+ *   0                      3
+ *   ├── 1                  ├── 7
+ *   │   ├── 4              │   ├── 10
+ *   │   └── 5              │   └── 11
+ *   ├── 2                  ├── 8
+ *   │   └── 6              └── 9
+ *   └── 3
+ *       ├── 7
+ *       │   ├── 10
+ *       │   └── 11
+ *       ├── 8
+ *       └── 9
+ * } </pre>
+ *
+ * @implNote
+ * The subtree is hoisted directly on the flattened tree genes of the
+ * chromosome, without creating an intermediate tree.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public class HoistMutator<
+	A,
+	G extends TreeGene<A, G>,
+	C extends Comparable<? super C>
+>
+	extends TreeMutator<A, G, C>
+{
+
+	/**
+	 * Create a new hoist mutator with the given mutation probability.
+	 *
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]}
+	 */
+	public HoistMutator(final double probability) {
+		super(probability);
+	}
+
+	/**
+	 * Create a new hoist mutator with the default mutation probability.
+	 */
+	public HoistMutator() {
+		this(DEFAULT_ALTER_PROBABILITY);
+	}
+
+	@Override
+	protected MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
+		if (chromosome.length() > 1) {
+			final var random = RandomRegistry.random();
+			final int index = random.nextInt(chromosome.length() - 1) + 1;
+
+			return new MutatorResult<>(
+				chromosome.newInstance(
+					TreeGenes.replace(chromosome, 0, chromosome, index)
+				),
+				1
+			);
+		} else {
+			return new MutatorResult<>(chromosome, 0);
+		}
+	}
+
+	@Override
+	protected void mutate(final TreeNode<A> tree) {
+		final int size = tree.size();
+		if (size > 1) {
+			final var random = RandomRegistry.random();
+			final TreeNode<A> node = tree.breadthFirstStream()
+				.skip(random.nextInt(size - 1) + 1)
+				.findFirst()
+				.orElseThrow(AssertionError::new);
+
+			final var children = new ArrayList<TreeNode<A>>();
+			node.childIterator().forEachRemaining(children::add);
+
+			tree.removeAllChildren();
+			tree.value(node.value());
+			children.forEach(child -> tree.attach(child.detach()));
+		}
+	}
+
+}
@@ -21,9 +21,12 @@ package io.jenetics.ext;
 
 import static java.lang.String.format;
 
+import io.jenetics.Chromosome;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
+import io.jenetics.ext.internal.util.TreeGenes;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -63,8 +66,13 @@ import io.jenetics.ext.util.TreeNode;
  *                              └── j
  * } </pre>
  *
+ * @implNote
+ * The subtrees are swapped directly on the flattened tree genes of the
+ * chromosomes, if {@link #isFlattened()} returns {@code true}. Otherwise, the
+ * {@link #crossover(TreeNode, TreeNode)} method is used.
+ *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 9.0
  * @since 3.9
  */
 public class SingleNodeCrossover<
@@ -82,11 +90,65 @@ public class SingleNodeCrossover<
 		this(DEFAULT_ALTER_PROBABILITY);
 	}
 
+	@Override
+	protected void crossover(
+		final MSeq<Chromosome<G>> that,
+		final MSeq<Chromosome<G>> other,
+		final int index
+	) {
+		if (isFlattened()) {
+			swap(that, other, index);
+		} else {
+			super.crossover(that, other, index);
+		}
+	}
+
+	/**
+	 * Return {@code true} if the subtrees are swapped directly on the
+	 * flattened tree genes of the chromosomes, without creating
+	 * {@link TreeNode} objects. In this case, the
+	 * {@link #crossover(TreeNode, TreeNode)} method is not called. The default
+	 * implementation returns {@code true} only for the
+	 * {@code SingleNodeCrossover} class itself. Subclasses, which don't
+	 * override the {@link #crossover(TreeNode, TreeNode)} method, can opt in
+	 * by overriding this method.
+	 *
+	 * @since 9.0
+	 *
+	 * @return {@code true} if the crossover is performed on the flattened tree
+	 *         genes, {@code false} if the tree based
+	 *         {@link #crossover(TreeNode, TreeNode)} method is used
+	 */
+	protected boolean isFlattened() {
+		return getClass() == SingleNodeCrossover.class;
+	}
+
 	@Override
 	protected <A> int crossover(final TreeNode<A> that, final TreeNode<A> other) {
 		return swap(that, other);
 	}
 
+	// Swaps the subtrees on the flattened tree genes. The chosen nodes are the
+	// same as for the pointer based trees, since the genes are stored in
+	// breadth-first order.
+	private void swap(
+		final MSeq<Chromosome<G>> that,
+		final MSeq<Chromosome<G>> other,
+		final int index
+	) {
+		final Chromosome<G> c1 = that.get(index);
+		final Chromosome<G> c2 = other.get(index);
+
+		if (c1.length() > 1 && c2.length() > 1) {
+			final var random = RandomRegistry.random();
+			final int i1 = random.nextInt(c1.length() - 1) + 1;
+			final int i2 = random.nextInt(c2.length() - 1) + 1;
+
+			that.set(index, c1.newInstance(TreeGenes.replace(c1, i1, c2, i2)));
+			other.set(index, c2.newInstance(TreeGenes.replace(c2, i2, c1, i1)));
+		}
+	}
+
 	// The static method makes it easier to test.
 	static <A> int swap(final TreeNode<A> that, final TreeNode<A> other) {
 		assert that != null;
@@ -28,8 +28,7 @@ import io.jenetics.Recombinator;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 
-import io.jenetics.ext.util.FlatTree;
-import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.internal.util.TreeGenes;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -37,9 +36,12 @@ import io.jenetics.ext.util.TreeNode;
  * simplifies the implementation of tree base crossover implementation, by doing
  * the transformation of the flattened tree genes to actual trees and vice versa.
  * Only the {@link #crossover(TreeNode, TreeNode)} method must be implemented.
+ * Implementations which are able to work directly on the flattened tree genes
+ * can override the {@link #crossover(MSeq, MSeq, int)} method instead, which
+ * avoids the tree transformations.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.9
+ * @version 9.0
  * @since 3.9
  */
 public abstract class TreeCrossover<
@@ -95,10 +97,30 @@ public abstract class TreeCrossover<
 		return order();
 	}
 
+	/**
+	 * Performs the crossover of the tree chromosomes at the given
+	 * {@code index}, by replacing them in the given chromosome sequences. The
+	 * default implementation transforms the flattened tree genes into mutable
+	 * trees and delegates to the {@link #crossover(TreeNode, TreeNode)} method.
+	 *
+	 * @since 9.0
+	 *
+	 * @param that the chromosomes of the first genotype
+	 * @param other the chromosomes of the second genotype
+	 * @param index the index of the chromosomes to recombine
+	 */
+	protected void crossover(
+		final MSeq<Chromosome<G>> that,
+		final MSeq<Chromosome<G>> other,
+		final int index
+	) {
+		crossover0(that, other, index);
+	}
+
 	// Since the allele type "A" is not part of the type signature, we have to
 	// do some unchecked casts to make it "visible" again. The implementor of
 	// the abstract "crossover" method usually doesn't have to do additional casts.
-	private <A> void crossover(
+	private <A> void crossover0(
 		final MSeq<Chromosome<G>> c1,
 		final MSeq<Chromosome<G>> c2,
 		final int index
@@ -110,29 +132,9 @@ public abstract class TreeCrossover<
 
 		crossover(tree1, tree2);
 
-		final var flat1 = FlatTreeNode.ofTree(tree1);
-		final var flat2 = FlatTreeNode.ofTree(tree2);
-
-		@SuppressWarnings("unchecked")
-		final var template = (TreeGene<A, ?>)c1.get(0).gene();
-
-		final var genes1 = flat1.map(tree -> gene(template, tree));
-		final var genes2 = flat2.map(tree -> gene(template, tree));
-
-		c1.set(index, c1.get(index).newInstance(genes1));
-		c2.set(index, c2.get(index).newInstance(genes2));
-	}
-
-	@SuppressWarnings("unchecked")
-	private <A> G gene(
-		final TreeGene<A, ?> template,
-		final FlatTree<? extends A, ?> tree
-	) {
-		return (G)template.newInstance(
-			tree.value(),
-			tree.childOffset(),
-			tree.childCount()
-		);
+		final G template = c1.get(0).gene();
+		c1.set(index, c1.get(index).newInstance(TreeGenes.of(tree1, template)));
+		c2.set(index, c2.get(index).newInstance(TreeGenes.of(tree2, template)));
 	}
 
 	/**
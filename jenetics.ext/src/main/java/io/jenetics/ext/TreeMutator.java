@@ -26,14 +26,18 @@ import io.jenetics.Mutator;
 import io.jenetics.MutatorResult;
 import io.jenetics.internal.math.Probabilities;
 
-import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.internal.util.TreeGenes;
+import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
- * Abstract class for mutating tree chromosomes.
+ * Abstract class for mutating tree chromosomes. Implementations, which are
+ * able to work directly on the flattened tree genes, can override the
+ * {@link #mutate(Chromosome)} method, which avoids the transformation into a
+ * mutable tree.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 4.1
  */
 public abstract class TreeMutator<
@@ -73,13 +77,27 @@ public abstract class TreeMutator<
 			: new MutatorResult<>(chromosome, 0);
 	}
 
-	private MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
+	/**
+	 * Mutates the given tree chromosome. The default implementation
+	 * transforms the chromosome into a mutable tree and delegates to the
+	 * {@link #mutate(TreeNode)} method. If the tree hasn't been changed, the
+	 * given {@code chromosome} is returned, with zero mutations.
+	 *
+	 * @since 9.0
+	 *
+	 * @param chromosome the tree chromosome to mutate
+	 * @return the mutation result
+	 */
+	protected MutatorResult<Chromosome<G>> mutate(final Chromosome<G> chromosome) {
 		final TreeNode<A> tree = TreeNode.ofTree(chromosome.gene());
 		mutate(tree);
 
-		final var flat = FlatTreeNode.ofTree(tree);
-		final var genes = flat.map(t -> chromosome.gene().newInstance(t));
-		return new MutatorResult<>(chromosome.newInstance(genes), 1);
+		return Tree.equals(tree, chromosome.gene())
+			? new MutatorResult<>(chromosome, 0)
+			: new MutatorResult<>(
+				chromosome.newInstance(TreeGenes.of(tree, chromosome.gene())),
+				1
+			);
 	}
 
 	/**
@@ -0,0 +1,513 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNull;
+import static java.util.concurrent.CompletableFuture.supplyAsync;
+
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.Queue;
+import java.util.Spliterator;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.Executor;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.TruncationSelector;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionInit;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.EvolutionStream;
+import io.jenetics.engine.EvolutionStreamable;
+import io.jenetics.internal.engine.EvolutionStreamImpl;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * The {@code IslandEngine} evolves the populations of several
+ * {@link Engine}s (<em>islands</em>) concurrently and exchanges individuals
+ * between them. In contrast to the {@link ConcatEngine} and the
+ * {@link CyclicEngine}, the islands are evolved at the same time, each one
+ * in its own thread.
+ *
+ * <pre> {@code
+ *          +------------+   emigrants   +------------+
+ *          |  Engine 1  |-------------->|  Engine 2  |
+ *          +------------+               +------------+
+ *                ^                             |
+ *                |          +------------+     |
+ *                +----------|  Engine 3  |<----+
+ *                           +------------+
+ * } </pre>
+ *
+ * Every {@link Migration#interval()} generations, an island selects
+ * {@link Migration#count()} emigrants from its population and sends it to
+ * the islands defined by the {@link Migration#topology()}. The emigrants are
+ * delivered to non-blocking mailboxes of the receiving islands. Before its
+ * next generation, every island replaces its worst individuals with the
+ * received immigrants. Since the mailboxes never block, a slow island never
+ * lets the other islands wait.
+ * <p>
+ * The evolution results of all islands are merged into one
+ * {@link EvolutionStream}, in the order the islands finish their
+ * generations. Every element of the stream is the result of one generation
+ * of one island.
+ *
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .minimizing()
+ *     .build();
+ *
+ * final Phenotype<DoubleGene, Double> best =
+ *     IslandEngine.of(
+ *         Migration.of(MigrationTopology.ring(), 10, 3),
+ *         engine, engine, engine, engine)
+ *     .stream()
+ *     .limit(Limits.bySteadyFitness(100))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }
+ *
+ * The immigrants keep their fitness value. This means that all islands must
+ * use the same fitness function. The merged evolution stream is infinite,
+ * so it must be limited by the caller.
+ *
+ * @see MigrationTopology
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class IslandEngine<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements EvolutionStreamable<G, C>
+{
+
+	/**
+	 * Defines how individuals are exchanged between the islands.
+	 *
+	 * @param topology the migration topology, which defines the receiving
+	 *        islands of every island
+	 * @param interval the number of generations between two migrations of
+	 *        an island
+	 * @param count the number of emigrants sent by an island
+	 * @param selector the selector used for choosing the emigrants. The
+	 *        {@link TruncationSelector} emigrates the best individuals and
+	 *        the {@link io.jenetics.MonteCarloSelector} random ones.
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 */
+	public record Migration<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>(
+		MigrationTopology topology,
+		int interval,
+		int count,
+		Selector<G, C> selector
+	) {
+
+		/**
+		 * Create a new migration object.
+		 *
+		 * @throws NullPointerException if the {@code topology} or the
+		 *         {@code selector} is {@code null}
+		 * @throws IllegalArgumentException if the {@code interval} is smaller
+		 *         than one or the {@code count} is smaller than zero
+		 */
+		public Migration {
+			requireNonNull(topology);
+			Requires.positive(interval);
+			Requires.nonNegative(count);
+			requireNonNull(selector);
+		}
+
+		/**
+		 * Create a new migration object, which emigrates the best
+		 * individuals of an island.
+		 *
+		 * @param topology the migration topology
+		 * @param interval the number of generations between two migrations
+		 * @param count the number of emigrants sent by an island
+		 * @param <G> the gene type
+		 * @param <C> the fitness type
+		 * @return a new migration object
+		 * @throws NullPointerException if the {@code topology} is {@code null}
+		 * @throws IllegalArgumentException if the {@code interval} is smaller
+		 *         than one or the {@code count} is smaller than zero
+		 */
+		public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Migration<G, C> of(
+			final MigrationTopology topology,
+			final int interval,
+			final int count
+		) {
+			return new Migration<G, C>(
+				topology,
+				interval,
+				count,
+				new TruncationSelector<G, C>()
+			);
+		}
+
+	}
+
+	private static final Executor VIRTUAL_THREADS =
+		task -> Thread.ofVirtual().start(task);
+
+	private final List<Engine<G, C>> _islands;
+	private final Migration<G, C> _migration;
+	private final Executor _executor;
+	private final int[][] _targets;
+
+	/**
+	 * Create a new island engine with the given parameters.
+	 *
+	 * @param islands the evolution engines of the islands
+	 * @param migration the migration parameters
+	 * @param executor the executor used for evolving the islands. The
+	 *        executor must be able to run all islands concurrently.
+	 * @throws NullPointerException if one of the arguments or one of the
+	 *         {@code islands} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code islands} list is
+	 *         empty or the migration topology returns invalid island indexes
+	 */
+	public IslandEngine(
+		final List<? extends Engine<G, C>> islands,
+		final Migration<G, C> migration,
+		final Executor executor
+	) {
+		if (islands.isEmpty()) {
+			throw new IllegalArgumentException("No islands given.");
+		}
+		_islands = islands.stream()
+			.<Engine<G, C>>map(Objects::requireNonNull)
+			.toList();
+		_migration = requireNonNull(migration);
+		_executor = requireNonNull(executor);
+		_targets = targets(migration.topology(), islands.size());
+	}
+
+	private static int[][] targets(
+		final MigrationTopology topology,
+		final int islands
+	) {
+		final int[][] targets = new int[islands][];
+		for (int i = 0; i < islands; ++i) {
+			targets[i] = topology.targets(i, islands).clone();
+			for (int target : targets[i]) {
+				if (target < 0 || target >= islands || target == i) {
+					throw new IllegalArgumentException(format(
+						"Invalid migration target %d for island %d of %d.",
+						target, i, islands
+					));
+				}
+			}
+		}
+		return targets;
+	}
+
+	/**
+	 * Return the evolution engines of the islands.
+	 *
+	 * @return the evolution engines of the islands
+	 */
+	public List<Engine<G, C>> islands() {
+		return _islands;
+	}
+
+	/**
+	 * Return the migration parameters of {@code this} island engine.
+	 *
+	 * @return the migration parameters
+	 */
+	public Migration<G, C> migration() {
+		return _migration;
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+		return stream(engine -> engine.stream(start));
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+		return stream(engine -> engine.stream(init));
+	}
+
+	private EvolutionStream<G, C> stream(
+		final Function<? super Engine<G, C>, EvolutionStream<G, C>> streams
+	) {
+		return new EvolutionStreamImpl<>(new IslandSpliterator(streams), false);
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new island engine with the given migration parameters and
+	 * islands. Every island is evolved in its own virtual thread.
+	 *
+	 * @param migration the migration parameters
+	 * @param islands the evolution engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if one of the arguments or one of the
+	 *         {@code islands} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code islands} list is
+	 *         empty or the migration topology returns invalid island indexes
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(
+		final Migration<G, C> migration,
+		final List<? extends Engine<G, C>> islands
+	) {
+		return new IslandEngine<>(islands, migration, VIRTUAL_THREADS);
+	}
+
+	/**
+	 * Create a new island engine with the given migration parameters and
+	 * islands. Every island is evolved in its own virtual thread.
+	 *
+	 * @param migration the migration parameters
+	 * @param islands the evolution engines of the islands
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new island engine
+	 * @throws NullPointerException if one of the arguments or one of the
+	 *         {@code islands} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code islands} array is
+	 *         empty or the migration topology returns invalid island indexes
+	 */
+	@SafeVarargs
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	IslandEngine<G, C> of(
+		final Migration<G, C> migration,
+		final Engine<G, C>... islands
+	) {
+		return of(migration, List.of(islands));
+	}
+
+
+	/* *************************************************************************
+	 * Island evolution.
+	 * ************************************************************************/
+
+	/**
+	 * The evolution state of one island. The {@code next} method of an island
+	 * is never called concurrently. Only the mailbox is accessed by other
+	 * islands.
+	 */
+	private final class Island {
+		private final int _index;
+		private final Engine<G, C> _engine;
+		private final Queue<Phenotype<G, C>> _mailbox =
+			new ConcurrentLinkedQueue<>();
+
+		private Iterator<EvolutionResult<G, C>> _results;
+		private long _generations;
+		private CompletableFuture<EvolutionResult<G, C>> _step;
+
+		Island(final int index, final Engine<G, C> engine) {
+			_index = index;
+			_engine = engine.toBuilder()
+				.interceptor(engine.interceptor().compose(
+					EvolutionInterceptor.ofBefore(this::immigrate)))
+				.build();
+		}
+
+		EvolutionResult<G, C> next(
+			final Function<? super Engine<G, C>, EvolutionStream<G, C>> streams,
+			final List<Island> islands
+		) {
+			if (_results == null) {
+				_results = streams.apply(_engine).iterator();
+			}
+
+			final EvolutionResult<G, C> result = _results.next();
+			if (++_generations%_migration.interval() == 0) {
+				emigrate(result, islands);
+			}
+			return result;
+		}
+
+		private void emigrate(
+			final EvolutionResult<G, C> result,
+			final List<Island> islands
+		) {
+			if (_migration.count() > 0 && _targets[_index].length > 0) {
+				final ISeq<Phenotype<G, C>> emigrants = _migration.selector()
+					.select(
+						result.population(),
+						_migration.count(),
+						result.optimize()
+					);
+
+				for (int target : _targets[_index]) {
+					islands.get(target)._mailbox.addAll(emigrants.asList());
+				}
+			}
+		}
+
+		private EvolutionStart<G, C>
+		immigrate(final EvolutionStart<G, C> start) {
+			final List<Phenotype<G, C>> immigrants = new ArrayList<>();
+			for (var pt = _mailbox.poll(); pt != null; pt = _mailbox.poll()) {
+				immigrants.add(pt);
+			}
+			if (immigrants.isEmpty()) {
+				return start;
+			}
+
+			// The population of the first generation might not be evaluated.
+			if (start.population().isEmpty() ||
+				!start.population().forAll(Phenotype::isEvaluated))
+			{
+				_mailbox.addAll(immigrants);
+				return start;
+			}
+
+			// Replacing the worst individuals with the best immigrants.
+			final var optimize = _engine.optimize();
+			immigrants.sort(comparing(Phenotype::fitness, optimize.descending()));
+
+			final MSeq<Phenotype<G, C>> population = start.population().copy();
+			population.sort(comparing(Phenotype::fitness, optimize.ascending()));
+
+			final int count = min(immigrants.size(), population.size());
+			for (int i = 0; i < count; ++i) {
+				population.set(
+					i,
+					immigrants.get(i).withGeneration(start.generation())
+				);
+			}
+
+			return EvolutionStart.of(population.toISeq(), start.generation());
+		}
+	}
+
+	/**
+	 * Merges the evolution results of the islands. Every island has at most
+	 * one pending generation. The next generation of an island is started,
+	 * when the result of its previous generation is consumed. If the stream
+	 * is no longer consumed, no further generation is started.
+	 */
+	private final class IslandSpliterator
+		implements Spliterator<EvolutionResult<G, C>>
+	{
+		private final Function<? super Engine<G, C>, EvolutionStream<G, C>>
+			_streams;
+
+		private final BlockingQueue<Island> _completed =
+			new LinkedBlockingQueue<>();
+
+		private List<Island> _islands;
+
+		IslandSpliterator(
+			final Function<? super Engine<G, C>, EvolutionStream<G, C>> streams
+		) {
+			_streams = requireNonNull(streams);
+		}
+
+		@Override
+		public boolean
+		tryAdvance(final Consumer<? super EvolutionResult<G, C>> action) {
+			requireNonNull(action);
+
+			if (_islands == null) {
+				final var islands = new ArrayList<Island>();
+				for (int i = 0; i < IslandEngine.this._islands.size(); ++i) {
+					islands.add(new Island(i, IslandEngine.this._islands.get(i)));
+				}
+				_islands = List.copyOf(islands);
+				_islands.forEach(this::start);
+			}
+
+			final Island island = take();
+			final EvolutionResult<G, C> result = island._step.join();
+			start(island);
+
+			action.accept(result);
+			return true;
+		}
+
+		private void start(final Island island) {
+			island._step = supplyAsync(
+				() -> island.next(_streams, _islands),
+				_executor
+			);
+			island._step.whenComplete((_, _) -> _completed.add(island));
+		}
+
+		private Island take() {
+			try {
+				return _completed.take();
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				final var ce = new CancellationException(e.getMessage());
+				ce.initCause(e);
+				throw ce;
+			}
+		}
+
+		@Override
+		public Spliterator<EvolutionResult<G, C>> trySplit() {
+			return null;
+		}
+
+		@Override
+		public long estimateSize() {
+			return Long.MAX_VALUE;
+		}
+
+		@Override
+		public int characteristics() {
+			return NONNULL;
+		}
+	}
+
+}
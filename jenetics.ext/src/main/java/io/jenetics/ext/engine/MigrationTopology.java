@@ -0,0 +1,94 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.stream.IntStream;
+
+/**
+ * Defines the migration paths between the islands of an {@link IslandEngine}.
+ * For a given island, the topology returns the islands, the emigrants of
+ * this island are sent to.
+ *
+ * {@snippet lang="java":
+ * // Sending the emigrants only to the next island.
+ * final MigrationTopology ring = (island, islands) ->
+ *     new int[] {(island + 1)%islands};
+ * }
+ *
+ * @see IslandEngine
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+@FunctionalInterface
+public interface MigrationTopology {
+
+	/**
+	 * Return the indexes of the islands, the emigrants of the given
+	 * {@code island} are sent to. The returned indexes must be within the
+	 * range {@code [0, islands)} and must not contain the given
+	 * {@code island} itself.
+	 *
+	 * @param island the index of the sending island
+	 * @param islands the number of islands
+	 * @return the indexes of the receiving islands
+	 */
+	int[] targets(final int island, final int islands);
+
+	/**
+	 * Return a <em>ring</em> topology, where every island sends its emigrants
+	 * to its successor island. The last island sends its emigrants to the
+	 * first one.
+	 *
+	 * @return a new ring topology
+	 */
+	static MigrationTopology ring() {
+		return (island, islands) -> islands > 1
+			? new int[] {(island + 1)%islands}
+			: new int[0];
+	}
+
+	/**
+	 * Return a <em>star</em> topology, where the first island is the hub of
+	 * the star. The hub sends its emigrants to all other islands, and all
+	 * other islands are sending its emigrants to the hub.
+	 *
+	 * @return a new star topology
+	 */
+	static MigrationTopology star() {
+		return (island, islands) -> island == 0
+			? IntStream.range(1, islands).toArray()
+			: new int[] {0};
+	}
+
+	/**
+	 * Return a <em>fully connected</em> topology, where every island sends
+	 * its emigrants to all other islands.
+	 *
+	 * @return a new fully connected topology
+	 */
+	static MigrationTopology full() {
+		return (island, islands) -> IntStream.range(0, islands)
+			.filter(i -> i != island)
+			.toArray();
+	}
+
+}
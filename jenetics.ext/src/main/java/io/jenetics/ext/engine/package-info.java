@@ -20,10 +20,11 @@
 
 /**
  * This package contains classes, which allows to concatenate evolution
- * {@code Engine}s with different configurations.
+ * {@code Engine}s with different configurations or to evolve them
+ * concurrently, as islands with migration.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 4.1
  */
 package io.jenetics.ext.engine;
@@ -0,0 +1,161 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.internal.util;
+
+import static java.util.Objects.checkIndex;
+
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+import io.jenetics.ext.TreeGene;
+import io.jenetics.ext.util.Tree;
+
+/**
+ * Helper methods for altering the flattened tree genes of a tree chromosome,
+ * without creating an intermediate, pointer based, tree. The tree genes are
+ * stored in breadth-first order, where the children of a node are stored
+ * consecutively, starting at its child offset.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class TreeGenes {
+	private TreeGenes() {}
+
+	/**
+	 * The child offset of leaf nodes.
+	 */
+	private static final int NULL_INDEX = -1;
+
+	/**
+	 * Replaces the subtree at the given {@code index} of the {@code target}
+	 * genes with the subtree at the {@code sourceIndex} of the {@code source}
+	 * genes. Both gene sequences may be the same. The genes of the resulting
+	 * tree are created, in a single breadth-first pass, with the first gene
+	 * of the {@code target} as template.
+	 * {@snippet lang="java":
+	 * // Subtree crossover.
+	 * final ISeq<G> genes1 = TreeGenes.replace(chromosome1, i1, chromosome2, i2);
+	 * final ISeq<G> genes2 = TreeGenes.replace(chromosome2, i2, chromosome1, i1);
+	 *
+	 * // Hoist mutation.
+	 * final ISeq<G> genes = TreeGenes.replace(chromosome, 0, chromosome, i);
+	 * }
+	 *
+	 * @param target the flattened target tree
+	 * @param index the index of the replaced subtree
+	 * @param source the flattened source tree
+	 * @param sourceIndex the index of the inserted subtree
+	 * @param <G> the tree gene type
+	 * @return the genes of the new tree
+	 * @throws IndexOutOfBoundsException if one of the indexes is out of range
+	 */
+	public static <G extends TreeGene<?, G>> ISeq<G> replace(
+		final BaseSeq<? extends G> target,
+		final int index,
+		final BaseSeq<? extends G> source,
+		final int sourceIndex
+	) {
+		checkIndex(index, target.length());
+		checkIndex(sourceIndex, source.length());
+
+		// The queue of the (source, index) pairs of the visited nodes. The
+		// source is encoded in the sign: source nodes are stored as -(i + 1).
+		final int[] queue = new int[target.length() + source.length()];
+		int head = 0;
+		int tail = 0;
+		queue[tail++] = index == 0 ? -(sourceIndex + 1) : 0;
+
+		final MSeq<G> genes = MSeq.ofLength(queue.length);
+		final G template = target.get(0);
+		int childOffset = 1;
+
+		while (head < tail) {
+			final int node = queue[head];
+			final G gene = node < 0 ? source.get(-node - 1) : target.get(node);
+			final int count = gene.childCount();
+
+			genes.set(head++, gene(
+				template,
+				gene.allele(),
+				count > 0 ? childOffset : NULL_INDEX,
+				count
+			));
+			for (int i = 0; i < count; ++i) {
+				final int child = gene.childOffset() + i;
+				if (node < 0) {
+					queue[tail++] = -(child + 1);
+				} else {
+					queue[tail++] = child == index ? -(sourceIndex + 1) : child;
+				}
+			}
+			childOffset += count;
+		}
+
+		return genes.subSeq(0, tail).toISeq();
+	}
+
+	/**
+	 * Flattens the given {@code tree} into tree genes, which are created with
+	 * the given {@code template} gene.
+	 *
+	 * @param tree the tree to flatten
+	 * @param template the template gene
+	 * @param <G> the tree gene type
+	 * @return the flattened tree genes
+	 */
+	public static <G extends TreeGene<?, G>> ISeq<G> of(
+		final Tree<?, ?> tree,
+		final G template
+	) {
+		final MSeq<G> genes = MSeq.ofLength(tree.size());
+
+		int childOffset = 1;
+		int index = 0;
+		for (var node : tree) {
+			final int count = node.childCount();
+			genes.set(index++, gene(
+				template,
+				node.value(),
+				count > 0 ? childOffset : NULL_INDEX,
+				count
+			));
+			childOffset += count;
+		}
+
+		return genes.toISeq();
+	}
+
+	// Since the allele type "A" is not part of the type signature, we have to
+	// do some unchecked casts to make it "visible" again.
+	@SuppressWarnings("unchecked")
+	private static <A, G extends TreeGene<?, G>> G gene(
+		final G template,
+		final Object allele,
+		final int childOffset,
+		final int childCount
+	) {
+		return (G)((TreeGene<A, ?>)template)
+			.newInstance((A)allele, childOffset, childCount);
+	}
+
+}
@@ -23,14 +23,18 @@ import java.util.Comparator;
 import java.util.function.ToIntFunction;
 
 import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
 import io.jenetics.internal.util.IntComparator;
 import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.Seq;
 
 /**
  * Crowded distance comparator.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 4.1
  */
 final class CrowdedComparator<T> implements IntComparator {
@@ -46,20 +50,156 @@ final class CrowdedComparator<T> implements IntComparator {
 		final ElementDistance<? super T> distance,
 		final ToIntFunction<? super T> dimension
 	) {
+		this(population, opt, dominance, comparator, distance, dimension, false);
+	}
+
+	/**
+	 * Create a new crowded comparator.
+	 *
+	 * @param pareto {@code true} if the {@code dominance} is the Pareto
+	 *        dominance defined by the element {@code comparator}, which allows
+	 *        the use of the efficient non-dominated sort for the ranks
+	 */
+	CrowdedComparator(
+		final BaseSeq<? extends T> population,
+		final Optimize opt,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final boolean pareto
+	) {
+		final Comparator<? super T> dom = opt == Optimize.MAXIMUM
+			? dominance
+			: dominance.reversed();
+		final ElementComparator<? super T> cmp = opt == Optimize.MAXIMUM
+			? comparator
+			: comparator.reversed();
+
+		_rank = pareto
+			? Pareto.rank(population, dom, cmp, dimension)
+			: Pareto.rank(population, dom);
+
+		_dist = Pareto.crowdingDistance(population, cmp, distance, dimension);
+	}
+
+	/**
+	 * Create a new crowded comparator from the given objective matrix, where
+	 * greater objective values are better.
+	 *
+	 * @param objectives the objective matrix, {@code objectives[i][m]} is the
+	 *        value of objective {@code m} of the element {@code i}
+	 */
+	CrowdedComparator(final double[][] objectives) {
 		_rank = Pareto.rank(
-			population,
-			opt == Optimize.MAXIMUM
-				? dominance
-				: dominance.reversed()
+			ISeq.of(objectives),
+			Pareto::dominance,
+			(u, v, i) -> Double.compare(u[i], v[i]),
+			v -> v.length
 		);
+		_dist = Pareto.crowdingDistance(objectives);
+	}
+
+	/**
+	 * Create a new crowded comparator for the given {@code population}. If the
+	 * fitness values are simple numeric {@link Vec} objects, and the
+	 * {@code dominance} is their Pareto dominance, the objectives are copied
+	 * into an objective matrix first. Otherwise, the objectives are accessed
+	 * via the given functions.
+	 */
+	static <P extends Phenotype<?, ?>> CrowdedComparator<P> of(
+		final Seq<P> population,
+		final Optimize opt,
+		final Comparator<? super P> dominance,
+		final ElementComparator<? super P> comparator,
+		final ElementDistance<? super P> distance,
+		final ToIntFunction<? super P> dimension,
+		final boolean pareto
+	) {
+		final double[][] objectives = pareto
+			? objectives(population, opt)
+			: null;
+
+		return objectives != null
+			? new CrowdedComparator<>(objectives)
+			: new CrowdedComparator<>(
+				population, opt, dominance, comparator, distance, dimension, pareto
+			);
+	}
+
+	/**
+	 * Return the objective matrix of the given {@code population}, where the
+	 * objective values are negated for minimization problems. {@code null} is
+	 * returned if the population contains fitness values, which are not
+	 * simple numeric vectors, or can't be represented exactly as
+	 * {@code double} values.
+	 */
+	static double[][] objectives(
+		final Seq<? extends Phenotype<?, ?>> population,
+		final Optimize opt
+	) {
+		final double[][] result = new double[population.size()][];
+		final double sign = opt == Optimize.MAXIMUM ? 1 : -1;
+
+		for (int i = 0; i < result.length; ++i) {
+			final double[] values = switch (population.get(i).fitness()) {
+				case SimpleDoubleVec vec -> vec.data().clone();
+				case SimpleIntVec vec -> toDouble(vec.data());
+				case SimpleLongVec vec -> toDouble(vec.data());
+				default -> null;
+			};
+			if (values == null || (i > 0 && values.length != result[0].length)) {
+				return null;
+			}
+
+			for (int m = 0; m < values.length; ++m) {
+				if (Double.isNaN(values[m])) {
+					return null;
+				}
+				values[m] *= sign;
+			}
+			result[i] = values;
+		}
+
+		return result;
+	}
+
+	private static double[] toDouble(final int[] values) {
+		final double[] result = new double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	private static double[] toDouble(final long[] values) {
+		final double[] result = new double[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			if (Math.abs(values[i]) > MAX_EXACT_LONG) {
+				return null;
+			}
+			result[i] = values[i];
+		}
+		return result;
+	}
+
+	private static final long MAX_EXACT_LONG = 1L << 53;
 
-		_dist = Pareto.crowdingDistance(
-			population,
-			opt == Optimize.MAXIMUM
-				? comparator
-				: comparator.reversed(),
-			distance,
-			dimension
+	/**
+	 * Return the element indexes, sorted by the <em>crowded-comparison
+	 * operator</em>, with the best element first. The rank and the distance
+	 * are compared directly, as composite sort key.
+	 *
+	 * @return the sorted element indexes
+	 */
+	int[] sort() {
+		return ProxySorter.sort(
+			_rank,
+			_rank.length,
+			(r, i, j) -> {
+				final int cmp = Integer.compare(r[i], r[j]);
+				return cmp != 0 ? cmp : Double.compare(_dist[j], _dist[i]);
+			}
 		);
 	}
 
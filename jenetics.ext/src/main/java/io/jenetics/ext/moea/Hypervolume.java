@@ -0,0 +1,453 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.List;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Optimize;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.BaseSeq;
+import io.jenetics.util.ProxySorter;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * Methods for calculating the <em>hypervolume</em> indicator of a set of
+ * points. The hypervolume is the volume of the objective space, which is
+ * dominated by the given points and bounded by a <em>reference</em> point.
+ * It is the only unary quality indicator which is strictly monotonic with
+ * respect to the Pareto dominance, and is used for comparing the quality of
+ * Pareto fronts.
+ * {@snippet lang="java":
+ * final ISeq<Vec<double[]>> front = ISeq.of(
+ *     Vec.of(1.0, 3.0),
+ *     Vec.of(2.0, 2.0),
+ *     Vec.of(3.0, 1.0)
+ * );
+ * final double hv = Hypervolume.of(front, new double[]{0, 0}, Optimize.MAXIMUM);
+ * assert hv == 6.0;
+ * }
+ *
+ * The methods, working on {@code double[][]} arrays, expect maximization
+ * problems, where the reference point is dominated by the points. Points
+ * which don't dominate the reference point don't contribute to the
+ * hypervolume.
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      L. While, L. Bradstreet and L. Barone.
+ *      A Fast Way of Calculating Exact Hypervolumes,
+ *      IEEE Transactions on Evolutionary Computation, vol. 16, no. 1,
+ *      pp. 86-95, 2012.</em>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class Hypervolume {
+
+	/**
+	 * The maximal number of objectives, for which the {@link #of(double[][], double[])}
+	 * method calculates the exact hypervolume.
+	 */
+	public static final int MAX_EXACT_DIMENSION = 6;
+
+	/**
+	 * The number of samples used for the Monte-Carlo approximation of the
+	 * {@link #of(double[][], double[])} method.
+	 */
+	public static final int DEFAULT_SAMPLES = 100_000;
+
+	private Hypervolume() {
+	}
+
+	/**
+	 * Calculates the hypervolume of the given {@link Vec} points. For up to
+	 * {@link #MAX_EXACT_DIMENSION} objectives, the exact hypervolume is
+	 * calculated, otherwise a Monte-Carlo approximation is returned.
+	 *
+	 * @see #of(double[][], double[])
+	 *
+	 * @param points the points of the front
+	 * @param reference the reference point
+	 * @param optimize the optimization strategy of the objectives. For
+	 *        {@link Optimize#MINIMUM}, the reference point must be greater or
+	 *        equal than the points in every objective.
+	 * @return the hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double of(
+		final BaseSeq<? extends Vec<double[]>> points,
+		final double[] reference,
+		final Optimize optimize
+	) {
+		requireNonNull(optimize);
+		return of(toArray(points, optimize), maximized(reference, optimize));
+	}
+
+	/**
+	 * Calculates the hypervolume of the given points. For up to
+	 * {@link #MAX_EXACT_DIMENSION} objectives, the exact hypervolume is
+	 * calculated, otherwise a Monte-Carlo approximation, with
+	 * {@link #DEFAULT_SAMPLES} samples, is returned.
+	 *
+	 * @param points the points of the front, which are not changed
+	 * @param reference the reference point
+	 * @return the hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double of(final double[][] points, final double[] reference) {
+		return reference.length <= MAX_EXACT_DIMENSION
+			? exact(points, reference)
+			: approximate(points, reference, DEFAULT_SAMPLES, RandomRegistry.random());
+	}
+
+	/**
+	 * Calculates the exact hypervolume of the given points with the
+	 * <em>WFG</em> algorithm. The running time grows exponentially with the
+	 * number of objectives, in the worst case.
+	 *
+	 * @param points the points of the front, which are not changed
+	 * @param reference the reference point
+	 * @return the hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double exact(final double[][] points, final double[] reference) {
+		return wfg(front(filter(points, reference)), reference);
+	}
+
+	/**
+	 * Approximates the hypervolume of the given points by Monte-Carlo
+	 * sampling. The points are sampled uniformly within the box, spanned by
+	 * the reference point and the ideal point of the given {@code points}.
+	 * The standard error of the approximation decreases with
+	 * {@code 1/sqrt(samples)}, independent of the number of objectives.
+	 *
+	 * @param points the points of the front, which are not changed
+	 * @param reference the reference point
+	 * @param samples the number of sample points
+	 * @param random the random generator used for creating the samples
+	 * @return the approximated hypervolume of the given {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ or {@code samples < 1}
+	 */
+	public static double approximate(
+		final double[][] points,
+		final double[] reference,
+		final int samples,
+		final RandomGenerator random
+	) {
+		Requires.positive(samples);
+		requireNonNull(random);
+
+		final double[][] front = front(filter(points, reference));
+		if (front.length == 0) {
+			return 0;
+		}
+
+		final double[] ideal = reference.clone();
+		for (double[] point : front) {
+			for (int i = 0; i < ideal.length; ++i) {
+				ideal[i] = Math.max(ideal[i], point[i]);
+			}
+		}
+
+		final double[] sample = new double[reference.length];
+		int hits = 0;
+		for (int s = 0; s < samples; ++s) {
+			for (int i = 0; i < sample.length; ++i) {
+				sample[i] = random.nextDouble(reference[i], ideal[i]);
+			}
+			for (double[] point : front) {
+				if (weaklyDominates(point, sample)) {
+					++hits;
+					break;
+				}
+			}
+		}
+
+		return inclusive(ideal, reference)*hits/samples;
+	}
+
+	/**
+	 * Calculates the exclusive hypervolume contribution of every point. This
+	 * is the volume which is only dominated by the given point, and which
+	 * would be lost, if the point were removed. Dominated points, points which
+	 * don't dominate the reference point and duplicate points have a
+	 * contribution of zero.
+	 *
+	 * @param points the points of the front, which are not changed
+	 * @param reference the reference point
+	 * @return the exclusive hypervolume contributions of the given
+	 *         {@code points}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the dimensions of the points and the
+	 *         reference point differ
+	 */
+	public static double[] contributions(
+		final double[][] points,
+		final double[] reference
+	) {
+		for (double[] point : points) {
+			checkLength(point, reference);
+		}
+
+		final double[] result = new double[points.length];
+		if (reference.length == 2) {
+			contributions2(points, reference, result);
+		} else {
+			for (int k = 0; k < points.length; ++k) {
+				if (dominates(points[k], reference)) {
+					final List<double[]> limited = new ArrayList<>(points.length);
+					for (int j = 0; j < points.length; ++j) {
+						if (j != k) {
+							final double[] point = limit(points[j], points[k]);
+							if (dominates(point, reference)) {
+								limited.add(point);
+							}
+						}
+					}
+
+					result[k] = Math.max(
+						inclusive(points[k], reference) -
+							wfg(front(limited.toArray(double[][]::new)), reference),
+						0.0
+					);
+				}
+			}
+		}
+
+		return result;
+	}
+
+	// The non-dominated points, sorted by the first objective (descending),
+	// form a staircase. The contribution of a point is the rectangle between
+	// its two neighbours.
+	private static void contributions2(
+		final double[][] points,
+		final double[] reference,
+		final double[] result
+	) {
+		final int[] idx = ProxySorter.sort(
+			points,
+			points.length,
+			(a, i, j) -> DESCENDING.compare(a[i], a[j])
+		);
+
+		final int[] stairs = new int[points.length];
+		final boolean[] duplicate = new boolean[points.length];
+		int n = 0;
+		for (int i : idx) {
+			final double[] p = points[i];
+			if (dominates(p, reference)) {
+				if (n == 0 || p[1] > points[stairs[n - 1]][1]) {
+					stairs[n++] = i;
+				} else if (Arrays.equals(p, points[stairs[n - 1]])) {
+					duplicate[n - 1] = true;
+				}
+			}
+		}
+
+		for (int k = 0; k < n; ++k) {
+			if (!duplicate[k]) {
+				final double[] p = points[stairs[k]];
+				final double x = k + 1 < n ? points[stairs[k + 1]][0] : reference[0];
+				final double y = k > 0 ? points[stairs[k - 1]][1] : reference[1];
+				result[stairs[k]] = (p[0] - x)*(p[1] - y);
+			}
+		}
+	}
+
+	/* *************************************************************************
+	 * WFG algorithm.
+	 * ************************************************************************/
+
+	private static final Comparator<double[]> DESCENDING = (a, b) -> {
+		for (int i = 0; i < a.length; ++i) {
+			final int cmp = Double.compare(b[i], a[i]);
+			if (cmp != 0) {
+				return cmp;
+			}
+		}
+		return 0;
+	};
+
+	// Expects non-dominated points, which dominate the reference point.
+	private static double wfg(final double[][] front, final double[] reference) {
+		if (front.length == 0) {
+			return 0;
+		} else if (front.length == 1) {
+			return inclusive(front[0], reference);
+		} else if (reference.length == 2) {
+			return hv2(front, reference);
+		}
+
+		Arrays.sort(front, DESCENDING);
+
+		double volume = 0;
+		for (int k = 0; k < front.length; ++k) {
+			final double[][] limited = new double[front.length - k - 1][];
+			for (int j = k + 1; j < front.length; ++j) {
+				limited[j - k - 1] = limit(front[j], front[k]);
+			}
+			volume += inclusive(front[k], reference) -
+				wfg(front(limited), reference);
+		}
+
+		return volume;
+	}
+
+	private static double hv2(final double[][] front, final double[] reference) {
+		Arrays.sort(front, DESCENDING);
+
+		double volume = 0;
+		double y = reference[1];
+		for (double[] p : front) {
+			volume += (p[0] - reference[0])*(p[1] - y);
+			y = p[1];
+		}
+		return volume;
+	}
+
+	private static double inclusive(final double[] point, final double[] reference) {
+		double volume = 1;
+		for (int i = 0; i < point.length; ++i) {
+			volume *= point[i] - reference[i];
+		}
+		return volume;
+	}
+
+	private static double[] limit(final double[] point, final double[] bound) {
+		final double[] result = new double[point.length];
+		for (int i = 0; i < point.length; ++i) {
+			result[i] = Math.min(point[i], bound[i]);
+		}
+		return result;
+	}
+
+	// Removes the dominated and duplicate points. The given array is
+	// reordered.
+	private static double[][] front(final double[][] points) {
+		int n = points.length;
+		int i = 0;
+		while (i < n) {
+			int j = i + 1;
+			while (j < n) {
+				if (weaklyDominates(points[i], points[j])) {
+					swap(points, j, --n);
+				} else if (weaklyDominates(points[j], points[i])) {
+					swap(points, i, --n);
+					--i;
+					break;
+				} else {
+					++j;
+				}
+			}
+			++i;
+		}
+
+		return n == points.length ? points : Arrays.copyOf(points, n);
+	}
+
+	private static double[][] filter(
+		final double[][] points,
+		final double[] reference
+	) {
+		final List<double[]> result = new ArrayList<>(points.length);
+		for (double[] point : points) {
+			checkLength(point, reference);
+			if (dominates(point, reference)) {
+				result.add(point);
+			}
+		}
+		return result.toArray(double[][]::new);
+	}
+
+	private static void swap(final double[][] array, final int i, final int j) {
+		final double[] temp = array[i];
+		array[i] = array[j];
+		array[j] = temp;
+	}
+
+	// Every objective value of 'u' is greater than the value of 'v'.
+	private static boolean dominates(final double[] u, final double[] v) {
+		for (int i = 0; i < u.length; ++i) {
+			if (!(u[i] > v[i])) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static boolean weaklyDominates(final double[] u, final double[] v) {
+		for (int i = 0; i < u.length; ++i) {
+			if (u[i] < v[i]) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private static void checkLength(final double[] point, final double[] reference) {
+		if (point.length != reference.length) {
+			throw new IllegalArgumentException(format(
+				"Point and reference dimension differ: %d != %d.",
+				point.length, reference.length
+			));
+		}
+	}
+
+	static double[][] toArray(
+		final BaseSeq<? extends Vec<double[]>> points,
+		final Optimize optimize
+	) {
+		final double[][] result = new double[points.length()][];
+		for (int i = 0; i < result.length; ++i) {
+			result[i] = maximized(points.get(i).data(), optimize);
+		}
+		return result;
+	}
+
+	static double[] maximized(final double[] point, final Optimize optimize) {
+		if (optimize == Optimize.MAXIMUM) {
+			return point.clone();
+		}
+
+		final double[] result = new double[point.length];
+		for (int i = 0; i < point.length; ++i) {
+			result[i] = -point[i];
+		}
+		return result;
+	}
+
+}
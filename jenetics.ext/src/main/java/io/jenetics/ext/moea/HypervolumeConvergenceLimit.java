@@ -0,0 +1,92 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Predicate;
+
+import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionResult;
+
+/**
+ * Terminates the evolution stream, if the hypervolume of the population
+ * hasn't improved for a given number of generations.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class HypervolumeConvergenceLimit<V extends Vec<double[]>>
+	implements Predicate<EvolutionResult<?, V>>
+{
+	private final double[] _reference;
+	private final int _generations;
+	private final double _epsilon;
+
+	private boolean _proceed = true;
+	private int _stable = 0;
+	private double _hypervolume = Double.NaN;
+
+	HypervolumeConvergenceLimit(
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		if (generations < 1) {
+			throw new IllegalArgumentException("Generations < 1: " + generations);
+		}
+		if (!(epsilon >= 0)) {
+			throw new IllegalArgumentException(format(
+				"Epsilon must not be negative: %f", epsilon
+			));
+		}
+
+		_reference = requireNonNull(reference).clone();
+		_generations = generations;
+		_epsilon = epsilon;
+	}
+
+	@Override
+	public boolean test(final EvolutionResult<?, V> result) {
+		if (!_proceed) return false;
+
+		final double hypervolume = Hypervolume.of(
+			result.population().map(Phenotype::fitness),
+			_reference,
+			result.optimize()
+		);
+
+		if (Double.isNaN(_hypervolume) ||
+			hypervolume - _hypervolume > _epsilon*Math.abs(_hypervolume))
+		{
+			_hypervolume = Double.isNaN(_hypervolume)
+				? hypervolume
+				: Math.max(hypervolume, _hypervolume);
+			_stable = 1;
+		} else {
+			_proceed = ++_stable <= _generations;
+		}
+
+		return _proceed;
+	}
+
+}
@@ -0,0 +1,224 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.Selector;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * This selector selects the {@code count} elements of the population, which
+ * have the best <em>non-domination</em> rank. If only some elements of a
+ * front can be selected, the elements with the smallest exclusive
+ * <em>hypervolume</em> contribution are removed, one by one, until the
+ * remaining elements fit. This is the survivor selection of the
+ * <em>SMS-EMOA</em>, applied to a whole generation, and gives better spread
+ * fronts than the crowding distance, especially for three and more
+ * objectives.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+ *     .survivorsSelector(new HypervolumeSelector<>())
+ *     .build();
+ * }
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      N. Beume, B. Naujoks and M. Emmerich.
+ *      SMS-EMOA: Multiobjective selection based on dominated hypervolume,
+ *      European Journal of Operational Research, vol. 181, no. 3,
+ *      pp. 1653-1669, 2007.</em>
+ *
+ * @see Hypervolume
+ * @see NSGA2Selector
+ *
+ * @apiNote
+ * The exclusive hypervolume contributions are calculated exactly, with the
+ * <em>WFG</em> algorithm, which gets expensive for many objectives and big
+ * fronts.
+ *
+ * @param <G> the gene type
+ * @param <V> the multi-objective fitness vector type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public class HypervolumeSelector<
+	G extends Gene<?, G>,
+	V extends Vec<double[]>
+>
+	implements Selector<G, V>
+{
+
+	private final double[] _reference;
+
+	/**
+	 * Create a new selector with the given (fixed) {@code reference} point.
+	 * For minimization problems, the reference point must be greater or equal
+	 * than the fitness values, in every objective, and smaller or equal for
+	 * maximization problems.
+	 *
+	 * @param reference the reference point used for calculating the
+	 *        hypervolume contributions
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 */
+	public HypervolumeSelector(final double[] reference) {
+		_reference = requireNonNull(reference).clone();
+	}
+
+	/**
+	 * Create a new selector, which uses the <em>nadir</em> point of the front
+	 * to reduce, shifted by the extent of the front, as reference point. This
+	 * way, the extreme points of the front are preferred.
+	 */
+	public HypervolumeSelector() {
+		_reference = null;
+	}
+
+	@Override
+	public ISeq<Phenotype<G, V>> select(
+		final Seq<Phenotype<G, V>> population,
+		final int count,
+		final Optimize opt
+	) {
+		requireNonNull(population);
+		requireNonNull(opt);
+		if (count < 0) {
+			throw new IllegalArgumentException(format(
+				"Selection count must be greater or equal then zero, but was %s.",
+				count
+			));
+		}
+		if (population.isEmpty() || count == 0) {
+			return ISeq.empty();
+		}
+
+		final double[][] points = Hypervolume.toArray(
+			population.map(Phenotype::fitness),
+			opt
+		);
+		final int[] rank = Pareto.rank(
+			ISeq.of(points),
+			Pareto::dominance,
+			(u, v, i) -> Double.compare(u[i], v[i]),
+			p -> p.length
+		);
+
+		final List<List<Integer>> fronts = new ArrayList<>();
+		for (int i = 0; i < rank.length; ++i) {
+			while (fronts.size() <= rank[i]) {
+				fronts.add(new ArrayList<>());
+			}
+			fronts.get(rank[i]).add(i);
+		}
+
+		final int size = Math.min(count, population.size());
+		final List<Integer> selected = new ArrayList<>(size);
+		for (List<Integer> front : fronts) {
+			if (selected.size() + front.size() > size) {
+				selected.addAll(reduce(points, front, size - selected.size(), opt));
+			} else {
+				selected.addAll(front);
+			}
+			if (selected.size() == size) {
+				break;
+			}
+		}
+
+		final List<Phenotype<G, V>> result = new ArrayList<>(count);
+		while (result.size() < count) {
+			for (int i = 0; i < size && result.size() < count; ++i) {
+				result.add(population.get(selected.get(i)));
+			}
+		}
+
+		return ISeq.of(result);
+	}
+
+	// Removes the points with the smallest hypervolume contribution, until
+	// the front has the given size.
+	private List<Integer> reduce(
+		final double[][] points,
+		final List<Integer> front,
+		final int size,
+		final Optimize opt
+	) {
+		final List<Integer> remaining = new ArrayList<>(front);
+		final double[] reference = reference(points, remaining, opt);
+
+		while (remaining.size() > size) {
+			final double[][] values = remaining.stream()
+				.map(i -> points[i])
+				.toArray(double[][]::new);
+			final double[] contributions =
+				Hypervolume.contributions(values, reference);
+
+			int min = 0;
+			for (int i = 1; i < contributions.length; ++i) {
+				if (contributions[i] < contributions[min]) {
+					min = i;
+				}
+			}
+			remaining.remove(min);
+		}
+
+		return remaining;
+	}
+
+	private double[] reference(
+		final double[][] points,
+		final List<Integer> front,
+		final Optimize opt
+	) {
+		if (_reference != null) {
+			return Hypervolume.maximized(_reference, opt);
+		}
+
+		final double[] nadir = points[front.get(0)].clone();
+		final double[] ideal = points[front.get(0)].clone();
+		for (int i : front) {
+			for (int m = 0; m < nadir.length; ++m) {
+				nadir[m] = Math.min(nadir[m], points[i][m]);
+				ideal[m] = Math.max(ideal[m], points[i][m]);
+			}
+		}
+		for (int m = 0; m < nadir.length; ++m) {
+			final double extent = ideal[m] - nadir[m];
+			nadir[m] -= extent > 0 ? extent : 1.0;
+		}
+		return nadir;
+	}
+
+	@Override
+	public String toString() {
+		return "HypervolumeSelector";
+	}
+
+}
@@ -25,6 +25,7 @@ import static io.jenetics.ext.moea.Pareto.front;
 
 import java.util.Comparator;
 import java.util.Objects;
+import java.util.function.Predicate;
 import java.util.function.ToIntFunction;
 import java.util.stream.Collector;
 
@@ -37,7 +38,7 @@ import io.jenetics.util.IntRange;
 
 /**
  * Collectors for collecting final <em>pareto-set</em> for multi-objective
- * optimization.
+ * optimization, and limits for terminating multi-objective evolution streams.
  *
  * {@snippet lang="java":
  *  final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
@@ -62,7 +63,7 @@ import io.jenetics.util.IntRange;
  * }
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.1
+ * @version 9.0
  * @since 4.1
  */
 public final class MOEA {
@@ -106,16 +107,21 @@ public final class MOEA {
 	 * @throws NullPointerException if one the {@code size} is {@code null}
 	 * @throws IllegalArgumentException if the minimal pareto set {@code size}
 	 *         is smaller than one
+	 *
+	 * @implNote
+	 * The pareto set is collected with a {@link ParetoArchive}, which makes
+	 * adding new elements sub-linear in the size of the pareto set.
 	 */
 	public static <G extends Gene<?, G>, T, V extends Vec<T>>
 	Collector<EvolutionResult<G, V>, ?, ISeq<Phenotype<G, V>>>
 	toParetoSet(final IntRange size) {
-		return toParetoSet(
-			size,
-			Vec::dominance,
-			Vec::compare,
-			Vec::distance,
-			Vec::length
+		checkSize(size);
+
+		return Collector.of(
+			() -> new Archive<G, V>(size, Vec::compare, Vec::distance, Vec::length),
+			Archive::add,
+			Archive::merge,
+			Archive::toISeq
 		);
 	}
 
@@ -154,16 +160,9 @@ public final class MOEA {
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
 	) {
-		requireNonNull(size);
 		requireNonNull(dominance);
 		requireNonNull(distance);
-
-		if (size.min() < 1) {
-			throw new IllegalArgumentException(format(
-				"Minimal pareto set size must be greater than zero: %d",
-				size.min()
-			));
-		}
+		checkSize(size);
 
 		return Collector.of(
 			() -> new Front<G, C>(
@@ -175,6 +174,53 @@ public final class MOEA {
 		);
 	}
 
+	/**
+	 * Return a predicate, which will truncate the evolution stream if the
+	 * hypervolume of the population hasn't improved, relatively, by more than
+	 * the given {@code epsilon} for the given number of {@code generations}.
+	 * The hypervolume is calculated with respect to the given, fixed
+	 * {@code reference} point.
+	 * {@snippet lang="java":
+	 * final ISeq<Phenotype<DoubleGene, Vec<double[]>>> result = engine.stream()
+	 *     .limit(MOEA.byHypervolumeConvergence(new double[]{10, 10}, 20, 1e-4))
+	 *     .collect(MOEA.toParetoSet());
+	 * }
+	 *
+	 * @see Hypervolume#of(io.jenetics.util.BaseSeq, double[], Optimize)
+	 *
+	 * @param reference the reference point of the hypervolume calculation.
+	 *        For minimization problems, it must be greater or equal than the
+	 *        fitness values, in every objective, and smaller or equal for
+	 *        maximization problems.
+	 * @param generations the number of generations without hypervolume
+	 *        improvement, before the evolution stream is truncated
+	 * @param epsilon the minimal relative hypervolume improvement
+	 * @param <V> the fitness vector type
+	 * @return a new hypervolume convergence limit predicate
+	 * @throws NullPointerException if the {@code reference} point is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code generations < 1} or
+	 *         {@code epsilon < 0}
+	 */
+	public static <V extends Vec<double[]>> Predicate<EvolutionResult<?, V>>
+	byHypervolumeConvergence(
+		final double[] reference,
+		final int generations,
+		final double epsilon
+	) {
+		return new HypervolumeConvergenceLimit<>(reference, generations, epsilon);
+	}
+
+	private static void checkSize(final IntRange size) {
+		requireNonNull(size);
+		if (size.min() < 1) {
+			throw new IllegalArgumentException(format(
+				"Minimal pareto set size must be greater than zero: %d",
+				size.min()
+			));
+		}
+	}
+
 	private static final class Front<
 		G extends Gene<?, G>,
 		C extends Comparable<? super C>
@@ -263,4 +309,99 @@ public final class MOEA {
 
 	}
 
+	/**
+	 * Collects the pareto set with a {@link ParetoArchive}. Can only be used
+	 * if the dominance is the Pareto dominance of the vector elements, which
+	 * is the case for the {@link Vec} classes.
+	 */
+	private static final class Archive<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+
+		final IntRange _size;
+		final ElementComparator<? super C> _comparator;
+		final ElementDistance<? super C> _distance;
+		final ToIntFunction<? super C> _dimension;
+
+		private Optimize _optimize;
+		private ParetoArchive<Phenotype<G, C>> _archive;
+
+		Archive(
+			final IntRange size,
+			final ElementComparator<? super C> comparator,
+			final ElementDistance<? super C> distance,
+			final ToIntFunction<? super C> dimension
+		) {
+			_size = size;
+			_comparator = comparator;
+			_distance = distance;
+			_dimension = dimension;
+		}
+
+		void add(final EvolutionResult<G, C> result) {
+			if (_archive == null) {
+				_optimize = result.optimize();
+				_archive = new ParetoArchive<>(
+					this::compare,
+					this::distance,
+					v -> _dimension.applyAsInt(v.fitness()),
+					this::equals
+				);
+			}
+
+			// The archive discards the dominated phenotypes itself, there is
+			// no need for calculating the front of the population first.
+			_archive.addAll(result.population().asList());
+			trim();
+		}
+
+		private int compare(
+			final Phenotype<G, C> a,
+			final Phenotype<G, C> b,
+			final int i
+		) {
+			return _optimize == Optimize.MAXIMUM
+				? _comparator.compare(a.fitness(), b.fitness(), i)
+				: _comparator.compare(b.fitness(), a.fitness(), i);
+		}
+
+		private double distance(
+			final Phenotype<G, C> a,
+			final Phenotype<G, C> b,
+			final int i
+		) {
+			return _optimize == Optimize.MAXIMUM
+				? _distance.distance(a.fitness(), b.fitness(), i)
+				: _distance.distance(b.fitness(), a.fitness(), i);
+		}
+
+		private boolean equals(final Phenotype<?, ?> a, final Phenotype<?, ?> b) {
+			return Objects.equals(a.genotype(), b.genotype());
+		}
+
+		private void trim() {
+			if (_archive.size() > _size.max() - 1) {
+				_archive.trim(_size.min());
+			}
+		}
+
+		Archive<G, C> merge(final Archive<G, C> other) {
+			if (other._archive == null) {
+				return this;
+			} else if (_archive == null) {
+				return other;
+			} else {
+				_archive.merge(other._archive);
+				trim();
+				return this;
+			}
+		}
+
+		ISeq<Phenotype<G, C>> toISeq() {
+			return _archive != null ? _archive.toISeq() : ISeq.empty();
+		}
+
+	}
+
 }
@@ -32,7 +32,6 @@ import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
 import io.jenetics.Selector;
 import io.jenetics.util.ISeq;
-import io.jenetics.util.ProxySorter;
 import io.jenetics.util.Seq;
 
 /**
@@ -48,7 +47,7 @@ import io.jenetics.util.Seq;
  *          10.1109/4235.996017</a></em>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 4.1
  */
 public class NSGA2Selector<
@@ -62,6 +61,7 @@ public class NSGA2Selector<
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final boolean _pareto;
 
 	/**
 	 * Creates a new {@code NSGA2Selector} with the functions needed for
@@ -88,6 +88,16 @@ public class NSGA2Selector<
 		final ElementComparator<? super C> comparator,
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, false);
+	}
+
+	private NSGA2Selector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean pareto
 	) {
 		requireNonNull(dominance);
 		requireNonNull(comparator);
@@ -98,6 +108,7 @@ public class NSGA2Selector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_pareto = pareto;
 	}
 
 	@Override
@@ -106,20 +117,17 @@ public class NSGA2Selector<
 		final int count,
 		final Optimize opt
 	) {
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
+		final CrowdedComparator<Phenotype<G, C>> cc = CrowdedComparator.of(
 			population,
 			opt,
 			_dominance,
 			_comparator,
 			_distance,
-			_dimension
+			_dimension,
+			_pareto
 		);
 
-		final int[] idx = ProxySorter.sort(
-			init(new int[population.size()]),
-			population.size(),
-			(a, i, j) -> cc.compare(a[j], a[i])
-		);
+		final int[] idx = cc.sort();
 
 		final List<Phenotype<G, C>> result = new ArrayList<>();
 		while (result.size() < count) {
@@ -132,11 +140,6 @@ public class NSGA2Selector<
 		return ISeq.of(result);
 	}
 
-	private static int[] init(final int[] indexes) {
-		for (int i = 0; i < indexes.length; ++i) indexes[i] = i;
-		return indexes;
-	}
-
 	/**
 	 * Return a new selector for the given result type {@code V}. This method is
 	 * a shortcut for
@@ -148,6 +151,14 @@ public class NSGA2Selector<
 	 *     Vec<T>::length
 	 * );
 	 * }
+	 * Since the {@link Vec} dominance is the Pareto dominance of its elements,
+	 * the returned selector calculates the <em>non-domination</em> ranks with
+	 * the efficient non-dominated sort, see
+	 * {@link Pareto#rank(io.jenetics.util.BaseSeq, Comparator, ElementComparator, ToIntFunction)}.
+	 * The objectives of {@code int[]}, {@code long[]} and {@code double[]}
+	 * vectors, created with {@link Vec#of(double...)} and its siblings, are
+	 * copied into a primitive objective matrix, before the ranks and crowding
+	 * distances are calculated.
 	 *
 	 * @param <G> the gene type
 	 * @param <T> the array type, e.g. {@code double[]}
@@ -160,7 +171,8 @@ public class NSGA2Selector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
@@ -28,6 +28,7 @@ import java.util.Arrays;
 import java.util.Comparator;
 import java.util.List;
 import java.util.function.ToIntFunction;
+import java.util.stream.IntStream;
 
 import io.jenetics.util.BaseSeq;
 import io.jenetics.util.ISeq;
@@ -41,7 +42,7 @@ import io.jenetics.ext.internal.util.IntList;
  * are mostly for users who want to extend the existing <em>MOEA</em> classes.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 4.1
  */
 public final class Pareto {
@@ -129,15 +130,15 @@ public final class Pareto {
 
 				final T max = set.get(idx[0]);
 				final T min = set.get(idx[set.length() - 1]);
-				final double dm = distance.distance(max, min, m);
+				final double dm = Math.abs(distance.distance(max, min, m));
 
 				if (Double.compare(dm, 0) > 0) {
 					for (int i = 1, n = set.length() - 1; i < n; ++i) {
-						final double dist = distance.distance(
+						final double dist = Math.abs(distance.distance(
 							set.get(idx[i - 1]),
 							set.get(idx[i + 1]),
 							m
-						);
+						));
 
 						result[idx[i]] += dist/dm;
 					}
@@ -148,6 +149,82 @@ public final class Pareto {
 		return result;
 	}
 
+	/**
+	 * The crowding distance value of a solution provides an estimate of the
+	 * density of solutions surrounding that solution. This method works on
+	 * an objective matrix, where {@code points[i][m]} is the value of the
+	 * objective {@code m} of the solution {@code i}, and returns the same
+	 * distances as the {@link #crowdingDistance(BaseSeq)} method for the
+	 * corresponding {@code Vec<double[]>} objects. The distances of the
+	 * objectives are calculated in parallel, for big matrices.
+	 *
+	 * @apiNote
+	 * Calculating the crowding distance has a time complexity of
+	 * {@code O(d*n*log(n))}, where {@code d} is the number of dimensions and
+	 * {@code n} the number of points.
+	 *
+	 * @since 9.0
+	 *
+	 * @param points the objective matrix used for calculating the
+	 *        <em>crowding distance</em>
+	 * @return the crowded distances of the given {@code points}
+	 * @throws NullPointerException if the input {@code points} are
+	 *         {@code null}
+	 */
+	public static double[] crowdingDistance(final double[][] points) {
+		final double[] result = new double[points.length];
+		if (points.length < 3) {
+			Arrays.fill(result, POSITIVE_INFINITY);
+		} else {
+			final int d = points[0].length;
+			final double[][] distances = new double[d][];
+
+			final IntStream objectives = IntStream.range(0, d);
+			(points.length*d >= PARALLEL_CROWDING_SIZE ? objectives.parallel() : objectives)
+				.forEach(m -> distances[m] = crowdingDistance(points, m));
+
+			// Summing up in the objective order gives the same result as
+			// the sequential calculation.
+			for (double[] distance : distances) {
+				for (int i = 0; i < result.length; ++i) {
+					result[i] += distance[i];
+				}
+			}
+		}
+
+		return result;
+	}
+
+	// Objective matrices with at least this number of values are processed in
+	// parallel.
+	private static final int PARALLEL_CROWDING_SIZE = 1 << 14;
+
+	private static double[] crowdingDistance(final double[][] points, final int m) {
+		final int n = points.length;
+		final double[] result = new double[n];
+
+		final int[] idx = ProxySorter.sort(
+			points,
+			n,
+			(a, i, j) -> Double.compare(a[j][m], a[i][m])
+		);
+
+		result[idx[0]] = POSITIVE_INFINITY;
+		result[idx[n - 1]] = POSITIVE_INFINITY;
+
+		final double dm = Math.abs(points[idx[0]][m] - points[idx[n - 1]][m]);
+		if (Double.compare(dm, 0) > 0) {
+			for (int i = 1; i < n - 1; ++i) {
+				final double dist = Math.abs(
+					points[idx[i - 1]][m] - points[idx[i + 1]][m]
+				);
+				result[idx[i]] = dist/dm;
+			}
+		}
+
+		return result;
+	}
+
 	/* *************************************************************************
 	 * Pareto ranks methods.
 	 * ************************************************************************/
@@ -158,23 +235,15 @@ public final class Pareto {
 	 * measure.
 	 *
 	 * @apiNote
-	 * Calculating the rank has a time complexity of {@code O(n^2}, where
-	 * {@code n} the {@code set} size.
-	 *
-	 * <p>
-	 *  <b>Reference:</b><em>
-	 *      Kalyanmoy Deb, Associate Member, IEEE, Amrit Pratap,
-	 *      Sameer Agarwal, and T. Meyarivan.
-	 *      A Fast and Elitist Multiobjective Genetic Algorithm: NSGA-II,
-	 *      IEEE TRANSACTIONS ON EVOLUTIONARY COMPUTATION, VOL. 6, NO. 2,
-	 *      APRIL 2002.</em>
+	 * The rank is calculated with the <em>efficient non-dominated sort</em>,
+	 * see {@link #rank(BaseSeq, Comparator, ElementComparator, ToIntFunction)}.
 	 *
 	 * @param set the input set
 	 * @param <T> the element type
 	 * @return the <em>non-domination</em> rank of the given input {@code set}
 	 */
 	public static <T> int[] rank(final BaseSeq<? extends Vec<T>> set) {
-		return rank(set, Vec::dominance);
+		return rank(set, Vec::dominance, Vec::compare, Vec::length);
 	}
 
 	/**
@@ -275,6 +344,172 @@ public final class Pareto {
 		return ranks;
 	}
 
+	/**
+	 * Calculates the <em>non-domination</em> rank of the given input {@code set},
+	 * using the <em>efficient non-dominated sort</em> (ENS). The elements are
+	 * sorted lexicographically, by the given element {@code comparator}, in
+	 * descending order. Processed in this order, an element can only be
+	 * dominated by elements which have already been assigned to a front. The
+	 * front of the next element is then found by a binary search over the
+	 * existing fronts. For two dimensional vectors, only the last element of
+	 * every front has to be checked, which gives a time complexity of
+	 * {@code O(n*log(n))}. For more dimensions, the elements of a front are
+	 * checked in reverse insertion order, which is done in parallel for big
+	 * fronts. No {@code n*n} dominance matrix is needed in both cases.
+	 *
+	 * @apiNote
+	 * The {@code dominance} comparator must be the <em>Pareto dominance</em>
+	 * defined by the element {@code comparator}, as it is the case for the
+	 * {@link Vec} classes. Only then, a dominating element is guaranteed to be
+	 * sorted before the elements it dominates, and the result is the same as
+	 * the one of {@link #rank(BaseSeq, Comparator)}.
+	 *
+	 * <p>
+	 *  <b>Reference:</b><em>
+	 *      X. Zhang, Y. Tian, R. Cheng and Y. Jin.
+	 *      An Efficient Approach to Nondominated Sorting for Evolutionary
+	 *      Multiobjective Optimization,
+	 *      IEEE Transactions on Evolutionary Computation, vol. 19, no. 2,
+	 *      pp. 201-213, 2015.</em>
+	 *
+	 * @see #rank(BaseSeq, Comparator)
+	 *
+	 * @param set the input set
+	 * @param dominance the dominance comparator used
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param dimension the dimension of vector type {@code T}
+	 * @param <T> the element type
+	 * @return the <em>non-domination</em> rank of the given input {@code set}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> int[] rank(
+		final BaseSeq<? extends T> set,
+		final Comparator<? super T> dominance,
+		final ElementComparator<? super T> comparator,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(set);
+		requireNonNull(dominance);
+		requireNonNull(comparator);
+		requireNonNull(dimension);
+
+		final int[] ranks = new int[set.length()];
+		if (set.length() < 2) {
+			return ranks;
+		}
+
+		final int d = dimension.applyAsInt(set.get(0));
+		final Comparator<T> lexicographic = (a, b) -> {
+			for (int m = 0; m < d; ++m) {
+				final int cmp = comparator.compare(a, b, m);
+				if (cmp != 0) {
+					return cmp;
+				}
+			}
+			return 0;
+		};
+		final int[] idx = ProxySorter.sort(set, lexicographic.reversed());
+
+		if (d == 2) {
+			rank2(set, idx, dominance, ranks);
+		} else {
+			rankN(set, idx, dominance, ranks);
+		}
+
+		return ranks;
+	}
+
+	// Two-dimensional case. The last element of a front has the biggest second
+	// objective value of the front and dominates the new element iff any
+	// element of the front does.
+	private static <T> void rank2(
+		final BaseSeq<? extends T> set,
+		final int[] idx,
+		final Comparator<? super T> dominance,
+		final int[] ranks
+	) {
+		final int[] last = new int[idx.length];
+		int fronts = 0;
+
+		for (final int s : idx) {
+			final T element = set.get(s);
+
+			int low = 0;
+			int high = fronts;
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominance.compare(set.get(last[mid]), element) > 0) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			last[low] = s;
+			ranks[s] = low;
+			if (low == fronts) {
+				++fronts;
+			}
+		}
+	}
+
+	// Fronts with at least this number of elements are checked in parallel.
+	private static final int PARALLEL_FRONT_SIZE = 1 << 12;
+
+	private static <T> void rankN(
+		final BaseSeq<? extends T> set,
+		final int[] idx,
+		final Comparator<? super T> dominance,
+		final int[] ranks
+	) {
+		final List<IntList> fronts = new ArrayList<>();
+
+		for (final int s : idx) {
+			final T element = set.get(s);
+
+			int low = 0;
+			int high = fronts.size();
+			while (low < high) {
+				final int mid = (low + high) >>> 1;
+				if (dominated(set, fronts.get(mid), element, dominance)) {
+					low = mid + 1;
+				} else {
+					high = mid;
+				}
+			}
+
+			if (low == fronts.size()) {
+				fronts.add(new IntList());
+			}
+			fronts.get(low).add(s);
+			ranks[s] = low;
+		}
+	}
+
+	private static <T> boolean dominated(
+		final BaseSeq<? extends T> set,
+		final IntList front,
+		final T element,
+		final Comparator<? super T> dominance
+	) {
+		final int size = front.size();
+		if (size >= PARALLEL_FRONT_SIZE) {
+			return IntStream.range(0, size).parallel()
+				.anyMatch(i ->
+					dominance.compare(set.get(front.get(size - i - 1)), element) > 0
+				);
+		}
+
+		// Later added elements are more likely to dominate the new element.
+		for (int i = size; --i >= 0;) {
+			if (dominance.compare(set.get(front.get(i)), element) > 0) {
+				return true;
+			}
+		}
+		return false;
+	}
+
 	/* *************************************************************************
 	 * 'front'
 	 * ************************************************************************/
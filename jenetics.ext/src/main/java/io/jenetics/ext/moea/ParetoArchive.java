@@ -0,0 +1,780 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Arrays.revert;
+
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Objects;
+import java.util.function.BiPredicate;
+import java.util.function.ToIntFunction;
+import java.util.stream.Collector;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.ProxySorter;
+
+/**
+ * Archive of non-dominated (Pareto-optimal) elements, which uses an
+ * <em>ND-tree</em> as index structure. Like the {@link ParetoFront}, it only
+ * contains non-dominated elements and no duplicates. Unlike the
+ * {@link ParetoFront}, which compares a new element with every element of
+ * the front, the archive stores its elements in the leaves of a tree, where
+ * every node knows the <em>ideal</em> and <em>nadir</em> point of its
+ * subtree. A new element only has to be compared with the elements of the
+ * nodes whose bounding box is not clearly dominating or dominated by the new
+ * element. This makes the insertion of new elements sub-linear in the archive
+ * size, on average.
+ * {@snippet lang="java":
+ * final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+ * archive.add(Vec.of(1.0, 2.0));
+ * archive.add(Vec.of(1.1, 2.5));
+ * archive.add(Vec.of(0.9, 2.1));
+ * archive.add(Vec.of(0.0, 2.9));
+ * }
+ *
+ * The archive uses the <em>Pareto dominance</em> defined by the given
+ * element comparator, see {@link Pareto#dominance(Object, Object, int, ElementComparator)}.
+ * The iteration order is deterministic, but it is not the insertion order.
+ *
+ * <p>
+ *  <b>Reference:</b><em>
+ *      A. Jaszkiewicz and T. Lust.
+ *      ND-Tree-Based Update: A Fast Algorithm for the Dynamic Nondominance
+ *      Problem,
+ *      IEEE Transactions on Evolutionary Computation, vol. 22, no. 5,
+ *      pp. 778-791, 2018.</em>
+ *
+ * @see ParetoFront
+ *
+ * @implNote
+ * This class is not thread-safe. Archives, which have been built in
+ * parallel, can be combined with the {@link #merge(ParetoArchive)} method.
+ *
+ * @param <T> the element type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class ParetoArchive<T> extends AbstractSet<T> {
+
+	/**
+	 * The default maximal number of elements stored in a leaf node.
+	 */
+	public static final int DEFAULT_LEAF_SIZE = 20;
+
+	private static final int REJECTED = 1;
+	private static final int CHANGED = 2;
+
+	private final ElementComparator<? super T> _comparator;
+	private final ElementDistance<? super T> _distance;
+	private final ToIntFunction<? super T> _dimension;
+	private final BiPredicate<? super T, ? super T> _equals;
+	private final int _leafSize;
+
+	private Node _root;
+	private int _size;
+	private int _dim;
+
+	/**
+	 * Create a new, empty Pareto archive.
+	 *
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param distance the distance of two vector elements
+	 * @param dimension the dimension of vector type {@code T}
+	 * @param equals the equals predicate used for keeping the archive distinct
+	 * @param leafSize the maximal number of elements stored in a leaf node
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code leafSize < 2}
+	 */
+	public ParetoArchive(
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final BiPredicate<? super T, ? super T> equals,
+		final int leafSize
+	) {
+		if (leafSize < 2) {
+			throw new IllegalArgumentException(format(
+				"Leaf size must be at least two: %d", leafSize
+			));
+		}
+
+		_comparator = requireNonNull(comparator);
+		_distance = requireNonNull(distance);
+		_dimension = requireNonNull(dimension);
+		_equals = requireNonNull(equals);
+		_leafSize = leafSize;
+	}
+
+	/**
+	 * Create a new, empty Pareto archive, with the
+	 * {@link #DEFAULT_LEAF_SIZE}.
+	 *
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param distance the distance of two vector elements
+	 * @param dimension the dimension of vector type {@code T}
+	 * @param equals the equals predicate used for keeping the archive distinct
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public ParetoArchive(
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension,
+		final BiPredicate<? super T, ? super T> equals
+	) {
+		this(comparator, distance, dimension, equals, DEFAULT_LEAF_SIZE);
+	}
+
+	/**
+	 * Create a new, empty Pareto archive, with the
+	 * {@link #DEFAULT_LEAF_SIZE}. {@link Object#equals(Object)} is used for
+	 * keeping the archive distinct.
+	 *
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param distance the distance of two vector elements
+	 * @param dimension the dimension of vector type {@code T}
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public ParetoArchive(
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension
+	) {
+		this(comparator, distance, dimension, Objects::equals);
+	}
+
+	/**
+	 * Inserts an {@code element} to this archive. Elements of the archive,
+	 * which are dominated by the new element, are removed.
+	 *
+	 * @param element the element to add
+	 * @return {@code true} if the element has been added to the archive,
+	 *         {@code false} if it is dominated by, or equal to, an element of
+	 *         the archive
+	 * @throws NullPointerException if the given {@code element} is
+	 *         {@code null}
+	 */
+	@Override
+	public boolean add(final T element) {
+		requireNonNull(element);
+
+		if (_root != null) {
+			final int status = update(_root, element);
+			shrink();
+			if ((status & REJECTED) != 0) {
+				return false;
+			}
+		}
+
+		insert(element);
+		return true;
+	}
+
+	/**
+	 * Removes the given {@code element} from this archive. The bounds of the
+	 * tree nodes, which contained the element, are updated accordingly.
+	 *
+	 * @param element the element to remove
+	 * @return {@code true} if the element has been removed from the archive,
+	 *         {@code false} if it is not part of the archive
+	 */
+	@Override
+	public boolean remove(final Object element) {
+		if (_root != null && remove(_root, element)) {
+			shrink();
+			return true;
+		}
+		return false;
+	}
+
+	/**
+	 * Adds all elements of the given collection to {@code this} archive.
+	 *
+	 * @param elements the elements to add to {@code this} archive
+	 * @return {@code true} if {@code this} archive has been changed,
+	 *         {@code false} otherwise
+	 */
+	@Override
+	public boolean addAll(final Collection<? extends T> elements) {
+		boolean changed = false;
+		for (T element : elements) {
+			changed |= add(element);
+		}
+		return changed;
+	}
+
+	/**
+	 * Add the all {@code elements} of the given archive to {@code this}
+	 * archive.
+	 *
+	 * @param elements the elements to add
+	 * @return {@code this} archive
+	 * @throws NullPointerException if the given parameter is {@code null}
+	 */
+	public ParetoArchive<T> merge(final ParetoArchive<? extends T> elements) {
+		addAll(elements);
+		return this;
+	}
+
+	/**
+	 * Trims {@code this} archive to the given size. The elements are sorted
+	 * according to its crowding distance, and the elements which have smaller
+	 * distance to its neighbors are removed first.
+	 *
+	 * @param size the number of archive elements after the trim. If
+	 *        {@code size() <= size}, nothing is trimmed.
+	 * @return {@code this} trimmed archive
+	 */
+	public ParetoArchive<T> trim(final int size) {
+		if (size() > size) {
+			final ISeq<T> elements = toISeq();
+			final double[] distances = Pareto.crowdingDistance(
+				elements,
+				_comparator,
+				_distance,
+				_dimension
+			);
+			final int[] indexes = ProxySorter.sort(distances);
+			revert(indexes);
+
+			clear();
+			for (int i = 0; i < size; ++i) {
+				insert(elements.get(indexes[i]));
+			}
+		}
+
+		return this;
+	}
+
+	/**
+	 * Return the elements of {@code this} archive as {@link ISeq}.
+	 *
+	 * @return the elements of {@code this} archive as {@link ISeq}
+	 */
+	public ISeq<T> toISeq() {
+		return ISeq.of(elements());
+	}
+
+	/**
+	 * Return an iterator over the elements of {@code this} archive. The
+	 * {@link Iterator#remove()} operation removes the last returned element
+	 * from the archive.
+	 *
+	 * @implNote
+	 * The iterator works on a snapshot of the archive elements. Changes of
+	 * the archive, which are not done via the iterator, are not reflected
+	 * by the iterator.
+	 *
+	 * @return an iterator over the elements of {@code this} archive
+	 */
+	@Override
+	public Iterator<T> iterator() {
+		final Iterator<T> it = elements().iterator();
+
+		return new Iterator<>() {
+			private T last;
+
+			@Override
+			public boolean hasNext() {
+				return it.hasNext();
+			}
+
+			@Override
+			public T next() {
+				last = it.next();
+				return last;
+			}
+
+			@Override
+			public void remove() {
+				if (last == null) {
+					throw new IllegalStateException();
+				}
+				ParetoArchive.this.remove(last);
+				last = null;
+			}
+		};
+	}
+
+	@Override
+	public int size() {
+		return _size;
+	}
+
+	@Override
+	public boolean isEmpty() {
+		return _size == 0;
+	}
+
+	@Override
+	public void clear() {
+		_root = null;
+		_size = 0;
+	}
+
+	private List<T> elements() {
+		final List<T> elements = new ArrayList<>(_size);
+		if (_root != null) {
+			_root.collect(elements);
+		}
+		return elements;
+	}
+
+	/* *************************************************************************
+	 * ND-tree update.
+	 * ************************************************************************/
+
+	// Removes the elements of the subtree, which are dominated by the given
+	// element. Returns a REJECTED flag, if the element itself is dominated or
+	// already part of the archive, and the CHANGED flag, if elements have
+	// been removed.
+	private int update(final Node node, final T element) {
+		if (dominates(node.nadir, element)) {
+			return REJECTED;
+		}
+		if (dominated(node.ideal, element)) {
+			_size -= node.size();
+			node.points = null;
+			node.children = null;
+			return CHANGED;
+		}
+		if (!weaklyDominates(node.ideal, element) &&
+			!weaklyDominated(node.nadir, element))
+		{
+			return 0;
+		}
+
+		int status = 0;
+		if (node.points != null) {
+			final Iterator<T> it = node.points.iterator();
+			while (it.hasNext()) {
+				final T point = it.next();
+				final int cmp = Pareto.dominance(element, point, _dim, _comparator);
+
+				if (cmp > 0) {
+					it.remove();
+					--_size;
+					status |= CHANGED;
+				} else if (cmp < 0 || _equals.test(element, point)) {
+					status |= REJECTED;
+					break;
+				}
+			}
+		} else {
+			final Iterator<Node> it = node.children.iterator();
+			while (it.hasNext()) {
+				final Node child = it.next();
+				final int result = update(child, element);
+
+				if (child.isEmpty()) {
+					it.remove();
+				}
+				status |= result;
+				if ((result & REJECTED) != 0) {
+					break;
+				}
+			}
+		}
+
+		if ((status & CHANGED) != 0) {
+			if (node.children != null && node.children.isEmpty()) {
+				node.children = null;
+			}
+			if (!node.isEmpty()) {
+				node.bounds();
+			}
+		}
+
+		return status;
+	}
+
+	// Removes the given element from the subtree and recalculates the bounds
+	// of the nodes, which contained the element.
+	private boolean remove(final Node node, final Object element) {
+		if (node.points != null) {
+			final int index = node.points.indexOf(element);
+			if (index < 0) {
+				return false;
+			}
+			node.points.remove(index);
+			--_size;
+		} else {
+			boolean removed = false;
+			final Iterator<Node> it = node.children.iterator();
+			while (it.hasNext() && !removed) {
+				final Node child = it.next();
+				removed = remove(child, element);
+
+				if (child.isEmpty()) {
+					it.remove();
+				}
+			}
+			if (!removed) {
+				return false;
+			}
+			if (node.children.isEmpty()) {
+				node.children = null;
+			}
+		}
+
+		if (!node.isEmpty()) {
+			node.bounds();
+		}
+		return true;
+	}
+
+	// Removes an empty root node and collapses a root with a single child.
+	private void shrink() {
+		if (_root.isEmpty()) {
+			_root = null;
+		} else if (_root.children != null && _root.children.size() == 1) {
+			_root = _root.children.get(0);
+		}
+	}
+
+	// Inserts the (non-dominated) element into the leaf, which is closest to
+	// the element.
+	private void insert(final T element) {
+		if (_root == null) {
+			_dim = _dimension.applyAsInt(element);
+			_root = new Node(element);
+		} else {
+			Node node = _root;
+			while (node.children != null) {
+				node.extend(element);
+
+				Node closest = node.children.get(0);
+				double distance = closest.distance(element);
+				for (int i = 1; i < node.children.size(); ++i) {
+					final Node child = node.children.get(i);
+					final double d = child.distance(element);
+					if (d < distance) {
+						closest = child;
+						distance = d;
+					}
+				}
+				node = closest;
+			}
+
+			node.points.add(element);
+			node.extend(element);
+			if (node.points.size() > _leafSize) {
+				node.split();
+			}
+		}
+
+		++_size;
+	}
+
+	// 'u' (strictly) dominates the given point 'v' at every objective.
+	private boolean dominates(final T[] u, final T v) {
+		boolean strict = false;
+		for (int m = 0; m < _dim; ++m) {
+			final int cmp = _comparator.compare(u[m], v, m);
+			if (cmp < 0) {
+				return false;
+			}
+			strict |= cmp > 0;
+		}
+		return strict;
+	}
+
+	// 'v' (strictly) dominates the given point 'u' at every objective.
+	private boolean dominated(final T[] u, final T v) {
+		boolean strict = false;
+		for (int m = 0; m < _dim; ++m) {
+			final int cmp = _comparator.compare(u[m], v, m);
+			if (cmp > 0) {
+				return false;
+			}
+			strict |= cmp < 0;
+		}
+		return strict;
+	}
+
+	private boolean weaklyDominates(final T[] u, final T v) {
+		for (int m = 0; m < _dim; ++m) {
+			if (_comparator.compare(u[m], v, m) < 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private boolean weaklyDominated(final T[] u, final T v) {
+		for (int m = 0; m < _dim; ++m) {
+			if (_comparator.compare(u[m], v, m) > 0) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	private double distance(final T u, final T v) {
+		double distance = 0;
+		for (int m = 0; m < _dim; ++m) {
+			final double d = _distance.distance(u, v, m);
+			distance += d*d;
+		}
+		return distance;
+	}
+
+	/**
+	 * A node of the ND-tree. Every node stores, for every objective, the
+	 * element with the best (ideal) and worst (nadir) value of its subtree.
+	 * Leaf nodes store the elements, internal nodes its children.
+	 */
+	private final class Node {
+		private final T[] ideal;
+		private final T[] nadir;
+
+		private List<T> points;
+		private List<Node> children;
+
+		@SuppressWarnings("unchecked")
+		private Node() {
+			ideal = (T[])new Object[_dim];
+			nadir = (T[])new Object[_dim];
+		}
+
+		private Node(final T element) {
+			this();
+			points = new ArrayList<>(_leafSize + 1);
+			points.add(element);
+			Arrays.fill(ideal, element);
+			Arrays.fill(nadir, element);
+		}
+
+		private boolean isEmpty() {
+			return points == null ? children == null : points.isEmpty();
+		}
+
+		private int size() {
+			if (points != null) {
+				return points.size();
+			} else if (children != null) {
+				int size = 0;
+				for (Node child : children) {
+					size += child.size();
+				}
+				return size;
+			} else {
+				return 0;
+			}
+		}
+
+		private void collect(final List<T> elements) {
+			if (points != null) {
+				elements.addAll(points);
+			} else if (children != null) {
+				for (Node child : children) {
+					child.collect(elements);
+				}
+			}
+		}
+
+		private void extend(final T element) {
+			for (int m = 0; m < _dim; ++m) {
+				if (_comparator.compare(element, ideal[m], m) > 0) {
+					ideal[m] = element;
+				}
+				if (_comparator.compare(element, nadir[m], m) < 0) {
+					nadir[m] = element;
+				}
+			}
+		}
+
+		// Recalculates the bounds from the elements or children.
+		private void bounds() {
+			if (points != null) {
+				Arrays.fill(ideal, points.get(0));
+				Arrays.fill(nadir, points.get(0));
+				for (int i = 1; i < points.size(); ++i) {
+					extend(points.get(i));
+				}
+			} else {
+				final Node first = children.get(0);
+				System.arraycopy(first.ideal, 0, ideal, 0, _dim);
+				System.arraycopy(first.nadir, 0, nadir, 0, _dim);
+				for (int i = 1; i < children.size(); ++i) {
+					final Node child = children.get(i);
+					for (int m = 0; m < _dim; ++m) {
+						if (_comparator.compare(child.ideal[m], ideal[m], m) > 0) {
+							ideal[m] = child.ideal[m];
+						}
+						if (_comparator.compare(child.nadir[m], nadir[m], m) < 0) {
+							nadir[m] = child.nadir[m];
+						}
+					}
+				}
+			}
+		}
+
+		// Squared distance of the element to the middle of the bounding box.
+		private double distance(final T element) {
+			double distance = 0;
+			for (int m = 0; m < _dim; ++m) {
+				final double d = (
+					_distance.distance(element, ideal[m], m) +
+					_distance.distance(element, nadir[m], m)
+				)/2.0;
+				distance += d*d;
+			}
+			return distance;
+		}
+
+		// Splits the leaf into 'dim + 1' children. The seed elements of the
+		// children are the elements with the biggest average distance to the
+		// other elements and the already chosen seeds, respectively.
+		private void split() {
+			final List<T> elements = points;
+			final int count = Math.min(_dim + 1, elements.size());
+
+			int seed = 0;
+			double max = Double.NEGATIVE_INFINITY;
+			for (int i = 0; i < elements.size(); ++i) {
+				double sum = 0;
+				for (int j = 0; j < elements.size(); ++j) {
+					sum += ParetoArchive.this.distance(elements.get(i), elements.get(j));
+				}
+				if (sum > max) {
+					max = sum;
+					seed = i;
+				}
+			}
+
+			final List<Node> nodes = new ArrayList<>(count);
+			nodes.add(new Node(elements.get(seed)));
+			final boolean[] assigned = new boolean[elements.size()];
+			assigned[seed] = true;
+
+			while (nodes.size() < count) {
+				seed = -1;
+				max = Double.NEGATIVE_INFINITY;
+				for (int i = 0; i < elements.size(); ++i) {
+					if (!assigned[i]) {
+						double sum = 0;
+						for (Node node : nodes) {
+							sum += ParetoArchive.this
+								.distance(elements.get(i), node.points.get(0));
+						}
+						if (sum > max) {
+							max = sum;
+							seed = i;
+						}
+					}
+				}
+				nodes.add(new Node(elements.get(seed)));
+				assigned[seed] = true;
+			}
+
+			for (int i = 0; i < elements.size(); ++i) {
+				if (!assigned[i]) {
+					final T element = elements.get(i);
+					Node closest = nodes.get(0);
+					double distance = closest.distance(element);
+					for (int j = 1; j < nodes.size(); ++j) {
+						final double d = nodes.get(j).distance(element);
+						if (d < distance) {
+							closest = nodes.get(j);
+							distance = d;
+						}
+					}
+					closest.points.add(element);
+					closest.extend(element);
+				}
+			}
+
+			points = null;
+			children = nodes;
+		}
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Return a new, empty Pareto archive for {@link Vec} objects.
+	 * {@snippet lang="java":
+	 * new ParetoArchive<>(Vec::compare, Vec::distance, Vec::length);
+	 * }
+	 *
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the vector type
+	 * @return a new, empty Pareto archive for {@link Vec} objects
+	 */
+	public static <T, V extends Vec<T>> ParetoArchive<V> ofVec() {
+		return new ParetoArchive<>(Vec::compare, Vec::distance, Vec::length);
+	}
+
+	/**
+	 * Return a Pareto archive collector for {@link Vec} objects. The
+	 * collector can be used for parallel streams.
+	 *
+	 * @param <T> the array type, e.g. {@code double[]}
+	 * @param <V> the vector type
+	 * @return a new Pareto archive collector
+	 */
+	public static <T, V extends Vec<T>>
+	Collector<V, ?, ParetoArchive<V>> toParetoArchive() {
+		return toParetoArchive(Vec::compare, Vec::distance, Vec::length);
+	}
+
+	/**
+	 * Return a Pareto archive collector. The collector can be used for
+	 * parallel streams.
+	 *
+	 * @param comparator the comparator which defines the (total) order of the
+	 *        vector elements of {@code T}
+	 * @param distance the distance of two vector elements
+	 * @param dimension the dimension of vector type {@code T}
+	 * @param <T> the element type
+	 * @return a new Pareto archive collector
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <T> Collector<T, ?, ParetoArchive<T>> toParetoArchive(
+		final ElementComparator<? super T> comparator,
+		final ElementDistance<? super T> distance,
+		final ToIntFunction<? super T> dimension
+	) {
+		requireNonNull(comparator);
+		requireNonNull(distance);
+		requireNonNull(dimension);
+
+		return Collector.of(
+			() -> new ParetoArchive<>(comparator, distance, dimension),
+			ParetoArchive::add,
+			(a, b) -> a.size() >= b.size() ? a.merge(b) : b.merge(a)
+		);
+	}
+
+}
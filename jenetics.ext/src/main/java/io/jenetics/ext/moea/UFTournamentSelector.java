@@ -56,7 +56,7 @@ import io.jenetics.util.Seq;
  *
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 4.1
  */
 public class UFTournamentSelector<
@@ -69,6 +69,7 @@ public class UFTournamentSelector<
 	private final ElementComparator<Phenotype<G, C>> _comparator;
 	private final ElementDistance<Phenotype<G, C>> _distance;
 	private final ToIntFunction<Phenotype<G, C>> _dimension;
+	private final boolean _pareto;
 
 	/**
 	 * Creates a new {@code UFTournamentSelector} with the functions needed for
@@ -95,6 +96,16 @@ public class UFTournamentSelector<
 		final ElementComparator<? super C> comparator,
 		final ElementDistance<? super C> distance,
 		final ToIntFunction<? super C> dimension
+	) {
+		this(dominance, comparator, distance, dimension, false);
+	}
+
+	private UFTournamentSelector(
+		final Comparator<? super C> dominance,
+		final ElementComparator<? super C> comparator,
+		final ElementDistance<? super C> distance,
+		final ToIntFunction<? super C> dimension,
+		final boolean pareto
 	) {
 		requireNonNull(dominance);
 		requireNonNull(comparator);
@@ -105,6 +116,7 @@ public class UFTournamentSelector<
 		_comparator = comparator.map(Phenotype::fitness);
 		_distance = distance.map(Phenotype::fitness);
 		_dimension = v -> dimension.applyAsInt(v.fitness());
+		_pareto = pareto;
 	}
 
 	@Override
@@ -115,13 +127,14 @@ public class UFTournamentSelector<
 	) {
 		final var random = RandomRegistry.random();
 
-		final CrowdedComparator<Phenotype<G, C>> cc = new CrowdedComparator<>(
+		final CrowdedComparator<Phenotype<G, C>> cc = CrowdedComparator.of(
 			population,
 			opt,
 			_dominance,
 			_comparator,
 			_distance,
-			_dimension
+			_dimension,
+			_pareto
 		);
 
 		final List<Phenotype<G, C>> S = new ArrayList<>();
@@ -163,6 +176,14 @@ public class UFTournamentSelector<
 	 *     Vec<T>::length
 	 * );
 	 * }
+	 * Since the {@link Vec} dominance is the Pareto dominance of its elements,
+	 * the returned selector calculates the <em>non-domination</em> ranks with
+	 * the efficient non-dominated sort, see
+	 * {@link Pareto#rank(io.jenetics.util.BaseSeq, Comparator, ElementComparator, ToIntFunction)}.
+	 * The objectives of {@code int[]}, {@code long[]} and {@code double[]}
+	 * vectors, created with {@link Vec#of(double...)} and its siblings, are
+	 * copied into a primitive objective matrix, before the ranks and crowding
+	 * distances are calculated.
 	 *
 	 * @param <G> the gene type
 	 * @param <T> the array type, e.g. {@code double[]}
@@ -175,7 +196,8 @@ public class UFTournamentSelector<
 			Vec::dominance,
 			Vec::compare,
 			Vec::distance,
-			Vec::length
+			Vec::length,
+			true
 		);
 	}
 
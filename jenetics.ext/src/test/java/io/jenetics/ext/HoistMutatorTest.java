@@ -0,0 +1,78 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext;
+
+import static io.jenetics.ext.SingleNodeCrossoverTest.chromosome;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HoistMutatorTest {
+
+	@Test(invocationCount = 20)
+	public void mutate() {
+		final var random = new Random();
+		final TreeNode<Integer> tree = new SingleNodeCrossoverTest()
+			.newTree(6, random);
+		final var chromosome = chromosome(tree);
+		final var mutator = new HoistMutator<Integer, IntTreeGene, Integer>();
+
+		final long seed = random.nextLong();
+		final var result = RandomRegistry.with(new Random(seed))
+			.call(() -> mutator.mutate(chromosome));
+		RandomRegistry.with(new Random(seed)).run(() -> mutator.mutate(tree));
+
+		Assert.assertTrue(Tree.equals(result.result().gene(), tree));
+		Assert.assertEquals(result.result(), chromosome(tree));
+		if (chromosome.length() > 1) {
+			Assert.assertEquals(result.mutations(), 1);
+			Assert.assertTrue(result.result().length() < chromosome.length());
+		} else {
+			Assert.assertSame(result.result(), chromosome);
+		}
+	}
+
+	@Test
+	public void mutateUnchanged() {
+		final var chromosome = chromosome(
+			new SingleNodeCrossoverTest().newTree(4, new Random(123))
+		);
+		final var mutator = new TreeMutator<Integer, IntTreeGene, Integer>() {
+			@Override
+			protected void mutate(final TreeNode<Integer> tree) {
+			}
+		};
+
+		final var result = mutator.mutate(chromosome);
+		Assert.assertEquals(result.mutations(), 0);
+		Assert.assertSame(result.result(), chromosome);
+	}
+
+}
@@ -28,6 +28,12 @@ import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.Chromosome;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.Tree;
 import io.jenetics.ext.util.TreeNode;
 
 /**
@@ -136,6 +142,109 @@ public class SingleNodeCrossoverTest {
 		Assert.assertEquals(tree1.size() + tree2.size(), size1 + size2);
 	}
 
+	@Test(dataProvider = "treeLevels")
+	public void crossoverChromosomes(final int level1, final int level2) {
+		final Random random = new Random(123);
+		final TreeNode<Integer> tree1 = newTree(level1, random);
+		final TreeNode<Integer> tree2 = newTree(level2, random);
+
+		final MSeq<Chromosome<IntTreeGene>> c1 = seq(chromosome(tree1));
+		final MSeq<Chromosome<IntTreeGene>> c2 = seq(chromosome(tree2));
+
+		final var crossover = new SingleNodeCrossover<IntTreeGene, Integer>();
+		RandomRegistry.with(new Random(456)).run(() -> crossover.crossover(c1, c2, 0));
+		RandomRegistry.with(new Random(456)).run(() -> SingleNodeCrossover.swap(tree1, tree2));
+
+		Assert.assertEquals(c1.get(0), chromosome(tree1));
+		Assert.assertEquals(c2.get(0), chromosome(tree2));
+		Assert.assertTrue(Tree.equals(c1.get(0).gene(), tree1));
+		Assert.assertTrue(Tree.equals(c2.get(0).gene(), tree2));
+	}
+
+	@Test
+	public void crossoverOverriddenTreeMethod() {
+		final var calls = new int[1];
+		final var crossover = new SingleNodeCrossover<IntTreeGene, Integer>() {
+			@Override
+			protected <A> int crossover(final TreeNode<A> that, final TreeNode<A> other) {
+				++calls[0];
+				return 0;
+			}
+		};
+
+		final Random random = new Random(123);
+		final MSeq<Chromosome<IntTreeGene>> c1 = seq(chromosome(newTree(5, random)));
+		final MSeq<Chromosome<IntTreeGene>> c2 = seq(chromosome(newTree(5, random)));
+		crossover.crossover(c1, c2, 0);
+
+		Assert.assertEquals(calls[0], 1);
+	}
+
+	@Test
+	public void crossoverSubclass() {
+		final var calls = new int[1];
+		final var crossover = new SingleNodeCrossover<IntTreeGene, Integer>() {
+			@Override
+			protected <A> int crossover(final TreeNode<A> that, final TreeNode<A> other) {
+				++calls[0];
+				return super.crossover(that, other);
+			}
+		};
+		Assert.assertFalse(crossover.isFlattened());
+
+		final Random random = new Random(123);
+		final TreeNode<Integer> tree1 = newTree(5, random);
+		final TreeNode<Integer> tree2 = newTree(5, random);
+		final MSeq<Chromosome<IntTreeGene>> c1 = seq(chromosome(tree1));
+		final MSeq<Chromosome<IntTreeGene>> c2 = seq(chromosome(tree2));
+		RandomRegistry.with(new Random(456)).run(() -> crossover.crossover(c1, c2, 0));
+		RandomRegistry.with(new Random(456)).run(() -> SingleNodeCrossover.swap(tree1, tree2));
+
+		Assert.assertEquals(calls[0], 1);
+		Assert.assertEquals(c1.get(0), chromosome(tree1));
+		Assert.assertEquals(c2.get(0), chromosome(tree2));
+	}
+
+	@Test
+	public void crossoverFlattenedSubclass() {
+		final var crossover = new SingleNodeCrossover<IntTreeGene, Integer>() {
+			@Override
+			protected boolean isFlattened() {
+				return true;
+			}
+			@Override
+			protected <A> int crossover(final TreeNode<A> that, final TreeNode<A> other) {
+				throw new AssertionError("Tree crossover must not be called.");
+			}
+		};
+
+		final Random random = new Random(123);
+		final TreeNode<Integer> tree1 = newTree(5, random);
+		final TreeNode<Integer> tree2 = newTree(5, random);
+		final MSeq<Chromosome<IntTreeGene>> c1 = seq(chromosome(tree1));
+		final MSeq<Chromosome<IntTreeGene>> c2 = seq(chromosome(tree2));
+		RandomRegistry.with(new Random(456)).run(() -> crossover.crossover(c1, c2, 0));
+		RandomRegistry.with(new Random(456)).run(() -> SingleNodeCrossover.swap(tree1, tree2));
+
+		Assert.assertEquals(c1.get(0), chromosome(tree1));
+		Assert.assertEquals(c2.get(0), chromosome(tree2));
+	}
+
+	private static MSeq<Chromosome<IntTreeGene>> seq(
+		final Chromosome<IntTreeGene> chromosome
+	) {
+		final MSeq<Chromosome<IntTreeGene>> seq = MSeq.ofLength(1);
+		seq.set(0, chromosome);
+		return seq;
+	}
+
+	static IntTreeChromosome chromosome(final Tree<Integer, ?> tree) {
+		return new IntTreeChromosome(
+			FlatTreeNode.ofTree(tree).map(node ->
+				new IntTreeGene(node.value(), node.childOffset(), node.childCount()))
+		);
+	}
+
 	@DataProvider(name = "treeLevels")
 	public Object[][] treeLevels() {
 		return new Object[][] {
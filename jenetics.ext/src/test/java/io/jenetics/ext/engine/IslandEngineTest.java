@@ -0,0 +1,157 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.engine;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Mutator;
+import io.jenetics.engine.Constraint;
+import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.ext.engine.IslandEngine.Migration;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IslandEngineTest {
+
+	private static Engine<IntegerGene, Integer> engine(
+		final int min,
+		final int populationSize
+	) {
+		return Engine
+			.builder(
+				gt -> gt.gene().intValue(),
+				Genotype.of(IntegerChromosome.of(min, min + 10))
+			)
+			.constraint(Constraint.of(pt -> true, (pt, _) -> pt))
+			.alterers(new Mutator<>(0.1))
+			.populationSize(populationSize)
+			.build();
+	}
+
+	@Test
+	public void topologies() {
+		Assert.assertEquals(MigrationTopology.ring().targets(0, 3), new int[]{1});
+		Assert.assertEquals(MigrationTopology.ring().targets(2, 3), new int[]{0});
+		Assert.assertEquals(MigrationTopology.ring().targets(0, 1), new int[]{});
+
+		Assert.assertEquals(MigrationTopology.star().targets(0, 3), new int[]{1, 2});
+		Assert.assertEquals(MigrationTopology.star().targets(2, 3), new int[]{0});
+		Assert.assertEquals(MigrationTopology.star().targets(0, 1), new int[]{});
+
+		Assert.assertEquals(MigrationTopology.full().targets(1, 3), new int[]{0, 2});
+		Assert.assertEquals(MigrationTopology.full().targets(0, 1), new int[]{});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidTopology() {
+		IslandEngine.of(
+			Migration.of((island, _) -> new int[]{island}, 1, 1),
+			engine(0, 10),
+			engine(0, 10)
+		);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void noIslands() {
+		IslandEngine.of(
+			Migration.<IntegerGene, Integer>of(MigrationTopology.ring(), 1, 1),
+			List.of()
+		);
+	}
+
+	@Test
+	public void mergedStream() {
+		// The population size identifies the island of a result.
+		final IslandEngine<IntegerGene, Integer> engine = IslandEngine.of(
+			Migration.of(MigrationTopology.full(), 5, 2),
+			engine(0, 10),
+			engine(0, 11),
+			engine(0, 12),
+			engine(0, 13)
+		);
+
+		final Map<Integer, Long> generations = new HashMap<>();
+		engine.stream()
+			.limit(200)
+			.forEach(result -> {
+				final int island = result.population().size();
+				final long previous = generations.getOrDefault(island, 0L);
+				Assert.assertEquals(result.generation(), previous + 1);
+				generations.put(island, result.generation());
+			});
+
+		Assert.assertEquals(generations.size(), 4);
+		Assert.assertEquals(
+			generations.values().stream().mapToLong(Long::longValue).sum(),
+			200L
+		);
+	}
+
+	@Test
+	public void migration() {
+		// Only the second island can find individuals with fitness >= 100.
+		final ExecutorService executor = Executors.newFixedThreadPool(2);
+		try {
+			final var engine = new IslandEngine<>(
+				List.of(engine(0, 10), engine(100, 11)),
+				Migration.of(MigrationTopology.ring(), 1, 3),
+				executor
+			);
+
+			final int best = engine.stream()
+				.limit(100)
+				.filter(result -> result.population().size() == 10)
+				.collect(EvolutionResult.toBestEvolutionResult())
+				.bestFitness();
+
+			Assert.assertTrue(best >= 100, "Best fitness: " + best);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void streamIsLazy() {
+		final var engine = IslandEngine.of(
+			Migration.of(MigrationTopology.star(), 2, 1),
+			engine(0, 10),
+			engine(0, 10),
+			engine(0, 10)
+		);
+
+		final long count = engine.stream()
+			.limit(10)
+			.count();
+		Assert.assertEquals(count, 10L);
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import static java.lang.Math.PI;
+import static java.lang.Math.cos;
+import static java.lang.Math.sin;
+
+import java.util.HashSet;
+import java.util.Set;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codecs;
+import io.jenetics.engine.Problem;
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeSelectorTest {
+
+	private static final Problem<double[], DoubleGene, Vec<double[]>>
+		PROBLEM = Problem.of(
+			v -> Vec.of(
+				v[0]*cos(v[1])*sin(v[2]),
+				v[0]*sin(v[1])*sin(v[2]),
+				v[0]*cos(v[2])
+			),
+			Codecs.ofVector(
+				new DoubleRange(0, 1),
+				new DoubleRange(0, 2*PI),
+				new DoubleRange(0, PI)
+			)
+		);
+
+	@Test
+	public void selectBestFronts() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(HypervolumeSelectorTest::phenotype)
+				.limit(500)
+				.collect(ISeq.toISeq());
+
+		for (var opt : Optimize.values()) {
+			final int[] rank = Pareto.rank(
+				population.map(Phenotype::fitness),
+				opt == Optimize.MAXIMUM
+					? Vec::dominance
+					: (u, v) -> v.dominance(u)
+			);
+			final int[] sorted = IntStream.of(rank).sorted().toArray();
+
+			final var selector = new HypervolumeSelector<DoubleGene, Vec<double[]>>();
+			final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+				selector.select(population, 100, opt);
+
+			Assert.assertEquals(selected.size(), 100);
+			Assert.assertEquals(new HashSet<>(selected.asList()).size(), 100);
+
+			// Only elements of the best fronts are selected.
+			final int worst = sorted[99];
+			for (var pt : selected) {
+				Assert.assertTrue(rank[population.indexOf(pt)] <= worst);
+			}
+			for (int i = 0; i < population.size(); ++i) {
+				if (rank[i] < worst) {
+					Assert.assertTrue(selected.contains(population.get(i)));
+				}
+			}
+		}
+	}
+
+	@Test
+	public void selectKeepsExtremePoints() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population = IntStream
+			.range(0, 50)
+			.mapToObj(i -> phenotype(Vec.of(i, 49.0 - i)))
+			.collect(ISeq.toISeq());
+
+		final var selector = new HypervolumeSelector<DoubleGene, Vec<double[]>>();
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 10, Optimize.MAXIMUM);
+
+		final Set<Vec<double[]>> fitness = new HashSet<>(
+			selected.map(Phenotype::fitness).asList()
+		);
+		Assert.assertEquals(fitness.size(), 10);
+		Assert.assertTrue(fitness.contains(Vec.of(0.0, 49.0)));
+		Assert.assertTrue(fitness.contains(Vec.of(49.0, 0.0)));
+	}
+
+	@Test
+	public void selectMoreThanPopulation() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(HypervolumeSelectorTest::phenotype)
+				.limit(20)
+				.collect(ISeq.toISeq());
+
+		final var selector = new HypervolumeSelector<DoubleGene, Vec<double[]>>(
+			new double[]{-2, -2, -2}
+		);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> selected =
+			selector.select(population, 50, Optimize.MAXIMUM);
+
+		Assert.assertEquals(selected.size(), 50);
+		Assert.assertEquals(
+			new HashSet<>(selected.asList()),
+			new HashSet<>(population.asList())
+		);
+		Assert.assertTrue(selector.select(population, 0, Optimize.MAXIMUM).isEmpty());
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>> phenotype() {
+		final Genotype<DoubleGene> gt = PROBLEM.codec().encoding().newInstance();
+		return Phenotype.of(gt, 1L, PROBLEM.fitness().apply(PROBLEM.codec().decode(gt)));
+	}
+
+	private static Phenotype<DoubleGene, Vec<double[]>>
+	phenotype(final Vec<double[]> fitness) {
+		return Phenotype.of(PROBLEM.codec().encoding().newInstance(), 1L, fitness);
+	}
+
+}
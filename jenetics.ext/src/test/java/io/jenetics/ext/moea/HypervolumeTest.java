@@ -0,0 +1,183 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Optimize;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class HypervolumeTest {
+
+	@Test
+	public void of() {
+		final ISeq<Vec<double[]>> front = ISeq.of(
+			Vec.of(1.0, 3.0),
+			Vec.of(2.0, 2.0),
+			Vec.of(3.0, 1.0)
+		);
+
+		Assert.assertEquals(
+			Hypervolume.of(front, new double[]{0, 0}, Optimize.MAXIMUM),
+			6.0
+		);
+		Assert.assertEquals(
+			Hypervolume.of(front, new double[]{4, 4}, Optimize.MINIMUM),
+			6.0
+		);
+	}
+
+	@Test
+	public void exact3() {
+		final double[][] points = {
+			{2, 1, 1},
+			{1, 2, 1},
+			{1, 1, 2},
+			{0.5, 0.5, 0.5},
+			{2, 1, 1}
+		};
+
+		Assert.assertEquals(Hypervolume.exact(points, new double[3]), 4.0);
+		Assert.assertEquals(Hypervolume.exact(points, new double[]{1, 1, 1}), 0.0);
+		Assert.assertEquals(Hypervolume.exact(new double[0][], new double[3]), 0.0);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void exactLikeInclusionExclusion(final int dimension) {
+		final var random = new Random(123 + dimension);
+
+		for (int n = 1; n <= 8; ++n) {
+			final double[][] points = points(n, dimension, random);
+			final double[] reference = new double[dimension];
+
+			Assert.assertEquals(
+				Hypervolume.exact(points, reference),
+				inclusionExclusion(points, reference),
+				1e-9
+			);
+		}
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void approximate(final int dimension) {
+		final var random = new Random(456 + dimension);
+		final double[][] points = points(50, dimension, random);
+		final double[] reference = new double[dimension];
+
+		final double exact = Hypervolume.exact(points, reference);
+		final double approx = Hypervolume.approximate(
+			points, reference, 200_000, random
+		);
+
+		Assert.assertEquals(approx, exact, exact*0.02);
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void contributions(final int dimension) {
+		final var random = new Random(789 + dimension);
+		final double[][] points = points(30, dimension, random);
+		points[10] = points[3].clone();
+		points[11] = points[4].clone();
+		points[11][0] /= 2;
+
+		final double[] reference = new double[dimension];
+		final double volume = Hypervolume.exact(points, reference);
+		final double[] contributions = Hypervolume.contributions(points, reference);
+
+		for (int k = 0; k < points.length; ++k) {
+			final int index = k;
+			final double[][] others = IntStream
+				.range(0, points.length)
+				.filter(i -> i != index)
+				.mapToObj(i -> points[i])
+				.toArray(double[][]::new);
+
+			Assert.assertEquals(
+				contributions[k],
+				volume - Hypervolume.exact(others, reference),
+				1e-9,
+				"Contribution of point " + Arrays.toString(points[k])
+			);
+		}
+		Assert.assertEquals(contributions[3], 0.0);
+		Assert.assertEquals(contributions[10], 0.0);
+		Assert.assertEquals(contributions[11], 0.0);
+	}
+
+	@DataProvider
+	public Object[][] dimensions() {
+		return new Object[][] {{2}, {3}, {4}, {5}};
+	}
+
+	// Random points on the positive part of the unit sphere.
+	private static double[][] points(
+		final int count,
+		final int dimension,
+		final Random random
+	) {
+		final double[][] points = new double[count][dimension];
+		for (double[] point : points) {
+			double norm = 0;
+			for (int i = 0; i < dimension; ++i) {
+				point[i] = Math.abs(random.nextGaussian());
+				norm += point[i]*point[i];
+			}
+			for (int i = 0; i < dimension; ++i) {
+				point[i] /= Math.sqrt(norm);
+			}
+		}
+		return points;
+	}
+
+	private static double inclusionExclusion(
+		final double[][] points,
+		final double[] reference
+	) {
+		double volume = 0;
+		for (int set = 1; set < 1 << points.length; ++set) {
+			final double[] min = new double[reference.length];
+			Arrays.fill(min, Double.POSITIVE_INFINITY);
+			for (int i = 0; i < points.length; ++i) {
+				if ((set & (1 << i)) != 0) {
+					for (int m = 0; m < min.length; ++m) {
+						min[m] = Math.min(min[m], points[i][m]);
+					}
+				}
+			}
+
+			double box = 1;
+			for (int m = 0; m < min.length; ++m) {
+				box *= Math.max(min[m] - reference[m], 0);
+			}
+			volume += Integer.bitCount(set)%2 == 1 ? box : -box;
+		}
+		return volume;
+	}
+
+}
@@ -40,6 +40,7 @@ import io.jenetics.Phenotype;
 import io.jenetics.TournamentSelector;
 import io.jenetics.engine.Codecs;
 import io.jenetics.engine.Engine;
+import io.jenetics.engine.EvolutionResult;
 import io.jenetics.engine.Problem;
 import io.jenetics.util.Accumulator;
 import io.jenetics.util.DoubleRange;
@@ -100,4 +101,64 @@ public class MOEATest {
 		Assert.assertTrue(missing.size() < 10, "Expected < 10, got " + missing.size());
 	}
 
+	@Test
+	public void collectLikeParetoFront() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1]), v[0]*v[1]),
+			Codecs.ofVector(
+				new DoubleRange(0, 1),
+				new DoubleRange(0, 2*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.survivorsSelector(NSGA2Selector.ofVec())
+			.build();
+
+		final List<EvolutionResult<DoubleGene, Vec<double[]>>> results = engine
+			.stream()
+			.limit(50)
+			.toList();
+
+		final IntRange size = new IntRange(10_000, 10_001);
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> archive = results
+			.stream()
+			.collect(MOEA.toParetoSet(size));
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> front = results
+			.stream()
+			.collect(MOEA.toParetoSet(
+				size,
+				Vec::dominance,
+				Vec::compare,
+				Vec::distance,
+				Vec::length
+			));
+
+		Assert.assertEquals(new HashSet<>(archive.asList()), new HashSet<>(front.asList()));
+	}
+
+	@Test
+	public void byHypervolumeConvergence() {
+		final Problem<double[], DoubleGene, Vec<double[]>> problem = Problem.of(
+			v -> Vec.of(v[0]*cos(v[1]), v[0]*sin(v[1])),
+			Codecs.ofVector(
+				new DoubleRange(0, 1),
+				new DoubleRange(0, 2*PI)
+			)
+		);
+
+		final Engine<DoubleGene, Vec<double[]>> engine = Engine.builder(problem)
+			.survivorsSelector(new HypervolumeSelector<>())
+			.minimizing()
+			.build();
+
+		final long generations = engine.stream()
+			.limit(MOEA.byHypervolumeConvergence(new double[]{1, 1}, 10, 1e-3))
+			.limit(10_000)
+			.count();
+
+		Assert.assertTrue(generations > 10, "Expected > 10, got " + generations);
+		Assert.assertTrue(generations < 10_000, "Expected < 10000, got " + generations);
+	}
+
 }
@@ -24,6 +24,7 @@ import static java.lang.Math.cos;
 import static java.lang.Math.sin;
 import static java.lang.String.format;
 
+import java.util.Random;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
@@ -118,6 +119,59 @@ public class NSGA2SelectorTest {
 		);
 	}
 
+	@Test
+	public void ofVecSelectLikeGenericSelect() {
+		final ISeq<Phenotype<DoubleGene, Vec<double[]>>> population =
+			Stream.generate(this::phenotype)
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		final Selector<DoubleGene, Vec<double[]>> efficient =
+			NSGA2Selector.ofVec();
+		final Selector<DoubleGene, Vec<double[]>> generic =
+			new NSGA2Selector<>(
+				Vec::dominance,
+				Vec::compare,
+				Vec::distance,
+				Vec::length
+			);
+
+		for (var opt : Optimize.values()) {
+			Assert.assertEquals(
+				efficient.select(population, 100, opt),
+				generic.select(population, 100, opt)
+			);
+		}
+	}
+
+	@Test
+	public void ofVecSelectLikeGenericSelectWithTies() {
+		final var random = new Random(1234);
+		final ISeq<Phenotype<DoubleGene, Vec<int[]>>> population =
+			Stream.generate(() -> Phenotype.of(
+					PROBLEM.codec().encoding().newInstance(),
+					1L,
+					Vec.of(random.ints(3, 0, 10).toArray())
+				))
+				.limit(1000)
+				.collect(ISeq.toISeq());
+
+		final Selector<DoubleGene, Vec<int[]>> efficient = NSGA2Selector.ofVec();
+		final Selector<DoubleGene, Vec<int[]>> generic = new NSGA2Selector<>(
+			Vec::dominance,
+			Vec::compare,
+			Vec::distance,
+			Vec::length
+		);
+
+		for (var opt : Optimize.values()) {
+			Assert.assertEquals(
+				efficient.select(population, 300, opt),
+				generic.select(population, 300, opt)
+			);
+		}
+	}
+
 	static double dist(final Vec<double[]> vec) {
 		double dist = 0;
 		for (int i = 0; i < vec.length(); ++i) {
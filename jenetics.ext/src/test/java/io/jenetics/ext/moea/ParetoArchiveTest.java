@@ -0,0 +1,202 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.ext.moea;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ParetoArchiveTest {
+
+	@Test(dataProvider = "dimensions")
+	public void add(final int dimension) {
+		final var random = new Random(123 + dimension);
+
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+
+		for (int i = 0; i < 3_000; ++i) {
+			final Vec<double[]> point = sphere(dimension, random);
+			Assert.assertEquals(archive.add(point), front.add(point));
+			Assert.assertEquals(archive.size(), front.size());
+		}
+
+		Assert.assertEquals(new HashSet<>(archive), new HashSet<>(front));
+	}
+
+	@Test(dataProvider = "dimensions")
+	public void addWithTies(final int dimension) {
+		final var random = new Random(456 + dimension);
+
+		final ParetoArchive<Vec<int[]>> archive =
+			new ParetoArchive<>(Vec::compare, Vec::distance, Vec::length, (a, b) -> a == b, 4);
+		final ParetoFront<Vec<int[]>> front =
+			new ParetoFront<>(Vec::dominance, (a, b) -> a == b);
+
+		for (int i = 0; i < 2_000; ++i) {
+			final Vec<int[]> point = Vec.of(random.ints(dimension, 0, 8).toArray());
+			Assert.assertEquals(archive.add(point), front.add(point));
+		}
+
+		Assert.assertEquals(archive.size(), front.size());
+		Assert.assertEquals(new HashSet<>(archive), new HashSet<>(front));
+	}
+
+	@Test(dataProvider = "removeDimensions")
+	public void remove(final int dimension) {
+		final var random = new Random(321 + dimension);
+
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		for (int i = 0; i < 3_000; ++i) {
+			archive.add(sphere(dimension, random));
+		}
+
+		final List<Vec<double[]>> elements = archive.toISeq().asList();
+		final Vec<double[]> first = elements.get(0);
+		Assert.assertTrue(archive.remove(first));
+		Assert.assertFalse(archive.remove(first));
+		Assert.assertFalse(archive.contains(first));
+
+		final var removed = new HashSet<>(elements.subList(1, elements.size()/2));
+		Assert.assertTrue(archive.removeAll(removed));
+		Assert.assertTrue(archive.retainAll(elements.subList(1, elements.size() - 1)));
+
+		final var remaining = new HashSet<>(
+			elements.subList(elements.size()/2, elements.size() - 1)
+		);
+		Assert.assertEquals(archive.size(), remaining.size());
+		Assert.assertEquals(new HashSet<>(archive), remaining);
+
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+		front.addAll(remaining);
+		for (int i = 0; i < 1_000; ++i) {
+			final Vec<double[]> point = sphere(dimension, random);
+			Assert.assertEquals(archive.add(point), front.add(point));
+		}
+		Assert.assertEquals(new HashSet<>(archive), new HashSet<>(front));
+
+		final var it = archive.iterator();
+		while (it.hasNext()) {
+			it.next();
+			it.remove();
+		}
+		Assert.assertTrue(archive.isEmpty());
+		Assert.assertTrue(archive.add(first));
+	}
+
+	@DataProvider
+	public Object[][] removeDimensions() {
+		return new Object[][] {{2}, {3}, {5}};
+	}
+
+	@DataProvider
+	public Object[][] dimensions() {
+		return new Object[][] {{1}, {2}, {3}, {5}};
+	}
+
+	@Test
+	public void addDominating() {
+		final ParetoArchive<Vec<int[]>> archive = ParetoArchive.ofVec();
+		IntStream.range(0, 100)
+			.mapToObj(i -> Vec.of(i, 100 - i))
+			.forEach(archive::add);
+		Assert.assertEquals(archive.size(), 100);
+
+		Assert.assertFalse(archive.add(Vec.of(10, 10)));
+		Assert.assertFalse(archive.add(Vec.of(10, 90)));
+		Assert.assertTrue(archive.add(Vec.of(200, 200)));
+		Assert.assertEquals(archive.toISeq(), ISeq.of(Vec.of(200, 200)));
+
+		archive.clear();
+		Assert.assertTrue(archive.isEmpty());
+		Assert.assertTrue(archive.add(Vec.of(1, 1)));
+		Assert.assertEquals(archive.size(), 1);
+	}
+
+	@Test
+	public void merge() {
+		final var random = new Random(789);
+		final List<Vec<double[]>> points = IntStream.range(0, 10_000)
+			.mapToObj(i -> sphere(3, random))
+			.toList();
+
+		final ParetoArchive<Vec<double[]>> archive = points.parallelStream()
+			.collect(ParetoArchive.toParetoArchive());
+
+		Assert.assertEquals(
+			new HashSet<>(archive),
+			new HashSet<>(Pareto.front(ISeq.of(points)).asList())
+		);
+	}
+
+	@Test
+	public void trim() {
+		final var random = new Random(1011);
+		final ParetoArchive<Vec<double[]>> archive = ParetoArchive.ofVec();
+		final ParetoFront<Vec<double[]>> front = new ParetoFront<>(Vec::dominance);
+		for (int i = 0; i < 10_000; ++i) {
+			final Vec<double[]> point = sphere(2, random);
+			archive.add(point);
+			front.add(point);
+		}
+
+		final int trimmedSize = archive.size()/2;
+		Assert.assertTrue(trimmedSize > 0);
+
+		archive.trim(trimmedSize);
+		Assert.assertEquals(archive.size(), trimmedSize);
+		Assert.assertTrue(new HashSet<>(front).containsAll(archive));
+
+		final Vec<double[]> element = archive.iterator().next();
+		Assert.assertFalse(archive.add(element));
+		Assert.assertEquals(archive.size(), trimmedSize);
+	}
+
+	// Random point within the positive part of the unit ball.
+	private static Vec<double[]> sphere(
+		final int dimension,
+		final RandomGenerator random
+	) {
+		final double[] point = new double[dimension];
+		double norm = 0;
+		for (int i = 0; i < dimension; ++i) {
+			point[i] = Math.abs(random.nextGaussian());
+			norm += point[i]*point[i];
+		}
+
+		final double r = random.nextDouble()/Math.sqrt(norm);
+		for (int i = 0; i < dimension; ++i) {
+			point[i] *= r;
+		}
+		return Vec.of(point);
+	}
+
+}
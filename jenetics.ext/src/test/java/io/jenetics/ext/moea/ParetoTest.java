@@ -29,8 +29,10 @@ import java.util.Random;
 import java.util.random.RandomGenerator;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.util.ISeq;
@@ -186,6 +188,63 @@ public class ParetoTest {
 		);
 	}
 
+	@Test(dataProvider = "rankParameters")
+	public void efficientRankLikeRank(final int dimension, final int size) {
+		final Random random = new Random(1234L + dimension*31L + size);
+
+		final ISeq<Vec<int[]>> points = random
+			.ints(size)
+			.mapToObj(i -> Vec.of(random.ints(dimension, 0, 10).toArray()))
+			.collect(ISeq.toISeq());
+
+		Assert.assertEquals(
+			Pareto.rank(points),
+			Pareto.rank(points, Vec::dominance)
+		);
+
+		final ElementComparator<Vec<int[]>> comparator = Vec::compare;
+		Assert.assertEquals(
+			Pareto.rank(
+				points,
+				(u, v) -> v.dominance(u),
+				comparator.reversed(),
+				Vec::length
+			),
+			Pareto.rank(points, (u, v) -> v.dominance(u))
+		);
+	}
+
+	@DataProvider
+	public Object[][] rankParameters() {
+		return new Object[][] {
+			{2, 0}, {2, 1}, {2, 2}, {2, 50}, {2, 500},
+			{3, 0}, {3, 1}, {3, 2}, {3, 50}, {3, 500},
+			{5, 50}, {5, 500},
+			{1, 50}
+		};
+	}
+
+	@Test
+	public void efficientRankBigFront() {
+		final Random random = new Random(5678);
+
+		final ISeq<Vec<double[]>> front = Stream
+			.generate(() -> {
+				final double a = random.nextDouble();
+				final double b = random.nextDouble()*(1 - a);
+				return Vec.of(a, b, 1 - a - b);
+			})
+			.limit(5000)
+			.collect(ISeq.toISeq());
+		final ISeq<Vec<double[]>> dominated = front.subSeq(0, 100)
+			.map(v -> Vec.of(v.data()[0]/2, v.data()[1]/2, v.data()[2]/2));
+
+		final int[] rank = Pareto.rank(front.append(dominated));
+		for (int i = 0; i < rank.length; ++i) {
+			Assert.assertEquals(rank[i], i < front.size() ? 0 : 1);
+		}
+	}
+
 	@Test
 	public void dominance() {
 		final ISeq<Vec<double[]>> outline = circle(1000, new Random(234));
@@ -248,6 +307,57 @@ public class ParetoTest {
 	}
 
 
+	@Test(dataProvider = "crowdingParameters")
+	public void crowdingDistanceMatrixLikeCrowdingDistance(
+		final int dimension,
+		final int size
+	) {
+		final Random random = new Random(4321L + dimension*31L + size);
+
+		final ISeq<Vec<double[]>> points = random
+			.ints(size)
+			.mapToObj(i -> Vec.of(
+				random.ints(dimension, 0, 100).asDoubleStream().toArray()
+			))
+			.collect(ISeq.toISeq());
+		final double[][] matrix = points.stream()
+			.map(Vec::data)
+			.toArray(double[][]::new);
+
+		Assert.assertEquals(
+			Pareto.crowdingDistance(matrix),
+			Pareto.crowdingDistance(points)
+		);
+	}
+
+	@DataProvider
+	public Object[][] crowdingParameters() {
+		return new Object[][] {
+			{2, 0}, {2, 1}, {2, 2}, {2, 3}, {2, 50}, {2, 500},
+			{3, 50}, {3, 500},
+			{5, 50}, {5, 5000}
+		};
+	}
+
+	@Test
+	public void crowdingDistanceReversed() {
+		final Random random = new Random(9876);
+		final ISeq<Vec<double[]>> points = IntStream.range(0, 50)
+			.mapToObj(i -> Vec.of(random.nextDouble(), random.nextDouble()))
+			.collect(ISeq.toISeq());
+
+		final ElementComparator<Vec<double[]>> comparator = Vec::compare;
+		Assert.assertEquals(
+			Pareto.crowdingDistance(
+				points,
+				comparator.reversed(),
+				Vec::distance,
+				Vec::length
+			),
+			Pareto.crowdingDistance(points)
+		);
+	}
+
 	static ISeq<Vec<double[]>> frontMax(
 		final double r,
 		final int count,
@@ -61,7 +61,7 @@ import io.jenetics.prog.op.Program;
  * }
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.1
+ * @version 9.0
  * @since 3.9
  */
 public class ProgramChromosome<A>
@@ -389,10 +389,34 @@ public class ProgramChromosome<A>
 		final ISeq<? extends Op<A>> operations,
 		final ISeq<? extends Op<A>> terminals
 	) {
+		// Genes of altered chromosomes usually form a valid tree already and
+		// don't need the repairing round-trip via a program tree. New gene
+		// instances are created, since genes are bound to their chromosome.
+		if (isValidTree(genes)) {
+			final ISeq<ProgramGene<A>> program = genes
+				.map(g -> new ProgramGene<>(
+					g.value(), g.childOffset(), operations, terminals));
+
+			return new ProgramChromosome<>(program, validator, operations, terminals);
+		}
+
 		final TreeNode<Op<A>> program = Program.toTree(genes, terminals);
 		return create(program, validator, operations, terminals);
 	}
 
+	private static boolean isValidTree(final ISeq<? extends ProgramGene<?>> genes) {
+		int offset = 1;
+		for (int i = 0; i < genes.length() && offset <= genes.length(); ++i) {
+			final ProgramGene<?> gene = genes.get(i);
+			final int arity = gene.value().arity();
+			if (arity > 0 && gene.childOffset() != offset) {
+				return false;
+			}
+			offset += arity;
+		}
+		return offset == genes.length();
+	}
+
 	public static <A> ProgramChromosome<A> of(
 		final ISeq<ProgramGene<A>> genes,
 		final ISeq<? extends Op<A>> operations,
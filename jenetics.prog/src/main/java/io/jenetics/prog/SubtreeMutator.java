@@ -0,0 +1,133 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog;
+
+import static java.lang.String.format;
+
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Mutator;
+import io.jenetics.MutatorResult;
+import io.jenetics.internal.math.Probabilities;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.internal.util.TreeGenes;
+
+import io.jenetics.prog.op.Program;
+
+/**
+ * Replaces a randomly chosen subtree of a program with a new, randomly
+ * created, subtree. The new subtree is built from the operations and
+ * terminals of the mutated {@link ProgramChromosome} and has a maximal
+ * depth of {@link #depth()}.
+ *
+ * @implNote
+ * The subtree is replaced directly on the flattened program genes of the
+ * chromosome, without creating an intermediate tree.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public class SubtreeMutator<A, C extends Comparable<? super C>>
+	extends Mutator<ProgramGene<A>, C>
+{
+
+	private final int _depth;
+
+	/**
+	 * Create a new subtree mutator with the given parameters.
+	 *
+	 * @param depth the maximal depth of the newly created subtrees
+	 * @param probability the mutation probability
+	 * @throws IllegalArgumentException if the {@code depth} is negative or
+	 *         the {@code probability} is not in the valid range of
+	 *         {@code [0, 1]}
+	 */
+	public SubtreeMutator(final int depth, final double probability) {
+		super(probability);
+		if (depth < 0) {
+			throw new IllegalArgumentException(format(
+				"Subtree depth must not be negative: %d", depth
+			));
+		}
+		_depth = depth;
+	}
+
+	/**
+	 * Create a new subtree mutator with the given maximal subtree
+	 * {@code depth} and the default mutation probability.
+	 *
+	 * @param depth the maximal depth of the newly created subtrees
+	 * @throws IllegalArgumentException if the {@code depth} is negative
+	 */
+	public SubtreeMutator(final int depth) {
+		this(depth, DEFAULT_ALTER_PROBABILITY);
+	}
+
+	/**
+	 * Return the maximal depth of the newly created subtrees.
+	 *
+	 * @return the maximal depth of the newly created subtrees
+	 */
+	public int depth() {
+		return _depth;
+	}
+
+	@Override
+	protected MutatorResult<Chromosome<ProgramGene<A>>> mutate(
+		final Chromosome<ProgramGene<A>> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		final int P = Probabilities.toInt(p);
+		return random.nextInt() < P
+			? mutate(chromosome, random)
+			: new MutatorResult<>(chromosome, 0);
+	}
+
+	private MutatorResult<Chromosome<ProgramGene<A>>> mutate(
+		final Chromosome<ProgramGene<A>> chromosome,
+		final RandomGenerator random
+	) {
+		final ProgramGene<A> root = chromosome.gene();
+		final int index = random.nextInt(chromosome.length());
+
+		final var subtree = Program.of(
+			random.nextInt(_depth + 1),
+			root.operations(),
+			root.terminals(),
+			random
+		);
+
+		final ISeq<ProgramGene<A>> genes = TreeGenes.replace(
+			chromosome, index,
+			TreeGenes.of(subtree, root), 0
+		);
+		return new MutatorResult<>(chromosome.newInstance(genes), 1);
+	}
+
+	@Override
+	public String toString() {
+		return format("SubtreeMutator[depth=%d, p=%f]", _depth, _probability);
+	}
+
+}
@@ -0,0 +1,156 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.internal.util;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import io.jenetics.prog.op.MathOp;
+
+/**
+ * The primitive {@code double} instruction of a {@link MathOp}. The
+ * instructions perform exactly the same floating point operations as the
+ * {@link MathOp#apply(Double[])} method. This mapping is shared by the
+ * evaluators which work on primitive {@code double} values.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public sealed interface MathInstruction {
+
+	/**
+	 * Return the arity of the instruction.
+	 *
+	 * @return the arity of the instruction
+	 */
+	int arity();
+
+	/**
+	 * Instructions, which are directly implemented by the evaluators.
+	 */
+	enum Arithmetic implements MathInstruction {
+		ID(1), NEG(1), SQR(1), ABS(1),
+		ADD(2), SUB(2), MUL(2), DIV(2), MOD(2), MIN(2), MAX(2);
+
+		private final int _arity;
+
+		Arithmetic(final int arity) {
+			_arity = arity;
+		}
+
+		@Override
+		public int arity() {
+			return _arity;
+		}
+	}
+
+	/**
+	 * Unary instruction, which is implemented by the static method with the
+	 * given {@code name} of the {@code owner} class.
+	 *
+	 * @param owner the class of the implementing static method
+	 * @param name the name of the implementing static method
+	 * @param function the function of the instruction
+	 */
+	record Unary(Class<?> owner, String name, DoubleUnaryOperator function)
+		implements MathInstruction
+	{
+		@Override
+		public int arity() {
+			return 1;
+		}
+	}
+
+	/**
+	 * Binary instruction, which is implemented by the static method with the
+	 * given {@code name} of the {@code owner} class.
+	 *
+	 * @param owner the class of the implementing static method
+	 * @param name the name of the implementing static method
+	 * @param function the function of the instruction
+	 */
+	record Binary(Class<?> owner, String name, DoubleBinaryOperator function)
+		implements MathInstruction
+	{
+		@Override
+		public int arity() {
+			return 2;
+		}
+	}
+
+	/**
+	 * Return the primitive instruction of the given math {@code op}.
+	 *
+	 * @param op the math operation
+	 * @return the primitive instruction of the given operation
+	 * @throws NullPointerException if the given {@code op} is {@code null}
+	 */
+	static MathInstruction of(final MathOp op) {
+		return switch (requireNonNull(op)) {
+			case ID -> Arithmetic.ID;
+			case NEG -> Arithmetic.NEG;
+			case SQR -> Arithmetic.SQR;
+			case ABS -> Arithmetic.ABS;
+			case ADD -> Arithmetic.ADD;
+			case SUB -> Arithmetic.SUB;
+			case MUL -> Arithmetic.MUL;
+			case DIV -> Arithmetic.DIV;
+			case MOD -> Arithmetic.MOD;
+			case MIN -> Arithmetic.MIN;
+			case MAX -> Arithmetic.MAX;
+			case POW -> new Binary(Math.class, "pow", Math::pow);
+			case HYPOT -> new Binary(Math.class, "hypot", Math::hypot);
+			case GT -> new Binary(MathInstruction.class, "gt", MathInstruction::gt);
+			case CEIL -> new Unary(Math.class, "ceil", Math::ceil);
+			case FLOOR -> new Unary(Math.class, "floor", Math::floor);
+			case SIGNUM -> new Unary(Math.class, "signum", Math::signum);
+			case RINT -> new Unary(Math.class, "rint", Math::rint);
+			case SQRT -> new Unary(Math.class, "sqrt", Math::sqrt);
+			case CBRT -> new Unary(Math.class, "cbrt", Math::cbrt);
+			case EXP -> new Unary(Math.class, "exp", Math::exp);
+			case LOG -> new Unary(Math.class, "log", Math::log);
+			case LOG10 -> new Unary(Math.class, "log10", Math::log10);
+			case SIN -> new Unary(Math.class, "sin", Math::sin);
+			case COS -> new Unary(Math.class, "cos", Math::cos);
+			case TAN -> new Unary(Math.class, "tan", Math::tan);
+			case ACOS -> new Unary(Math.class, "acos", Math::acos);
+			case ASIN -> new Unary(Math.class, "asin", Math::asin);
+			case ATAN -> new Unary(Math.class, "atan", Math::atan);
+			case COSH -> new Unary(Math.class, "cosh", Math::cosh);
+			case SINH -> new Unary(Math.class, "sinh", Math::sinh);
+			case TANH -> new Unary(Math.class, "tanh", Math::tanh);
+		};
+	}
+
+	/**
+	 * The primitive implementation of the {@link MathOp#GT} operation.
+	 *
+	 * @param a the first argument
+	 * @param b the second argument
+	 * @return {@code 1.0} if {@code a > b}, {@code -1.0} otherwise
+	 */
+	static double gt(final double a, final double b) {
+		return a > b ? 1.0 : -1.0;
+	}
+
+}
@@ -49,6 +49,7 @@ import java.io.Serializable;
 import java.util.TreeSet;
 import java.util.function.Function;
 import java.util.function.Supplier;
+import java.util.function.ToDoubleFunction;
 
 import io.jenetics.internal.util.Lazy;
 import io.jenetics.util.ISeq;
@@ -68,7 +69,7 @@ import io.jenetics.ext.util.TreeNode;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 4.1
- * @version 7.1
+ * @version 9.0
  */
 public final class MathExpr
 	implements Function<Double[], Double>, Serializable
@@ -246,6 +247,25 @@ public final class MathExpr
 		return val == -0.0 ? 0.0 : val;
 	}
 
+	/**
+	 * Compiles this expression into a function, which evaluates it with
+	 * primitive {@code double} values. This is useful, if the expression is
+	 * evaluated many times, since compiling the expression is much more
+	 * expensive than evaluating it once.
+	 * {@snippet lang="java":
+	 * final ToDoubleFunction<double[]> f = MathExpr.parse("2*z + 3*x - y").toCompiled();
+	 * assert f.applyAsDouble(new double[]{3, 2, 1}) == 9.0;
+	 * }
+	 *
+	 * @see MathExprCompiler
+	 * @since 9.0
+	 *
+	 * @return the compiled function of this expression
+	 */
+	public ToDoubleFunction<double[]> toCompiled() {
+		return MathExprCompiler.DEFAULT.compile(_tree);
+	}
+
 	@Override
 	public int hashCode() {
 		return Tree.hashCode(_tree);
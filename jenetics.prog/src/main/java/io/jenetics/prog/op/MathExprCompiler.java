@@ -0,0 +1,405 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static java.lang.String.format;
+import static java.lang.constant.ConstantDescs.CD_Double;
+import static java.lang.constant.ConstantDescs.CD_Object;
+import static java.lang.constant.ConstantDescs.CD_double;
+import static java.lang.constant.ConstantDescs.CD_int;
+import static java.lang.constant.ConstantDescs.CD_void;
+import static java.lang.constant.ConstantDescs.INIT_NAME;
+import static java.lang.invoke.MethodType.methodType;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.prog.op.Numbers.box;
+
+import java.lang.classfile.ClassFile;
+import java.lang.classfile.CodeBuilder;
+import java.lang.constant.ClassDesc;
+import java.lang.constant.MethodTypeDesc;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodHandles.Lookup;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+import java.util.function.ToDoubleFunction;
+
+import io.jenetics.ext.util.FlatTreeNode;
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.internal.util.MathInstruction;
+import io.jenetics.prog.internal.util.MathInstruction.Arithmetic;
+import io.jenetics.prog.internal.util.MathInstruction.Binary;
+import io.jenetics.prog.internal.util.MathInstruction.Unary;
+
+/**
+ * Compiles operation trees into Java bytecode. The {@link Program#eval(Tree, Object[])}
+ * method, and the {@link MathExpr} class, evaluate an operation tree by
+ * reducing it. This boxes every intermediate value and creates a new argument
+ * array for every inner node. The functions created by this compiler evaluate
+ * the tree with primitive {@code double} values, without any allocation. The
+ * trees are compiled into <em>hidden</em> classes, which are unloaded when
+ * they are no longer used.
+ * {@snippet lang="java":
+ * final MathExprCompiler compiler = new MathExprCompiler();
+ * final ToDoubleFunction<double[]> f = compiler.compile(
+ *     MathExpr.parse("2*z + 3*x - y").tree()
+ * );
+ * assert f.applyAsDouble(new double[]{3, 2, 1}) == 9.0;
+ * }
+ * The {@link MathOp}s, {@link Var}iables and constant {@link Val}ues are
+ * inlined. All other operations are called with boxed arguments, like the
+ * reducing interpreter does. Since compiling a tree is much more expensive
+ * than evaluating it once, the compiled functions of trees, which consists
+ * only of inlined operations, are cached by the structure of the tree.
+ *
+ * @apiNote
+ * Compiling a tree pays off, if the tree is evaluated many times, e.g., for
+ * all samples of a symbolic regression problem.
+ *
+ * @implNote
+ * This class is thread-safe.
+ *
+ * @see MathExpr#toCompiled()
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class MathExprCompiler {
+
+	/**
+	 * The default maximal number of cached compiled trees.
+	 */
+	public static final int DEFAULT_CACHE_SIZE = 1 << 12;
+
+	/**
+	 * Trees with more nodes are interpreted, since their code size would
+	 * exceed the method size limit of the JVM.
+	 */
+	static final int MAX_COMPILE_SIZE = 1 << 12;
+
+	/**
+	 * The compiler instance used by {@link MathExpr#toCompiled()}.
+	 */
+	static final MathExprCompiler DEFAULT = new MathExprCompiler();
+
+	private static final Lookup LOOKUP = MethodHandles.lookup();
+
+	private static final ClassDesc CD_Math = ClassDesc.of(Math.class.getName());
+	private static final ClassDesc CD_Function = ClassDesc.of(Function.class.getName());
+	private static final ClassDesc CD_Op = ClassDesc.of(Op.class.getName());
+	private static final ClassDesc CD_Numbers = ClassDesc.of(Numbers.class.getName());
+	private static final ClassDesc CD_Compiled = ClassDesc.of(Compiled.class.getName());
+	private static final ClassDesc CD_Expr = ClassDesc.of(MathExprCompiler.class.getName() + "$Expr");
+
+	private static final MethodTypeDesc MTD_D_D = MethodTypeDesc.of(CD_double, CD_double);
+	private static final MethodTypeDesc MTD_D_DD = MethodTypeDesc.of(CD_double, CD_double, CD_double);
+	private static final MethodTypeDesc MTD_EVAL = MethodTypeDesc.of(CD_double, CD_double.arrayType());
+	private static final MethodTypeDesc MTD_INIT = MethodTypeDesc.of(CD_void, CD_Op.arrayType(), CD_int);
+
+	/**
+	 * Base class of the compiled functions. The generated hidden classes
+	 * implement the {@link #eval(double[])} method.
+	 */
+	abstract static class Compiled implements ToDoubleFunction<double[]> {
+		// The operations which are not inlined.
+		final Op<?>[] _ops;
+		private final int _arity;
+
+		Compiled(final Op<?>[] ops, final int arity) {
+			_ops = ops;
+			_arity = arity;
+		}
+
+		abstract double eval(final double[] args);
+
+		@Override
+		public final double applyAsDouble(final double[] args) {
+			if (args.length < _arity) {
+				throw new IllegalArgumentException(format(
+					"Expected at least %d arguments, but got %d.",
+					_arity, args.length
+				));
+			}
+			return eval(args);
+		}
+	}
+
+	/**
+	 * The fallback for trees which are too big for being compiled.
+	 */
+	private static final class Interpreted extends Compiled {
+		private final FlatTreeNode<Op<Double>> _tree;
+
+		Interpreted(final Tree<? extends Op<Double>, ?> tree) {
+			super(new Op<?>[0], 0);
+			_tree = FlatTreeNode.ofTree(tree);
+		}
+
+		@Override
+		double eval(final double[] args) {
+			return Program.eval(_tree, box(args));
+		}
+	}
+
+	/**
+	 * The cache key, which contains the inlined operations, variable indexes
+	 * and constant values, together with the child count, of the tree nodes
+	 * in pre-order.
+	 */
+	private record Key(Object[] nodes) {
+		@Override
+		public boolean equals(final Object obj) {
+			return obj instanceof Key key && Arrays.equals(nodes, key.nodes);
+		}
+		@Override
+		public int hashCode() {
+			return Arrays.hashCode(nodes);
+		}
+	}
+
+	private final int _cacheSize;
+	private final Map<Key, Compiled> _cache = new ConcurrentHashMap<>();
+
+	/**
+	 * Create a new compiler with the given maximal cache size. If the cache
+	 * is full, it is cleared.
+	 *
+	 * @param cacheSize the maximal number of cached compiled trees. If zero,
+	 *        no trees are cached.
+	 * @throws IllegalArgumentException if the given {@code cacheSize} is
+	 *         negative
+	 */
+	public MathExprCompiler(final int cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException(format(
+				"Cache size must not be negative: %d.", cacheSize
+			));
+		}
+		_cacheSize = cacheSize;
+	}
+
+	/**
+	 * Create a new compiler with the {@link #DEFAULT_CACHE_SIZE}.
+	 */
+	public MathExprCompiler() {
+		this(DEFAULT_CACHE_SIZE);
+	}
+
+	/**
+	 * Compiles the given operation {@code tree}. The returned function
+	 * expects the variable values as arguments and returns the same result as
+	 * {@link Program#eval(Tree, Object[])}. Changing the given {@code tree}
+	 * afterward doesn't change the compiled function.
+	 *
+	 * @param tree the operation tree to compile
+	 * @return the compiled function of the given {@code tree}. The function
+	 *         throws an {@link IllegalArgumentException} if it is called with
+	 *         fewer arguments than the tree has variables.
+	 * @throws NullPointerException if the given {@code tree} is {@code null}
+	 * @throws IllegalArgumentException if the given {@code tree} is empty
+	 */
+	public ToDoubleFunction<double[]> compile(
+		final Tree<? extends Op<Double>, ?> tree
+	) {
+		requireNonNull(tree);
+		if (tree.value() == null) {
+			throw new IllegalArgumentException("Tree must not be empty.");
+		}
+
+		final int size = tree.size();
+		if (size > MAX_COMPILE_SIZE) {
+			return new Interpreted(tree);
+		}
+
+		final List<Object> nodes = new ArrayList<>(2*size);
+		final int arity = nodes(tree, nodes);
+		if (nodes.contains(null) || _cacheSize == 0) {
+			return define(tree, arity);
+		}
+
+		final var key = new Key(nodes.toArray());
+		Compiled compiled = _cache.get(key);
+		if (compiled == null) {
+			compiled = define(tree, arity);
+			if (_cache.size() >= _cacheSize) {
+				_cache.clear();
+			}
+			_cache.put(key, compiled);
+		}
+
+		return compiled;
+	}
+
+	// Collects the cache key of the given tree and returns its arity.
+	private static int nodes(
+		final Tree<? extends Op<Double>, ?> node,
+		final List<Object> nodes
+	) {
+		final Object value = inlined(node);
+		nodes.add(value);
+		nodes.add(node.childCount());
+
+		int arity = value instanceof Integer index ? index + 1 : 0;
+		for (int i = 0; i < node.childCount(); ++i) {
+			arity = Math.max(arity, nodes(node.childAt(i), nodes));
+		}
+		return arity;
+	}
+
+	// Return the key of an inlined node, or null if the node can't be inlined.
+	private static Object inlined(final Tree<? extends Op<Double>, ?> node) {
+		return switch (node.value()) {
+			case MathOp op when op.arity() == node.childCount() -> op;
+			case Var<Double> var when node.isLeaf() -> var.index();
+			case Val<Double> val when node.isLeaf() && val.value() != null -> val.value();
+			default -> null;
+		};
+	}
+
+	private static Compiled define(
+		final Tree<? extends Op<Double>, ?> tree,
+		final int arity
+	) {
+		final List<Op<?>> ops = new ArrayList<>();
+
+		final byte[] bytes;
+		try {
+			bytes = ClassFile.of().build(CD_Expr, clazz -> clazz
+				.withFlags(ClassFile.ACC_FINAL | ClassFile.ACC_SYNTHETIC)
+				.withSuperclass(CD_Compiled)
+				.withMethodBody(INIT_NAME, MTD_INIT, ClassFile.ACC_PUBLIC, code -> code
+					.aload(0)
+					.aload(1)
+					.iload(2)
+					.invokespecial(CD_Compiled, INIT_NAME, MTD_INIT)
+					.return_())
+				.withMethodBody("eval", MTD_EVAL, ClassFile.ACC_FINAL, code -> {
+					ops.clear();
+					emit(code, tree, ops);
+					code.dreturn();
+				})
+			);
+		} catch (IllegalArgumentException e) {
+			// The generated code exceeds the limits of the class file format.
+			return new Interpreted(tree);
+		}
+
+		try {
+			final Lookup lookup = LOOKUP.defineHiddenClass(bytes, true);
+			return (Compiled)lookup
+				.findConstructor(
+					lookup.lookupClass(),
+					methodType(void.class, Op[].class, int.class))
+				.invoke(ops.toArray(new Op<?>[0]), arity);
+		} catch (Throwable e) {
+			throw new IllegalStateException("Can't define compiled tree.", e);
+		}
+	}
+
+	// Emits the code which leaves the value of the given node on the stack.
+	private static void emit(
+		final CodeBuilder code,
+		final Tree<? extends Op<Double>, ?> node,
+		final List<Op<?>> ops
+	) {
+		switch (inlined(node)) {
+			case MathOp op -> {
+				for (int i = 0; i < node.childCount(); ++i) {
+					emit(code, node.childAt(i), ops);
+				}
+				emit(code, op);
+			}
+			case Integer index -> code
+				.aload(1)
+				.loadConstant(index)
+				.daload();
+			case Double value -> code.loadConstant(value);
+			case null, default -> {
+				// Calling the operation with boxed arguments.
+				code.aload(0)
+					.getfield(CD_Compiled, "_ops", CD_Op.arrayType())
+					.loadConstant(ops.size())
+					.aaload();
+				ops.add(node.value());
+
+				if (node.isLeaf()) {
+					code.aload(1).invokestatic(
+						CD_Numbers, "box",
+						MethodTypeDesc.of(CD_Double.arrayType(), CD_double.arrayType())
+					);
+				} else {
+					code.loadConstant(node.childCount()).anewarray(CD_Double);
+					for (int i = 0; i < node.childCount(); ++i) {
+						code.dup().loadConstant(i);
+						emit(code, node.childAt(i), ops);
+						code.invokestatic(
+							CD_Double, "valueOf",
+							MethodTypeDesc.of(CD_Double, CD_double)
+						);
+						code.aastore();
+					}
+				}
+
+				code.invokeinterface(
+						CD_Function, "apply",
+						MethodTypeDesc.of(CD_Object, CD_Object))
+					.checkcast(CD_Double)
+					.invokevirtual(
+						CD_Double, "doubleValue",
+						MethodTypeDesc.of(CD_double));
+			}
+		}
+	}
+
+	private static void emit(final CodeBuilder code, final MathOp op) {
+		switch (MathInstruction.of(op)) {
+			case Arithmetic.ID -> {}
+			case Arithmetic.NEG -> code.dneg();
+			case Arithmetic.SQR -> code.dup2().dmul();
+			case Arithmetic.ABS -> code.invokestatic(CD_Math, "abs", MTD_D_D);
+			case Arithmetic.ADD -> code.dadd();
+			case Arithmetic.SUB -> code.dsub();
+			case Arithmetic.MUL -> code.dmul();
+			case Arithmetic.DIV -> code.ddiv();
+			case Arithmetic.MOD -> code.drem();
+			case Arithmetic.MIN -> code.invokestatic(CD_Math, "min", MTD_D_DD);
+			case Arithmetic.MAX -> code.invokestatic(CD_Math, "max", MTD_D_DD);
+			case Unary f -> invoke(code, f.owner(), f.name(), MTD_D_D);
+			case Binary f -> invoke(code, f.owner(), f.name(), MTD_D_DD);
+		}
+	}
+
+	private static void invoke(
+		final CodeBuilder code,
+		final Class<?> owner,
+		final String name,
+		final MethodTypeDesc type
+	) {
+		code.invokestatic(
+			ClassDesc.of(owner.getName()), name, type, owner.isInterface()
+		);
+	}
+
+}
@@ -0,0 +1,449 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.DoubleBinaryOperator;
+import java.util.function.DoubleUnaryOperator;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.internal.util.MathInstruction;
+import io.jenetics.prog.internal.util.MathInstruction.Arithmetic;
+import io.jenetics.prog.internal.util.MathInstruction.Binary;
+import io.jenetics.prog.internal.util.MathInstruction.Unary;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Evaluates a program tree column-wise. The samples are stored as one
+ * {@code double[]} column per variable, and the program is translated into a
+ * postfix schedule, which is executed on blocks of {@link #BLOCK_SIZE} rows.
+ * Every instruction processes a whole block, using a stack of reusable
+ * scratch buffers. The loops of the arithmetic operations are simple enough
+ * to be vectorized by the JIT compiler. Only operations, which are not
+ * {@link MathOp}s, are evaluated with boxed arguments, row by row.
+ * <p>
+ * If a {@link SubtreeCache} is given, subtrees with cached results are not
+ * evaluated, but read from their cached columns. The results of subtrees,
+ * which are admitted to the cache, are recorded while evaluating and put
+ * into the cache with {@link #flush()}.
+ *
+ * @implNote
+ * The instructions perform exactly the same floating point operations as
+ * the {@link io.jenetics.prog.op.Program#eval(Tree, Object[])} method, which
+ * leads to bit-identical results. A column program, which records subtree
+ * results for the cache, must only be used for one evaluation at a time.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class ColumnProgram {
+
+	/**
+	 * The number of rows which are processed by one instruction.
+	 */
+	static final int BLOCK_SIZE = 256;
+
+	// The instruction codes.
+	private static final int VAR = 0;
+	private static final int CONST = 1;
+	private static final int ADD = 2;
+	private static final int SUB = 3;
+	private static final int MUL = 4;
+	private static final int DIV = 5;
+	private static final int MOD = 6;
+	private static final int NEG = 7;
+	private static final int SQR = 8;
+	private static final int ABS = 9;
+	private static final int MIN = 10;
+	private static final int MAX = 11;
+	private static final int UNARY = 12;
+	private static final int BINARY = 13;
+	private static final int OP = 14;
+	private static final int COLUMN = 15;
+	private static final int STORE = 16;
+
+	private final int[] _codes;
+	private final int[] _args;
+	private final double[] _values;
+	private final Object[] _functions;
+	private final int _stackSize;
+	private final int _arity;
+
+	private final SubtreeCache _cache;
+	private final List<Store> _stores;
+
+	/**
+	 * Create a new column program from the given program {@code tree}.
+	 *
+	 * @param tree the program tree
+	 * @param cache the subtree cache, may be {@code null}
+	 * @throws IllegalArgumentException if the given {@code tree} is empty
+	 */
+	ColumnProgram(
+		final Tree<? extends Op<Double>, ?> tree,
+		final SubtreeCache cache
+	) {
+		if (tree.value() == null) {
+			throw new IllegalArgumentException("Program tree must not be empty.");
+		}
+
+		final var schedule = new Schedule(tree, cache);
+		schedule.add(tree);
+
+		final int size = schedule.codes.size();
+		_codes = schedule.codes.stream().mapToInt(Integer::intValue).toArray();
+		_args = schedule.args.stream().mapToInt(Integer::intValue).toArray();
+		_values = schedule.values.stream().mapToDouble(Double::doubleValue).toArray();
+		_functions = schedule.functions.toArray();
+		_stackSize = schedule.maxDepth;
+		_arity = schedule.arity;
+		_cache = cache;
+		_stores = List.copyOf(schedule.stores);
+		assert _args.length == size && _values.length == size;
+	}
+
+	/**
+	 * Create a new column program from the given program {@code tree}.
+	 *
+	 * @param tree the program tree
+	 * @throws IllegalArgumentException if the given {@code tree} is empty
+	 */
+	ColumnProgram(final Tree<? extends Op<Double>, ?> tree) {
+		this(tree, null);
+	}
+
+	/**
+	 * A subtree result, which is recorded for the cache.
+	 */
+	private record Store(SubtreeCache.Key key, double[] values) {}
+
+	/**
+	 * The postfix schedule of the program tree.
+	 */
+	private static final class Schedule {
+		final List<Integer> codes = new ArrayList<>();
+		final List<Integer> args = new ArrayList<>();
+		final List<Double> values = new ArrayList<>();
+		final List<Object> functions = new ArrayList<>();
+		final List<Store> stores = new ArrayList<>();
+		final SubtreeCache cache;
+		final SubtreeCache.Key[] keys;
+		int index = 0;
+		int depth = 0;
+		int maxDepth = 0;
+		int arity = 0;
+
+		Schedule(
+			final Tree<? extends Op<Double>, ?> tree,
+			final SubtreeCache cache
+		) {
+			this.cache = cache;
+			keys = cache != null ? SubtreeCache.Key.keys(tree) : null;
+		}
+
+		// The nodes must be added in pre-order, since the subtree keys are
+		// looked up by the pre-order `index` of the node.
+		void add(final Tree<? extends Op<Double>, ?> node) {
+			final SubtreeCache.Key key = keys != null && !node.isLeaf()
+				? keys[index]
+				: null;
+
+			if (key != null) {
+				final double[] column = cache.get(key);
+				if (column != null) {
+					index += key.size();
+					add(COLUMN, 0, 0, column, 1);
+				} else if (cache.admit(key)) {
+					addNode(node);
+
+					final var store = new Store(key, new double[cache.rows()]);
+					add(STORE, 0, 0, store.values(), 0);
+					stores.add(store);
+				} else {
+					addNode(node);
+				}
+			} else {
+				addNode(node);
+			}
+		}
+
+		private void addNode(final Tree<? extends Op<Double>, ?> node) {
+			++index;
+			final Op<Double> op = node.value();
+			final int children = node.childCount();
+
+			if (op == MathOp.ID && children == 1) {
+				add(node.childAt(0));
+				return;
+			}
+			for (int i = 0; i < children; ++i) {
+				add(node.childAt(i));
+			}
+
+			switch (op) {
+				case MathOp mop when mop.arity() == children -> add(mop);
+				case Var<Double> var when children == 0 -> {
+					arity = Math.max(arity, var.index() + 1);
+					add(VAR, var.index(), 0, null, 1);
+				}
+				case Val<Double> val when children == 0 && val.value() != null ->
+					add(CONST, 0, val.value(), null, 1);
+				default -> add(OP, children, 0, op, 1 - children);
+			}
+		}
+
+		private void add(final MathOp op) {
+			switch (MathInstruction.of(op)) {
+				case Arithmetic.ID -> {}
+				case Arithmetic.NEG -> add(NEG, 0, 0, null, 0);
+				case Arithmetic.SQR -> add(SQR, 0, 0, null, 0);
+				case Arithmetic.ABS -> add(ABS, 0, 0, null, 0);
+				case Arithmetic.ADD -> add(ADD, 0, 0, null, -1);
+				case Arithmetic.SUB -> add(SUB, 0, 0, null, -1);
+				case Arithmetic.MUL -> add(MUL, 0, 0, null, -1);
+				case Arithmetic.DIV -> add(DIV, 0, 0, null, -1);
+				case Arithmetic.MOD -> add(MOD, 0, 0, null, -1);
+				case Arithmetic.MIN -> add(MIN, 0, 0, null, -1);
+				case Arithmetic.MAX -> add(MAX, 0, 0, null, -1);
+				case Unary f -> add(UNARY, 0, 0, f.function(), 0);
+				case Binary f -> add(BINARY, 0, 0, f.function(), -1);
+			}
+		}
+
+		private void add(
+			final int code,
+			final int arg,
+			final double value,
+			final Object function,
+			final int stack
+		) {
+			codes.add(code);
+			args.add(arg);
+			values.add(value);
+			functions.add(function);
+
+			depth += stack;
+			maxDepth = Math.max(maxDepth, depth);
+		}
+	}
+
+	/**
+	 * Return the number of variables the program expects.
+	 *
+	 * @return the number of variables of the program
+	 */
+	int arity() {
+		return _arity;
+	}
+
+	/**
+	 * Puts the subtree results, recorded during the last evaluation, into
+	 * the subtree cache. This method must only be called after <em>all</em>
+	 * rows of the sample columns have been evaluated.
+	 */
+	void flush() {
+		for (var store : _stores) {
+			_cache.put(store.key(), store.values());
+		}
+	}
+
+	/**
+	 * Evaluates the program for the rows {@code [from, to)} of the given
+	 * variable {@code columns} and writes the results into the {@code result}
+	 * array, starting at index zero.
+	 *
+	 * @param columns the variable columns
+	 * @param from the first row, inclusively
+	 * @param to the last row, exclusively
+	 * @param result the array where the result is written to. Its length
+	 *        must be at least {@code to - from}.
+	 * @throws IllegalArgumentException if the program has more variables than
+	 *         the given number of {@code columns}
+	 */
+	void eval(
+		final double[][] columns,
+		final int from,
+		final int to,
+		final double[] result
+	) {
+		if (_arity > columns.length) {
+			throw new IllegalArgumentException(format(
+				"No value for variable with index %d given.", _arity - 1
+			));
+		}
+
+		final double[][] stack = new double[_stackSize][BLOCK_SIZE];
+		for (int start = from; start < to; start += BLOCK_SIZE) {
+			final int n = Math.min(BLOCK_SIZE, to - start);
+			eval(columns, start, n, stack);
+			System.arraycopy(stack[0], 0, result, start - from, n);
+		}
+	}
+
+	private void eval(
+		final double[][] columns,
+		final int start,
+		final int n,
+		final double[][] stack
+	) {
+		int top = -1;
+		for (int pc = 0; pc < _codes.length; ++pc) {
+			switch (_codes[pc]) {
+				case VAR -> System.arraycopy(columns[_args[pc]], start, stack[++top], 0, n);
+				case CONST -> Arrays.fill(stack[++top], 0, n, _values[pc]);
+				case ADD -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = a[i] + b[i];
+					}
+				}
+				case SUB -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = a[i] - b[i];
+					}
+				}
+				case MUL -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = a[i]*b[i];
+					}
+				}
+				case DIV -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = a[i]/b[i];
+					}
+				}
+				case MOD -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = a[i]%b[i];
+					}
+				}
+				case MIN -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = Math.min(a[i], b[i]);
+					}
+				}
+				case MAX -> {
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = Math.max(a[i], b[i]);
+					}
+				}
+				case NEG -> {
+					final double[] a = stack[top];
+					for (int i = 0; i < n; ++i) {
+						a[i] = -a[i];
+					}
+				}
+				case SQR -> {
+					final double[] a = stack[top];
+					for (int i = 0; i < n; ++i) {
+						a[i] = a[i]*a[i];
+					}
+				}
+				case ABS -> {
+					final double[] a = stack[top];
+					for (int i = 0; i < n; ++i) {
+						a[i] = Math.abs(a[i]);
+					}
+				}
+				case UNARY -> {
+					final var f = (DoubleUnaryOperator)_functions[pc];
+					final double[] a = stack[top];
+					for (int i = 0; i < n; ++i) {
+						a[i] = f.applyAsDouble(a[i]);
+					}
+				}
+				case BINARY -> {
+					final var f = (DoubleBinaryOperator)_functions[pc];
+					final double[] a = stack[top - 1];
+					final double[] b = stack[top--];
+					for (int i = 0; i < n; ++i) {
+						a[i] = f.applyAsDouble(a[i], b[i]);
+					}
+				}
+				case OP -> top = apply(pc, columns, start, n, stack, top);
+				case COLUMN -> System.arraycopy(
+					(double[])_functions[pc], start, stack[++top], 0, n
+				);
+				case STORE -> System.arraycopy(
+					stack[top], 0, (double[])_functions[pc], start, n
+				);
+				default -> throw new AssertionError("Unknown code: " + _codes[pc]);
+			}
+		}
+	}
+
+	// Applies a non-inlined operation, row by row, with boxed arguments.
+	@SuppressWarnings("unchecked")
+	private int apply(
+		final int pc,
+		final double[][] columns,
+		final int start,
+		final int n,
+		final double[][] stack,
+		final int top
+	) {
+		final var op = (Op<Double>)_functions[pc];
+		final int arity = _args[pc];
+		final int base = top - arity + 1;
+
+		final double[] result = stack[base];
+		for (int i = 0; i < n; ++i) {
+			final Double[] args;
+			if (arity == 0) {
+				// Leaf operations get the variables as arguments.
+				args = new Double[columns.length];
+				for (int j = 0; j < args.length; ++j) {
+					args[j] = columns[j][start + i];
+				}
+			} else {
+				args = new Double[arity];
+				for (int j = 0; j < arity; ++j) {
+					args[j] = stack[base + j][i];
+				}
+			}
+			result[i] = op.apply(args);
+		}
+
+		return base;
+	}
+
+}
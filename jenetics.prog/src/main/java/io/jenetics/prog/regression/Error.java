@@ -34,6 +34,9 @@ import io.jenetics.prog.op.Op;
  * {@snippet lang="java":
  * final Error<Double> error = Error.of(LossFunction::mse, Complexity.ofNodeCount(50));
  * }
+ * If the loss function is a {@link MeanLoss} and the samples are of type
+ * {@code Double}, the {@link Regression} problem calculates the loss directly
+ * from the primitive {@code double} values of the samples.
  *
  * @see LossFunction
  * @see Complexity
@@ -41,7 +44,7 @@ import io.jenetics.prog.op.Op;
  * @param <T> the sample type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 9.0
  * @since 5.0
  */
 @FunctionalInterface
@@ -77,8 +80,7 @@ public interface Error<T> {
 	 *         {@code null}
 	 */
 	static <T> Error<T> of(final LossFunction<T> loss) {
-		requireNonNull(loss);
-		return (p, c, e) -> loss.apply(c, e);
+		return new LossError<>(requireNonNull(loss), null, null);
 	}
 
 	/**
@@ -119,12 +121,11 @@ public interface Error<T> {
 		final Complexity<T> complexity,
 		final DoubleBinaryOperator compose
 	) {
-		requireNonNull(loss);
-		requireNonNull(complexity);
-		requireNonNull(compose);
-
-		return (p, c, e) ->
-			compose.applyAsDouble(loss.apply(c, e), complexity.apply(p));
+		return new LossError<>(
+			requireNonNull(loss),
+			requireNonNull(complexity),
+			requireNonNull(compose)
+		);
 	}
 
 }
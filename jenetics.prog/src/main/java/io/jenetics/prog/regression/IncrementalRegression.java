@@ -0,0 +1,547 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.min;
+import static java.lang.String.format;
+import static java.util.Comparator.comparing;
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Requires.positive;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Set;
+import java.util.function.Function;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codec;
+import io.jenetics.engine.EvolutionInterceptor;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.engine.Problem;
+import io.jenetics.internal.math.Subsets;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.Op;
+
+/**
+ * Symbolic regression problem for large sample sets. Compared to the
+ * {@link Regression} class, the program error is calculated
+ * <em>incrementally</em>, chunk by chunk, and the evaluation of a program is
+ * stopped as soon as its partial error is greater than the error of the
+ * <em>k</em>-th best program of the last generation. Additionally, every
+ * generation can be evaluated with a different subset of the samples, where
+ * the best programs are periodically re-evaluated with <em>all</em> samples.
+ * <p>
+ * The incremental regression must also be registered as evolution
+ * interceptor of the engine, which must be <em>minimizing</em>. Otherwise,
+ * every program is evaluated with all samples.
+ * {@snippet lang="java":
+ * final IncrementalRegression regression = IncrementalRegression
+ *     .builder(Regression.codecOf(OPERATIONS, TERMINALS, 5), samples)
+ *     .loss(MeanLoss.MSE)
+ *     .complexity(Complexity.ofNodeCount(50))
+ *     .subset(10_000, IncrementalRegression.Subset.INTERLEAVED)
+ *     .build();
+ *
+ * final Engine<ProgramGene<Double>, Double> engine = Engine
+ *     .builder(regression)
+ *     .minimizing()
+ *     .interceptor(regression)
+ *     .build();
+ * }
+ *
+ * @apiNote
+ * The fitness value of a program, whose evaluation has been stopped early, is
+ * only a lower bound of its actual error. The elite re-evaluation expects the
+ * codec to decode the genotype to its root program gene, as done by the
+ * codecs created with {@link Regression#codecOf(io.jenetics.util.ISeq,
+ * io.jenetics.util.ISeq, int)}.
+ *
+ * @see Regression
+ * @see MeanLoss
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class IncrementalRegression
+	implements
+		Problem<Tree<Op<Double>, ?>, ProgramGene<Double>, Double>,
+		EvolutionInterceptor<ProgramGene<Double>, Double>
+{
+
+	/**
+	 * The strategies for selecting the sample subset of a generation.
+	 */
+	public enum Subset {
+
+		/**
+		 * Selects every <em>m</em>-th sample, where the start index is
+		 * shifted by one for every generation. All samples are used within
+		 * <em>m</em> generations.
+		 */
+		INTERLEAVED,
+
+		/**
+		 * Selects a random subset of the samples for every generation.
+		 */
+		RANDOM
+
+	}
+
+	private record Data(
+		double[][] columns,
+		double[] expected,
+		SubtreeCache cache
+	) {
+		int size() {
+			return expected.length;
+		}
+	}
+
+	private record State(Data data, Set<Tree<?, ?>> elite) {
+	}
+
+	private final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> _codec;
+	private final MeanLoss _loss;
+	private final Complexity<Double> _complexity;
+	private final int _chunkSize;
+	private final int _rank;
+	private final int _subsetSize;
+	private final Subset _subset;
+	private final int _eliteSize;
+	private final int _period;
+	private final long _cacheSize;
+
+	private final Data _data;
+
+	private volatile State _state;
+	private volatile double _threshold = Double.POSITIVE_INFINITY;
+
+	private IncrementalRegression(final Builder builder) {
+		_codec = builder._codec;
+		_loss = builder._loss;
+		_complexity = builder._complexity;
+		_chunkSize = builder._chunkSize;
+		_rank = builder._rank;
+		_subset = builder._subset;
+		_eliteSize = builder._eliteSize;
+		_period = builder._period;
+		_cacheSize = builder._cacheSize;
+
+		final var samples = builder._samples;
+		final double[][] columns = new double[samples.getFirst().arity()][samples.size()];
+		final double[] expected = new double[samples.size()];
+		for (int i = 0; i < expected.length; ++i) {
+			final var sample = samples.get(i);
+			for (int j = 0; j < columns.length; ++j) {
+				columns[j][i] = sample.argAt(j);
+			}
+			expected[i] = sample.result();
+		}
+
+		_data = new Data(
+			columns,
+			expected,
+			SubtreeCache.of(expected.length, _cacheSize)
+		);
+		_subsetSize = min(builder._subsetSize, expected.length);
+		_state = new State(_data, Set.of());
+	}
+
+	@Override
+	public Function<Tree<Op<Double>, ?>, Double> fitness() {
+		return this::eval;
+	}
+
+	@Override
+	public Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec() {
+		return _codec;
+	}
+
+	/**
+	 * Calculates the actual error for the given {@code program}, using all
+	 * samples.
+	 *
+	 * @param program the program to calculate the error value for
+	 * @return the overall error value of the program
+	 * @throws NullPointerException if the given {@code program} is {@code null}
+	 */
+	public double error(final Tree<? extends Op<Double>, ?> program) {
+		return error(program, _data, Double.POSITIVE_INFINITY);
+	}
+
+	private double eval(final Tree<Op<Double>, ?> program) {
+		final State state = _state;
+		return state.elite().contains(program)
+			? error(program, _data, Double.POSITIVE_INFINITY)
+			: error(program, state.data(), _threshold);
+	}
+
+	private double error(
+		final Tree<? extends Op<Double>, ?> program,
+		final Data data,
+		final double threshold
+	) {
+		final var prog = new ColumnProgram(program, data.cache());
+		final double complexity = _complexity != null
+			? _complexity.apply(program)
+			: 0;
+
+		final int size = data.size();
+		final double[] values = new double[min(_chunkSize, size)];
+		double sum = 0;
+		for (int from = 0; from < size; from += _chunkSize) {
+			final int to = min(from + _chunkSize, size);
+			prog.eval(data.columns(), from, to, values);
+			sum = _loss.sum(sum, values, data.expected(), from, to - from);
+
+			if (Double.isNaN(sum)) {
+				return Double.NaN;
+			}
+			if (to < size) {
+				final double bound = error(_loss.value(sum, size), complexity);
+				if (bound > threshold) {
+					return bound;
+				}
+			}
+		}
+
+		prog.flush();
+		return error(_loss.value(sum, size), complexity);
+	}
+
+	private static double error(final double loss, final double complexity) {
+		return loss + loss*complexity;
+	}
+
+	/**
+	 * Selects the sample subset of the next generation and marks the best
+	 * programs of the population for re-evaluation, if the re-evaluation
+	 * period is reached.
+	 *
+	 * @param start the evolution start object
+	 * @return the evolution start object, with the fitness of the best
+	 *         programs nullified, if they have to be re-evaluated
+	 */
+	@Override
+	public EvolutionStart<ProgramGene<Double>, Double>
+	before(final EvolutionStart<ProgramGene<Double>, Double> start) {
+		if (_subsetSize == _data.size()) {
+			return start;
+		}
+
+		final long generation = start.generation();
+		final Data data = subset(generation);
+
+		if (_eliteSize > 0 && generation%_period == 0) {
+			final var elite = start.population().stream()
+				.filter(Phenotype::isEvaluated)
+				.sorted(comparing(Phenotype::fitness))
+				.limit(_eliteSize)
+				.toList();
+
+			if (!elite.isEmpty()) {
+				final Set<Tree<?, ?>> trees =
+					Collections.newSetFromMap(new IdentityHashMap<>());
+				elite.forEach(pt -> trees.add(pt.genotype().gene()));
+				_state = new State(data, trees);
+
+				return EvolutionStart.of(
+					start.population()
+						.map(pt -> elite.contains(pt) ? pt.nullifyFitness() : pt),
+					generation
+				);
+			}
+		}
+
+		_state = new State(data, Set.of());
+		return start;
+	}
+
+	/**
+	 * Updates the error threshold, used for stopping the evaluation of
+	 * programs early, from the evaluated population.
+	 *
+	 * @param result the evolution result
+	 * @return the unchanged evolution result
+	 */
+	@Override
+	public EvolutionResult<ProgramGene<Double>, Double>
+	after(final EvolutionResult<ProgramGene<Double>, Double> result) {
+		final double[] errors = result.population().stream()
+			.filter(Phenotype::isEvaluated)
+			.mapToDouble(Phenotype::fitness)
+			.sorted()
+			.toArray();
+
+		if (result.optimize() == Optimize.MINIMUM && errors.length > 0) {
+			final int rank = _rank > 0 ? _rank : (errors.length + 1)/2;
+			_threshold = errors[min(rank, errors.length) - 1];
+		} else {
+			_threshold = Double.POSITIVE_INFINITY;
+		}
+
+		return result;
+	}
+
+	private Data subset(final long generation) {
+		final int[] rows = switch (_subset) {
+			case INTERLEAVED -> {
+				final int step = (_data.size() + _subsetSize - 1)/_subsetSize;
+				final int phase = (int)(generation%step);
+				final int[] r = new int[(_data.size() - phase + step - 1)/step];
+				for (int i = 0; i < r.length; ++i) {
+					r[i] = phase + i*step;
+				}
+				yield r;
+			}
+			case RANDOM -> Subsets.next(
+				RandomRegistry.random(),
+				_data.size(),
+				_subsetSize
+			);
+		};
+
+		final double[][] columns = new double[_data.columns().length][rows.length];
+		final double[] expected = new double[rows.length];
+		for (int i = 0; i < rows.length; ++i) {
+			for (int j = 0; j < columns.length; ++j) {
+				columns[j][i] = _data.columns()[j][rows[i]];
+			}
+			expected[i] = _data.expected()[rows[i]];
+		}
+
+		return new Data(
+			columns,
+			expected,
+			SubtreeCache.of(rows.length, _cacheSize)
+		);
+	}
+
+	/* *************************************************************************
+	 * Builder
+	 * ************************************************************************/
+
+	/**
+	 * Return a new builder for an incremental regression problem with the
+	 * given parameters.
+	 *
+	 * @param codec the problem codec to use
+	 * @param samples the sample points used for regression analysis
+	 * @return a new regression problem builder
+	 * @throws IllegalArgumentException if the given {@code samples} are empty,
+	 *         or have different arities
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static Builder builder(
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec,
+		final List<? extends Sample<Double>> samples
+	) {
+		return new Builder(codec, samples);
+	}
+
+	/**
+	 * Builder for {@link IncrementalRegression} objects.
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 9.0
+	 * @since 9.0
+	 */
+	public static final class Builder {
+
+		private final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> _codec;
+		private final List<? extends Sample<Double>> _samples;
+
+		private MeanLoss _loss = MeanLoss.MSE;
+		private Complexity<Double> _complexity = null;
+		private int _chunkSize = 4096;
+		private int _rank = 0;
+		private int _subsetSize = Integer.MAX_VALUE;
+		private Subset _subset = Subset.INTERLEAVED;
+		private int _eliteSize = 5;
+		private int _period = 10;
+		private long _cacheSize = SampleList.DEFAULT_CACHE_SIZE;
+
+		private Builder(
+			final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec,
+			final List<? extends Sample<Double>> samples
+		) {
+			if (samples.isEmpty()) {
+				throw new IllegalArgumentException("Sample list must not be empty.");
+			}
+
+			final int arity = samples.getFirst().arity();
+			if (arity == 0) {
+				throw new IllegalArgumentException(
+					"The arity of the sample point must not be zero."
+				);
+			}
+			for (int i = 0; i < samples.size(); ++i) {
+				final var sample = samples.get(i);
+				if (arity != sample.arity()) {
+					throw new IllegalArgumentException(format(
+						"Expected arity %d, but got %d for sample index %d.",
+						arity, sample.arity(), i
+					));
+				}
+			}
+
+			_codec = requireNonNull(codec);
+			_samples = List.copyOf(samples);
+		}
+
+		/**
+		 * The loss function used for calculating the program error. The
+		 * default value is {@link MeanLoss#MSE}.
+		 *
+		 * @param loss the loss function
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder loss(final MeanLoss loss) {
+			_loss = requireNonNull(loss);
+			return this;
+		}
+
+		/**
+		 * The program complexity, which is combined with the loss function in
+		 * the following way: {@code error = loss + loss*complexity}. By
+		 * default, no complexity is used.
+		 *
+		 * @see Error#of(LossFunction, Complexity)
+		 *
+		 * @param complexity the program complexity measure
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder complexity(final Complexity<Double> complexity) {
+			_complexity = requireNonNull(complexity);
+			return this;
+		}
+
+		/**
+		 * The number of samples, evaluated before the partial program error
+		 * is compared with the error threshold. The default value is
+		 * {@code 4096}.
+		 *
+		 * @param size the chunk size
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code size} is smaller than
+		 *         one
+		 */
+		public Builder chunkSize(final int size) {
+			_chunkSize = positive(size);
+			return this;
+		}
+
+		/**
+		 * The rank, <em>k</em>, of the program in the last generation, whose
+		 * error is used as threshold for stopping the evaluation of a program.
+		 * By default, the median error of the population is used.
+		 *
+		 * @param rank the rank of the threshold program, starting with one
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code rank} is smaller than
+		 *         one
+		 */
+		public Builder rank(final int rank) {
+			_rank = positive(rank);
+			return this;
+		}
+
+		/**
+		 * The number of samples used for evaluating the programs of one
+		 * generation. By default, all samples are used.
+		 *
+		 * @param size the sample subset size
+		 * @param subset the subset selection strategy
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code size} is smaller than
+		 *         one
+		 * @throws NullPointerException if the {@code subset} strategy is
+		 *         {@code null}
+		 */
+		public Builder subset(final int size, final Subset subset) {
+			_subsetSize = positive(size);
+			_subset = requireNonNull(subset);
+			return this;
+		}
+
+		/**
+		 * The number of best programs, which are re-evaluated with all samples
+		 * every {@code period} generations. This is only done if a sample
+		 * subset is used. The default values are {@code 5} programs every
+		 * {@code 10} generations.
+		 *
+		 * @param size the number of re-evaluated programs. Zero disables the
+		 *        re-evaluation.
+		 * @param period the re-evaluation period in generations
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code size} is negative or
+		 *         the {@code period} is smaller than one
+		 */
+		public Builder elite(final int size, final int period) {
+			if (size < 0) {
+				throw new IllegalArgumentException(format(
+					"Elite size must not be negative: %d", size
+				));
+			}
+			_eliteSize = size;
+			_period = positive(period);
+			return this;
+		}
+
+		/**
+		 * The maximal memory, in bytes, used for caching subtree results. The
+		 * cache is disabled if zero.
+		 *
+		 * @param size the maximal cache memory
+		 * @return {@code this} builder, for command chaining
+		 * @throws IllegalArgumentException if the {@code size} is negative
+		 */
+		public Builder cacheSize(final long size) {
+			if (size < 0) {
+				throw new IllegalArgumentException(format(
+					"Cache size must not be negative: %d", size
+				));
+			}
+			_cacheSize = size;
+			return this;
+		}
+
+		/**
+		 * Create a new incremental regression problem from the builder
+		 * parameters.
+		 *
+		 * @return a new incremental regression problem
+		 */
+		public IncrementalRegression build() {
+			return new IncrementalRegression(this);
+		}
+
+	}
+
+}
@@ -0,0 +1,75 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import java.util.function.DoubleBinaryOperator;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.Op;
+
+/**
+ * Error function, created from a {@link LossFunction} and an optional
+ * program {@link Complexity}. Knowing the loss function allows the
+ * {@link Regression} to calculate the loss of {@link MeanLoss} functions on
+ * primitive {@code double} values.
+ *
+ * @param loss the loss function
+ * @param complexity the program complexity, may be {@code null}
+ * @param compose the function which composes the loss and complexity value,
+ *        may be {@code null} if no {@code complexity} is given
+ * @param <T> the sample type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+record LossError<T>(
+	LossFunction<T> loss,
+	Complexity<T> complexity,
+	DoubleBinaryOperator compose
+)
+	implements Error<T>
+{
+
+	/**
+	 * Calculates the overall error of the given {@code program} from its
+	 * already calculated {@code loss} value.
+	 *
+	 * @param program the program tree
+	 * @param loss the loss value of the program
+	 * @return the overall program error
+	 */
+	double apply(final Tree<? extends Op<T>, ?> program, final double loss) {
+		return complexity != null
+			? compose.applyAsDouble(loss, complexity.apply(program))
+			: loss;
+	}
+
+	@Override
+	public double apply(
+		final Tree<? extends Op<T>, ?> program,
+		final T[] calculated,
+		final T[] expected
+	) {
+		return apply(program, loss.apply(calculated, expected));
+	}
+
+}
@@ -0,0 +1,139 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.Math.abs;
+import static java.lang.Math.sqrt;
+
+/**
+ * The standard loss functions, which are defined as (a function of) the mean
+ * of non-negative, per sample, error terms. This allows to calculate the loss
+ * incrementally and to give a lower bound of the final loss value after only
+ * a part of the samples has been evaluated.
+ * {@snippet lang="java":
+ * final Error<Double> error = Error.of(MeanLoss.MSE);
+ * }
+ *
+ * @see LossFunction
+ * @see IncrementalRegression
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public enum MeanLoss implements LossFunction<Double> {
+
+	/**
+	 * The mean square error.
+	 *
+	 * @see LossFunction#mse(Double[], Double[])
+	 */
+	MSE {
+		@Override
+		public double apply(final Double[] calculated, final Double[] expected) {
+			return LossFunction.mse(calculated, expected);
+		}
+	},
+
+	/**
+	 * The root-mean-square error.
+	 *
+	 * @see LossFunction#rmse(Double[], Double[])
+	 */
+	RMSE {
+		@Override
+		public double apply(final Double[] calculated, final Double[] expected) {
+			return LossFunction.rmse(calculated, expected);
+		}
+
+		@Override
+		double value(final double sum, final int count) {
+			return sqrt(MSE.value(sum, count));
+		}
+	},
+
+	/**
+	 * The mean absolute error.
+	 *
+	 * @see LossFunction#mae(Double[], Double[])
+	 */
+	MAE {
+		@Override
+		public double apply(final Double[] calculated, final Double[] expected) {
+			return LossFunction.mae(calculated, expected);
+		}
+
+		@Override
+		double sum(
+			final double sum,
+			final double[] calculated,
+			final double[] expected,
+			final int offset,
+			final int length
+		) {
+			double result = sum;
+			for (int i = 0; i < length; ++i) {
+				result += abs(expected[offset + i] - calculated[i]);
+			}
+			return result;
+		}
+	};
+
+	/**
+	 * Adds the error terms of the given samples to the given {@code sum}. The
+	 * {@code calculated} values start at index zero and the {@code expected}
+	 * values at the given {@code offset}.
+	 *
+	 * @param sum the sum of the already evaluated error terms
+	 * @param calculated the calculated values
+	 * @param expected the expected values
+	 * @param offset the offset of the first expected value
+	 * @param length the number of samples
+	 * @return the new sum of the error terms
+	 */
+	double sum(
+		final double sum,
+		final double[] calculated,
+		final double[] expected,
+		final int offset,
+		final int length
+	) {
+		double result = sum;
+		for (int i = 0; i < length; ++i) {
+			final double e = expected[offset + i];
+			result += (e - calculated[i])*(e - calculated[i]);
+		}
+		return result;
+	}
+
+	/**
+	 * Return the loss value from the given sum of error terms. If only a
+	 * part of the error terms has been summed up, the returned value is a
+	 * lower bound of the final loss value.
+	 *
+	 * @param sum the sum of the error terms
+	 * @param count the overall number of samples
+	 * @return the loss value
+	 */
+	double value(final double sum, final int count) {
+		return count > 0 ? sum/count : sum;
+	}
+
+}
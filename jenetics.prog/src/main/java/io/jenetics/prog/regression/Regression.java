@@ -25,6 +25,7 @@ import static java.util.Objects.requireNonNull;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.OptionalDouble;
 import java.util.function.Function;
 import java.util.function.Predicate;
 import java.util.stream.Collectors;
@@ -56,7 +57,7 @@ import io.jenetics.prog.regression.Sampling.Result;
  *
  *     private static final Regression<Double> REGRESSION = Regression.of(
  *         Regression.codecOf(OPERATIONS, TERMINALS, 5),
- *         Error.of(LossFunction::mse),
+ *         Error.of(MeanLoss.MSE),
  *         Sample.ofDouble(-1.0, -8.0000),
  *         // ...
  *         Sample.ofDouble(0.9, 1.3860),
@@ -95,7 +96,7 @@ import io.jenetics.prog.regression.Sampling.Result;
  * @param <T> the operation type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 9.0
  * @since 5.0
  */
 public final class Regression<T>
@@ -135,12 +136,25 @@ public final class Regression<T>
 	}
 
 	/**
-	 * Calculates the actual error for the given {@code program}.
+	 * Calculates the actual error for the given {@code program}. If the error
+	 * function has been created with a {@link MeanLoss} function and the
+	 * samples are of type {@code Double}, the loss is calculated directly
+	 * from the primitive {@code double} values of the samples.
 	 *
 	 * @param program the program to calculate the error value for
 	 * @return the overall error value of the program
 	 */
 	public double error(final Tree<? extends Op<T>, ?> program) {
+		if (_error instanceof LossError<T> error &&
+			error.loss() instanceof MeanLoss loss &&
+			_sampling instanceof SampleList<T> samples)
+		{
+			final OptionalDouble value = samples.loss(program, loss);
+			if (value.isPresent()) {
+				return error.apply(program, value.getAsDouble());
+			}
+		}
+
 		final Result<T> result = _sampling.eval(program);
 		return result != null
 			? _error.apply(program, result.calculated(), result.expected())
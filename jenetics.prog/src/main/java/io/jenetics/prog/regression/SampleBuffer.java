@@ -39,21 +39,59 @@ import io.jenetics.prog.op.Op;
  * These values will be made available for evaluation after an explicit call of
  * the {@link #publish()} method.
  *
+ * <p>
+ * Programs of one population share many identical subtrees. The evaluated
+ * results of such subtrees, for sample points of type {@code Double}, are
+ * cached for the currently published sample points. Every call of the
+ * {@link #publish()} method starts with an empty cache.
+ *
  * @implNote
  * This class is thread-safe.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 6.0
+ * @version 9.0
  * @since 6.0
  */
 public final class SampleBuffer<T> implements Sampling<T> {
 
 	private final RingBuffer _buffer;
+	private final long _cacheSize;
 
 	private volatile SampleList<T> _snapshot = null;
 
-	public SampleBuffer(final int capacity) {
+	/**
+	 * Create a new sample buffer with the given {@code capacity} and
+	 * subtree result cache size.
+	 *
+	 * @since 9.0
+	 *
+	 * @param capacity the maximal number of sample points
+	 * @param cacheSize the maximal memory, in bytes, used for caching the
+	 *        results of subtrees. The cache is disabled if zero.
+	 * @throws IllegalArgumentException if the given {@code capacity} is
+	 *         smaller than one or the {@code cacheSize} is negative
+	 */
+	public SampleBuffer(final int capacity, final long cacheSize) {
+		if (cacheSize < 0) {
+			throw new IllegalArgumentException(
+				"Cache size must not be negative: " + cacheSize
+			);
+		}
+
 		_buffer = new RingBuffer(capacity);
+		_cacheSize = cacheSize;
+	}
+
+	/**
+	 * Create a new sample buffer with the given {@code capacity} and a
+	 * default subtree result cache.
+	 *
+	 * @param capacity the maximal number of sample points
+	 * @throws IllegalArgumentException if the given {@code capacity} is
+	 *         smaller than one
+	 */
+	public SampleBuffer(final int capacity) {
+		this(capacity, SampleList.DEFAULT_CACHE_SIZE);
 	}
 
 	/**
@@ -95,7 +133,7 @@ public final class SampleBuffer<T> implements Sampling<T> {
 		SampleList<T> snapshot = null;
 		if (values != null && values.length > 0) {
 			final List samples = Arrays.asList(values);
-			snapshot = new SampleList(samples);
+			snapshot = new SampleList(samples, _cacheSize);
 		}
 
 		try {
@@ -22,11 +22,14 @@ package io.jenetics.prog.regression;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import java.io.IOException;
+import java.io.ObjectInputStream;
 import java.io.Serial;
 import java.io.Serializable;
 import java.lang.reflect.Array;
 import java.util.AbstractList;
 import java.util.List;
+import java.util.OptionalDouble;
 import java.util.function.Function;
 import java.util.stream.Stream;
 
@@ -37,7 +40,7 @@ import io.jenetics.prog.op.Program;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 7.1
+ * @version 9.0
  * @since 5.0
  */
 final class SampleList<T>
@@ -49,14 +52,41 @@ final class SampleList<T>
 	@Serial
 	private static final long serialVersionUID = 1L;
 
+	/**
+	 * The default maximal memory, in bytes, used for caching subtree results.
+	 */
+	static final long DEFAULT_CACHE_SIZE =
+		Math.min(64L*1024*1024, Runtime.getRuntime().maxMemory()/16);
+
 	private final List<? extends Sample<? extends T>> _samples;
 
 	private final Class<T> _type;
 	private final T[][] _arguments;
 	private final T[] _results;
 
+	// Column representation of the samples, if they are of type Double. The
+	// columns are not part of the serialized form and are re-created on read.
+	private transient double[][] _columns;
+	private transient double[] _expected;
+
+	// The results of commonly used subtrees. Not available for deserialized
+	// sample lists.
+	private final transient SubtreeCache _cache;
+
+	/**
+	 * Create a new sample list with the given sample points.
+	 *
+	 * @param samples the sample points
+	 * @param cacheSize the maximal memory, in bytes, used for caching
+	 *        subtree results. The cache is disabled if zero.
+	 * @throws IllegalArgumentException if the given {@code samples} are empty,
+	 *         or have different arities
+	 */
 	@SuppressWarnings("unchecked")
-	SampleList(final List<? extends Sample<? extends T>> samples) {
+	SampleList(
+		final List<? extends Sample<? extends T>> samples,
+		final long cacheSize
+	) {
 		if (samples.isEmpty()) {
 			throw new IllegalArgumentException("Sample list must not be empty.");
 		}
@@ -89,6 +119,28 @@ final class SampleList<T>
 		_results = _samples.stream()
 			.map(Sample::result)
 			.toArray(size -> (T[])Array.newInstance(_type, size));
+
+		columns();
+		_cache = _columns != null
+			? SubtreeCache.of(_samples.size(), cacheSize)
+			: null;
+	}
+
+	SampleList(final List<? extends Sample<? extends T>> samples) {
+		this(samples, DEFAULT_CACHE_SIZE);
+	}
+
+	private void columns() {
+		if (_type == Double.class) {
+			_columns = new double[_arguments[0].length][_arguments.length];
+			_expected = new double[_results.length];
+			for (int i = 0; i < _arguments.length; ++i) {
+				for (int j = 0; j < _columns.length; ++j) {
+					_columns[j][i] = (Double)_arguments[i][j];
+				}
+				_expected[i] = (Double)_results[i];
+			}
+		}
 	}
 
 	private static <T> T[] args(final Sample<? extends T> sample) {
@@ -105,9 +157,63 @@ final class SampleList<T>
 	@Override
 	public Result<T> eval(final Tree<? extends Op<T>, ?> program) {
 		requireNonNull(program);
+
+		if (_columns != null && !program.isEmpty()) {
+			final double[] values = values(program);
+
+			@SuppressWarnings("unchecked")
+			final T[] calculated = (T[])new Double[values.length];
+			for (int i = 0; i < values.length; ++i) {
+				calculated[i] = (T)Double.valueOf(values[i]);
+			}
+
+			return new Result<>(calculated, _results);
+		}
+
 		return eval(args -> Program.eval(program, args));
 	}
 
+	/**
+	 * Evaluates the given {@code program} and calculates the {@code loss} on
+	 * the primitive {@code double} values of the samples, without boxing the
+	 * calculated values.
+	 *
+	 * @param program the program to evaluate
+	 * @param loss the loss function
+	 * @return the loss of the program, or an empty value if the samples are
+	 *         not of type {@code Double} or the program is empty
+	 */
+	OptionalDouble loss(
+		final Tree<? extends Op<T>, ?> program,
+		final MeanLoss loss
+	) {
+		requireNonNull(program);
+		requireNonNull(loss);
+
+		if (_columns != null && !program.isEmpty()) {
+			final double[] values = values(program);
+			return OptionalDouble.of(loss.value(
+				loss.sum(0, values, _expected, 0, values.length),
+				values.length
+			));
+		}
+
+		return OptionalDouble.empty();
+	}
+
+	private double[] values(final Tree<? extends Op<T>, ?> program) {
+		@SuppressWarnings("unchecked")
+		final var prog = new ColumnProgram(
+			(Tree<? extends Op<Double>, ?>)program,
+			_cache
+		);
+
+		final double[] values = new double[size()];
+		prog.eval(_columns, 0, values.length, values);
+		prog.flush();
+		return values;
+	}
+
 	@Override
 	public Result<T> eval(final Function<? super T[], ? extends T> function) {
 		requireNonNull(function);
@@ -130,4 +236,12 @@ final class SampleList<T>
 		return _samples.size();
 	}
 
+	@Serial
+	private void readObject(final ObjectInputStream in)
+		throws IOException, ClassNotFoundException
+	{
+		in.defaultReadObject();
+		columns();
+	}
+
 }
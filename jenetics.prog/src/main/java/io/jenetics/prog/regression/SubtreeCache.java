@@ -0,0 +1,325 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static java.lang.String.format;
+import static java.util.Comparator.comparingLong;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.locks.ReentrantLock;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Val;
+import io.jenetics.prog.op.Var;
+
+/**
+ * Caches the evaluated output columns of program subtrees for <em>one</em>
+ * fixed set of sample points. Crossover copies subtrees between programs, so
+ * the programs of a population share many identical subtrees, which only
+ * have to be evaluated once.
+ * <p>
+ * Subtrees are identified by their structure, see {@link Key}. A subtree is
+ * admitted to the cache when it is seen for the second time. If the cache is
+ * full, the entries with the lowest <em>subtree size &times; reuse</em> score
+ * are evicted.
+ *
+ * @implNote
+ * This class is thread-safe. Since the cache is bound to the sample points it
+ * was created for, it never has to be invalidated; a new sample snapshot gets
+ * a new cache.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class SubtreeCache {
+
+	/**
+	 * The estimated memory overhead of a cache entry, in bytes.
+	 */
+	private static final long ENTRY_OVERHEAD = 256;
+
+	/**
+	 * The structural key of a subtree. Only subtrees, which consist of
+	 * {@link MathOp}s, {@link Var}s and {@code Double} {@link Val}s, have a
+	 * key. Other operations may have side effects and are not cached. The key
+	 * of a subtree is composed of the node value and the keys of its
+	 * children.
+	 */
+	static final class Key {
+		private final Object _value;
+		private final Key[] _children;
+		private final int _size;
+		private final int _hash;
+
+		private Key(final Object value, final Key[] children) {
+			_value = value;
+			_children = children;
+
+			int size = 1;
+			int hash = value.hashCode();
+			for (var child : children) {
+				size += child._size;
+				hash = 31*hash + child._hash;
+			}
+			_size = size;
+			_hash = 31*hash + children.length;
+		}
+
+		/**
+		 * Return the number of nodes of the subtree.
+		 *
+		 * @return the number of nodes of the subtree
+		 */
+		int size() {
+			return _size;
+		}
+
+		@Override
+		public int hashCode() {
+			return _hash;
+		}
+
+		@Override
+		public boolean equals(final Object obj) {
+			return obj == this ||
+				obj instanceof Key key &&
+				_hash == key._hash &&
+				_size == key._size &&
+				_value.equals(key._value) &&
+				Arrays.equals(_children, key._children);
+		}
+
+		/**
+		 * Create the structural key of the given {@code tree}.
+		 *
+		 * @param tree the program tree
+		 * @return the key of the tree, or {@code null} if the tree can't be
+		 *         cached
+		 */
+		static Key of(final Tree<? extends Op<?>, ?> tree) {
+			return keys(tree)[0];
+		}
+
+		/**
+		 * Create the structural keys of the given {@code tree} and all its
+		 * subtrees, in one post-order pass.
+		 *
+		 * @param tree the program tree
+		 * @return the keys of the subtrees, in pre-order of the subtree
+		 *         roots. An element is {@code null} if the subtree can't be
+		 *         cached.
+		 */
+		static Key[] keys(final Tree<? extends Op<?>, ?> tree) {
+			final Key[] keys = new Key[tree.size()];
+			keys(tree, 0, keys);
+			return keys;
+		}
+
+		// Creates the key of the given node, with the given pre-order index,
+		// from the keys of its children. Returns the pre-order index of the
+		// node following the subtree.
+		private static int keys(
+			final Tree<? extends Op<?>, ?> node,
+			final int index,
+			final Key[] keys
+		) {
+			final Key[] children = new Key[node.childCount()];
+			boolean cacheable = true;
+
+			int next = index + 1;
+			for (int i = 0; i < children.length; ++i) {
+				final int child = next;
+				next = keys(node.childAt(i), child, keys);
+				children[i] = keys[child];
+				cacheable &= children[i] != null;
+			}
+
+			final Object value = switch (node.value()) {
+				case MathOp op -> op;
+				case Var<?> var -> var.index();
+				case Val<?> val when val.value() instanceof Double v -> v;
+				case null, default -> null;
+			};
+			if (cacheable && value != null) {
+				keys[index] = new Key(value, children);
+			}
+
+			return next;
+		}
+	}
+
+	private static final class Entry {
+		final double[] values;
+		final long size;
+		final AtomicInteger hits = new AtomicInteger();
+
+		Entry(final double[] values, final int size) {
+			this.values = values;
+			this.size = size;
+		}
+
+		long score() {
+			return size*(hits.get() + 1L);
+		}
+	}
+
+	private final int _rows;
+	private final int _capacity;
+
+	private final Map<Key, Entry> _entries = new ConcurrentHashMap<>();
+	private final Set<Key> _seen = ConcurrentHashMap.newKeySet();
+	private final ReentrantLock _lock = new ReentrantLock();
+
+	private SubtreeCache(final int rows, final int capacity) {
+		_rows = rows;
+		_capacity = capacity;
+	}
+
+	/**
+	 * Return the number of rows of the cached columns.
+	 *
+	 * @return the number of rows of the cached columns
+	 */
+	int rows() {
+		return _rows;
+	}
+
+	/**
+	 * Return the maximal number of cached columns.
+	 *
+	 * @return the maximal number of cached columns
+	 */
+	int capacity() {
+		return _capacity;
+	}
+
+	/**
+	 * Return the number of currently cached columns.
+	 *
+	 * @return the number of currently cached columns
+	 */
+	int size() {
+		return _entries.size();
+	}
+
+	/**
+	 * Return the cached column for the given subtree {@code key}.
+	 *
+	 * @param key the subtree key
+	 * @return the cached column, or {@code null} if not cached. The returned
+	 *         array must not be changed.
+	 */
+	double[] get(final Key key) {
+		final Entry entry = _entries.get(key);
+		if (entry != null) {
+			entry.hits.incrementAndGet();
+			return entry.values;
+		}
+		return null;
+	}
+
+	/**
+	 * Registers the given subtree {@code key} and returns {@code true} if it
+	 * has been seen before, which means its result should be cached.
+	 *
+	 * @param key the subtree key
+	 * @return {@code true} if the evaluated subtree should be
+	 *         {@link #put(Key, double[])} into the cache
+	 */
+	boolean admit(final Key key) {
+		if (_seen.add(key)) {
+			if (_seen.size() > 4L*_capacity) {
+				_seen.clear();
+			}
+			return false;
+		}
+		return true;
+	}
+
+	/**
+	 * Put the evaluated column of the subtree into the cache.
+	 *
+	 * @param key the subtree key
+	 * @param values the evaluated column of the subtree, which must not be
+	 *        changed afterwards
+	 * @throws IllegalArgumentException if the number of values doesn't match
+	 *         the number of rows of the cache
+	 */
+	void put(final Key key, final double[] values) {
+		if (values.length != _rows) {
+			throw new IllegalArgumentException(format(
+				"Expected %d values, but got %d.", _rows, values.length
+			));
+		}
+
+		if (_entries.putIfAbsent(key, new Entry(values, key.size())) == null &&
+			_entries.size() > _capacity)
+		{
+			evict();
+		}
+	}
+
+	// Evicts a quarter of the entries, with the lowest size × reuse score,
+	// and halves the hit count of the remaining ones.
+	private void evict() {
+		if (_lock.tryLock()) {
+			try {
+				final var entries = new ArrayList<>(_entries.entrySet());
+				entries.sort(comparingLong(e -> e.getValue().score()));
+
+				final int count = entries.size() - _capacity*3/4;
+				for (int i = 0; i < count; ++i) {
+					_entries.remove(entries.get(i).getKey());
+				}
+				for (int i = Math.max(count, 0); i < entries.size(); ++i) {
+					final var hits = entries.get(i).getValue().hits;
+					hits.set(hits.get() >>> 1);
+				}
+			} finally {
+				_lock.unlock();
+			}
+		}
+	}
+
+	/**
+	 * Create a new subtree cache for the given number of sample {@code rows}.
+	 *
+	 * @param rows the number of sample points
+	 * @param memory the maximal memory, in bytes, used by the cached columns
+	 * @return a new subtree cache, or {@code null} if the given {@code memory}
+	 *         is not enough to store at least one column
+	 */
+	static SubtreeCache of(final int rows, final long memory) {
+		final long capacity = memory/(Double.BYTES*(long)rows + ENTRY_OVERHEAD);
+		return capacity > 0
+			? new SubtreeCache(rows, (int)Math.min(capacity, Integer.MAX_VALUE))
+			: null;
+	}
+
+}
@@ -110,6 +110,34 @@ public class ProgramChromosomeTest {
 		Assert.assertEquals(ch2, ch1);
 	}
 
+	@Test(invocationCount = 10)
+	public void newInstanceFromGenes() {
+		final ProgramChromosome<Double> ch1 = ProgramChromosome
+			.of(6, OPERATIONS, TERMINALS);
+
+		final ProgramChromosome<Double> ch2 = ch1.newInstance(ISeq.of(ch1));
+		Assert.assertEquals(ch2, ch1);
+		Assert.assertTrue(Tree.equals(ch2.root(), ch1.root()));
+
+		// The genes of the original chromosome must stay attached to it.
+		for (int i = 0; i < ch1.length(); ++i) {
+			Assert.assertNotSame(ch2.get(i), ch1.get(i));
+			Assert.assertSame(ch1.get(i).root(), ch1.get(0));
+		}
+	}
+
+	@Test
+	public void newInstanceFromCorruptGenes() {
+		final ProgramChromosome<Double> ch1 = ProgramChromosome
+			.of(4, OPERATIONS, TERMINALS);
+
+		final ISeq<ProgramGene<Double>> genes = ISeq.of(ch1).subSeq(0, 3);
+		final ProgramChromosome<Double> ch2 = ch1.newInstance(genes);
+
+		Program.check(ch2.root());
+		Assert.assertTrue(ch2.length() >= 3);
+	}
+
 	@Test
 	public void createTreeFromChromosome() {
 		final TreeNode<Op<Double>> tree = Program.of(
@@ -0,0 +1,77 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog;
+
+import static io.jenetics.prog.ProgramChromosomeTest.OPERATIONS;
+import static io.jenetics.prog.ProgramChromosomeTest.TERMINALS;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.Chromosome;
+import io.jenetics.util.RandomRegistry;
+
+import io.jenetics.prog.op.Program;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeMutatorTest {
+
+	@Test
+	public void mutate() {
+		final var mutator = new SubtreeMutator<Double, Double>(3, 1.0);
+		final var random = new Random(123);
+
+		Chromosome<ProgramGene<Double>> chromosome = ProgramChromosome
+			.of(5, OPERATIONS, TERMINALS);
+
+		for (int i = 0; i < 100; ++i) {
+			final var ch = chromosome;
+			final var result = RandomRegistry.with(random)
+				.call(() -> mutator.mutate(ch, 1.0, random));
+
+			Assert.assertEquals(result.mutations(), 1);
+			Program.check(result.result().gene());
+			Assert.assertTrue(result.result().isValid());
+			Assert.assertNotNull(result.result().gene().eval(1.0, 2.0, 3.0));
+
+			chromosome = result.result();
+		}
+	}
+
+	@Test
+	public void mutateWithZeroProbability() {
+		final var mutator = new SubtreeMutator<Double, Double>(3, 0.0);
+		final var chromosome = ProgramChromosome.of(5, OPERATIONS, TERMINALS);
+
+		final var result = mutator.mutate(chromosome, 0.0, new Random());
+		Assert.assertEquals(result.mutations(), 0);
+		Assert.assertSame(result.result(), chromosome);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeDepth() {
+		new SubtreeMutator<Double, Double>(-1);
+	}
+
+}
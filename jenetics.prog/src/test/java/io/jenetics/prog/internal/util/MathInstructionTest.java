@@ -0,0 +1,88 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.Random;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.prog.internal.util.MathInstruction.Arithmetic;
+import io.jenetics.prog.internal.util.MathInstruction.Binary;
+import io.jenetics.prog.internal.util.MathInstruction.Unary;
+import io.jenetics.prog.op.MathOp;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MathInstructionTest {
+
+	@DataProvider
+	public Object[][] ops() {
+		return Arrays.stream(MathOp.values())
+			.map(op -> new Object[]{op})
+			.toArray(Object[][]::new);
+	}
+
+	@Test(dataProvider = "ops")
+	public void arity(final MathOp op) {
+		assertThat(MathInstruction.of(op).arity()).isEqualTo(op.arity());
+	}
+
+	@Test(dataProvider = "ops")
+	public void function(final MathOp op) {
+		final var random = new Random(123);
+		for (int i = 0; i < 100; ++i) {
+			final double a = random.nextDouble(-10, 10);
+			final double b = random.nextDouble(-10, 10);
+
+			switch (MathInstruction.of(op)) {
+				case Unary f -> assertThat(f.function().applyAsDouble(a))
+					.isEqualTo(op.eval(a));
+				case Binary f -> assertThat(f.function().applyAsDouble(a, b))
+					.isEqualTo(op.eval(a, b));
+				case Arithmetic f -> assertThat(f.name()).isEqualTo(op.name());
+			}
+		}
+	}
+
+	@Test(dataProvider = "ops")
+	public void method(final MathOp op) throws ReflectiveOperationException {
+		final var random = new Random(456);
+		final double a = random.nextDouble(-10, 10);
+		final double b = random.nextDouble(-10, 10);
+
+		switch (MathInstruction.of(op)) {
+			case Unary f -> assertThat(f.owner()
+					.getDeclaredMethod(f.name(), double.class)
+					.invoke(null, a))
+				.isEqualTo(op.eval(a));
+			case Binary f -> assertThat(f.owner()
+					.getDeclaredMethod(f.name(), double.class, double.class)
+					.invoke(null, a, b))
+				.isEqualTo(op.eval(a, b));
+			case Arithmetic f -> {}
+		}
+	}
+
+}
@@ -0,0 +1,148 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.op;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static io.jenetics.prog.op.MathExprTest.OPERATIONS;
+import static io.jenetics.prog.op.MathExprTest.TERMINALS;
+
+import java.util.Random;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Stream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MathExprCompilerTest {
+
+	@DataProvider
+	public Object[][] trees() {
+		final Random random = new Random(1234);
+		return Stream.generate(() -> Program.of(8, OPERATIONS, TERMINALS, random))
+			.limit(50)
+			.map(tree -> new Object[]{tree})
+			.toArray(Object[][]::new);
+	}
+
+	@Test(dataProvider = "trees")
+	public void compileLikeEval(final Tree<? extends Op<Double>, ?> tree) {
+		final ToDoubleFunction<double[]> f = new MathExprCompiler().compile(tree);
+
+		final Random random = new Random(456);
+		for (int i = 0; i < 20; ++i) {
+			final double[] args = random.doubles(6, -10, 10).toArray();
+
+			assertThat(Double.doubleToLongBits(f.applyAsDouble(args)))
+				.isEqualTo(Double.doubleToLongBits(Program.eval(tree, Numbers.box(args))));
+		}
+	}
+
+	@Test
+	public void compileWithUserOperations() {
+		final Op<Double> plus3 = Op.of("plus3", 3, v -> v[0] + v[1] + v[2]);
+		final Op<Double> pi = Op.of("pi", 0, _ -> Math.PI);
+
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.MUL)
+			.attach(TreeNode.<Op<Double>>of(plus3)
+				.attach(Var.of("x", 0))
+				.attach(Const.of(2.0))
+				.attach(TreeNode.<Op<Double>>of(MathOp.SIN).attach(Var.of("y", 1))))
+			.attach(pi);
+
+		final ToDoubleFunction<double[]> f = new MathExprCompiler().compile(tree);
+		assertThat(f.applyAsDouble(new double[]{3, 5}))
+			.isEqualTo((3 + 2.0 + Math.sin(5))*Math.PI);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void compileWithMissingArguments() {
+		final ToDoubleFunction<double[]> f = MathExpr.parse("x + y*z").toCompiled();
+		f.applyAsDouble(new double[]{1, 2});
+	}
+
+	@Test
+	public void compileCached() {
+		final var compiler = new MathExprCompiler();
+		final var f1 = compiler.compile(MathExpr.parse("sin(x) + 2*y").tree());
+		final var f2 = compiler.compile(MathExpr.parse("sin(x) + 2*y").tree());
+		final var f3 = compiler.compile(MathExpr.parse("sin(x) + 3*y").tree());
+
+		assertThat(f2).isSameAs(f1);
+		assertThat(f3).isNotSameAs(f1);
+		assertThat(f3.applyAsDouble(new double[]{0, 1})).isEqualTo(3.0);
+	}
+
+	@Test
+	public void compileVariableIndexes() {
+		final var compiler = new MathExprCompiler();
+		final TreeNode<Op<Double>> tree1 = TreeNode.<Op<Double>>of(MathOp.SUB)
+			.attach(Var.of("x", 0))
+			.attach(Var.of("y", 1));
+		final TreeNode<Op<Double>> tree2 = TreeNode.<Op<Double>>of(MathOp.SUB)
+			.attach(Var.of("x", 1))
+			.attach(Var.of("y", 0));
+
+		final double[] args = {5, 3};
+		assertThat(compiler.compile(tree1).applyAsDouble(args)).isEqualTo(2.0);
+		assertThat(compiler.compile(tree2).applyAsDouble(args)).isEqualTo(-2.0);
+	}
+
+	@Test
+	public void compileBigTree() {
+		// A balanced tree with 2^13 leaves, which is interpreted.
+		final TreeNode<Op<Double>> tree = balanced(13);
+		assertThat(tree.size()).isGreaterThan(MathExprCompiler.MAX_COMPILE_SIZE);
+
+		final var f = new MathExprCompiler().compile(tree);
+		assertThat(f.applyAsDouble(new double[]{1})).isEqualTo((double)(1 << 13));
+	}
+
+	private static TreeNode<Op<Double>> balanced(final int depth) {
+		return depth == 0
+			? TreeNode.of(Var.of("x", 0))
+			: TreeNode.<Op<Double>>of(MathOp.ADD)
+				.attach(balanced(depth - 1))
+				.attach(balanced(depth - 1));
+	}
+
+	@Test
+	public void compileTerminal() {
+		final var compiler = new MathExprCompiler();
+		assertThat(compiler.compile(TreeNode.of(Const.of(4.0))).applyAsDouble(new double[0]))
+			.isEqualTo(4.0);
+		assertThat(compiler.compile(TreeNode.of(Var.of("x", 2))).applyAsDouble(new double[]{1, 2, 3}))
+			.isEqualTo(3.0);
+
+		final TreeNode<Op<Double>> gt = TreeNode.<Op<Double>>of(MathOp.GT)
+			.attach(Var.of("x", 0))
+			.attach(Var.of("y", 1));
+		assertThat(compiler.compile(gt).applyAsDouble(new double[]{1, 2}))
+			.isEqualTo(-1.0);
+		assertThat(compiler.compile(gt).applyAsDouble(new double[]{2, 1}))
+			.isEqualTo(1.0);
+	}
+
+}
@@ -0,0 +1,181 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+import java.util.stream.Stream;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ColumnProgramTest {
+
+	private static final ISeq<Op<Double>> OPERATIONS = ISeq.of(MathOp.values());
+
+	private static final ISeq<Op<Double>> TERMINALS = ISeq.of(
+		Var.of("x", 0),
+		Var.of("y", 1),
+		Var.of("z", 2),
+		Const.of(1.0),
+		Const.of(2.5)
+	);
+
+	@DataProvider
+	public Object[][] trees() {
+		final Random random = new Random(1234);
+		return Stream.generate(() -> Program.of(8, OPERATIONS, TERMINALS, random))
+			.limit(50)
+			.map(tree -> new Object[]{tree})
+			.toArray(Object[][]::new);
+	}
+
+	@Test(dataProvider = "trees")
+	public void evalLikeProgram(final Tree<? extends Op<Double>, ?> tree) {
+		// Not a multiple of the block size.
+		final double[][] columns = columns(3, 3*ColumnProgram.BLOCK_SIZE + 17);
+		final double[] result = new double[columns[0].length];
+		new ColumnProgram(tree).eval(columns, 0, result.length, result);
+
+		for (int i = 0; i < result.length; ++i) {
+			final double expected = Program.eval(
+				tree, columns[0][i], columns[1][i], columns[2][i]
+			);
+			assertThat(Double.doubleToLongBits(result[i]))
+				.isEqualTo(Double.doubleToLongBits(expected));
+		}
+	}
+
+	@Test
+	public void evalRange() {
+		final double[][] columns = columns(2, 1000);
+		final double[] result = new double[500];
+		new ColumnProgram(MathExpr.parse("x*y").tree())
+			.eval(columns, 300, 700, result);
+
+		for (int i = 0; i < result.length; ++i) {
+			assertThat(result[i]).isEqualTo(
+				i < 400 ? columns[0][i + 300]*columns[1][i + 300] : 0.0
+			);
+		}
+	}
+
+	@Test
+	public void evalWithUserOperations() {
+		final Op<Double> plus3 = Op.of("plus3", 3, v -> v[0] + v[1] + v[2]);
+		final Op<Double> sum = Op.of("sum", 0, v -> v[0] + v[1]);
+
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.MUL)
+			.attach(TreeNode.<Op<Double>>of(plus3)
+				.attach(Var.of("x", 0))
+				.attach(Const.of(2.0))
+				.attach(TreeNode.<Op<Double>>of(MathOp.SIN).attach(Var.of("y", 1))))
+			.attach(sum);
+
+		final double[][] columns = columns(2, 500);
+		final double[] result = new double[500];
+		new ColumnProgram(tree).eval(columns, 0, result.length, result);
+
+		for (int i = 0; i < result.length; ++i) {
+			final double x = columns[0][i];
+			final double y = columns[1][i];
+			assertThat(result[i]).isEqualTo((x + 2.0 + Math.sin(y))*(x + y));
+		}
+	}
+
+	@Test
+	public void evalWithCachedSubtrees() {
+		final var cache = SubtreeCache.of(500, 1_000_000);
+		final double[][] columns = columns(2, 500);
+		final var trees = Stream
+			.of(
+				"sin(x)*y + cos(y)*x",
+				"(sin(x)*y + cos(y)*x)*x - (x*x + cos(y)*x)",
+				"(x*x + cos(y)*x)/(sin(x)*y + cos(y)*x) + sin(x)*y"
+			)
+			.map(expr -> MathExpr.parse(expr).tree())
+			.toList();
+
+		for (int i = 0; i < 3; ++i) {
+			for (var tree : trees) {
+				final var program = new ColumnProgram(tree, cache);
+				final double[] result = new double[500];
+				program.eval(columns, 0, result.length, result);
+				program.flush();
+
+				final double[] expected = new double[500];
+				new ColumnProgram(tree).eval(columns, 0, expected.length, expected);
+				for (int j = 0; j < result.length; ++j) {
+					assertThat(result[j]).isEqualTo(expected[j]);
+				}
+			}
+		}
+		assertThat(cache.size()).isGreaterThan(0);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void evalWithMissingColumns() {
+		new ColumnProgram(MathExpr.parse("x + y*z").tree())
+			.eval(columns(2, 10), 0, 10, new double[10]);
+	}
+
+	@Test
+	public void evalSamples() {
+		final var samples = new SampleList<>(Stream
+			.generate(() -> Sample.ofDouble(Math.random(), Math.random(), Math.random()))
+			.limit(1000)
+			.toList());
+
+		final Tree<? extends Op<Double>, ?> tree = MathExpr.parse("sin(x)*y - 3").tree();
+		final var result = samples.eval(tree);
+		final var expected = samples.eval(args -> Program.eval(tree, args));
+
+		assertThat(result.calculated().length).isEqualTo(samples.size());
+		for (int i = 0; i < samples.size(); ++i) {
+			assertThat(result.calculated()[i]).isEqualTo(expected.calculated()[i]);
+			assertThat(result.expected()[i]).isEqualTo(samples.get(i).result());
+		}
+	}
+
+	private static double[][] columns(final int count, final int rows) {
+		final Random random = new Random(456);
+		final double[][] columns = new double[count][];
+		for (int i = 0; i < count; ++i) {
+			columns[i] = random.doubles(rows, -10, 10).toArray();
+		}
+		return columns;
+	}
+
+}
@@ -0,0 +1,253 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.engine.Codec;
+import io.jenetics.engine.EvolutionDurations;
+import io.jenetics.engine.EvolutionResult;
+import io.jenetics.engine.EvolutionStart;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.ext.util.Tree;
+
+import io.jenetics.prog.ProgramGene;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IncrementalRegressionTest {
+
+	private static final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> CODEC =
+		Regression.codecOf(
+			ISeq.of(MathOp.ADD, MathOp.SUB, MathOp.MUL, MathOp.SIN),
+			ISeq.of(Var.of("x", 0), Var.of("y", 1)),
+			5
+		);
+
+	private static final List<Sample<Double>> SAMPLES = samples(2000);
+
+	private static List<Sample<Double>> samples(final int size) {
+		final var random = new Random(123);
+		final List<Sample<Double>> samples = new ArrayList<>();
+		for (int i = 0; i < size; ++i) {
+			final double x = random.nextDouble()*10;
+			final double y = random.nextDouble()*10;
+			samples.add(Sample.ofDouble(x, y, x*x - y));
+		}
+		return samples;
+	}
+
+	private static Tree<Op<Double>, ?> tree(final String expression) {
+		return MathExpr.parse(expression).tree();
+	}
+
+	private static ISeq<Phenotype<ProgramGene<Double>, Double>>
+	population(final IncrementalRegression regression, final int size) {
+		return ISeq.<Phenotype<ProgramGene<Double>, Double>>of(
+			() -> {
+				final var gt = CODEC.encoding().newInstance();
+				return Phenotype.of(gt, 1, regression.error(CODEC.decode(gt)));
+			},
+			size
+		);
+	}
+
+	private static EvolutionResult<ProgramGene<Double>, Double>
+	result(final ISeq<Phenotype<ProgramGene<Double>, Double>> population) {
+		return EvolutionResult.of(
+			Optimize.MINIMUM,
+			population,
+			1,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		);
+	}
+
+	@Test
+	public void error() {
+		final var program = tree("x*x - sin(y)*3");
+		for (var loss : MeanLoss.values()) {
+			final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+				.loss(loss)
+				.chunkSize(77)
+				.build();
+
+			final double expected = Regression
+				.of(CODEC, Error.of(loss), SAMPLES)
+				.error(program);
+
+			assertThat(regression.error(program)).isEqualTo(expected);
+			assertThat(regression.fitness(program)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void errorWithComplexity() {
+		final var program = tree("x*x - sin(y)*3");
+		final var complexity = Complexity.<Double>ofNodeCount(20);
+		final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+			.complexity(complexity)
+			.build();
+
+		final double expected = Regression
+			.of(CODEC, Error.of(MeanLoss.MSE, complexity), SAMPLES)
+			.error(program);
+
+		assertThat(regression.error(program)).isEqualTo(expected);
+	}
+
+	@Test
+	public void earlyTermination() {
+		final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+			.chunkSize(100)
+			.rank(2)
+			.build();
+
+		final var population = population(regression, 20);
+		regression.after(result(population));
+
+		final double threshold = population.stream()
+			.mapToDouble(Phenotype::fitness)
+			.sorted()
+			.skip(1)
+			.findFirst()
+			.orElseThrow();
+
+		final var bad = tree("x*x*x*y");
+		final double fitness = regression.fitness(bad);
+		assertThat(fitness).isGreaterThan(threshold);
+		assertThat(fitness).isLessThan(regression.error(bad));
+
+		final var good = tree("x*x - y");
+		assertThat(regression.fitness(good)).isEqualTo(regression.error(good));
+	}
+
+	@Test
+	public void noEarlyTerminationWhenMaximizing() {
+		final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+			.chunkSize(100)
+			.rank(1)
+			.build();
+
+		regression.after(EvolutionResult.of(
+			Optimize.MAXIMUM,
+			population(regression, 10),
+			1,
+			EvolutionDurations.ZERO,
+			0, 0, 0
+		));
+
+		final var bad = tree("x*x*x*y");
+		assertThat(regression.fitness(bad)).isEqualTo(regression.error(bad));
+	}
+
+	@Test
+	public void interleavedSubset() {
+		final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+			.subset(500, IncrementalRegression.Subset.INTERLEAVED)
+			.elite(0, 1)
+			.build();
+
+		final var program = tree("x*x - sin(y)*3");
+		for (int generation = 1; generation < 6; ++generation) {
+			regression.before(EvolutionStart.of(ISeq.empty(), generation));
+
+			final List<Sample<Double>> subset = new ArrayList<>();
+			for (int i = generation%4; i < SAMPLES.size(); i += 4) {
+				subset.add(SAMPLES.get(i));
+			}
+			final double expected = Regression
+				.of(CODEC, Error.of(MeanLoss.MSE), subset)
+				.error(program);
+
+			assertThat(regression.fitness(program)).isEqualTo(expected);
+		}
+	}
+
+	@Test
+	public void randomSubset() {
+		final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+			.subset(500, IncrementalRegression.Subset.RANDOM)
+			.build();
+
+		final var program = tree("x*x - sin(y)*3");
+		regression.before(EvolutionStart.of(ISeq.empty(), 1));
+		final double first = regression.fitness(program);
+		regression.before(EvolutionStart.of(ISeq.empty(), 2));
+		final double second = regression.fitness(program);
+
+		assertThat(first).isNotEqualTo(second);
+		assertThat(first).isNotEqualTo(regression.error(program));
+	}
+
+	@Test
+	public void eliteReevaluation() {
+		final var regression = IncrementalRegression.builder(CODEC, SAMPLES)
+			.subset(100, IncrementalRegression.Subset.RANDOM)
+			.elite(3, 5)
+			.build();
+
+		final var population = population(regression, 20);
+		final var elite = population.stream()
+			.sorted((a, b) -> a.fitness().compareTo(b.fitness()))
+			.limit(3)
+			.toList();
+
+		final var start = regression.before(EvolutionStart.of(population, 4));
+		assertThat(start.population().forAll(Phenotype::isEvaluated)).isTrue();
+
+		final var reevaluate = regression.before(EvolutionStart.of(population, 5));
+		final var genotypes = elite.stream().map(Phenotype::genotype).toList();
+		for (var pt : reevaluate.population()) {
+			assertThat(pt.isEvaluated())
+				.isEqualTo(!genotypes.contains(pt.genotype()));
+		}
+		for (var pt : elite) {
+			final var program = CODEC.decode(pt.genotype());
+			assertThat(regression.fitness(program))
+				.isEqualTo(regression.error(program));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void emptySamples() {
+		IncrementalRegression.builder(CODEC, List.of());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidChunkSize() {
+		IncrementalRegression.builder(CODEC, SAMPLES).chunkSize(0);
+	}
+
+}
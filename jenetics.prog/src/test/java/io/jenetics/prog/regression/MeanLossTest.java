@@ -0,0 +1,86 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Random;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MeanLossTest {
+
+	@Test
+	public void apply() {
+		final var random = new Random(1234);
+		final Double[] calculated = new Double[100];
+		final Double[] expected = new Double[100];
+		for (int i = 0; i < calculated.length; ++i) {
+			calculated[i] = random.nextGaussian();
+			expected[i] = random.nextGaussian();
+		}
+
+		assertThat(MeanLoss.MSE.apply(calculated, expected))
+			.isEqualTo(LossFunction.mse(calculated, expected));
+		assertThat(MeanLoss.RMSE.apply(calculated, expected))
+			.isEqualTo(LossFunction.rmse(calculated, expected));
+		assertThat(MeanLoss.MAE.apply(calculated, expected))
+			.isEqualTo(LossFunction.mae(calculated, expected));
+	}
+
+	@Test
+	public void incrementalValue() {
+		final var random = new Random(1234);
+		final double[] calculated = new double[1000];
+		final double[] expected = new double[1000];
+		for (int i = 0; i < calculated.length; ++i) {
+			calculated[i] = random.nextGaussian();
+			expected[i] = random.nextGaussian();
+		}
+
+		final Double[] c = new Double[calculated.length];
+		final Double[] e = new Double[expected.length];
+		for (int i = 0; i < c.length; ++i) {
+			c[i] = calculated[i];
+			e[i] = expected[i];
+		}
+
+		for (var loss : MeanLoss.values()) {
+			double sum = 0;
+			double bound = 0;
+			final double[] chunk = new double[64];
+			for (int from = 0; from < calculated.length; from += chunk.length) {
+				final int length = Math.min(chunk.length, calculated.length - from);
+				System.arraycopy(calculated, from, chunk, 0, length);
+				sum = loss.sum(sum, chunk, expected, from, length);
+
+				final double value = loss.value(sum, calculated.length);
+				assertThat(value).isGreaterThanOrEqualTo(bound);
+				bound = value;
+			}
+
+			assertThat(bound).isEqualTo(loss.apply(c, e));
+		}
+	}
+
+}
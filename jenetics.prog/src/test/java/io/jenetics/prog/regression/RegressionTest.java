@@ -19,6 +19,8 @@
  */
 package io.jenetics.prog.regression;
 
+import static org.assertj.core.api.Assertions.assertThat;
+
 import java.time.Duration;
 import java.util.Random;
 import java.util.concurrent.Executors;
@@ -89,6 +91,39 @@ public class RegressionTest {
 		regression.error(tree);
 	}
 
+	@Test
+	public void primitiveError() {
+		final var random = new Random(123);
+		final Codec<Tree<Op<Double>, ?>, ProgramGene<Double>> codec =
+			Regression.codecOf(OPS, TMS, 5);
+		final ISeq<Sample<Double>> samples = ISeq.of(
+			() -> Sample.ofDouble(random.nextDouble(-5, 5), random.nextDouble()),
+			500
+		);
+
+		for (var loss : MeanLoss.values()) {
+			final var primitive = Regression.of(
+				codec,
+				Error.of(loss, Complexity.ofNodeCount(50)),
+				samples
+			);
+			final var boxed = Regression.of(
+				codec,
+				Error.of(
+					(LossFunction<Double>)loss::apply,
+					Complexity.ofNodeCount(50)
+				),
+				samples
+			);
+
+			for (int i = 0; i < 20; ++i) {
+				final Tree<Op<Double>, ?> tree = RandomRegistry.with(random)
+					.call(() -> codec.encoding().newInstance().gene());
+				assertThat(primitive.error(tree)).isEqualTo(boxed.error(tree));
+			}
+		}
+	}
+
 	//@Test
 	public void dynamicSamples() {
 		final var scheduler = Executors.newScheduledThreadPool(1);
@@ -24,6 +24,8 @@ import java.util.List;
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.prog.op.MathExpr;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -55,4 +57,35 @@ public class SampleBufferTest {
 		);
 	}
 
+	@Test
+	public void evalAfterPublish() {
+		final var program = MathExpr.parse("x*x + sin(x)").tree();
+		final SampleBuffer<Double> buffer = new SampleBuffer<>(10);
+		for (int i = 0; i < 10; ++i) {
+			buffer.add(Sample.ofDouble(i, 0));
+		}
+		buffer.publish();
+
+		// Fill the subtree cache of the current snapshot.
+		for (int i = 0; i < 3; ++i) {
+			buffer.eval(program);
+		}
+
+		for (int i = 10; i < 20; ++i) {
+			buffer.add(Sample.ofDouble(i, 0));
+		}
+		buffer.publish();
+
+		final Double[] calculated = buffer.eval(program).calculated();
+		for (int i = 0; i < calculated.length; ++i) {
+			final double x = i + 10;
+			Assert.assertEquals(calculated[i].doubleValue(), x*x + Math.sin(x));
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void negativeCacheSize() {
+		new SampleBuffer<Double>(10, -1);
+	}
+
 }
@@ -19,12 +19,20 @@
  */
 package io.jenetics.prog.regression;
 
+import java.io.IOException;
 import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.IO;
+
+import io.jenetics.ext.util.TreeNode;
+
 import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.Var;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -47,6 +55,58 @@ public class SampleListTest {
 		}
 	}
 
+	@Test
+	public void loss() {
+		final var random = new Random(123);
+		final List<Sample<Double>> points = IntStream.range(0, 1000)
+			.mapToObj(i -> Sample.ofDouble(
+				random.nextDouble(-10, 10),
+				random.nextDouble(-10, 10),
+				random.nextDouble(-10, 10)
+			))
+			.toList();
+
+		final SampleList<Double> samples = new SampleList<>(points);
+		final var tree = MathExpr.parse("sin(x)*y + x/y - 3").tree();
+		final var result = samples.eval(tree);
+		for (var loss : MeanLoss.values()) {
+			Assert.assertEquals(
+				samples.loss(tree, loss).orElseThrow(),
+				loss.apply(result.calculated(), result.expected())
+			);
+		}
+	}
+
+	@Test
+	public void lossOfObjectSamples() {
+		final SampleList<String> samples = new SampleList<>(List.of(
+			Sample.of(new String[]{"a", "b", "c"})
+		));
+		Assert.assertTrue(
+			samples.loss(TreeNode.of(Var.of("x", 0)), MeanLoss.MSE).isEmpty()
+		);
+	}
+
+	@Test
+	public void serialize() throws IOException {
+		final SampleList<Double> samples = new SampleList<>(List.of(
+			Sample.ofDouble(1, 2, 3),
+			Sample.ofDouble(4, 5, 6),
+			Sample.ofDouble(7, 8, 9)
+		));
+
+		@SuppressWarnings("unchecked")
+		final var object = (SampleList<Double>)IO.object
+			.fromByteArray(IO.object.toByteArray(samples));
+
+		final var tree = MathExpr.parse("x*y").tree();
+		Assert.assertEquals(object, samples);
+		Assert.assertEquals(
+			object.loss(tree, MeanLoss.MAE),
+			samples.loss(tree, MeanLoss.MAE)
+		);
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void emptySamples() {
 		new SampleList<>(List.of());
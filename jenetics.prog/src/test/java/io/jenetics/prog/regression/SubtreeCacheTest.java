@@ -0,0 +1,154 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.prog.regression;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import org.testng.annotations.Test;
+
+import io.jenetics.ext.util.Tree;
+import io.jenetics.ext.util.TreeNode;
+import io.jenetics.util.ISeq;
+
+import io.jenetics.prog.op.Const;
+import io.jenetics.prog.op.MathExpr;
+import io.jenetics.prog.op.MathOp;
+import io.jenetics.prog.op.Op;
+import io.jenetics.prog.op.Program;
+import io.jenetics.prog.op.Var;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SubtreeCacheTest {
+
+	@Test
+	public void keyEquality() {
+		final var key1 = SubtreeCache.Key.of(MathExpr.parse("sin(x) + 2*y").tree());
+		final var key2 = SubtreeCache.Key.of(MathExpr.parse("sin(x) + 2*y").tree());
+		final var key3 = SubtreeCache.Key.of(MathExpr.parse("sin(x) + 3*y").tree());
+		final var key4 = SubtreeCache.Key.of(MathExpr.parse("sin(y) + 2*x").tree());
+
+		assertThat(key1).isEqualTo(key2);
+		assertThat(key1.hashCode()).isEqualTo(key2.hashCode());
+		assertThat(key1).isNotEqualTo(key3);
+		assertThat(key1).isNotEqualTo(key4);
+		assertThat(key1.size()).isEqualTo(6);
+	}
+
+	@Test
+	public void keyOfForeignOperation() {
+		final Op<Double> plus3 = Op.of("plus3", 3, v -> v[0] + v[1] + v[2]);
+		final TreeNode<Op<Double>> tree = TreeNode.<Op<Double>>of(MathOp.SIN)
+			.attach(TreeNode.<Op<Double>>of(plus3)
+				.attach(Var.of("x", 0))
+				.attach(Const.of(2.0))
+				.attach(Var.of("y", 1)));
+
+		assertThat(SubtreeCache.Key.of(tree)).isNull();
+	}
+
+	@Test
+	public void admitAndGet() {
+		final var cache = SubtreeCache.of(10, 1024*1024);
+		final var key = SubtreeCache.Key.of(MathExpr.parse("x*y").tree());
+
+		assertThat(cache.get(key)).isNull();
+		assertThat(cache.admit(key)).isFalse();
+		assertThat(cache.admit(key)).isTrue();
+
+		final double[] values = new double[10];
+		cache.put(key, values);
+		assertThat(cache.get(key)).isSameAs(values);
+		assertThat(cache.size()).isEqualTo(1);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void putWrongSize() {
+		final var cache = SubtreeCache.of(10, 1024*1024);
+		cache.put(SubtreeCache.Key.of(MathExpr.parse("x*y").tree()), new double[9]);
+	}
+
+	@Test
+	public void notEnoughMemory() {
+		assertThat(SubtreeCache.of(1000, 0)).isNull();
+		assertThat(SubtreeCache.of(1000, 8000)).isNull();
+	}
+
+	@Test
+	public void evict() {
+		final var cache = SubtreeCache.of(100, 20*(8*100 + 256));
+		assertThat(cache.capacity()).isEqualTo(20);
+
+		// A big subtree, which is reused.
+		final var big = SubtreeCache.Key.of(
+			MathExpr.parse("sin(x)*cos(y) + x*x*y - 1").tree()
+		);
+		cache.put(big, new double[100]);
+		cache.get(big);
+
+		for (int i = 0; i < 100; ++i) {
+			final var key = SubtreeCache.Key.of(MathExpr.parse("x + " + i).tree());
+			cache.put(key, new double[100]);
+			assertThat(cache.size()).isLessThanOrEqualTo(cache.capacity());
+		}
+		assertThat(cache.get(big)).isNotNull();
+	}
+
+	@Test
+	public void evalCached() {
+		final ISeq<Op<Double>> operations = ISeq.of(MathOp.values());
+		final ISeq<Op<Double>> terminals = ISeq.of(
+			Var.of("x", 0),
+			Var.of("y", 1),
+			Const.of(1.0)
+		);
+
+		final Random random = new Random(123);
+		final List<Tree<? extends Op<Double>, ?>> trees = Stream
+			.generate(() -> Program.of(5, operations, terminals, random))
+			.limit(20)
+			.<Tree<? extends Op<Double>, ?>>map(t -> t)
+			.toList();
+
+		final List<Sample<Double>> points = random.doubles(500, -5, 5)
+			.mapToObj(x -> Sample.ofDouble(x, x/2, x*x))
+			.toList();
+		final var cached = new SampleList<>(points, 1024*1024);
+		final var uncached = new SampleList<>(points, 0);
+
+		// Concurrent and repeated evaluation of the same programs.
+		IntStream.range(0, 400).parallel().forEach(i -> {
+			final var tree = trees.get(i%trees.size());
+			final Double[] expected = uncached.eval(tree).calculated();
+			final Double[] calculated = cached.eval(tree).calculated();
+			for (int j = 0; j < expected.length; ++j) {
+				assertThat(Double.doubleToLongBits(calculated[j]))
+					.isEqualTo(Double.doubleToLongBits(expected[j]));
+			}
+		});
+	}
+
+}
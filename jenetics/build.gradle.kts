@@ -53,4 +53,5 @@ tasks.test { dependsOn(tasks.compileJmhJava) }
 
 jmh {
 	includes.add(".*ProxySorterPerf.*")
+	profilers.add("gc")
 }
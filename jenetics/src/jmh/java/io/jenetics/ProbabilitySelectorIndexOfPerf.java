@@ -24,18 +24,23 @@ import static io.jenetics.internal.math.Basics.normalize;
 
 import java.util.Random;
 import java.util.concurrent.TimeUnit;
+import java.util.random.RandomGenerator;
 
 import org.openjdk.jmh.annotations.Benchmark;
 import org.openjdk.jmh.annotations.BenchmarkMode;
 import org.openjdk.jmh.annotations.Mode;
 import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
 import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
 import org.openjdk.jmh.annotations.State;
 import org.openjdk.jmh.runner.Runner;
 import org.openjdk.jmh.runner.RunnerException;
 import org.openjdk.jmh.runner.options.Options;
 import org.openjdk.jmh.runner.options.OptionsBuilder;
 
+import io.jenetics.internal.math.AliasTable;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -58,6 +63,29 @@ public class ProbabilitySelectorIndexOfPerf {
 		double[] array10000 = random(new double[10000]);
 	}
 
+	@State(Scope.Benchmark)
+	public static class Probabilities {
+		@Param({"100", "1000", "10000", "100000", "1000000"})
+		public int size;
+
+		final RandomGenerator random = new Random(123);
+		double[] probabilities;
+		double[] cdf;
+		AliasTable table;
+
+		@Setup
+		public void setup() {
+			final Random random = new Random();
+			probabilities = new double[size];
+			for (int i = 0; i < size; ++i) {
+				probabilities[i] = Math.abs(random.nextGaussian() + 1.1);
+			}
+			normalize(probabilities);
+			cdf = incremental(probabilities.clone());
+			table = AliasTable.of(probabilities);
+		}
+	}
+
 	private static double[] random(final double[] array) {
 		final Random random = new Random();
 		for (int i = 0; i < array.length; ++i) {
@@ -140,6 +168,41 @@ public class ProbabilitySelectorIndexOfPerf {
 		return ProbabilitySelector.indexOfSerial(array.array250, 0.5);
 	}
 
+	// Sampling strategies: a single draw.
+
+	@Benchmark
+	public int cdfNext(final Probabilities p) {
+		return ProbabilitySelector.indexOf(p.cdf, p.random.nextDouble());
+	}
+
+	@Benchmark
+	public int aliasNext(final Probabilities p) {
+		return p.table.next(p.random);
+	}
+
+	// Sampling strategies: setup plus one draw per individual, as done by
+	// one 'ProbabilitySelector.select' call.
+
+	@Benchmark
+	public int[] cdfSelect(final Probabilities p) {
+		final double[] cdf = incremental(p.probabilities.clone());
+		final int[] indexes = new int[p.size];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = ProbabilitySelector.indexOf(cdf, p.random.nextDouble());
+		}
+		return indexes;
+	}
+
+	@Benchmark
+	public int[] aliasSelect(final Probabilities p) {
+		final AliasTable table = AliasTable.of(p.probabilities);
+		final int[] indexes = new int[p.size];
+		for (int i = 0; i < indexes.length; ++i) {
+			indexes[i] = table.next(p.random);
+		}
+		return indexes;
+	}
+
 	public static void main(String[] args) throws RunnerException {
 		final Options opt = new OptionsBuilder()
 			.include(".*" + ProbabilitySelectorIndexOfPerf.class.getSimpleName() + ".*")
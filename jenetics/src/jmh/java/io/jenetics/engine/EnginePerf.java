@@ -0,0 +1,249 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Function;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import io.jenetics.Alterer;
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.GaussianMutator;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.MeanAlterer;
+import io.jenetics.MultiPointCrossover;
+import io.jenetics.Mutator;
+import io.jenetics.RouletteWheelSelector;
+import io.jenetics.Selector;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.TournamentSelector;
+import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
+
+/**
+ * Benchmarks complete generations of the {@link Engine#evolve(EvolutionStart)}
+ * method. Every benchmark call evolves the same start population, which
+ * keeps the workload constant over the measurement iterations. The fitness
+ * function is deliberately cheap, so that the measured time is dominated by
+ * the engine itself. Run it with the {@code gc} profiler for getting the
+ * allocation rate.
+ * <p>
+ * The benchmark is not part of the default {@code jmh} includes, and the
+ * default parameters contain only one representative value per axis. The
+ * full parameter grid can be measured by overriding the parameters on the
+ * command line of the JMH jar.
+ * <pre>{@code
+ * java -jar jenetics/build/libs/jenetics-*-jmh.jar EnginePerf -prof gc \
+ *     -p populationSize=50,500,5000 \
+ *     -p chromosome=DOUBLE,INTEGER,BIT \
+ *     -p length=10,100,1000 \
+ *     -p selector=TOURNAMENT,ROULETTE_WHEEL \
+ *     -p alterer=MUTATOR,SINGLE_POINT,MULTI_POINT,NUMERIC \
+ *     -p executor=COMMON_POOL,FIXED_POOL,VIRTUAL_THREADS,CALLER
+ * }</pre>
+ * Since there are no numeric alterers for bit genes, the {@code NUMERIC}
+ * alterer is rejected for {@code BIT} chromosomes in the setup of the
+ * benchmark, which lets JMH skip this combination.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+@Warmup(iterations = 5, time = 1, timeUnit = TimeUnit.SECONDS)
+@Measurement(iterations = 10, time = 1, timeUnit = TimeUnit.SECONDS)
+@Fork(value = 2)
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class EnginePerf {
+
+	public enum ChromosomeType { DOUBLE, INTEGER, BIT }
+
+	public enum SelectorType { TOURNAMENT, ROULETTE_WHEEL }
+
+	public enum AltererType { MUTATOR, SINGLE_POINT, MULTI_POINT, NUMERIC }
+
+	public enum ExecutorType { COMMON_POOL, FIXED_POOL, VIRTUAL_THREADS, CALLER }
+
+	// Engine and start population with the same gene type.
+	private record Evolver<G extends Gene<?, G>>(
+		Engine<G, Double> engine,
+		EvolutionStart<G, Double> start
+	) {
+		EvolutionResult<G, Double> evolve() {
+			return engine.evolve(start);
+		}
+	}
+
+	@Param({"500"})
+	public int populationSize;
+
+	@Param({"DOUBLE"})
+	public ChromosomeType chromosome;
+
+	@Param({"100"})
+	public int length;
+
+	@Param({"TOURNAMENT"})
+	public SelectorType selector;
+
+	@Param({"SINGLE_POINT"})
+	public AltererType alterer;
+
+	@Param({"COMMON_POOL"})
+	public ExecutorType executor;
+
+	private ExecutorService _service;
+	private Evolver<?> _evolver;
+
+	@Setup
+	public void setup() {
+		if (chromosome == ChromosomeType.BIT && alterer == AltererType.NUMERIC) {
+			throw new IllegalStateException(
+				"No numeric alterers for bit genes; skipping combination."
+			);
+		}
+
+		final var exec = switch (executor) {
+			case COMMON_POOL -> ForkJoinPool.commonPool();
+			case FIXED_POOL -> _service = Executors.newFixedThreadPool(
+				Runtime.getRuntime().availableProcessors()
+			);
+			case VIRTUAL_THREADS -> _service =
+				Executors.newVirtualThreadPerTaskExecutor();
+			case CALLER -> (Executor)Runnable::run;
+		};
+
+		_evolver = switch (chromosome) {
+			case DOUBLE -> evolver(
+				Genotype.of(DoubleChromosome.of(0, 10, length)),
+				gt -> gt.chromosome()
+					.as(DoubleChromosome.class)
+					.doubleStream()
+					.sum(),
+				Alterer.<DoubleGene, Double>of(
+					new GaussianMutator<>(0.05),
+					new MeanAlterer<>(0.2)
+				),
+				exec
+			);
+			case INTEGER -> evolver(
+				Genotype.of(IntegerChromosome.of(0, 100, length)),
+				gt -> (double)gt.chromosome()
+					.as(IntegerChromosome.class)
+					.intStream()
+					.sum(),
+				Alterer.<IntegerGene, Double>of(
+					new GaussianMutator<>(0.05),
+					new MeanAlterer<>(0.2)
+				),
+				exec
+			);
+			case BIT -> evolver(
+				Genotype.of(BitChromosome.of(length, 0.5)),
+				gt -> (double)gt.chromosome()
+					.as(BitChromosome.class)
+					.bitCount(),
+				// Not used, since there are no numeric alterers for bit genes.
+				new Mutator<BitGene, Double>(0.05),
+				exec
+			);
+		};
+	}
+
+	private <G extends Gene<?, G>> Evolver<G> evolver(
+		final Factory<Genotype<G>> genotypeFactory,
+		final Function<Genotype<G>, Double> fitness,
+		final Alterer<G, Double> numeric,
+		final Executor exec
+	) {
+		final Engine<G, Double> engine = Engine.builder(fitness, genotypeFactory)
+			.populationSize(populationSize)
+			.selector(this.<G>selector())
+			.alterers(alterer(numeric))
+			.executor(exec)
+			.build();
+
+		// Creating and evaluating the start population once.
+		final EvolutionStart<G, Double> start = engine.evolve(
+			EvolutionStart.of(ISeq.empty(), 1)
+		).toEvolutionStart();
+
+		return new Evolver<>(engine, start);
+	}
+
+	private <G extends Gene<?, G>> Selector<G, Double> selector() {
+		return switch (selector) {
+			case TOURNAMENT -> new TournamentSelector<>(3);
+			case ROULETTE_WHEEL -> new RouletteWheelSelector<>();
+		};
+	}
+
+	private <G extends Gene<?, G>> Alterer<G, Double>
+	alterer(final Alterer<G, Double> numeric) {
+		return switch (alterer) {
+			case MUTATOR -> new Mutator<>(0.05);
+			case SINGLE_POINT -> Alterer.<G, Double>of(
+				new Mutator<>(0.05),
+				new SinglePointCrossover<>(0.2)
+			);
+			case MULTI_POINT -> Alterer.<G, Double>of(
+				new Mutator<>(0.05),
+				new MultiPointCrossover<>(0.2, 3)
+			);
+			case NUMERIC -> numeric;
+		};
+	}
+
+	@TearDown
+	public void shutdown() {
+		if (_service != null) {
+			_service.shutdownNow();
+		}
+	}
+
+	@Benchmark
+	public EvolutionResult<?, Double> evolve() {
+		return _evolver.evolve();
+	}
+
+}
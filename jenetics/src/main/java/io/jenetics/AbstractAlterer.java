@@ -19,14 +19,43 @@
  */
 package io.jenetics;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.Executor;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.function.Supplier;
+
+import io.jenetics.internal.math.Randoms;
 import io.jenetics.internal.util.Requires;
+import io.jenetics.util.RandomRegistry;
 
 /**
  * Abstract implementation of the alterer interface.
+ * <p>
+ * Subclasses, which support the parallel alteration of the population, are
+ * using the {@link #chunkSize()} for partitioning the population into
+ * chunks, which are then altered concurrently. The default chunk size can be
+ * set via the {@code io.jenetics.alterer.chunkSize} system property. If not
+ * set, the population is not partitioned and altered by the calling thread.
+ * <pre>{@code
+ * java -Dio.jenetics.alterer.chunkSize=5000 \
+ *      -cp jenetics-@__version__@.jar:app.jar \
+ *          com.foo.bar.MyJeneticsApp
+ * }</pre>
+ *
+ * @see Alterer#alter(io.jenetics.util.Seq, long, Executor)
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 9.0
  */
 public abstract class AbstractAlterer<
 	G extends Gene<?, G>,
@@ -40,6 +69,26 @@ public abstract class AbstractAlterer<
 	 */
 	protected final double _probability;
 
+	private final int _chunkSize;
+
+	/**
+	 * Constructs an alterer with a given recombination probability and
+	 * chunk size.
+	 *
+	 * @since 9.0
+	 *
+	 * @param probability The recombination probability.
+	 * @param chunkSize the maximal number of individuals (or recombinations),
+	 *        which are altered by one concurrent task
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]} or the {@code chunkSize} is smaller
+	 *         than one.
+	 */
+	protected AbstractAlterer(final double probability, final int chunkSize) {
+		_probability = Requires.probability(probability);
+		_chunkSize = Requires.positive(chunkSize);
+	}
+
 	/**
 	 * Constructs an alterer with a given recombination probability.
 	 *
@@ -48,7 +97,7 @@ public abstract class AbstractAlterer<
 	 *         valid range of {@code [0, 1]}.
 	 */
 	protected AbstractAlterer(final double probability) {
-		_probability = Requires.probability(probability);
+		this(probability, Env.chunkSize);
 	}
 
 	/**
@@ -60,4 +109,102 @@ public abstract class AbstractAlterer<
 		return _probability;
 	}
 
+	/**
+	 * Return the maximal number of individuals (or recombinations), which
+	 * are altered by one concurrent task. This value is only used by
+	 * alterers, which support the parallel alteration of the population.
+	 *
+	 * @since 9.0
+	 *
+	 * @return the chunk size used for parallel alteration
+	 */
+	public int chunkSize() {
+		return _chunkSize;
+	}
+
+	/**
+	 * Executes the given {@code tasks} concurrently, using the given
+	 * {@code executor}, and returns the results in the order of the tasks.
+	 * Every task is executed with its own random generator bound to the
+	 * {@link RandomRegistry}. These generators are derived, in task order,
+	 * from the random generator of the calling thread. This makes the results
+	 * independent of the executor and its thread scheduling.
+	 * <p>
+	 * The calling thread executes all tasks, which have not been started by
+	 * the executor threads, itself and only waits for already running tasks.
+	 * This way, the execution can't dead-lock, even if the calling thread
+	 * is part of the (fully occupied) thread pool of the {@code executor}.
+	 */
+	static <T> List<T> execute(
+		final List<? extends Supplier<? extends T>> tasks,
+		final Executor executor
+	) {
+		final var random = RandomRegistry.random();
+		final var randoms = tasks.stream()
+			.map(_ -> Randoms.split(random))
+			.toList();
+
+		final Object[] results = new Object[tasks.size()];
+		final var next = new AtomicInteger();
+		final var done = new CountDownLatch(tasks.size());
+		final var error = new AtomicReference<Throwable>();
+
+		final Runnable worker = () -> {
+			int i;
+			while ((i = next.getAndIncrement()) < tasks.size()) {
+				final int index = i;
+				try {
+					results[index] = RandomRegistry
+						.with(randoms.get(index))
+						.call(tasks.get(index)::get);
+				} catch (Throwable t) {
+					error.compareAndSet(null, t);
+				} finally {
+					done.countDown();
+				}
+			}
+		};
+
+		try {
+			for (int i = 1; i < tasks.size(); ++i) {
+				executor.execute(worker);
+			}
+		} catch (RejectedExecutionException ignore) {
+			// The remaining tasks are executed by the calling thread.
+		}
+		worker.run();
+
+		try {
+			done.await();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			final var ce = new CancellationException(e.getMessage());
+			ce.initCause(e);
+			throw ce;
+		}
+
+		final Throwable e = error.get();
+		if (e instanceof RuntimeException re) {
+			throw re;
+		} else if (e instanceof Error err) {
+			throw err;
+		} else if (e != null) {
+			throw new CompletionException(e);
+		}
+
+		@SuppressWarnings("unchecked")
+		final List<T> list = (List<T>)Arrays.asList(results);
+		return list;
+	}
+
+	private static final class Env {
+		private static final int chunkSize = max(
+			getInteger(
+				"io.jenetics.alterer.chunkSize",
+				Integer.MAX_VALUE
+			),
+			1
+		);
+	}
+
 }
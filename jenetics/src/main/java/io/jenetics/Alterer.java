@@ -21,6 +21,8 @@ package io.jenetics;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
 
@@ -77,6 +79,44 @@ public interface Alterer<
 		final long generation
 	);
 
+	/**
+	 * Alters (recombine) a given population. Implementations of this method
+	 * are allowed to partition the population and alter the single chunks
+	 * concurrently, using the given {@code executor}. The default
+	 * implementation ignores the {@code executor} and alters the population
+	 * with the calling thread.
+	 *
+	 * @implSpec
+	 * The altered population must not depend on the used {@code executor}
+	 * and its thread scheduling, if the random generator bound to the
+	 * {@link io.jenetics.util.RandomRegistry} produces a deterministic
+	 * random sequence. This is achieved by deriving the random generators of
+	 * the single chunks, in a fixed order, from the random generator of the
+	 * calling thread.
+	 *
+	 * @see AbstractAlterer#chunkSize()
+	 * @since 9.0
+	 *
+	 * @param population The Population to be altered. If the {@code population}
+	 *        is {@code null} or empty, nothing is altered.
+	 * @param generation the date of birth (generation) of the altered phenotypes.
+	 * @param executor the executor, which can be used for altering the
+	 *        population concurrently. The executor must be able to execute the
+	 *        submitted chunks, while the calling thread is waiting for them.
+	 * @return the alter-result object, which contains the altered population
+	 *         and the alteration counts
+	 * @throws NullPointerException if the given {@code population} or
+	 *        {@code executor} is {@code null}.
+	 */
+	default AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return alter(population, generation);
+	}
+
 	/**
 	 * Returns a composed alterer that first applies the {@code before} alterer
 	 * to its input, and then applies {@code this} alterer to the result.
@@ -0,0 +1,84 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+/**
+ * Numeric chromosome, which stores its alleles in one primitive array with
+ * shared bounds. This interface gives the numeric alterers a bulk access to
+ * the allele values, without creating the gene objects.
+ *
+ * @see DoubleArrayChromosome
+ * @see IntegerArrayChromosome
+ * @see LongArrayChromosome
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+sealed interface ArrayChromosome<
+	N extends Number & Comparable<? super N>,
+	G extends NumericGene<N, G>
+>
+	extends NumericChromosome<N, G>
+	permits DoubleArrayChromosome, IntegerArrayChromosome, LongArrayChromosome
+{
+
+	/**
+	 * Return a copy of the allele values, converted to {@code double}s.
+	 *
+	 * @return a copy of the allele values
+	 */
+	double[] toDoubleArray();
+
+	/**
+	 * Create a new chromosome with the given {@code values} and the bounds
+	 * of {@code this} chromosome. The values are converted the same way as
+	 * {@link NumericGene#newInstance(Number)} does for {@link Double} values.
+	 *
+	 * @param values the new allele values
+	 * @return a new chromosome with the given values
+	 * @throws IllegalArgumentException if the length of the given
+	 *         {@code values} is not within the length range of {@code this}
+	 *         chromosome
+	 */
+	ArrayChromosome<N, G> newInstance(final double[] values);
+
+	/**
+	 * Return {@code true} if the allele at the given {@code index} is valid,
+	 * the same way as {@link Gene#isValid()} for the gene at this index.
+	 *
+	 * @param index the allele index
+	 * @return {@code true} if the allele is valid, {@code false} otherwise
+	 */
+	boolean isValid(final int index);
+
+	/**
+	 * Return the element-wise mean of {@code this} and the {@code other}
+	 * chromosome, the same way as the {@link io.jenetics.util.Mean#mean(Object)}
+	 * method of the gene does. The returned chromosome has the length and
+	 * bounds of {@code this} chromosome.
+	 *
+	 * @param other the other chromosome, with at least the length of
+	 *        {@code this} chromosome
+	 * @return the mean chromosome
+	 */
+	ArrayChromosome<N, G> mean(final ArrayChromosome<N, G> other);
+
+}
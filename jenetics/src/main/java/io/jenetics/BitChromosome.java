@@ -40,6 +40,7 @@ import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.collection.BitArray;
+import io.jenetics.internal.util.MurmurHash64;
 import io.jenetics.util.ISeq;
 
 /**
@@ -60,7 +61,7 @@ import io.jenetics.util.ISeq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 7.0
+ * @version 9.0
  */
 public final class BitChromosome extends Number
 	implements
@@ -84,6 +85,9 @@ public final class BitChromosome extends Number
 	 */
 	private final double _p;
 
+	// Caching the hash code. Zero means not calculated yet.
+	private transient int _hash = 0;
+
 	// Private primary constructor.
 	private BitChromosome(final BitArray genes, final double p) {
 		_genes = requireNonNull(genes);
@@ -463,7 +467,18 @@ public final class BitChromosome extends Number
 
 	@Override
 	public int hashCode() {
-		return _genes.hashCode();
+		int hash = _hash;
+		if (hash == 0) {
+			hash = Long.hashCode(hash(new MurmurHash64().update(length())).digest());
+			_hash = hash;
+		}
+		return hash;
+	}
+
+	// Mixes the bits of this chromosome into the given hasher, without
+	// copying the bit array.
+	MurmurHash64 hash(final MurmurHash64 hasher) {
+		return _genes.hash(hasher);
 	}
 
 	@Override
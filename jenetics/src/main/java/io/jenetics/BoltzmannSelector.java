@@ -56,7 +56,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 9.0
  */
 public final class BoltzmannSelector<
 	G extends Gene<?, G>,
@@ -75,6 +75,22 @@ public final class BoltzmannSelector<
 	 * @param b the <i>b</i> value of this BoltzmannSelector
 	 */
 	public BoltzmannSelector(final double b) {
+		this(b, Sampling.CDF);
+	}
+
+	/**
+	 * Create a new BoltzmannSelector with the given <i>b</i> value and
+	 * sampling strategy.
+	 *
+	 * @since 9.0
+	 *
+	 * @param b the <i>b</i> value of this BoltzmannSelector
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the given {@code sampling} is
+	 *         {@code null}
+	 */
+	public BoltzmannSelector(final double b, final Sampling sampling) {
+		super(false, sampling);
 		_b = b;
 	}
 
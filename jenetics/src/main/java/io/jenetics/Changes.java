@@ -0,0 +1,211 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.Supplier;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Records the positions of the changed genes of the altered individuals.
+ * The recorder is bound to the current thread, while the alterers are
+ * executed, and the alterers, which know the genes they are
+ * changing, are adding them to the bound recorder. Every alterer finishes
+ * its recording by storing the parent and child individuals of the recorded
+ * changes. The changes of an individual are only used, if the parent and
+ * child are the same objects as the ones of the outermost alteration. This
+ * way, changes recorded by alterers, which are wrapped or overridden by
+ * other alterers, are never used for the wrong individuals.
+ * <p>
+ * An alterer can record the changes of different individuals concurrently,
+ * since every individual is recorded by one task only.
+ *
+ * @see Provenance.Alteration
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+final class Changes {
+
+	private static final ScopedValue<Changes> RECORDER =
+		ScopedValue.newInstance();
+
+	private final List<Provenance.Change>[] _changes;
+	private final boolean[] _unknown;
+	private final Object[] _parents;
+	private final Object[] _children;
+
+	@SuppressWarnings("unchecked")
+	Changes(final int size) {
+		_changes = new List[size];
+		_unknown = new boolean[size];
+		_parents = new Object[size];
+		_children = new Object[size];
+	}
+
+	/**
+	 * Return the recorder of the currently executed alteration.
+	 *
+	 * @return the current recorder, or {@code null} if no changes are
+	 *         recorded
+	 */
+	static Changes recorder() {
+		return RECORDER.orElse(null);
+	}
+
+	/**
+	 * Executes the given {@code alteration} with the given recorder.
+	 *
+	 * @param recorder the recorder of the alteration, or {@code null} if no
+	 *        changes are recorded
+	 * @param alteration the alteration to execute
+	 * @param <T> the result type
+	 * @return the result of the alteration
+	 */
+	static <T> T record(
+		final Changes recorder,
+		final Supplier<? extends T> alteration
+	) {
+		return ScopedValue.where(RECORDER, recorder).call(alteration::get);
+	}
+
+	void add(final int individual, final int chromosome, final int gene) {
+		if (individual < _changes.length) {
+			if (_changes[individual] == null) {
+				_changes[individual] = new ArrayList<>();
+			}
+			_changes[individual].add(new Provenance.Change(chromosome, gene));
+		}
+	}
+
+	void unknown(final int individual) {
+		if (individual < _unknown.length) {
+			_unknown[individual] = true;
+		}
+	}
+
+	/**
+	 * Adds the changes, recorded by one step or one chunk of an alteration,
+	 * to this recorder.
+	 *
+	 * @param offset the index of the first individual of the step
+	 * @param step the changes recorded by the alteration step
+	 * @param parents the individuals before the alteration step
+	 * @param children the individuals after the alteration step
+	 */
+	void add(
+		final int offset,
+		final Changes step,
+		final Seq<? extends Phenotype<?, ?>> parents,
+		final Seq<? extends Phenotype<?, ?>> children
+	) {
+		for (int i = 0; i < parents.size(); ++i) {
+			final var changes = step.get(i, parents, children);
+			if (changes.isPresent()) {
+				for (var change : changes.get()) {
+					add(offset + i, change.chromosome(), change.gene());
+				}
+			} else {
+				unknown(offset + i);
+			}
+		}
+	}
+
+	/**
+	 * Finishes the recording of the individuals, starting with the given
+	 * {@code offset}.
+	 *
+	 * @param offset the index of the first recorded individual
+	 * @param parents the individuals before the alteration
+	 * @param children the individuals after the alteration
+	 */
+	void recorded(
+		final int offset,
+		final Seq<? extends Phenotype<?, ?>> parents,
+		final Seq<? extends Phenotype<?, ?>> children
+	) {
+		final int size = Math.min(parents.size(), children.size());
+		for (int i = 0; i < size && offset + i < _parents.length; ++i) {
+			_parents[offset + i] = parents.get(i);
+			_children[offset + i] = children.get(i);
+		}
+	}
+
+	/**
+	 * Return the changes of the individual with the given index.
+	 *
+	 * @param individual the index of the individual
+	 * @param parents the individuals before the alteration
+	 * @param children the individuals after the alteration
+	 * @return the changed gene positions, or an empty value if the changes
+	 *         of the individual are not known
+	 */
+	Optional<ISeq<Provenance.Change>> get(
+		final int individual,
+		final Seq<? extends Phenotype<?, ?>> parents,
+		final Seq<? extends Phenotype<?, ?>> children
+	) {
+		if (individual >= parents.size() || individual >= children.size()) {
+			return Optional.empty();
+		}
+
+		final Object parent = parents.get(individual);
+		final Object child = children.get(individual);
+		if (parent == child) {
+			return Optional.of(ISeq.empty());
+		}
+		if (individual >= _changes.length ||
+			_unknown[individual] ||
+			_parents[individual] != parent ||
+			_children[individual] != child)
+		{
+			return Optional.empty();
+		}
+
+		final var changes = _changes[individual];
+		return Optional.of(changes != null ? ISeq.of(changes) : ISeq.empty());
+	}
+
+	/**
+	 * Return the changes of all {@code children}.
+	 *
+	 * @param parents the individuals before the alteration
+	 * @param children the individuals after the alteration
+	 * @return the changed gene positions of every child
+	 */
+	ISeq<Optional<ISeq<Provenance.Change>>> get(
+		final Seq<? extends Phenotype<?, ?>> parents,
+		final Seq<? extends Phenotype<?, ?>> children
+	) {
+		final var result =
+			MSeq.<Optional<ISeq<Provenance.Change>>>ofLength(children.size());
+		for (int i = 0; i < result.size(); ++i) {
+			result.set(i, get(i, parents, children));
+		}
+		return result.toISeq();
+	}
+
+}
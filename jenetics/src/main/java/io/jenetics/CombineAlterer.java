@@ -39,7 +39,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 6.0
- * @version 6.0
+ * @version 9.0
  */
 public class CombineAlterer<
 	G extends Gene<?, G>,
@@ -104,16 +104,30 @@ public class CombineAlterer<
 			.nextInt(min(gt1.length(), gt2.length()));
 
 		final MSeq<Chromosome<G>> c1 = MSeq.of(gt1);
-
-		// Calculate the mean value of the gene array.
-		final MSeq<G> mean = combine(c1.get(ci), gt2.get(ci), _combiner);
-
-		c1.set(ci, c1.get(ci).newInstance(mean.toISeq()));
+		c1.set(ci, combine(c1.get(ci), gt2.get(ci)));
 		population.set(individuals[0], Phenotype.of(Genotype.of(c1), generation));
 
 		return 1;
 	}
 
+	/**
+	 * Combines the genes of the given chromosomes with the
+	 * {@link #combiner()} function. The returned chromosome has the length
+	 * of {@code that} chromosome.
+	 *
+	 * @since 9.0
+	 *
+	 * @param that the first chromosome
+	 * @param other the second chromosome
+	 * @return the combined chromosome
+	 */
+	protected Chromosome<G> combine(
+		final Chromosome<G> that,
+		final Chromosome<G> other
+	) {
+		return that.newInstance(combine(that, other, _combiner).toISeq());
+	}
+
 	private static <G extends Gene<?, G>>
 	MSeq<G> combine(
 		final BaseSeq<G> a,
@@ -20,8 +20,11 @@
 package io.jenetics;
 
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.util.ISeq.toISeq;
 
+import java.util.concurrent.Executor;
+import java.util.function.BiFunction;
 import java.util.function.Function;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
@@ -34,7 +37,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 9.0
  */
 final class CompositeAlterer<
 	G extends Gene<?, G>,
@@ -73,12 +76,39 @@ final class CompositeAlterer<
 		final Seq<Phenotype<G, C>> population,
 		final long generation
 	) {
+		return alter(population, (a, pop) -> a.alter(pop, generation));
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return alter(population, (a, pop) -> a.alter(pop, generation, executor));
+	}
+
+	private AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final BiFunction<
+			? super Alterer<G, C>,
+			? super Seq<Phenotype<G, C>>,
+			AltererResult<G, C>> alter
+	) {
+		final Changes changes = Changes.recorder();
+
 		AltererResult<G, C> result = new AltererResult<>(population.asISeq());
 		for (var alterer : _alterers) {
-			final AltererResult<G, C> as = alterer.alter(
-				result.population(),
-				generation
-			);
+			final var before = result.population();
+
+			// Every alterer records its changes relative to its own input.
+			final var step = changes != null ? new Changes(before.size()) : null;
+			final AltererResult<G, C> as =
+				Changes.record(step, () -> alter.apply(alterer, before));
+			if (changes != null) {
+				changes.add(0, step, before, as.population());
+			}
 
 			result = new AltererResult<>(
 				as.population(),
@@ -86,6 +116,9 @@ final class CompositeAlterer<
 			);
 		}
 
+		if (changes != null) {
+			changes.recorded(0, population, result.population());
+		}
 		return result;
 	}
 
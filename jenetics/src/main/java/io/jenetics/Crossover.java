@@ -40,7 +40,7 @@ import io.jenetics.util.RandomRegistry;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 9.0
  */
 public abstract class Crossover<
 	G extends Gene<?, G>,
@@ -60,11 +60,38 @@ public abstract class Crossover<
 		super(probability, 2);
 	}
 
+	/**
+	 * Constructs an alterer with a given recombination probability and
+	 * chunk size.
+	 *
+	 * @since 9.0
+	 *
+	 * @param probability the recombination probability
+	 * @param chunkSize the maximal number of recombinations, which are
+	 *        performed by one concurrent task
+	 * @throws IllegalArgumentException if the {@code probability} is not in
+	 *         the valid range of {@code [0, 1]} or the {@code chunkSize} is
+	 *         smaller than one.
+	 */
+	protected Crossover(final double probability, final int chunkSize) {
+		super(probability, 2, chunkSize);
+	}
+
 	@Override
 	protected final int recombine(
 		final MSeq<Phenotype<G, C>> population,
 		final int[] individuals,
 		final long generation
+	) {
+		return recombine(population, individuals, generation, null);
+	}
+
+	@Override
+	final int recombine(
+		final MSeq<Phenotype<G, C>> population,
+		final int[] individuals,
+		final long generation,
+		final Changes changes
 	) {
 		assert individuals.length == 2 : "Required order of 2";
 
@@ -79,13 +106,12 @@ public abstract class Crossover<
 
 		final var c1 = MSeq.of(gt1);
 		final var c2 = MSeq.of(gt2);
-		final var genes1 = MSeq.of(c1.get(chIndex));
-		final var genes2 = MSeq.of(c2.get(chIndex));
-
-		crossover(genes1, genes2);
+		crossoverChromosomes(c1, c2, chIndex);
 
-		c1.set(chIndex, c1.get(chIndex).newInstance(genes1.toISeq()));
-		c2.set(chIndex, c2.get(chIndex).newInstance(genes2.toISeq()));
+		if (changes != null) {
+			record(changes, individuals[0], chIndex, gt1.get(chIndex), c1.get(chIndex));
+			record(changes, individuals[1], chIndex, gt2.get(chIndex), c2.get(chIndex));
+		}
 
 		//Creating two new Phenotypes and exchanging them with the old.
 		population.set(
@@ -100,6 +126,47 @@ public abstract class Crossover<
 		return order();
 	}
 
+	// Records the changed genes of the crossed chromosome. Genes, which are
+	// the same object as before the crossover, are not changed.
+	private static <G extends Gene<?, G>> void record(
+		final Changes changes,
+		final int individual,
+		final int index,
+		final Chromosome<G> before,
+		final Chromosome<G> after
+	) {
+		if (before.length() != after.length()) {
+			changes.unknown(individual);
+		} else if (before != after) {
+			for (int i = 0; i < before.length(); ++i) {
+				final G a = before.get(i);
+				final G b = after.get(i);
+				if (a != b && !a.equals(b)) {
+					changes.add(individual, index, i);
+				}
+			}
+		}
+	}
+
+	// Performs the crossover of the chromosomes with the given index. The
+	// numeric crossovers are overriding this method, for working directly
+	// on the allele arrays of an `ArrayChromosome`. They take the array path
+	// only for their exact class, since a subclass might override the gene
+	// level `crossover` method, which must then be used instead.
+	void crossoverChromosomes(
+		final MSeq<Chromosome<G>> c1,
+		final MSeq<Chromosome<G>> c2,
+		final int index
+	) {
+		final var genes1 = MSeq.of(c1.get(index));
+		final var genes2 = MSeq.of(c2.get(index));
+
+		crossover(genes1, genes2);
+
+		c1.set(index, c1.get(index).newInstance(genes1.toISeq()));
+		c2.set(index, c2.get(index).newInstance(genes2.toISeq()));
+	}
+
 	/**
 	 * Template method which performs the crossover. The arguments given are
 	 * mutable non-null arrays of the same length.
@@ -24,6 +24,9 @@ import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+import java.util.function.IntFunction;
+
 import io.jenetics.internal.util.Requires;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
@@ -47,7 +50,7 @@ import io.jenetics.util.Seq;
  * }
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 9.0
  * @since 4.0
  */
 public class EliteSelector<
@@ -124,6 +127,36 @@ public class EliteSelector<
 		final Seq<Phenotype<G, C>> population,
 		final int count,
 		final Optimize opt
+	) {
+		return selectWith(
+			population,
+			count,
+			opt,
+			n -> _nonEliteSelector.select(population, n, opt)
+		);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return selectWith(
+			population,
+			count,
+			opt,
+			n -> _nonEliteSelector.select(population, n, opt, executor)
+		);
+	}
+
+	private ISeq<Phenotype<G, C>> selectWith(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final IntFunction<ISeq<Phenotype<G, C>>> nonElite
 	) {
 		if (count < 0) {
 			throw new IllegalArgumentException(format(
@@ -139,7 +172,7 @@ public class EliteSelector<
 			final int ec = min(count, _eliteCount);
 			result = ELITE_SELECTOR.select(population, ec, opt);
 			result = result.append(
-				_nonEliteSelector.select(population, max(0, count - ec), opt)
+				nonElite.apply(max(0, count - ec))
 			);
 		}
 
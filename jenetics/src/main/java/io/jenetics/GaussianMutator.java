@@ -38,7 +38,7 @@ import io.jenetics.util.DoubleRange;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 8.3
+ * @version 9.0
  */
 public class GaussianMutator<
 	G extends NumericGene<?, G>,
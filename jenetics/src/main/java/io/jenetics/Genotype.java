@@ -19,7 +19,6 @@
  */
 package io.jenetics;
 
-import static io.jenetics.internal.util.Hashes.hash;
 import static io.jenetics.internal.util.SerialIO.readInt;
 import static io.jenetics.internal.util.SerialIO.writeInt;
 
@@ -32,6 +31,7 @@ import java.io.Serial;
 import java.io.Serializable;
 import java.util.Objects;
 
+import io.jenetics.internal.util.MurmurHash64;
 import io.jenetics.util.BaseSeq;
 import io.jenetics.util.Factory;
 import io.jenetics.util.ISeq;
@@ -69,7 +69,7 @@ import io.jenetics.util.Verifiable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 7.2
+ * @version 9.0
  */
 public final class Genotype<G extends Gene<?, G>>
 	implements
@@ -86,6 +86,9 @@ public final class Genotype<G extends Gene<?, G>>
 	//Caching isValid value.
 	private byte _valid = -1;
 
+	//Caching the fingerprint value. Zero means not calculated yet.
+	private volatile long _fingerprint = 0;
+
 	/**
 	 * Create a new Genotype from a given sequence of {@code Chromosomes}.
 	 *
@@ -220,9 +223,91 @@ public final class Genotype<G extends Gene<?, G>>
 		return new Genotype<>(_chromosomes.map(Factory::newInstance));
 	}
 
+	/**
+	 * Return a 64-bit structural fingerprint of this genotype. The fingerprint
+	 * is calculated from the lengths of the chromosomes and the allele values
+	 * of its genes. Since genotypes are immutable, the value is calculated
+	 * only once and cached. Equal genotypes have the same fingerprint, and
+	 * the probability that two different genotypes share the same fingerprint
+	 * is very small. This makes the fingerprint a cheap, compact key for
+	 * uniqueness tests, fitness caches or diversity measures.
+	 * {@snippet lang="java":
+	 * final Set<Long> unique = population.stream()
+	 *     .map(pt -> pt.genotype().fingerprint())
+	 *     .collect(Collectors.toSet());
+	 * }
+	 *
+	 * @implNote
+	 * The primitive chromosome types, like {@link DoubleArrayChromosome} or
+	 * {@link BitChromosome}, are hashed without boxing their allele values.
+	 * For all other gene types, the {@link Gene#hashCode()} is used. The
+	 * fingerprint is also used for calculating the {@link #hashCode()} of the
+	 * genotype.
+	 *
+	 * @since 9.0
+	 *
+	 * @return the 64-bit fingerprint of this genotype
+	 */
+	public long fingerprint() {
+		long fingerprint = _fingerprint;
+		if (fingerprint == 0) {
+			final var hasher = new MurmurHash64().update(_chromosomes.length());
+			for (Chromosome<G> chromosome : _chromosomes) {
+				update(hasher, chromosome);
+			}
+			fingerprint = hasher.digest();
+			_fingerprint = fingerprint;
+		}
+
+		return fingerprint;
+	}
+
+	private static void update(
+		final MurmurHash64 hasher,
+		final Chromosome<?> chromosome
+	) {
+		hasher.update(chromosome.length());
+
+		switch (chromosome) {
+			case DoubleArrayChromosome ch -> {
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					hasher.update(ch.doubleValue(i));
+				}
+			}
+			case IntegerArrayChromosome ch -> {
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					hasher.update(ch.intValue(i));
+				}
+			}
+			case LongArrayChromosome ch -> {
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					hasher.update(ch.longValue(i));
+				}
+			}
+			case BitChromosome ch -> ch.hash(hasher);
+			default -> {
+				for (int i = 0, n = chromosome.length(); i < n; ++i) {
+					update(hasher, chromosome.get(i));
+				}
+			}
+		}
+	}
+
+	private static void update(final MurmurHash64 hasher, final Gene<?, ?> gene) {
+		switch (gene) {
+			case DoubleGene g -> hasher.update(g.doubleValue());
+			case IntegerGene g -> hasher.update(g.intValue());
+			case LongGene g -> hasher.update(g.longValue());
+			case BitGene g -> hasher.update(g.bit() ? 1 : 0);
+			case CharacterGene g -> hasher.update(g.charValue());
+			case EnumGene<?> g -> hasher.update(g.alleleIndex());
+			default -> hasher.update(gene.hashCode());
+		}
+	}
+
 	@Override
 	public int hashCode() {
-		return hash(_chromosomes);
+		return Long.hashCode(fingerprint());
 	}
 
 	@Override
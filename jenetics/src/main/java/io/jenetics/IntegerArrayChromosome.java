@@ -0,0 +1,512 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Hashes.hash;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.util.RandomRegistry.random;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.IntBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * Numeric chromosome implementation, which stores its alleles in one
+ * {@code int[]} array. In contrast to the {@link IntegerChromosome},
+ * the gene objects are only created on demand, when accessed via the
+ * {@link #get(int)} method. All genes share the same bounds.
+ * <p>
+ * Fitness functions can access the alleles without copying them, via the
+ * read-only {@link #buffer()} view. The {@link GaussianMutator},
+ * {@link MeanAlterer}, {@link IntermediateCrossover} and
+ * {@link LineCrossover} are working directly on the allele arrays of this
+ * chromosome.
+ *
+ * {@snippet lang="java":
+ * final Genotype<IntegerGene> gtf =
+ *     Genotype.of(IntegerArrayChromosome.of(-5, 5, 10_000));
+ *
+ * final Function<Genotype<IntegerGene>, Double> fitness = gt -> {
+ *     final IntBuffer x = gt.chromosome()
+ *         .as(IntegerArrayChromosome.class)
+ *         .buffer();
+ *
+ *     double sum = 0;
+ *     for (int i = 0; i < x.limit(); ++i) {
+ *         sum += x.get(i)*x.get(i);
+ *     }
+ *     return sum;
+ * };
+ * }
+ *
+ * @see IntegerChromosome
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class IntegerArrayChromosome
+	implements ArrayChromosome<Integer, IntegerGene>, Serializable
+{
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final int[] _values;
+	private final int _min;
+	private final int _max;
+	private final IntRange _lengthRange;
+
+	// Caching the hash code. Zero means not calculated yet.
+	private transient int _hash = 0;
+
+	private IntegerArrayChromosome(
+		final int[] values,
+		final int min,
+		final int max,
+		final IntRange lengthRange
+	) {
+		if (values.length == 0) {
+			throw new IllegalArgumentException(
+				"The genes sequence must contain at least one gene."
+			);
+		}
+
+		_values = values;
+		_min = min;
+		_max = max;
+		_lengthRange = VariableChromosome
+			.checkLengthRange(lengthRange, values.length);
+	}
+
+	@Override
+	public IntegerGene get(final int index) {
+		return IntegerGene.of(_values[index], _min, _max);
+	}
+
+	@Override
+	public int length() {
+		return _values.length;
+	}
+
+	@Override
+	public Integer min() {
+		return _min;
+	}
+
+	@Override
+	public Integer max() {
+		return _max;
+	}
+
+	/**
+	 * Return the allowed length range of the chromosome.
+	 *
+	 * @return the allowed length range of the chromosome
+	 */
+	public IntRange lengthRange() {
+		return _lengthRange;
+	}
+
+	@Override
+	public boolean isValid() {
+		for (int i = 0; i < _values.length; ++i) {
+			if (!isValid(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isValid(final int index) {
+		final int value = _values[index];
+		return value >= _min && value < _max;
+	}
+
+	@Override
+	public byte byteValue(final int index) {
+		return (byte)_values[index];
+	}
+
+	@Override
+	public short shortValue(final int index) {
+		return (short)_values[index];
+	}
+
+	@Override
+	public int intValue(final int index) {
+		return _values[index];
+	}
+
+	@Override
+	public long longValue(final int index) {
+		return (long)_values[index];
+	}
+
+	@Override
+	public float floatValue(final int index) {
+		return (float)_values[index];
+	}
+
+	@Override
+	public double doubleValue(final int index) {
+		return _values[index];
+	}
+
+	@Override
+	public IntegerArrayChromosome newInstance(final ISeq<IntegerGene> genes) {
+		final int[] values = new int[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = genes.get(i).intValue();
+		}
+		return new IntegerArrayChromosome(values, _min, _max, _lengthRange);
+	}
+
+	@Override
+	public IntegerArrayChromosome newInstance() {
+		return of(_min, _max, _lengthRange);
+	}
+
+	/**
+	 * Create a new chromosome with the given {@code values} and the bounds
+	 * of {@code this} chromosome. The given array is copied.
+	 *
+	 * @param values the allele values of the new chromosome
+	 * @return a new chromosome with the given values
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the length of the given
+	 *         {@code values} is not within the allowed length range
+	 */
+	public IntegerArrayChromosome newInstance(final int[] values) {
+		return new IntegerArrayChromosome(
+			values.clone(),
+			_min,
+			_max,
+			_lengthRange
+		);
+	}
+
+	/**
+	 * Create a new chromosome with the given {@code values} and the bounds
+	 * of {@code this} chromosome. The values are rounded to the nearest
+	 * {@code int} value.
+	 *
+	 * @param values the allele values of the new chromosome
+	 * @return a new chromosome with the given values
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the length of the given
+	 *         {@code values} is not within the allowed length range
+	 */
+	@Override
+	public IntegerArrayChromosome newInstance(final double[] values) {
+		final int[] rounded = new int[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			rounded[i] = (int)Math.round(values[i]);
+		}
+		return new IntegerArrayChromosome(rounded, _min, _max, _lengthRange);
+	}
+
+	@Override
+	public IntegerArrayChromosome
+	mean(final ArrayChromosome<Integer, IntegerGene> other) {
+		final int[] values = new int[_values.length];
+		for (int i = 0; i < values.length; ++i) {
+			final int x = other.intValue(i);
+			final int y = _values[i];
+
+			// http://aggregate.org/MAGIC/#Average%20of%20Integers
+			values[i] = (x&y) + ((x^y) >> 1);
+		}
+		return new IntegerArrayChromosome(values, _min, _max, _lengthRange);
+	}
+
+	/**
+	 * Maps the allele values of {@code this} chromosome with the given
+	 * mapper function.
+	 *
+	 * @param f the mapper function
+	 * @return a newly created chromosome with the mapped allele values
+	 * @throws NullPointerException if the mapper function is {@code null}
+	 * @throws IllegalArgumentException if the length of the mapped
+	 *         {@code int[]} array is not within the allowed length range
+	 */
+	public IntegerArrayChromosome map(final Function<? super int[], int[]> f) {
+		requireNonNull(f);
+		return newInstance(f.apply(toArray()));
+	}
+
+	/**
+	 * Returns a sequential stream of the allele values of {@code this}
+	 * chromosome. The allele array is not copied.
+	 *
+	 * @return a {@link IntStream} of the allele values
+	 */
+	public IntStream intStream() {
+		return Arrays.stream(_values);
+	}
+
+	/**
+	 * Return a read-only view of the allele values. The allele array is not
+	 * copied.
+	 *
+	 * @return a read-only buffer view of the allele values
+	 */
+	public IntBuffer buffer() {
+		return IntBuffer.wrap(_values).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns a {@code int[]} array containing all the allele values of
+	 * this chromosome. If the given {@code array} is large enough, the
+	 * values are copied into it. Otherwise, a new array is created.
+	 *
+	 * @param array the array into which the allele values are to be stored,
+	 *        if it is big enough
+	 * @return an array containing the allele values of this chromosome
+	 * @throws NullPointerException if the given {@code array} is {@code null}
+	 */
+	public int[] toArray(final int[] array) {
+		final int[] a = array.length >= length()
+			? array
+			: new int[length()];
+
+		System.arraycopy(_values, 0, a, 0, _values.length);
+		return a;
+	}
+
+	/**
+	 * Returns a {@code int[]} array containing all the allele values of
+	 * this chromosome.
+	 *
+	 * @return an array containing the allele values of this chromosome
+	 */
+	public int[] toArray() {
+		return _values.clone();
+	}
+
+	@Override
+	public double[] toDoubleArray() {
+		final double[] values = new double[_values.length];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = _values[i];
+		}
+		return values;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = _hash;
+		if (hash == 0) {
+			hash =
+				hash(_values,
+				hash(_min,
+				hash(_max,
+				hash(getClass()))));
+			_hash = hash;
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof IntegerArrayChromosome other &&
+			_min == other._min &&
+			_max == other._max &&
+			Arrays.equals(_values, other._values);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.stream(_values)
+			.mapToObj(String::valueOf)
+			.collect(Collectors.joining(",", "[", "]"));
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new chromosome with the given allele {@code values} and
+	 * {@code range}. The given array is copied.
+	 *
+	 * @param range the allowed value range of the alleles
+	 * @param values the allele values
+	 * @return a new chromosome with the given values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code values} array is
+	 *         empty
+	 */
+	public static IntegerArrayChromosome of(
+		final IntRange range,
+		final int[] values
+	) {
+		return new IntegerArrayChromosome(
+			values.clone(),
+			range.min(),
+			range.max(),
+			new IntRange(values.length)
+		);
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param min the min value of the alleles (inclusively)
+	 * @param max the max value of the alleles (exclusively)
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new random chromosome
+	 * @throws NullPointerException if the {@code lengthRange} is {@code null}
+	 * @throws IllegalArgumentException if the length range is empty or not
+	 *         positive
+	 */
+	public static IntegerArrayChromosome of(
+		final int min,
+		final int max,
+		final IntRange lengthRange
+	) {
+		final var random = random();
+		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
+
+		final int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextInt(min, max);
+		}
+
+		return new IntegerArrayChromosome(values, min, max, lengthRange);
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param min the min value of the alleles (inclusively)
+	 * @param max the max value of the alleles (exclusively)
+	 * @param length the length of the chromosome
+	 * @return a new random chromosome
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	public static IntegerArrayChromosome of(
+		final int min,
+		final int max,
+		final int length
+	) {
+		return of(min, max, new IntRange(length));
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param range the allowed value range of the alleles
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new random chromosome
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length range is empty or not
+	 *         positive
+	 */
+	public static IntegerArrayChromosome of(
+		final IntRange range,
+		final IntRange lengthRange
+	) {
+		return of(range.min(), range.max(), lengthRange);
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param range the allowed value range of the alleles
+	 * @param length the length of the chromosome
+	 * @return a new random chromosome
+	 * @throws NullPointerException if the {@code range} is {@code null}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	public static IntegerArrayChromosome of(
+		final IntRange range,
+		final int length
+	) {
+		return of(range.min(), range.max(), length);
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	@Serial
+	private Object writeReplace() {
+		return new SerialProxy(SerialProxy.INTEGER_ARRAY_CHROMOSOME, this);
+	}
+
+	@Serial
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	void write(final DataOutput out) throws IOException {
+		writeInt(length(), out);
+		writeInt(_lengthRange.min(), out);
+		writeInt(_lengthRange.max(), out);
+		writeInt(_min, out);
+		writeInt(_max, out);
+
+		for (int value : _values) {
+			writeInt(value, out);
+		}
+	}
+
+	static IntegerArrayChromosome read(final DataInput in) throws IOException {
+		final var length = readInt(in);
+		final var lengthRange = new IntRange(readInt(in), readInt(in));
+		final var min = readInt(in);
+		final var max = readInt(in);
+
+		final int[] values = new int[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = readInt(in);
+		}
+
+		return new IntegerArrayChromosome(values, min, max, lengthRange);
+	}
+
+}
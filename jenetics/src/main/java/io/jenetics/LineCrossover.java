@@ -44,7 +44,7 @@ import io.jenetics.util.RandomRegistry;
  * @see IntermediateCrossover
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 3.8
+ * @version 9.0
  * @since 3.8
  */
 public class LineCrossover<
@@ -98,6 +98,52 @@ public class LineCrossover<
 		this(DEFAULT_ALTER_PROBABILITY, 0);
 	}
 
+	@Override
+	void crossoverChromosomes(
+		final MSeq<Chromosome<G>> c1,
+		final MSeq<Chromosome<G>> c2,
+		final int index
+	) {
+		// Exact class check, see Crossover#crossoverChromosomes.
+		if (getClass() == LineCrossover.class &&
+			c1.get(index) instanceof ArrayChromosome<?, ?> v &&
+			c2.get(index) instanceof ArrayChromosome<?, ?> w)
+		{
+			final var random = RandomRegistry.random();
+
+			final double min = v.min().doubleValue();
+			final double max = v.max().doubleValue();
+			final double[] vs = v.toDoubleArray();
+			final double[] ws = w.toDoubleArray();
+
+			final double a = random.nextDouble(-_p, 1 + _p);
+			final double b = random.nextDouble(-_p, 1 + _p);
+
+			for (int i = 0, n = min(vs.length, ws.length); i < n; ++i) {
+				final double vi = vs[i];
+				final double wi = ws[i];
+
+				final double t = a*vi + (1 - a)*wi;
+				final double s = b*wi + (1 - b)*vi;
+
+				if (t >= min && s >= min && t < max && s < max) {
+					vs[i] = t;
+					ws[i] = s;
+				}
+			}
+
+			c1.set(index, cast(v.newInstance(vs)));
+			c2.set(index, cast(w.newInstance(ws)));
+		} else {
+			super.crossoverChromosomes(c1, c2, index);
+		}
+	}
+
+	@SuppressWarnings("unchecked")
+	private Chromosome<G> cast(final Chromosome<?> chromosome) {
+		return (Chromosome<G>)chromosome;
+	}
+
 	@Override
 	protected int crossover(final MSeq<G> v, final MSeq<G> w) {
 		final var random = RandomRegistry.random();
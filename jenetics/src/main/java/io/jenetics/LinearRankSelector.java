@@ -55,7 +55,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 9.0
  */
 public final class LinearRankSelector<
 	G extends Gene<?, G>,
@@ -67,14 +67,20 @@ public final class LinearRankSelector<
 	private final double _nplus;
 
 	/**
-	 * Create a new LinearRankSelector with the given values for {@code nminus}.
+	 * Create a new LinearRankSelector with the given values for {@code nminus}
+	 * and sampling strategy.
+	 *
+	 * @since 9.0
 	 *
 	 * @param nminus {@code nminus/N} is the probability of the worst phenotype
 	 *         to be selected.
+	 * @param sampling the strategy used for drawing the individuals
 	 * @throws IllegalArgumentException if {@code nminus < 0}.
+	 * @throws NullPointerException if the given {@code sampling} is
+	 *         {@code null}
 	 */
-	public LinearRankSelector(final double nminus) {
-		super(true);
+	public LinearRankSelector(final double nminus, final Sampling sampling) {
+		super(true, sampling);
 
 		if (nminus < 0) {
 			throw new IllegalArgumentException(format(
@@ -86,6 +92,17 @@ public final class LinearRankSelector<
 		_nplus = 2 - _nminus;
 	}
 
+	/**
+	 * Create a new LinearRankSelector with the given values for {@code nminus}.
+	 *
+	 * @param nminus {@code nminus/N} is the probability of the worst phenotype
+	 *         to be selected.
+	 * @throws IllegalArgumentException if {@code nminus < 0}.
+	 */
+	public LinearRankSelector(final double nminus) {
+		this(nminus, Sampling.CDF);
+	}
+
 	/**
 	 * Create a new LinearRankSelector with {@code nminus := 0.5}.
 	 */
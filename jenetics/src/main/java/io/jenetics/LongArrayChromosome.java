@@ -0,0 +1,519 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.Hashes.hash;
+import static io.jenetics.internal.util.SerialIO.readInt;
+import static io.jenetics.internal.util.SerialIO.readLong;
+import static io.jenetics.internal.util.SerialIO.writeInt;
+import static io.jenetics.internal.util.SerialIO.writeLong;
+import static io.jenetics.util.RandomRegistry.random;
+
+import java.io.DataInput;
+import java.io.DataOutput;
+import java.io.IOException;
+import java.io.InvalidObjectException;
+import java.io.ObjectInputStream;
+import java.io.Serial;
+import java.io.Serializable;
+import java.nio.LongBuffer;
+import java.util.Arrays;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import java.util.stream.LongStream;
+
+import io.jenetics.util.LongRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * Numeric chromosome implementation, which stores its alleles in one
+ * {@code long[]} array. In contrast to the {@link LongChromosome},
+ * the gene objects are only created on demand, when accessed via the
+ * {@link #get(int)} method. All genes share the same bounds.
+ * <p>
+ * Fitness functions can access the alleles without copying them, via the
+ * read-only {@link #buffer()} view. The {@link GaussianMutator},
+ * {@link MeanAlterer}, {@link IntermediateCrossover} and
+ * {@link LineCrossover} are working directly on the allele arrays of this
+ * chromosome.
+ *
+ * {@snippet lang="java":
+ * final Genotype<LongGene> gtf =
+ *     Genotype.of(LongArrayChromosome.of(-5, 5, 10_000));
+ *
+ * final Function<Genotype<LongGene>, Double> fitness = gt -> {
+ *     final LongBuffer x = gt.chromosome()
+ *         .as(LongArrayChromosome.class)
+ *         .buffer();
+ *
+ *     double sum = 0;
+ *     for (int i = 0; i < x.limit(); ++i) {
+ *         sum += x.get(i)*x.get(i);
+ *     }
+ *     return sum;
+ * };
+ * }
+ *
+ * @see LongChromosome
+ *
+ * @implNote
+ * This class is immutable and thread-safe.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class LongArrayChromosome
+	implements ArrayChromosome<Long, LongGene>, Serializable
+{
+
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	private final long[] _values;
+	private final long _min;
+	private final long _max;
+	private final IntRange _lengthRange;
+
+	// Caching the hash code. Zero means not calculated yet.
+	private transient int _hash = 0;
+
+	private LongArrayChromosome(
+		final long[] values,
+		final long min,
+		final long max,
+		final IntRange lengthRange
+	) {
+		if (values.length == 0) {
+			throw new IllegalArgumentException(
+				"The genes sequence must contain at least one gene."
+			);
+		}
+
+		_values = values;
+		_min = min;
+		_max = max;
+		_lengthRange = VariableChromosome
+			.checkLengthRange(lengthRange, values.length);
+	}
+
+	@Override
+	public LongGene get(final int index) {
+		return LongGene.of(_values[index], _min, _max);
+	}
+
+	@Override
+	public int length() {
+		return _values.length;
+	}
+
+	@Override
+	public Long min() {
+		return _min;
+	}
+
+	@Override
+	public Long max() {
+		return _max;
+	}
+
+	/**
+	 * Return the allowed length range of the chromosome.
+	 *
+	 * @return the allowed length range of the chromosome
+	 */
+	public IntRange lengthRange() {
+		return _lengthRange;
+	}
+
+	@Override
+	public boolean isValid() {
+		for (int i = 0; i < _values.length; ++i) {
+			if (!isValid(i)) {
+				return false;
+			}
+		}
+		return true;
+	}
+
+	@Override
+	public boolean isValid(final int index) {
+		final long value = _values[index];
+		return value >= _min && value < _max;
+	}
+
+	@Override
+	public byte byteValue(final int index) {
+		return (byte)_values[index];
+	}
+
+	@Override
+	public short shortValue(final int index) {
+		return (short)_values[index];
+	}
+
+	@Override
+	public int intValue(final int index) {
+		return (int)_values[index];
+	}
+
+	@Override
+	public long longValue(final int index) {
+		return _values[index];
+	}
+
+	@Override
+	public float floatValue(final int index) {
+		return (float)_values[index];
+	}
+
+	@Override
+	public double doubleValue(final int index) {
+		return _values[index];
+	}
+
+	@Override
+	public LongArrayChromosome newInstance(final ISeq<LongGene> genes) {
+		final long[] values = new long[genes.length()];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = genes.get(i).longValue();
+		}
+		return new LongArrayChromosome(values, _min, _max, _lengthRange);
+	}
+
+	@Override
+	public LongArrayChromosome newInstance() {
+		return of(_min, _max, _lengthRange);
+	}
+
+	/**
+	 * Create a new chromosome with the given {@code values} and the bounds
+	 * of {@code this} chromosome. The given array is copied.
+	 *
+	 * @param values the allele values of the new chromosome
+	 * @return a new chromosome with the given values
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the length of the given
+	 *         {@code values} is not within the allowed length range
+	 */
+	public LongArrayChromosome newInstance(final long[] values) {
+		return new LongArrayChromosome(
+			values.clone(),
+			_min,
+			_max,
+			_lengthRange
+		);
+	}
+
+	/**
+	 * Create a new chromosome with the given {@code values} and the bounds
+	 * of {@code this} chromosome. The values are rounded to the nearest
+	 * {@code long} value. Values, which are equal to the {@code double}
+	 * value of the current allele, are not changed. This preserves the
+	 * precision of big allele values.
+	 *
+	 * @param values the allele values of the new chromosome
+	 * @return a new chromosome with the given values
+	 * @throws NullPointerException if the given {@code values} are
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the length of the given
+	 *         {@code values} is not within the allowed length range
+	 */
+	@Override
+	public LongArrayChromosome newInstance(final double[] values) {
+		final long[] rounded = new long[values.length];
+		for (int i = 0; i < values.length; ++i) {
+			rounded[i] = values[i] == (double)_values[i]
+				? _values[i]
+				: Math.round(values[i]);
+		}
+		return new LongArrayChromosome(rounded, _min, _max, _lengthRange);
+	}
+
+	@Override
+	public LongArrayChromosome
+	mean(final ArrayChromosome<Long, LongGene> other) {
+		final long[] values = new long[_values.length];
+		for (int i = 0; i < values.length; ++i) {
+			final long x = other.longValue(i);
+			final long y = _values[i];
+
+			// http://aggregate.org/MAGIC/#Average%20of%20Integers
+			values[i] = (x&y) + ((x^y) >> 1);
+		}
+		return new LongArrayChromosome(values, _min, _max, _lengthRange);
+	}
+
+	/**
+	 * Maps the allele values of {@code this} chromosome with the given
+	 * mapper function.
+	 *
+	 * @param f the mapper function
+	 * @return a newly created chromosome with the mapped allele values
+	 * @throws NullPointerException if the mapper function is {@code null}
+	 * @throws IllegalArgumentException if the length of the mapped
+	 *         {@code long[]} array is not within the allowed length range
+	 */
+	public LongArrayChromosome map(final Function<? super long[], long[]> f) {
+		requireNonNull(f);
+		return newInstance(f.apply(toArray()));
+	}
+
+	/**
+	 * Returns a sequential stream of the allele values of {@code this}
+	 * chromosome. The allele array is not copied.
+	 *
+	 * @return a {@link LongStream} of the allele values
+	 */
+	public LongStream longStream() {
+		return Arrays.stream(_values);
+	}
+
+	/**
+	 * Return a read-only view of the allele values. The allele array is not
+	 * copied.
+	 *
+	 * @return a read-only buffer view of the allele values
+	 */
+	public LongBuffer buffer() {
+		return LongBuffer.wrap(_values).asReadOnlyBuffer();
+	}
+
+	/**
+	 * Returns a {@code long[]} array containing all the allele values of
+	 * this chromosome. If the given {@code array} is large enough, the
+	 * values are copied into it. Otherwise, a new array is created.
+	 *
+	 * @param array the array into which the allele values are to be stored,
+	 *        if it is big enough
+	 * @return an array containing the allele values of this chromosome
+	 * @throws NullPointerException if the given {@code array} is {@code null}
+	 */
+	public long[] toArray(final long[] array) {
+		final long[] a = array.length >= length()
+			? array
+			: new long[length()];
+
+		System.arraycopy(_values, 0, a, 0, _values.length);
+		return a;
+	}
+
+	/**
+	 * Returns a {@code long[]} array containing all the allele values of
+	 * this chromosome.
+	 *
+	 * @return an array containing the allele values of this chromosome
+	 */
+	public long[] toArray() {
+		return _values.clone();
+	}
+
+	@Override
+	public double[] toDoubleArray() {
+		final double[] values = new double[_values.length];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = _values[i];
+		}
+		return values;
+	}
+
+	@Override
+	public int hashCode() {
+		int hash = _hash;
+		if (hash == 0) {
+			hash =
+				hash(_values,
+				hash(_min,
+				hash(_max,
+				hash(getClass()))));
+			_hash = hash;
+		}
+		return hash;
+	}
+
+	@Override
+	public boolean equals(final Object obj) {
+		return obj instanceof LongArrayChromosome other &&
+			_min == other._min &&
+			_max == other._max &&
+			Arrays.equals(_values, other._values);
+	}
+
+	@Override
+	public String toString() {
+		return Arrays.stream(_values)
+			.mapToObj(String::valueOf)
+			.collect(Collectors.joining(",", "[", "]"));
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new chromosome with the given allele {@code values} and
+	 * {@code range}. The given array is copied.
+	 *
+	 * @param range the allowed value range of the alleles
+	 * @param values the allele values
+	 * @return a new chromosome with the given values
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code values} array is
+	 *         empty
+	 */
+	public static LongArrayChromosome of(
+		final LongRange range,
+		final long[] values
+	) {
+		return new LongArrayChromosome(
+			values.clone(),
+			range.min(),
+			range.max(),
+			new IntRange(values.length)
+		);
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param min the min value of the alleles (inclusively)
+	 * @param max the max value of the alleles (exclusively)
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new random chromosome
+	 * @throws NullPointerException if the {@code lengthRange} is {@code null}
+	 * @throws IllegalArgumentException if the length range is empty or not
+	 *         positive
+	 */
+	public static LongArrayChromosome of(
+		final long min,
+		final long max,
+		final IntRange lengthRange
+	) {
+		final var random = random();
+		final var length = random.nextInt(lengthRange.min(), lengthRange.max());
+
+		final long[] values = new long[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = random.nextLong(min, max);
+		}
+
+		return new LongArrayChromosome(values, min, max, lengthRange);
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param min the min value of the alleles (inclusively)
+	 * @param max the max value of the alleles (exclusively)
+	 * @param length the length of the chromosome
+	 * @return a new random chromosome
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	public static LongArrayChromosome of(
+		final long min,
+		final long max,
+		final int length
+	) {
+		return of(min, max, new IntRange(length));
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param range the allowed value range of the alleles
+	 * @param lengthRange the allowed length range of the chromosome
+	 * @return a new random chromosome
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the length range is empty or not
+	 *         positive
+	 */
+	public static LongArrayChromosome of(
+		final LongRange range,
+		final IntRange lengthRange
+	) {
+		return of(range.min(), range.max(), lengthRange);
+	}
+
+	/**
+	 * Create a new random chromosome.
+	 *
+	 * @param range the allowed value range of the alleles
+	 * @param length the length of the chromosome
+	 * @return a new random chromosome
+	 * @throws NullPointerException if the {@code range} is {@code null}
+	 * @throws IllegalArgumentException if the {@code length} is smaller than
+	 *         one
+	 */
+	public static LongArrayChromosome of(
+		final LongRange range,
+		final int length
+	) {
+		return of(range.min(), range.max(), length);
+	}
+
+
+	/* *************************************************************************
+	 *  Java object serialization
+	 * ************************************************************************/
+
+	@Serial
+	private Object writeReplace() {
+		return new SerialProxy(SerialProxy.LONG_ARRAY_CHROMOSOME, this);
+	}
+
+	@Serial
+	private void readObject(final ObjectInputStream stream)
+		throws InvalidObjectException
+	{
+		throw new InvalidObjectException("Serialization proxy required.");
+	}
+
+	void write(final DataOutput out) throws IOException {
+		writeInt(length(), out);
+		writeInt(_lengthRange.min(), out);
+		writeInt(_lengthRange.max(), out);
+		writeLong(_min, out);
+		writeLong(_max, out);
+
+		for (long value : _values) {
+			writeLong(value, out);
+		}
+	}
+
+	static LongArrayChromosome read(final DataInput in) throws IOException {
+		final var length = readInt(in);
+		final var lengthRange = new IntRange(readInt(in), readInt(in));
+		final var min = readLong(in);
+		final var max = readLong(in);
+
+		final long[] values = new long[length];
+		for (int i = 0; i < length; ++i) {
+			values[i] = readLong(in);
+		}
+
+		return new LongArrayChromosome(values, min, max, lengthRange);
+	}
+
+}
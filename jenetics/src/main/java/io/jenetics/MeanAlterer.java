@@ -30,7 +30,7 @@ import io.jenetics.util.Mean;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 9.0
  */
 public class MeanAlterer<
 	G extends Gene<?, G> & Mean<G>,
@@ -57,4 +57,20 @@ public class MeanAlterer<
 		this(0.05);
 	}
 
+	@Override
+	protected Chromosome<G> combine(
+		final Chromosome<G> that,
+		final Chromosome<G> other
+	) {
+		if (that instanceof ArrayChromosome<?, ?> ac &&
+			that.getClass() == other.getClass())
+		{
+			@SuppressWarnings({"unchecked", "rawtypes"})
+			final var mean = (Chromosome<G>)ac.mean((ArrayChromosome)other);
+			return mean;
+		} else {
+			return super.combine(that, other);
+		}
+	}
+
 }
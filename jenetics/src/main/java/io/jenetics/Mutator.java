@@ -19,13 +19,21 @@
  */
 package io.jenetics;
 
+import static java.lang.Math.min;
 import static java.lang.Math.pow;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Probabilities;
 import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.Seq;
 
@@ -68,7 +76,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 9.0
  */
 public class Mutator<
 	G extends Gene<?, G>,
@@ -90,6 +98,27 @@ public class Mutator<
 		super(probability);
 	}
 
+	/**
+	 * Construct a Mutation object which a given mutation probability and
+	 * chunk size. If the population is altered with an executor, it is split
+	 * into chunks of the given size, which are mutated concurrently.
+	 *
+	 * @see #alter(Seq, long, Executor)
+	 * @since 9.0
+	 *
+	 * @param probability Mutation probability. The given probability is
+	 *         divided by the number of chromosomes of the genotype to form
+	 *         the concrete mutation probability.
+	 * @param chunkSize the maximal number of individuals, which are mutated
+	 *        by one concurrent task
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *          valid range of {@code [0, 1]} or the {@code chunkSize} is
+	 *          smaller than one.
+	 */
+	public Mutator(final double probability, final int chunkSize) {
+		super(probability, chunkSize);
+	}
+
 	/**
 	 * Default constructor, with probability = 0.01.
 	 */
@@ -121,10 +150,15 @@ public class Mutator<
 		final double p = pow(_probability, 1.0/3.0);
 		final int P = Probabilities.toInt(p);
 
-		final Seq<MutatorResult<Phenotype<G, C>>> result = population
-			.map(pt -> random.nextInt() < P
+		final Function<Phenotype<G, C>, MutatorResult<Phenotype<G, C>>> mutation =
+			pt -> random.nextInt() < P
 				? mutate(pt, generation, p, random)
-				: new MutatorResult<>(pt, 0));
+				: new MutatorResult<>(pt, 0);
+
+		final Changes changes = Changes.recorder();
+		final Seq<MutatorResult<Phenotype<G, C>>> result = changes != null
+			? Trace.trace(() -> record(population, mutation, changes))
+			: population.map(mutation);
 
 		return new AltererResult<>(
 			result.map(MutatorResult::result).asISeq(),
@@ -132,6 +166,98 @@ public class Mutator<
 		);
 	}
 
+	// Mutates the individuals and records the changed genes, which are
+	// reported by the default mutate methods.
+	private Seq<MutatorResult<Phenotype<G, C>>> record(
+		final Seq<Phenotype<G, C>> population,
+		final Function<Phenotype<G, C>, MutatorResult<Phenotype<G, C>>> mutation,
+		final Changes changes
+	) {
+		final Trace trace = Trace.current();
+		final var result =
+			MSeq.<MutatorResult<Phenotype<G, C>>>ofLength(population.size());
+
+		for (int i = 0; i < population.size(); ++i) {
+			final var pt = population.get(i);
+			final var mutated = mutation.apply(pt);
+			final var genotype = mutated.result().genotype();
+
+			final var genes = trace.changes(genotype);
+			if (genes != null) {
+				for (var change : genes) {
+					changes.add(i, change.chromosome(), change.gene());
+				}
+			} else if (genotype != pt.genotype()) {
+				changes.unknown(i);
+			}
+
+			result.set(i, mutated);
+		}
+
+		changes.recorded(0, population, result.map(MutatorResult::result));
+		return result;
+	}
+
+	/**
+	 * Mutates the given population in parallel, if the population size is
+	 * greater than the {@link #chunkSize()}. The population is split into
+	 * chunks of {@link #chunkSize()} individuals, which are mutated
+	 * concurrently with the {@link #alter(Seq, long)} method. Every chunk
+	 * is mutated with its own random generator, bound to the
+	 * {@link RandomRegistry}.
+	 *
+	 * @since 9.0
+	 */
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		if (population.size() <= chunkSize()) {
+			return alter(population, generation);
+		}
+
+		final Changes changes = Changes.recorder();
+		final int size = population.size();
+		final var recorders = new ArrayList<Changes>();
+		final var tasks = new ArrayList<Supplier<AltererResult<G, C>>>();
+		for (int i = 0; i < size; i += chunkSize()) {
+			final var chunk = population.subSeq(i, min(i + chunkSize(), size));
+			final var recorder = changes != null ? new Changes(chunk.size()) : null;
+			recorders.add(recorder);
+			tasks.add(() ->
+				Changes.record(recorder, () -> alter(chunk, generation))
+			);
+		}
+
+		final List<AltererResult<G, C>> results = execute(tasks, executor);
+		final var result = new AltererResult<>(
+			results.stream()
+				.flatMap(r -> r.population().stream())
+				.collect(ISeq.toISeq()),
+			results.stream()
+				.mapToInt(AltererResult::alterations)
+				.sum()
+		);
+
+		if (changes != null) {
+			for (int i = 0; i < results.size(); ++i) {
+				final int offset = i*chunkSize();
+				changes.add(
+					offset,
+					recorders.get(i),
+					population.subSeq(offset, min(offset + chunkSize(), size)),
+					results.get(i).population()
+				);
+			}
+			changes.recorded(0, population, result.population());
+		}
+
+		return result;
+	}
+
 	/**
 	 * Mutates the given phenotype.
 	 *
@@ -171,15 +297,41 @@ public class Mutator<
 		final double p,
 		final RandomGenerator random
 	) {
+		final Trace trace = Trace.current();
+		final List<Provenance.Change> changes = new ArrayList<>();
+		boolean known = true;
+
 		final int P = Probabilities.toInt(p);
-		final ISeq<MutatorResult<Chromosome<G>>> result = genotype.stream()
-			.map(gt -> random.nextInt() < P
-				? mutate(gt, p, random)
-				: new MutatorResult<>(gt, 0))
-			.collect(ISeq.toISeq());
+		final var result =
+			MSeq.<MutatorResult<Chromosome<G>>>ofLength(genotype.length());
+		for (int i = 0; i < genotype.length(); ++i) {
+			final Chromosome<G> chromosome = genotype.get(i);
+			final MutatorResult<Chromosome<G>> mutated = random.nextInt() < P
+				? mutate(chromosome, p, random)
+				: new MutatorResult<>(chromosome, 0);
+
+			if (trace != null) {
+				// Moving the changed genes of the chromosome to its index.
+				final var genes = trace.changes(mutated.result());
+				if (genes != null) {
+					for (var change : genes) {
+						changes.add(new Provenance.Change(i, change.gene()));
+					}
+				} else if (mutated.result() != chromosome) {
+					known = false;
+				}
+			}
+			result.set(i, mutated);
+		}
+
+		final Genotype<G> mutated =
+			Genotype.of(result.map(MutatorResult::result));
+		if (trace != null && known) {
+			trace.report(mutated, changes);
+		}
 
 		return new MutatorResult<>(
-			Genotype.of(result.map(MutatorResult::result)),
+			mutated,
 			result.stream().mapToInt(MutatorResult::mutations).sum()
 		);
 	}
@@ -206,8 +358,24 @@ public class Mutator<
 				: new MutatorResult<>(gene, 0))
 			.collect(ISeq.toISeq());
 
+		final Chromosome<G> mutated =
+			chromosome.newInstance(result.map(MutatorResult::result));
+
+		final Trace trace = Trace.current();
+		if (trace != null) {
+			final List<Provenance.Change> changes = new ArrayList<>();
+			for (int i = 0; i < result.size(); ++i) {
+				if (result.get(i).mutations() > 0 &&
+					!result.get(i).result().equals(chromosome.get(i)))
+				{
+					changes.add(new Provenance.Change(0, i));
+				}
+			}
+			trace.report(mutated, changes);
+		}
+
 		return new MutatorResult<>(
-			chromosome.newInstance(result.map(MutatorResult::result)),
+			mutated,
 			result.stream().mapToInt(MutatorResult::mutations).sum()
 		);
 	}
@@ -228,4 +396,44 @@ public class Mutator<
 		return format("%s[p=%f]", getClass().getSimpleName(), _probability);
 	}
 
+	/**
+	 * Holds the changed genes of the last mutated genotype or chromosome,
+	 * while the changes are recorded. The default {@code mutate} methods are
+	 * reporting the changed genes, together with the mutation result. The
+	 * caller only uses the reported genes, if the result it got is the
+	 * reported one. If a {@code mutate} method is overridden, the changes of
+	 * the result are therefore not known, unless the overriding method
+	 * reports them as well.
+	 */
+	static final class Trace {
+		private static final ScopedValue<Trace> CURRENT =
+			ScopedValue.newInstance();
+
+		private Object _result;
+		private List<Provenance.Change> _changes;
+
+		// Return the trace of the current thread, or null if the changes
+		// are not recorded.
+		static Trace current() {
+			return CURRENT.orElse(null);
+		}
+
+		// Executes the given mutation with a new trace.
+		static <T> T trace(final Supplier<? extends T> mutation) {
+			return ScopedValue.where(CURRENT, new Trace()).call(mutation::get);
+		}
+
+		void report(final Object result, final List<Provenance.Change> changes) {
+			_result = result;
+			_changes = changes;
+		}
+
+		List<Provenance.Change> changes(final Object result) {
+			final var changes = _result == result ? _changes : null;
+			_result = null;
+			_changes = null;
+			return changes;
+		}
+	}
+
 }
@@ -22,6 +22,8 @@ package io.jenetics;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import java.util.concurrent.Executor;
+import java.util.function.Function;
 import java.util.stream.IntStream;
 
 import io.jenetics.internal.util.Requires;
@@ -45,7 +47,7 @@ import io.jenetics.util.Seq;
  * of the needed <em>sectioning</em> of the genotype.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 9.0
  * @since 5.0
  */
 public final class PartialAlterer<
@@ -66,11 +68,30 @@ public final class PartialAlterer<
 	@Override
 	public AltererResult<G, C>
 	alter(final Seq<Phenotype<G, C>> population, final long generation) {
+		return alter(population, pop -> _alterer.alter(pop, generation));
+	}
+
+	@Override
+	public AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return alter(population, pop -> _alterer.alter(pop, generation, executor));
+	}
+
+	private AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final Function<
+			? super Seq<Phenotype<G, C>>,
+			AltererResult<G, C>> alter
+	) {
 		if (!population.isEmpty()) {
 			_projection.checkIndices(population.get(0).genotype().length());
 
 			final var projectedPopulation  = _projection.project(population);
-			final var result = _alterer.alter(projectedPopulation, generation);
+			final var result = alter.apply(projectedPopulation);
 
 			return new AltererResult<>(
 				_projection.merge(result.population(), population),
@@ -28,6 +28,7 @@ import static io.jenetics.internal.math.Basics.ulpDistance;
 import java.util.Comparator;
 import java.util.function.Function;
 
+import io.jenetics.internal.math.AliasTable;
 import io.jenetics.internal.math.DoubleAdder;
 import io.jenetics.internal.util.Arrays;
 import io.jenetics.util.ISeq;
@@ -48,10 +49,15 @@ import io.jenetics.util.Seq;
  * <i>O(n+</i>log<i>(n))</i> instead of <i>O(n<sup>2</sup>)</i> as for the naive
  * approach: <i>A binary (index) search is performed on the summed probability
  * array.</i>
+ * <p>
+ * Alternatively, the individuals can be drawn with the <em>alias method</em>,
+ * see {@link Sampling#ALIAS}. After an <i>O(n)</i> setup, every individual
+ * is drawn in constant time, which pays off for big populations and
+ * selection counts.
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 9.0
  */
 public abstract class ProbabilitySelector<
 	G extends Gene<?, G>,
@@ -66,9 +72,55 @@ public abstract class ProbabilitySelector<
 	protected final Comparator<Phenotype<G, C>> POPULATION_COMPARATOR = (a, b) ->
 		Optimize.MAXIMUM.<C>descending().compare(a.fitness(), b.fitness());
 
+	/**
+	 * The strategies for drawing the individuals from the selection
+	 * probabilities.
+	 *
+	 * @since 9.0
+	 */
+	public enum Sampling {
+
+		/**
+		 * A binary search is performed on the summed probability array, for
+		 * every drawn individual. The setup takes <i>O(n)</i> time and every
+		 * draw <i>O(</i>log<i>(n))</i> time.
+		 */
+		CDF,
+
+		/**
+		 * The individuals are drawn with Walker's <em>alias method</em>, in
+		 * the variant of Vose. The setup takes <i>O(n)</i> time and every draw
+		 * <i>O(1)</i> time.
+		 */
+		ALIAS
+
+	}
+
 	protected final boolean _sorted;
 	protected final Function<double[], double[]> _reverter;
 
+	private final Sampling _sampling;
+
+	/**
+	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
+	 * flag and sampling strategy. <em>This flag must set to {@code true} if
+	 * the selector implementation is sorting the population in the
+	 * {@link #probabilities(Seq, int)} method.</em>
+	 *
+	 * @since 9.0
+	 *
+	 * @param sorted {@code true} if the implementation is sorting the
+	 *        population when calculating the selection probabilities,
+	 *        {@code false} otherwise.
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the given {@code sampling} is
+	 *         {@code null}
+	 */
+	protected ProbabilitySelector(final boolean sorted, final Sampling sampling) {
+		_sorted = sorted;
+		_reverter = sorted ? Arrays::revert : ProbabilitySelector::sortAndRevert;
+		_sampling = requireNonNull(sampling);
+	}
 
 	/**
 	 * Create a new {@code ProbabilitySelector} with the given {@code sorting}
@@ -81,8 +133,7 @@ public abstract class ProbabilitySelector<
 	 *        {@code false} otherwise.
 	 */
 	protected ProbabilitySelector(final boolean sorted) {
-		_sorted = sorted;
-		_reverter = sorted ? Arrays::revert : ProbabilitySelector::sortAndRevert;
+		this(sorted, Sampling.CDF);
 	}
 
 	/**
@@ -92,6 +143,17 @@ public abstract class ProbabilitySelector<
 		this(false);
 	}
 
+	/**
+	 * Return the strategy used for drawing the individuals.
+	 *
+	 * @since 9.0
+	 *
+	 * @return the strategy used for drawing the individuals
+	 */
+	public Sampling sampling() {
+		return _sampling;
+	}
+
 	@Override
 	public ISeq<Phenotype<G, C>> select(
 		final Seq<Phenotype<G, C>> population,
@@ -123,10 +185,14 @@ public abstract class ProbabilitySelector<
 			checkAndCorrect(prob);
 			assert sum2one(prob) : "Probabilities doesn't sum to one.";
 
-			incremental(prob);
-
 			final var random = RandomRegistry.random();
-			selection.fill(() -> pop.get(indexOf(prob, random.nextDouble())));
+			if (_sampling == Sampling.ALIAS) {
+				final AliasTable table = AliasTable.of(prob);
+				selection.fill(() -> pop.get(table.next(random)));
+			} else {
+				incremental(prob);
+				selection.fill(() -> pop.get(indexOf(prob, random.nextDouble())));
+			}
 		}
 
 		return selection.toISeq();
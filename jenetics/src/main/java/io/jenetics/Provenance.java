@@ -0,0 +1,272 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.io.Serial;
+import java.io.Serializable;
+import java.util.LinkedHashSet;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.Executor;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Describes how an altered individual differs from the <em>parent</em>
+ * individual it was derived from. For problems where the fitness of an
+ * individual can be updated cheaply from the fitness of its parent, like
+ * for the TSP or knapsack problems, the provenance allows to calculate the
+ * fitness in {@code O(changes)} instead of {@code O(n)}.
+ * {@snippet lang="java":
+ * // Counting the ones of a bit-genotype. Every change flips a bit.
+ * int ones = provenance.parentFitness();
+ * for (var change : provenance.changes()) {
+ *     final var gene = genotype.get(change.chromosome()).get(change.gene());
+ *     ones += gene.bit() ? 1 : -1;
+ * }
+ * }
+ *
+ * @see Alteration
+ * @see io.jenetics.engine.DeltaEvaluator
+ *
+ * @param parent the evaluated parent individual
+ * @param changes the positions of the genes which are different from the
+ *        parent
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+public record Provenance<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>(
+	Phenotype<G, C> parent,
+	ISeq<Provenance.Change> changes
+)
+	implements Serializable
+{
+	@Serial
+	private static final long serialVersionUID = 1L;
+
+	/**
+	 * The position of a changed gene.
+	 *
+	 * @param chromosome the chromosome index of the changed gene
+	 * @param gene the gene index, within the chromosome, of the changed gene
+	 */
+	public record Change(int chromosome, int gene) implements Serializable {
+		@Serial
+		private static final long serialVersionUID = 1L;
+
+		/**
+		 * Create a new gene position.
+		 *
+		 * @param chromosome the chromosome index of the changed gene
+		 * @param gene the gene index, within the chromosome, of the changed
+		 *        gene
+		 * @throws IllegalArgumentException if one of the indexes is negative
+		 */
+		public Change {
+			if (chromosome < 0 || gene < 0) {
+				throw new IllegalArgumentException(format(
+					"Indexes must not be negative: [%d, %d].",
+					chromosome, gene
+				));
+			}
+		}
+	}
+
+	/**
+	 * The result of an alteration, together with the positions of the
+	 * changed genes, which have been recorded by the alterers. The changes
+	 * are recorded by the {@link Mutator} and {@link Recombinator} alterers
+	 * and their compositions. The changes of individuals, which are altered
+	 * by other alterers, or by overridden {@code mutate} methods, are not
+	 * known.
+	 *
+	 * @param result the result of the alteration
+	 * @param changes the positions of the changed genes of every altered
+	 *        individual, relative to the individual with the same index in
+	 *        the population before the alteration. An element is empty, if
+	 *        the changes of the individual are not known.
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 */
+	public record Alteration<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	>(
+		AltererResult<G, C> result,
+		ISeq<Optional<ISeq<Change>>> changes
+	) {
+
+		/**
+		 * Create a new alteration object.
+		 *
+		 * @param result the result of the alteration
+		 * @param changes the positions of the changed genes of every
+		 *        altered individual
+		 * @throws NullPointerException if one of the arguments is
+		 *         {@code null}
+		 * @throws IllegalArgumentException if the size of the
+		 *         {@code changes} is different from the size of the altered
+		 *         population
+		 */
+		public Alteration {
+			requireNonNull(changes);
+			if (changes.size() != result.population().size()) {
+				throw new IllegalArgumentException(format(
+					"Expected %d changes, but got %d.",
+					result.population().size(), changes.size()
+				));
+			}
+		}
+
+		/**
+		 * Alters the given {@code population} with the given
+		 * {@code alterer} and records the changed genes of the altered
+		 * individuals.
+		 *
+		 * @see Alterer#alter(Seq, long, Executor)
+		 *
+		 * @param alterer the alterer used for altering the population
+		 * @param population the population to alter
+		 * @param generation the date of birth (generation) of the altered
+		 *        phenotypes
+		 * @param executor the executor, which can be used for altering the
+		 *        population concurrently
+		 * @param <G> the gene type
+		 * @param <C> the fitness result type
+		 * @return the alteration result with the recorded changes
+		 * @throws NullPointerException if one of the arguments is
+		 *         {@code null}
+		 */
+		public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+		Alteration<G, C> of(
+			final Alterer<G, C> alterer,
+			final Seq<Phenotype<G, C>> population,
+			final long generation,
+			final Executor executor
+		) {
+			requireNonNull(alterer);
+			requireNonNull(population);
+			requireNonNull(executor);
+
+			final var changes = new Changes(population.size());
+			final AltererResult<G, C> result = Changes.record(
+				changes,
+				() -> alterer.alter(population, generation, executor)
+			);
+
+			return new Alteration<>(
+				result,
+				changes.get(population, result.population())
+			);
+		}
+	}
+
+	/**
+	 * Create a new provenance object.
+	 *
+	 * @param parent the evaluated parent individual
+	 * @param changes the positions of the genes which are different from
+	 *        the parent
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the given {@code parent} is not
+	 *         evaluated
+	 */
+	public Provenance {
+		requireNonNull(changes);
+		if (parent.nonEvaluated()) {
+			throw new IllegalArgumentException(
+				"Parent phenotype must be evaluated."
+			);
+		}
+	}
+
+	/**
+	 * Return the fitness value of the parent individual.
+	 *
+	 * @return the fitness value of the parent individual
+	 */
+	public C parentFitness() {
+		return parent.fitness();
+	}
+
+	/**
+	 * Determines the provenance of the given altered {@code genotype} from
+	 * the gene positions, which have been changed by the alterers. Only the
+	 * given positions are compared with the {@code parent} genotype, which
+	 * makes the cost of this method {@code O(changes)}. Positions, where the
+	 * genes are still equal, are removed.
+	 *
+	 * @see Alteration
+	 *
+	 * @param parent the parent individual
+	 * @param genotype the altered genotype
+	 * @param changes the positions of the possibly changed genes
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return the provenance of the given {@code genotype}, or an empty
+	 *         value if the {@code parent} isn't evaluated or the genotype
+	 *         structure has been changed by the alteration
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Optional<Provenance<G, C>> of(
+		final Phenotype<G, C> parent,
+		final Genotype<G> genotype,
+		final Iterable<Change> changes
+	) {
+		requireNonNull(genotype);
+		requireNonNull(changes);
+
+		final Genotype<G> gt = parent.genotype();
+		if (parent.nonEvaluated() || gt.length() != genotype.length()) {
+			return Optional.empty();
+		}
+
+		final Set<Change> result = new LinkedHashSet<>();
+		for (var change : changes) {
+			final int i = change.chromosome();
+			final int j = change.gene();
+			if (i >= gt.length() ||
+				gt.get(i).length() != genotype.get(i).length() ||
+				j >= gt.get(i).length())
+			{
+				return Optional.empty();
+			}
+
+			if (!gt.get(i).get(j).equals(genotype.get(i).get(j))) {
+				result.add(change);
+			}
+		}
+
+		return Optional.of(new Provenance<>(parent, ISeq.of(result)));
+	}
+
+}
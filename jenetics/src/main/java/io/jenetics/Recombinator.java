@@ -19,9 +19,15 @@
  */
 package io.jenetics;
 
+import static java.lang.Math.min;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 import static io.jenetics.internal.math.Randoms.indexes;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
 
 import io.jenetics.internal.math.Subsets;
@@ -48,10 +54,18 @@ import io.jenetics.util.Seq;
  * <i>O<sub>R</sub></i> is the order of the recombination, which is the number
  * of individuals involved int the {@link #recombine} method.
  * </p>
+ * <p>
+ * If the population is altered with an {@link Executor} and is bigger than
+ * the {@link #chunkSize()}, the recombinations are performed concurrently.
+ * The drawn recombinations are grouped into <em>waves</em>, where no
+ * individual takes part in more than one recombination of the same wave.
+ * The waves are processed one after another, and the recombinations of one
+ * wave are split into chunks, which are executed in parallel.
+ * </p>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 9.0
  */
 public abstract class Recombinator<
 	G extends Gene<?, G>,
@@ -74,12 +88,40 @@ public abstract class Recombinator<
 	 */
 	protected Recombinator(final double probability, final int order) {
 		super(probability);
+		_order = checkOrder(order);
+	}
+
+	/**
+	 * Constructs an alterer with a given recombination probability and
+	 * chunk size.
+	 *
+	 * @since 9.0
+	 *
+	 * @param probability The recombination probability.
+	 * @param order the number of individuals involved in the
+	 *        {@link #recombine(MSeq, int[], long)} step
+	 * @param chunkSize the maximal number of recombinations, which are
+	 *        performed by one concurrent task
+	 * @throws IllegalArgumentException if the {@code probability} is not in the
+	 *         valid range of {@code [0, 1]}, the given {@code order} is
+	 *         smaller than two or the {@code chunkSize} is smaller than one.
+	 */
+	protected Recombinator(
+		final double probability,
+		final int order,
+		final int chunkSize
+	) {
+		super(probability, chunkSize);
+		_order = checkOrder(order);
+	}
+
+	private static int checkOrder(final int order) {
 		if (order < 2) {
 			throw new IllegalArgumentException(format(
 				"Order must be greater than one, but was %d.", order
 			));
 		}
-		_order = order;
+		return order;
 	}
 
 	/**
@@ -103,11 +145,15 @@ public abstract class Recombinator<
 			final int order = Math.min(_order, population.size());
 
 			final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+			final Changes changes = Changes.recorder();
 			final int count = indexes(random, population.size(), _probability)
 				.mapToObj(i -> individuals(i, population.size(), order, random))
-				.mapToInt(ind -> recombine(pop, ind, generation))
+				.mapToInt(ind -> recombine(pop, ind, generation, changes))
 				.sum();
 
+			if (changes != null) {
+				changes.recorded(0, population, pop);
+			}
 			result = new AltererResult<>(pop.toISeq(), count);
 		} else {
 			result = new AltererResult<>(population.asISeq());
@@ -116,6 +162,92 @@ public abstract class Recombinator<
 		return result;
 	}
 
+	/**
+	 * Recombines the given population in parallel, if the population size is
+	 * greater than the {@link #chunkSize()}. The recombinations are drawn
+	 * up-front and grouped into waves of recombinations with disjoint
+	 * individuals. The recombinations of one wave are split into chunks,
+	 * which are executed concurrently, each with its own random generator.
+	 *
+	 * @since 9.0
+	 */
+	@Override
+	public final AltererResult<G, C> alter(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		if (population.size() <= chunkSize()) {
+			return alter(population, generation);
+		}
+
+		final var random = RandomRegistry.random();
+		final int size = population.size();
+		final int order = min(_order, size);
+
+		final List<int[]> recombinations =
+			indexes(random, size, _probability)
+				.mapToObj(i -> individuals(i, size, order, random))
+				.toList();
+
+		final MSeq<Phenotype<G, C>> pop = MSeq.of(population);
+		final Changes changes = Changes.recorder();
+		int count = 0;
+		for (var wave : waves(recombinations, size)) {
+			final var tasks = new ArrayList<Supplier<Integer>>();
+			for (int i = 0; i < wave.size(); i += chunkSize()) {
+				final var chunk = wave.subList(i, min(i + chunkSize(), wave.size()));
+				tasks.add(() -> chunk.stream()
+					.mapToInt(ind -> recombine(pop, ind, generation, changes))
+					.sum());
+			}
+
+			for (var alterations : execute(tasks, executor)) {
+				count += alterations;
+			}
+		}
+
+		if (changes != null) {
+			changes.recorded(0, population, pop);
+		}
+		return new AltererResult<>(pop.toISeq(), count);
+	}
+
+	/**
+	 * Groups the given recombinations into waves. No individual index occurs
+	 * twice within one wave, and the relative order of two recombinations
+	 * which share an individual is preserved.
+	 *
+	 * @param recombinations the individual indexes of the recombinations
+	 * @param size the population size
+	 * @return the recombination waves
+	 */
+	static List<List<int[]>> waves(
+		final List<int[]> recombinations,
+		final int size
+	) {
+		final var waves = new ArrayList<List<int[]>>();
+		final int[] levels = new int[size];
+
+		for (var ind : recombinations) {
+			int wave = 0;
+			for (int i : ind) {
+				wave = Math.max(wave, levels[i]);
+			}
+			for (int i : ind) {
+				levels[i] = wave + 1;
+			}
+
+			if (wave == waves.size()) {
+				waves.add(new ArrayList<>());
+			}
+			waves.get(wave).add(ind);
+		}
+
+		return waves;
+	}
+
 	static int[] individuals(
 		final int index,
 		final int size,
@@ -135,9 +267,40 @@ public abstract class Recombinator<
 		return ind;
 	}
 
+	// Recombines the given individuals and records the changed genes, if a
+	// change recorder is given. The recombinations of the individuals are
+	// disjoint from the concurrently executed ones, which allows the
+	// concurrent recording. The changes of individuals, which have been
+	// replaced by a user defined recombination, are not known.
+	int recombine(
+		final MSeq<Phenotype<G, C>> population,
+		final int[] individuals,
+		final long generation,
+		final Changes changes
+	) {
+		if (changes == null) {
+			return recombine(population, individuals, generation);
+		}
+
+		final Object[] parents = new Object[individuals.length];
+		for (int i = 0; i < individuals.length; ++i) {
+			parents[i] = population.get(individuals[i]);
+		}
+
+		final int count = recombine(population, individuals, generation);
+
+		for (int i = 0; i < individuals.length; ++i) {
+			if (population.get(individuals[i]) != parents[i]) {
+				changes.unknown(individuals[i]);
+			}
+		}
+		return count;
+	}
+
 	/**
-	 * Recombination template method. This method is called 0 to n times. It is
-	 * guaranteed that this method is only called by one thread.
+	 * Recombination template method. This method is called 0 to n times. If
+	 * the population is altered with an {@link Executor}, this method may be
+	 * called concurrently, but only for disjoint {@code individuals}.
 	 *
 	 * @param population the population to recombine
 	 * @param individuals the array with the indexes of the individuals which
@@ -38,7 +38,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 9.0
  */
 public class RouletteWheelSelector<
 	G extends Gene<?, G>,
@@ -51,10 +51,41 @@ public class RouletteWheelSelector<
 		this(false);
 	}
 
+	/**
+	 * Create a new roulette-wheel selector with the given sampling strategy.
+	 *
+	 * @since 9.0
+	 *
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the given {@code sampling} is
+	 *         {@code null}
+	 */
+	public RouletteWheelSelector(final Sampling sampling) {
+		this(false, sampling);
+	}
+
 	protected RouletteWheelSelector(final boolean sorted) {
 		super(sorted);
 	}
 
+	/**
+	 * Create a new roulette-wheel selector.
+	 *
+	 * @since 9.0
+	 *
+	 * @param sorted {@code true} if the implementation is sorting the
+	 *        population when calculating the selection probabilities
+	 * @param sampling the strategy used for drawing the individuals
+	 * @throws NullPointerException if the given {@code sampling} is
+	 *         {@code null}
+	 */
+	protected RouletteWheelSelector(
+		final boolean sorted,
+		final Sampling sampling
+	) {
+		super(sorted, sampling);
+	}
+
 	@Override
 	protected double[] probabilities(
 		final Seq<Phenotype<G, N>> population,
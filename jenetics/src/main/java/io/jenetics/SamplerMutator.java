@@ -21,21 +21,27 @@ package io.jenetics;
 
 import static java.util.Objects.requireNonNull;
 
+import java.util.ArrayList;
+import java.util.List;
 import java.util.random.RandomGenerator;
 
+import io.jenetics.internal.math.Probabilities;
 import io.jenetics.stat.Sampler;
 import io.jenetics.util.DoubleRange;
 
 /**
  * A mutator which replaces a gene (mutates it) with a value created by a
- * {@link Sampler}.
+ * {@link Sampler}. Chromosomes, which store its alleles in a primitive
+ * array, like the {@link DoubleArrayChromosome}, are mutated directly on a
+ * copy of its allele array. This is not done for subclasses, which might
+ * override the {@link #mutate(NumericGene, RandomGenerator)} method.
  *
  * @param <G> the gene type
  * @param <C> the allele type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 8.3
- * @version 8.3
+ * @version 9.0
  */
 public class SamplerMutator<
 	G extends NumericGene<?, G>,
@@ -78,6 +84,61 @@ public class SamplerMutator<
 		this(probability, Sampler.UNIFORM);
 	}
 
+	@Override
+	protected MutatorResult<Chromosome<G>> mutate(
+		final Chromosome<G> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		// Exact class check, see the class documentation.
+		final var type = getClass();
+		return (type == SamplerMutator.class || type == GaussianMutator.class) &&
+			chromosome instanceof ArrayChromosome<?, ?> ac
+				? mutate(ac, p, random)
+				: super.mutate(chromosome, p, random);
+	}
+
+	// Mutates the allele array, without creating the gene objects. The
+	// random values are drawn in the same order as for the gene mutation.
+	private MutatorResult<Chromosome<G>> mutate(
+		final ArrayChromosome<?, ?> chromosome,
+		final double p,
+		final RandomGenerator random
+	) {
+		final int P = Probabilities.toInt(p);
+		final var range = new DoubleRange(
+			chromosome.min().doubleValue(),
+			chromosome.max().doubleValue()
+		);
+
+		final Trace trace = Trace.current();
+		final List<Provenance.Change> changes = new ArrayList<>();
+
+		final double[] values = chromosome.toDoubleArray();
+		int mutations = 0;
+		for (int i = 0; i < values.length; ++i) {
+			if (random.nextInt() < P) {
+				++mutations;
+				if (chromosome.isValid(i)) {
+					final var next = sampler.sample(random, range);
+					if (!Double.isNaN(next) && next != values[i]) {
+						values[i] = next;
+						if (trace != null) {
+							changes.add(new Provenance.Change(0, i));
+						}
+					}
+				}
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		final var result = (Chromosome<G>)chromosome.newInstance(values);
+		if (trace != null) {
+			trace.report(result, changes);
+		}
+		return new MutatorResult<>(result, mutations);
+	}
+
 	@Override
 	protected G mutate(final G gene, final RandomGenerator random) {
 		if (!gene.isValid()) {
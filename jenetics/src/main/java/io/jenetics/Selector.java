@@ -19,6 +19,10 @@
  */
 package io.jenetics;
 
+import static java.util.Objects.requireNonNull;
+
+import java.util.concurrent.Executor;
+
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
 
@@ -40,7 +44,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 4.0
+ * @version 9.0
  */
 @FunctionalInterface
 public interface Selector<
@@ -66,4 +70,42 @@ public interface Selector<
 		final Optimize opt
 	);
 
+	/**
+	 * Select phenotypes from the Population. Implementations of this method
+	 * are allowed to split the selection into chunks, which are executed
+	 * concurrently, using the given {@code executor}. The default
+	 * implementation ignores the {@code executor} and selects the
+	 * phenotypes with the calling thread.
+	 *
+	 * @implSpec
+	 * The selected phenotypes must not depend on the used {@code executor}
+	 * and its thread scheduling, if the random generator bound to the
+	 * {@link io.jenetics.util.RandomRegistry} produces a deterministic
+	 * random sequence.
+	 *
+	 * @see Alterer#alter(Seq, long, Executor)
+	 * @since 9.0
+	 *
+	 * @param population The population to select from.
+	 * @param count The number of phenotypes to select.
+	 * @param opt Determines whether the individuals with higher fitness values
+	 *        or lower fitness values must be selected.
+	 * @param executor the executor, which can be used for selecting the
+	 *        phenotypes concurrently. The executor must be able to execute
+	 *        the submitted chunks, while the calling thread is waiting for
+	 *        them.
+	 * @return The selected phenotypes (a new Population).
+	 * @throws NullPointerException if the arguments is {@code null}.
+	 * @throws IllegalArgumentException if the select count is smaller than zero.
+	 */
+	default ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		return select(population, count, opt);
+	}
+
 }
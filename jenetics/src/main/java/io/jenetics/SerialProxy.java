@@ -28,7 +28,7 @@ import java.io.StreamCorruptedException;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 5.0
+ * @version 9.0
  * @since 5.0
  */
 final class SerialProxy implements Externalizable {
@@ -52,6 +52,10 @@ final class SerialProxy implements Externalizable {
 
 	//static final byte BIT_GENE_STORE = 12;
 
+	static final byte DOUBLE_ARRAY_CHROMOSOME = 13;
+	static final byte INTEGER_ARRAY_CHROMOSOME = 14;
+	static final byte LONG_ARRAY_CHROMOSOME = 15;
+
 	/**
 	 * The type being serialized.
 	 */
@@ -94,6 +98,9 @@ final class SerialProxy implements Externalizable {
 			case PERMUTATION_CHROMOSOME -> ((PermutationChromosome<?>)_object).write(out);
 			case GENOTYPE -> ((Genotype<?>)_object).write(out);
 			case PHENOTYPE -> ((Phenotype<?, ?>)_object).write(out);
+			case DOUBLE_ARRAY_CHROMOSOME -> ((DoubleArrayChromosome)_object).write(out);
+			case INTEGER_ARRAY_CHROMOSOME -> ((IntegerArrayChromosome)_object).write(out);
+			case LONG_ARRAY_CHROMOSOME -> ((LongArrayChromosome)_object).write(out);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		}
 	}
@@ -115,6 +122,9 @@ final class SerialProxy implements Externalizable {
 			case PERMUTATION_CHROMOSOME -> PermutationChromosome.read(in);
 			case GENOTYPE -> Genotype.read(in);
 			case PHENOTYPE -> Phenotype.read(in);
+			case DOUBLE_ARRAY_CHROMOSOME -> DoubleArrayChromosome.read(in);
+			case INTEGER_ARRAY_CHROMOSOME -> IntegerArrayChromosome.read(in);
+			case LONG_ARRAY_CHROMOSOME -> LongArrayChromosome.read(in);
 			default -> throw new StreamCorruptedException("Unknown serialized type.");
 		};
 	}
@@ -19,13 +19,22 @@
  */
 package io.jenetics;
 
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
+import static io.jenetics.internal.util.FitnessColumn.compare;
 
 import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.function.Supplier;
 import java.util.random.RandomGenerator;
-import java.util.stream.Stream;
+import java.util.stream.IntStream;
 
+import io.jenetics.internal.util.FitnessColumn;
+import io.jenetics.internal.util.Requires;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
 import io.jenetics.util.RandomRegistry;
@@ -40,12 +49,22 @@ import io.jenetics.util.Seq;
  * in all the tournaments it participates. The selection pressure can be varied
  * by changing the tournament size <i>s</i> . For large values of <i>s</i>, weak
  * individuals have less chance of being selected.
+ * <p>
+ * If the selector uses the natural order of the phenotypes, which is the case
+ * for the constructors without {@code comparator} parameter, and the fitness
+ * values are {@code double} representable numbers, like {@link Double} or
+ * {@link Integer}, the tournaments are performed on a primitive
+ * {@code double[]} copy of the fitness values. The selected individuals are
+ * the same as for the generic path. The copy is only created if the
+ * tournaments access more fitness values than the population contains. Small
+ * selections, like the two parents of the steady-state evolution, compare the
+ * phenotypes directly.
  *
  * @see <a href="http://en.wikipedia.org/wiki/Tournament_selection">Tournament selection</a>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 6.0
+ * @version 9.0
  */
 public class TournamentSelector<
 	G extends Gene<?, G>,
@@ -54,33 +73,68 @@ public class TournamentSelector<
 	implements Selector<G, C>
 {
 
+	private static final int BLOCK_SIZE = 1 << 12;
+
 	private final Comparator<? super Phenotype<G, C>> _comparator;
+	private final Comparator<? super Phenotype<G, C>> _reversed;
+	private final boolean _natural;
 	private final int _sampleSize;
+	private final int _chunkSize;
 
 	/**
-	 * Create a tournament selector with the give {@code comparator} and
-	 * sample size. The sample size must be greater than one.
+	 * Create a tournament selector with the give {@code comparator}, sample
+	 * size and chunk size. The sample size must be greater than one. If the
+	 * selection count is greater than the {@code chunkSize}, the selection is
+	 * split into chunks, which are executed concurrently by the executor
+	 * given in {@link #select(Seq, int, Optimize, Executor)}.
 	 *
-	 * @since 6.0
+	 * @since 9.0
 	 *
 	 * @param comparator the comparator use for comparing two individuals during
 	 *        a tournament
 	 * @param sampleSize the number of individuals involved in one tournament
+	 * @param chunkSize the maximal number of individuals, which are selected
+	 *        by one concurrent task
 	 * @throws IllegalArgumentException if the sample size is smaller than two
+	 *         or the chunk size is smaller than one
 	 * @throws NullPointerException if the given {@code comparator} is
 	 *         {@code null}
 	 */
 	public TournamentSelector(
 		final Comparator<? super Phenotype<G, C>> comparator,
-		final int sampleSize
+		final int sampleSize,
+		final int chunkSize
 	) {
 		_comparator = requireNonNull(comparator);
+		_reversed = _comparator.reversed();
+		_natural = _comparator == Comparator.naturalOrder();
 		if (sampleSize < 2) {
 			throw new IllegalArgumentException(
 				"Sample size must be greater than one, but was " + sampleSize
 			);
 		}
 		_sampleSize = sampleSize;
+		_chunkSize = Requires.positive(chunkSize);
+	}
+
+	/**
+	 * Create a tournament selector with the give {@code comparator} and
+	 * sample size. The sample size must be greater than one.
+	 *
+	 * @since 6.0
+	 *
+	 * @param comparator the comparator use for comparing two individuals during
+	 *        a tournament
+	 * @param sampleSize the number of individuals involved in one tournament
+	 * @throws IllegalArgumentException if the sample size is smaller than two
+	 * @throws NullPointerException if the given {@code comparator} is
+	 *         {@code null}
+	 */
+	public TournamentSelector(
+		final Comparator<? super Phenotype<G, C>> comparator,
+		final int sampleSize
+	) {
+		this(comparator, sampleSize, Env.chunkSize);
 	}
 
 	/**
@@ -91,14 +145,14 @@ public class TournamentSelector<
 	 * @throws IllegalArgumentException if the sample size is smaller than two.
 	 */
 	public TournamentSelector(final int sampleSize) {
-		this(Phenotype::compareTo, sampleSize);
+		this(Comparator.naturalOrder(), sampleSize);
 	}
 
 	/**
 	 * Create a tournament selector with a sample size two.
 	 */
 	public TournamentSelector() {
-		this(Phenotype::compareTo,2);
+		this(Comparator.naturalOrder(), 2);
 	}
 
 	/**
@@ -112,11 +166,82 @@ public class TournamentSelector<
 		return _sampleSize;
 	}
 
+	/**
+	 * Return the maximal number of individuals, which are selected by one
+	 * concurrent task.
+	 *
+	 * @since 9.0
+	 *
+	 * @return the chunk size used for parallel selection
+	 */
+	public int chunkSize() {
+		return _chunkSize;
+	}
+
 	@Override
 	public ISeq<Phenotype<G, C>> select(
 		final Seq<Phenotype<G, C>> population,
 		final int count,
 		final Optimize opt
+	) {
+		check(population, count, opt);
+
+		return population.isEmpty()
+			? ISeq.empty()
+			: select(
+				population,
+				count,
+				opt,
+				column(population, count),
+				RandomRegistry.random()
+			);
+	}
+
+	/**
+	 * Select phenotypes from the Population. If the selection {@code count}
+	 * is greater than the {@link #chunkSize()}, the selection is split into
+	 * chunks, which are executed concurrently by the given {@code executor}.
+	 * Every chunk uses its own random generator, derived from the random
+	 * generator of the calling thread. The result is therefore independent
+	 * of the executor and its thread scheduling.
+	 *
+	 * @since 9.0
+	 */
+	@Override
+	public ISeq<Phenotype<G, C>> select(
+		final Seq<Phenotype<G, C>> population,
+		final int count,
+		final Optimize opt,
+		final Executor executor
+	) {
+		requireNonNull(executor);
+		check(population, count, opt);
+
+		if (population.isEmpty() || count <= _chunkSize) {
+			return select(population, count, opt);
+		}
+
+		final double[] column = column(population, count);
+		final List<Supplier<ISeq<Phenotype<G, C>>>> tasks = IntStream
+			.iterate(0, i -> i < count, i -> i + _chunkSize)
+			.<Supplier<ISeq<Phenotype<G, C>>>>mapToObj(i -> () -> select(
+				population,
+				min(_chunkSize, count - i),
+				opt,
+				column,
+				RandomRegistry.random()
+			))
+			.toList();
+
+		return AbstractAlterer.execute(tasks, executor).stream()
+			.flatMap(ISeq::stream)
+			.collect(ISeq.toISeq());
+	}
+
+	private static void check(
+		final Seq<?> population,
+		final int count,
+		final Optimize opt
 	) {
 		requireNonNull(population, "Population");
 		requireNonNull(opt, "Optimization");
@@ -126,33 +251,76 @@ public class TournamentSelector<
 				count
 			));
 		}
+	}
 
-		final var random = RandomRegistry.random();
-		return population.isEmpty()
-			? ISeq.empty()
-			: MSeq.<Phenotype<G, C>>ofLength(count)
-				.fill(() -> select(population, opt, random))
-				.toISeq();
+	private Comparator<? super Phenotype<G, C>> comparator(final Optimize opt) {
+		return opt == Optimize.MAXIMUM ? _comparator : _reversed;
+	}
+
+	// The fitness column pays off only if the tournaments access more fitness
+	// values than copying the whole population does.
+	private double[] column(
+		final Seq<Phenotype<G, C>> population,
+		final int count
+	) {
+		return _natural && (long)count*_sampleSize >= population.size()
+			? FitnessColumn.of(population)
+			: null;
 	}
 
-	private Phenotype<G, C> select(
+	// The tournament indexes are drawn block-wise into a primitive array. The
+	// random indexes are drawn in the same order as one tournament after the
+	// other would do. If the fitness column is not null, the tournaments are
+	// performed on the primitive fitness values.
+	private ISeq<Phenotype<G, C>> select(
 		final Seq<Phenotype<G, C>> population,
+		final int count,
 		final Optimize opt,
+		final double[] column,
 		final RandomGenerator random
 	) {
 		final int N = population.size();
+		final int s = _sampleSize;
 
-		assert _sampleSize >= 2;
+		assert s >= 2;
 		assert N >= 1;
 
-		final Comparator<? super Phenotype<G, C>> cmp = opt == Optimize.MAXIMUM
-			? _comparator
-			: _comparator.reversed();
+		final MSeq<Phenotype<G, C>> result = MSeq.ofLength(count);
+		final int[] indexes = new int[min(count, BLOCK_SIZE)*s];
+
+		for (int offset = 0; offset < count; offset += BLOCK_SIZE) {
+			final int n = min(BLOCK_SIZE, count - offset);
+			for (int i = 0, m = n*s; i < m; ++i) {
+				indexes[i] = random.nextInt(N);
+			}
 
-		return Stream.generate(() -> population.get(random.nextInt(N)))
-			.limit(_sampleSize)
-			.max(cmp)
-			.orElseThrow(AssertionError::new);
+			if (column != null) {
+				for (int i = 0; i < n; ++i) {
+					int winner = indexes[i*s];
+					for (int j = 1; j < s; ++j) {
+						final int index = indexes[i*s + j];
+						if (compare(column[winner], column[index], opt) < 0) {
+							winner = index;
+						}
+					}
+					result.set(offset + i, population.get(winner));
+				}
+			} else {
+				final Comparator<? super Phenotype<G, C>> cmp = comparator(opt);
+				for (int i = 0; i < n; ++i) {
+					Phenotype<G, C> winner = population.get(indexes[i*s]);
+					for (int j = 1; j < s; ++j) {
+						final Phenotype<G, C> pt = population.get(indexes[i*s + j]);
+						if (cmp.compare(winner, pt) < 0) {
+							winner = pt;
+						}
+					}
+					result.set(offset + i, winner);
+				}
+			}
+		}
+
+		return result.toISeq();
 	}
 
 	@Override
@@ -160,4 +328,14 @@ public class TournamentSelector<
 		return format("%s[s=%d]", getClass().getSimpleName(), _sampleSize);
 	}
 
+	private static final class Env {
+		private static final int chunkSize = max(
+			getInteger(
+				"io.jenetics.selector.chunkSize",
+				Integer.MAX_VALUE
+			),
+			1
+		);
+	}
+
 }
@@ -23,8 +23,10 @@ import static java.lang.Math.min;
 import static java.lang.String.format;
 import static java.util.Objects.requireNonNull;
 
+import io.jenetics.internal.util.FitnessColumn;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.MSeq;
+import io.jenetics.util.ProxySorter;
 import io.jenetics.util.Seq;
 
 /**
@@ -39,7 +41,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.0
- * @version 5.0
+ * @version 9.0
  */
 public final class TruncationSelector<
 	G extends Gene<?, G>,
@@ -107,9 +109,7 @@ public final class TruncationSelector<
 			.ofLength(population.isEmpty() ? 0 : count);
 
 		if (count > 0 && !population.isEmpty()) {
-			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
-			copy.sort((a, b) ->
-				opt.<C>descending().compare(a.fitness(), b.fitness()));
+			final Seq<Phenotype<G, C>> copy = sort(population, opt);
 
 			int size = count;
 			do {
@@ -125,6 +125,34 @@ public final class TruncationSelector<
 		return selection.toISeq();
 	}
 
+	// Sorts the population in descending order. Numeric fitness values are
+	// sorted on its primitive double values.
+	private static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	Seq<Phenotype<G, C>> sort(
+		final Seq<Phenotype<G, C>> population,
+		final Optimize opt
+	) {
+		final double[] column = FitnessColumn.of(population);
+
+		if (column != null) {
+			final int[] proxy = ProxySorter.sort(
+				column, column.length,
+				(a, i, j) -> FitnessColumn.compare(a[j], a[i], opt)
+			);
+
+			final MSeq<Phenotype<G, C>> sorted = MSeq.ofLength(proxy.length);
+			for (int i = 0; i < proxy.length; ++i) {
+				sorted.set(i, population.get(proxy[i]));
+			}
+			return sorted;
+		} else {
+			final MSeq<Phenotype<G, C>> copy = population.asISeq().copy();
+			copy.sort((a, b) ->
+				opt.<C>descending().compare(a.fitness(), b.fitness()));
+			return copy;
+		}
+	}
+
 	@Override
 	public String toString() {
 		return getClass().getName();
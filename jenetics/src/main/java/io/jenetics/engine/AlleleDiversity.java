@@ -0,0 +1,143 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.Chromosome;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Calculates the mean pairwise, normalized Hamming distance of the genotypes
+ * from the allele frequencies of every locus. For a locus with allele counts
+ * <em>c<sub>a</sub></em> and <em>n = Σc<sub>a</sub></em>, the fraction of
+ * genotype pairs with different alleles is
+ * <em>(n<sup>2</sup> - Σc<sub>a</sub><sup>2</sup>)/(n(n - 1))</em>.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class AlleleDiversity<G extends Gene<?, G>> implements Diversity<G> {
+
+	/**
+	 * The allele counts of the loci of one chromosome index.
+	 */
+	private static final class Loci {
+		// Fast path for bit chromosomes.
+		int[] bits = new int[0];
+		int[] ones = new int[0];
+
+		// Allele counts of all other chromosome types.
+		final List<Map<Object, int[]>> alleles = new ArrayList<>();
+
+		void accept(final Chromosome<?> chromosome) {
+			if (chromosome instanceof BitChromosome ch) {
+				if (bits.length < ch.length()) {
+					bits = Arrays.copyOf(bits, ch.length());
+					ones = Arrays.copyOf(ones, ch.length());
+				}
+				for (int i = 0, n = ch.length(); i < n; ++i) {
+					++bits[i];
+					if (ch.booleanValue(i)) {
+						++ones[i];
+					}
+				}
+			} else {
+				for (int i = alleles.size(); i < chromosome.length(); ++i) {
+					alleles.add(new HashMap<>());
+				}
+				for (int i = 0, n = chromosome.length(); i < n; ++i) {
+					alleles.get(i)
+						.computeIfAbsent(chromosome.get(i).allele(), _ -> new int[1])
+						[0] += 1;
+				}
+			}
+		}
+
+		int length() {
+			return Math.max(bits.length, alleles.size());
+		}
+
+		// The fraction of pairs with different alleles at the given locus.
+		double diversity(final int locus) {
+			long n = 0;
+			long squares = 0;
+
+			if (locus < bits.length) {
+				final long ones = this.ones[locus];
+				final long zeros = bits[locus] - ones;
+				n += bits[locus];
+				squares += ones*ones + zeros*zeros;
+			}
+			if (locus < alleles.size()) {
+				for (var entry : alleles.get(locus).entrySet()) {
+					long count = entry.getValue()[0];
+
+					// Merging the counts of the bit fast path.
+					if (locus < bits.length && entry.getKey() instanceof Boolean bit) {
+						final long fast = bit ? ones[locus] : bits[locus] - ones[locus];
+						squares -= fast*fast;
+						count += fast;
+					}
+
+					n += entry.getValue()[0];
+					squares += count*count;
+				}
+			}
+
+			return n > 1 ? (double)(n*n - squares)/(n*(n - 1)) : 0.0;
+		}
+	}
+
+	@Override
+	public double of(final Seq<? extends Phenotype<G, ?>> population) {
+		final List<Loci> loci = new ArrayList<>();
+		for (Phenotype<G, ?> pt : population) {
+			final Genotype<G> gt = pt.genotype();
+			for (int i = loci.size(); i < gt.length(); ++i) {
+				loci.add(new Loci());
+			}
+			for (int i = 0; i < gt.length(); ++i) {
+				loci.get(i).accept(gt.get(i));
+			}
+		}
+
+		double sum = 0;
+		int count = 0;
+		for (Loci l : loci) {
+			for (int i = 0, n = l.length(); i < n; ++i) {
+				sum += l.diversity(i);
+				++count;
+			}
+		}
+
+		return count > 0 ? sum/count : 0.0;
+	}
+
+}
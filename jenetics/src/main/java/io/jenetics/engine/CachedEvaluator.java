@@ -0,0 +1,324 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.ToLongFunction;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator decorator, which memoizes already calculated fitness values. Only
+ * the individuals whose fitness value is not found in the cache are forwarded
+ * to the wrapped evaluator. Individuals of the same population, which share
+ * the same cache key, are evaluated only once. If the cache exceeds its
+ * weight bound, the least recently used entries are evicted.
+ * {@snippet lang="java":
+ * final CachedEvaluator<DoubleGene, Double> evaluator =
+ *     Evaluators.cached(fitness, 10_000);
+ *
+ * final Engine<DoubleGene, Double> engine =
+ *     new Engine.Builder<>(evaluator, genotypeFactory)
+ *         .build();
+ *
+ * final var result = engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ *
+ * // Print the cache statistics.
+ * System.out.println(evaluator.stats());
+ * }
+ *
+ * @apiNote
+ * Caching fitness values is only valid if the fitness function is
+ * <em>deterministic</em>. If the fitness function changes during the
+ * evolution process, the cached values must be invalidated by calling
+ * {@link #clear()}.
+ *
+ * @implNote
+ * This evaluator is thread-safe and can be used by engines, which are
+ * executed concurrently. The fitness function itself is executed outside
+ * the cache lock, by the wrapped evaluator.
+ *
+ * @see Evaluators#cached(Function, int)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class CachedEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evaluator<G, C>
+{
+
+	/**
+	 * Snapshot of the cache statistics.
+	 *
+	 * @param hits the number of fitness values, which has been taken from
+	 *        the cache
+	 * @param misses the number of fitness values, which has been calculated
+	 *        by the wrapped evaluator
+	 * @param evictions the number of evicted cache entries
+	 * @param size the current number of cached fitness values
+	 * @param weight the current weight of the cached fitness values
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 9.0
+	 * @since 9.0
+	 */
+	public record Stats(
+		long hits,
+		long misses,
+		long evictions,
+		int size,
+		long weight
+	) {
+
+		/**
+		 * Return the ratio of fitness values taken from the cache to all
+		 * requested fitness values, or {@code 0.0} if nothing has been
+		 * requested yet.
+		 *
+		 * @return the cache hit rate, in the range of {@code [0, 1]}
+		 */
+		public double hitRate() {
+			final long requests = hits + misses;
+			return requests == 0 ? 0.0 : (double)hits/requests;
+		}
+	}
+
+	private final Evaluator<G, C> _evaluator;
+	private final Function<? super Genotype<G>, ?> _key;
+	private final Cache<C> _cache;
+
+	private CachedEvaluator(
+		final Evaluator<G, C> evaluator,
+		final Function<? super Genotype<G>, ?> key,
+		final Cache<C> cache
+	) {
+		_evaluator = requireNonNull(evaluator);
+		_key = requireNonNull(key);
+		_cache = requireNonNull(cache);
+	}
+
+	<K> CachedEvaluator(
+		final Evaluator<G, C> evaluator,
+		final Function<? super Genotype<G>, ? extends K> key,
+		final ToLongFunction<? super K> weigher,
+		final long maxWeight
+	) {
+		this(evaluator, key, new Cache<>(weigher, maxWeight));
+	}
+
+	Evaluator<G, C> evaluator() {
+		return _evaluator;
+	}
+
+	/**
+	 * Return a new cached evaluator with the given {@code evaluator}, which
+	 * shares the cache of {@code this} evaluator.
+	 */
+	CachedEvaluator<G, C> with(final Evaluator<G, C> evaluator) {
+		return new CachedEvaluator<>(evaluator, _key, _cache);
+	}
+
+	/**
+	 * Return the current cache statistics.
+	 *
+	 * @return the current cache statistics
+	 */
+	public Stats stats() {
+		return _cache.stats();
+	}
+
+	/**
+	 * Removes all cached fitness values. The hit, miss and eviction counts
+	 * are not reset by this method.
+	 */
+	public void clear() {
+		_cache.clear();
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		final Object[] keys = new Object[population.size()];
+		int requests = 0;
+		for (int i = 0; i < keys.length; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (pt.nonEvaluated()) {
+				keys[i] = requireNonNull(_key.apply(pt.genotype()));
+				++requests;
+			}
+		}
+		if (requests == 0) {
+			return population.asISeq();
+		}
+
+		final Object[] fitness = _cache.get(keys);
+
+		// Collecting the individuals which are not in the cache, once per key.
+		final var missing = new LinkedHashMap<Object, Phenotype<G, C>>();
+		for (int i = 0; i < keys.length; ++i) {
+			if (keys[i] != null && fitness[i] == null) {
+				missing.putIfAbsent(keys[i], population.get(i));
+			}
+		}
+
+		final Map<Object, C> values = missing.isEmpty()
+			? Map.of()
+			: eval(missing);
+		_cache.put(values, requests - values.size());
+
+		final MSeq<Phenotype<G, C>> result = MSeq.ofLength(keys.length);
+		for (int i = 0; i < keys.length; ++i) {
+			final Phenotype<G, C> pt = population.get(i);
+			if (keys[i] == null) {
+				result.set(i, pt);
+			} else {
+				@SuppressWarnings("unchecked")
+				final C value = fitness[i] != null
+					? (C)fitness[i]
+					: values.get(keys[i]);
+
+				result.set(i, pt.withFitness(value));
+			}
+		}
+
+		return result.toISeq();
+	}
+
+	private Map<Object, C> eval(final Map<Object, Phenotype<G, C>> missing) {
+		final var keys = new IdentityHashMap<Genotype<G>, Object>();
+		missing.forEach((key, pt) -> keys.put(pt.genotype(), key));
+
+		final ISeq<Phenotype<G, C>> evaluated =
+			_evaluator.eval(ISeq.of(missing.values()));
+
+		final var values = new HashMap<Object, C>();
+		for (var pt : evaluated) {
+			final Object key = keys.containsKey(pt.genotype())
+				? keys.get(pt.genotype())
+				: _key.apply(pt.genotype());
+
+			values.put(key, pt.fitness());
+		}
+
+		return values;
+	}
+
+	/**
+	 * Thread-safe LRU cache, bounded by the total weight of its entries.
+	 *
+	 * @param <C> the fitness result type
+	 */
+	private static final class Cache<C> {
+
+		private record Entry<C>(C value, long weight) {}
+
+		private final Map<Object, Entry<C>> _entries =
+			new LinkedHashMap<>(16, 0.75F, true);
+
+		private final ToLongFunction<Object> _weigher;
+		private final long _maxWeight;
+
+		private long _weight = 0;
+		private long _hits = 0;
+		private long _misses = 0;
+		private long _evictions = 0;
+
+		@SuppressWarnings("unchecked")
+		<K> Cache(final ToLongFunction<? super K> weigher, final long maxWeight) {
+			_weigher = (ToLongFunction<Object>)requireNonNull(weigher);
+			_maxWeight = Requires.positive(maxWeight);
+		}
+
+		/**
+		 * Return the cached values for the given keys. {@code null} keys
+		 * and missing values are mapped to {@code null}.
+		 */
+		synchronized Object[] get(final Object[] keys) {
+			final var values = new Object[keys.length];
+			for (int i = 0; i < keys.length; ++i) {
+				if (keys[i] != null) {
+					final Entry<C> entry = _entries.get(keys[i]);
+					if (entry != null) {
+						values[i] = entry.value();
+					}
+				}
+			}
+			return values;
+		}
+
+		/**
+		 * Insert the newly calculated values and update the statistics.
+		 */
+		synchronized void put(final Map<Object, C> values, final int hits) {
+			_hits += hits;
+			_misses += values.size();
+
+			values.forEach((key, value) -> {
+				final long weight = _weigher.applyAsLong(key);
+				if (weight < 0) {
+					throw new IllegalArgumentException(
+						"Cache entry weight must not be negative: " + weight
+					);
+				}
+
+				final Entry<C> previous = _entries.put(key, new Entry<>(value, weight));
+				_weight += weight - (previous != null ? previous.weight() : 0);
+			});
+
+			final var it = _entries.values().iterator();
+			while (_weight > _maxWeight && it.hasNext()) {
+				_weight -= it.next().weight();
+				it.remove();
+				++_evictions;
+			}
+		}
+
+		synchronized void clear() {
+			_entries.clear();
+			_weight = 0;
+		}
+
+		synchronized Stats stats() {
+			return new Stats(_hits, _misses, _evictions, _entries.size(), _weight);
+		}
+
+	}
+
+}
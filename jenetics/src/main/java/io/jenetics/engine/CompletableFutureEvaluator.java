@@ -33,7 +33,7 @@ import io.jenetics.util.Seq;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 9.0
  * @since 5.0
  */
 final class CompletableFutureEvaluator<
@@ -69,6 +69,20 @@ final class CompletableFutureEvaluator<
 		return evaluated.append(map(population, evaluate));
 	}
 
+	/**
+	 * Evaluates the given {@code individual} asynchronously. The returned
+	 * future is completed with the evaluated individual.
+	 *
+	 * @param individual the individual to evaluate
+	 * @return the future of the evaluated individual
+	 */
+	CompletableFuture<Phenotype<G, C>> eval(final Phenotype<G, C> individual) {
+		return individual.isEvaluated()
+			? CompletableFuture.completedFuture(individual)
+			: _fitness.apply(individual.genotype())
+				.thenApply(individual::withFitness);
+	}
+
 	private ISeq<Phenotype<G, C>> map(
 		final Seq<Phenotype<G, C>> population,
 		final CompletableFuture<C>[] fitnesses
@@ -0,0 +1,86 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Optional;
+import java.util.function.Function;
+
+import io.jenetics.Gene;
+import io.jenetics.Phenotype;
+import io.jenetics.Provenance;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Evaluator flavour, which can use the {@link Provenance} of the altered
+ * individuals for an <em>incremental</em> fitness calculation. The
+ * {@link Engine} creates the provenance of the offspring individuals from the
+ * gene changes, recorded by the alterers, and passes it to this evaluator. Individuals without
+ * a usable provenance, e.g., the ones which have been repaired or replaced
+ * after the alteration, are evaluated from scratch.
+ *
+ * @see Evaluators#delta(Function, DeltaFitness)
+ * @see Provenance
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public interface DeltaEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	extends Evaluator<G, C>
+{
+
+	/**
+	 * Evaluates the fitness values of the given {@code population}. The
+	 * given {@code provenance} function returns the provenance of an
+	 * individual of the population, if available.
+	 *
+	 * @param population the population to evaluate
+	 * @param provenance the provenance lookup function
+	 * @return the evaluated population. Implementers are free to return the
+	 *         input population or a newly created one.
+	 */
+	ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final Function<
+			? super Phenotype<G, C>,
+			Optional<Provenance<G, C>>
+		> provenance
+	);
+
+	/**
+	 * Evaluates the fitness values of the given {@code population}, without
+	 * provenance information. All individuals are evaluated from scratch.
+	 *
+	 * @param population the population to evaluate
+	 * @return the evaluated population
+	 */
+	@Override
+	default ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
+		return eval(population, pt -> Optional.empty());
+	}
+
+}
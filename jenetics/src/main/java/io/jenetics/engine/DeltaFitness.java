@@ -0,0 +1,69 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Provenance;
+
+/**
+ * Incremental fitness function, which calculates the fitness of an altered
+ * genotype from the fitness of its parent and the changed genes.
+ * {@snippet lang="java":
+ * // Fitness function: counting the ones of a bit-genotype.
+ * final DeltaFitness<BitGene, Integer> delta = (genotype, provenance) -> {
+ *     int ones = provenance.parentFitness();
+ *     for (var change : provenance.changes()) {
+ *         final var gene = genotype.get(change.chromosome()).get(change.gene());
+ *         ones += gene.bit() ? 1 : -1;
+ *     }
+ *     return ones;
+ * };
+ * }
+ *
+ * @see Evaluators#delta(java.util.function.Function, DeltaFitness)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+@FunctionalInterface
+public interface DeltaFitness<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	/**
+	 * Calculates the fitness of the given {@code genotype} from the fitness
+	 * of its parent. If the delta calculation is not worth it, e.g., because
+	 * almost all genes have been changed, the function can return
+	 * {@code null}, and the genotype is evaluated from scratch.
+	 *
+	 * @param genotype the genotype to evaluate
+	 * @param provenance the provenance of the genotype
+	 * @return the fitness of the genotype, or {@code null} if the genotype
+	 *         should be evaluated from scratch
+	 */
+	C apply(final Genotype<G> genotype, final Provenance<G, C> provenance);
+
+}
@@ -0,0 +1,160 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.Provenance;
+import io.jenetics.engine.EvolutionRandom.Phase;
+import io.jenetics.util.BatchExecutor;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.Seq;
+
+/**
+ * Delta evaluator implementation, which uses the given {@link DeltaFitness}
+ * function for individuals with provenance information and the <em>full</em>
+ * fitness function otherwise.
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class DeltaFitnessEvaluator<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements DeltaEvaluator<G, C>
+{
+
+	private final Function<? super Genotype<G>, ? extends C> _function;
+	private final DeltaFitness<G, C> _delta;
+	private final BatchExecutor _executor;
+	private final EvolutionRandom _random;
+
+	DeltaFitnessEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final DeltaFitness<G, C> delta,
+		final BatchExecutor executor,
+		final EvolutionRandom random
+	) {
+		_function = requireNonNull(function);
+		_delta = requireNonNull(delta);
+		_executor = requireNonNull(executor);
+		_random = random;
+	}
+
+	DeltaFitnessEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final DeltaFitness<G, C> delta,
+		final BatchExecutor executor
+	) {
+		this(function, delta, executor, null);
+	}
+
+	DeltaFitnessEvaluator<G, C> with(
+		final BatchExecutor executor,
+		final EvolutionRandom random
+	) {
+		return new DeltaFitnessEvaluator<>(_function, _delta, executor, random);
+	}
+
+	@Override
+	public ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final Function<
+			? super Phenotype<G, C>,
+			Optional<Provenance<G, C>>
+		> provenance
+	) {
+		requireNonNull(provenance);
+
+		final ISeq<Phenotype<G, C>> phenotypes = population.stream()
+			.filter(Phenotype::nonEvaluated)
+			.collect(ISeq.toISeq());
+
+		final var tasks = IntStream.range(0, phenotypes.size())
+			.mapToObj(i -> new RunnableFunction<>(
+				phenotypes.get(i),
+				function(i, provenance)
+			))
+			.collect(ISeq.toISeq());
+
+		final ISeq<Phenotype<G, C>> result;
+		if (tasks.nonEmpty()) {
+			_executor.execute(tasks);
+
+			result = tasks.size() == population.size()
+				? tasks.map(t -> t.input().withFitness(t.result()))
+				: population.stream()
+					.filter(Phenotype::isEvaluated)
+					.collect(ISeq.toISeq())
+					.append(tasks.map(t -> t.input().withFitness(t.result())));
+		} else {
+			result = population.asISeq();
+		}
+
+		return result;
+	}
+
+	// Every individual gets its own random generator, if the reproducible
+	// evolution mode is enabled.
+	private Function<Phenotype<G, C>, ? extends C> function(
+		final int index,
+		final Function<
+			? super Phenotype<G, C>,
+			Optional<Provenance<G, C>>
+		> provenance
+	) {
+		return _random == null
+			? pt -> fitness(pt, provenance)
+			: pt -> _random.call(
+				pt.generation(),
+				Phase.EVALUATION,
+				index,
+				() -> fitness(pt, provenance)
+			);
+	}
+
+	private C fitness(
+		final Phenotype<G, C> phenotype,
+		final Function<
+			? super Phenotype<G, C>,
+			Optional<Provenance<G, C>>
+		> provenance
+	) {
+		final Genotype<G> genotype = phenotype.genotype();
+		final C fitness = provenance.apply(phenotype)
+			.map(p -> _delta.apply(genotype, p))
+			.orElse(null);
+
+		return fitness != null ? fitness : _function.apply(genotype);
+	}
+
+}
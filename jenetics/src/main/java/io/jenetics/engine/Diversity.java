@@ -0,0 +1,153 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.ToDoubleBiFunction;
+
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Measures the <em>genotypic</em> diversity of a population. Unlike the
+ * fitness based convergence measures, like
+ * {@link Limits#byPopulationConvergence(double)}, the diversity is calculated
+ * from the genes of the population. A naive implementation of a mean
+ * pairwise distance is of order <em>O(N<sup>2</sup>)</em>, where <em>N</em> is
+ * the population size. The measures created by the factory methods of this
+ * interface are either calculated from per-locus allele statistics, in
+ * <em>O(N·L)</em>, or estimated from a fixed number of sampled genotype pairs.
+ * {@snippet lang="java":
+ * final Diversity<BitGene> diversity = Diversity.ofAlleles();
+ *
+ * final Phenotype<BitGene, Integer> best = engine.stream()
+ *     // Stop the evolution if the population has lost its diversity.
+ *     .limit(Limits.byDiversity(diversity, 0.01))
+ *     .limit(1000)
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }
+ *
+ * @see DiversityStatistics
+ * @see Limits#byDiversity(Diversity, double)
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+@FunctionalInterface
+public interface Diversity<G extends Gene<?, G>> {
+
+	/**
+	 * Calculates the diversity of the given {@code population}. A value of
+	 * zero means that all genotypes of the population are equal.
+	 *
+	 * @param population the population to measure
+	 * @return the diversity of the given population
+	 * @throws NullPointerException if the given {@code population} is
+	 *         {@code null}
+	 */
+	double of(final Seq<? extends Phenotype<G, ?>> population);
+
+	/**
+	 * Return a diversity measure, which calculates the mean pairwise
+	 * <em>Hamming</em> distance of the genotypes, divided by the number of
+	 * genes. The value is the probability that two randomly chosen genotypes
+	 * have different alleles at a randomly chosen locus. It is calculated
+	 * exactly, in <em>O(N·L)</em>, from the allele frequencies of every
+	 * locus. {@link io.jenetics.BitChromosome}s are counted directly, without
+	 * boxing their bits. For all other chromosomes, the alleles are compared
+	 * with their {@code equals} method.
+	 *
+	 * @param <G> the gene type
+	 * @return the mean normalized Hamming distance measure
+	 */
+	static <G extends Gene<?, G>> Diversity<G> ofAlleles() {
+		return new AlleleDiversity<>();
+	}
+
+	/**
+	 * Return a diversity measure for numeric genes, which calculates the root
+	 * mean square of the pairwise <em>Euclidean</em> distance of the
+	 * genotypes. Every gene value is normalized by the range of the gene, and
+	 * the squared distance is divided by the number of genes. The value is
+	 * calculated exactly, in <em>O(N·L)</em>, from the variance of every
+	 * locus, since the mean squared distance of all pairs is twice the
+	 * (sample) variance.
+	 *
+	 * @param <G> the gene type
+	 * @return the normalized root mean square Euclidean distance measure
+	 */
+	static <G extends NumericGene<?, G>> Diversity<G> ofNumeric() {
+		return new NumericDiversity<>();
+	}
+
+	/**
+	 * Return a diversity measure which estimates the mean pairwise
+	 * {@code distance} of the genotypes from the given number of randomly
+	 * chosen genotype pairs. If the population contains not more than the
+	 * given number of {@code pairs}, all pairs are used and the mean distance
+	 * is calculated exactly. The random pairs are drawn from the
+	 * {@link io.jenetics.util.RandomRegistry#random()} engine.
+	 *
+	 * @param distance the distance function of two genotypes
+	 * @param pairs the maximal number of pairs used for the estimation
+	 * @param <G> the gene type
+	 * @return the sampled mean distance measure
+	 * @throws NullPointerException if the given {@code distance} is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if the number of {@code pairs} is
+	 *         smaller than one
+	 */
+	static <G extends Gene<?, G>> Diversity<G> ofSampled(
+		final ToDoubleBiFunction<? super Genotype<G>, ? super Genotype<G>> distance,
+		final int pairs
+	) {
+		return new SampledDiversity<>(requireNonNull(distance), pairs);
+	}
+
+	/**
+	 * Return a diversity measure for permutations, which estimates the mean
+	 * normalized <em>Kendall tau</em> distance of the genotypes from the given
+	 * number of randomly chosen pairs. The Kendall tau distance counts the
+	 * number of allele pairs, which are ordered differently in the two
+	 * permutations, and is calculated in <em>O(L·log L)</em>. It is normalized
+	 * by the number of allele pairs, which gives a value in the range
+	 * {@code [0, 1]}.
+	 *
+	 * @see #ofSampled(ToDoubleBiFunction, int)
+	 *
+	 * @param pairs the maximal number of pairs used for the estimation
+	 * @param <A> the allele type
+	 * @return the sampled mean Kendall tau distance measure
+	 * @throws IllegalArgumentException if the number of {@code pairs} is
+	 *         smaller than one
+	 */
+	static <A> Diversity<EnumGene<A>> ofPermutations(final int pairs) {
+		return new SampledDiversity<>(SampledDiversity::kendallTau, pairs);
+	}
+
+}
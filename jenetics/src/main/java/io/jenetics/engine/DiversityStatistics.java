@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Consumer;
+
+import io.jenetics.Gene;
+import io.jenetics.stat.DoubleMomentStatistics;
+
+/**
+ * Gathers the genotypic diversity of the populations of an evolution stream,
+ * generation by generation. It can be used in addition to the
+ * {@link EvolutionStatistics} object, and its last diversity value can be
+ * used for triggering restarts or adapting the mutation rate.
+ * {@snippet lang="java":
+ * final EvolutionStatistics<Double, ?> statistics =
+ *     EvolutionStatistics.ofNumber();
+ * final DiversityStatistics<DoubleGene> diversity =
+ *     DiversityStatistics.of(Diversity.ofNumeric());
+ *
+ * final Phenotype<DoubleGene, Double> best = engine.stream()
+ *     .limit(100)
+ *     .peek(statistics)
+ *     .peek(diversity)
+ *     .collect(toBestPhenotype());
+ *
+ * System.out.println(statistics);
+ * System.out.println(diversity);
+ * }
+ *
+ * @implNote
+ * This class is not thread-safe.
+ *
+ * @see Diversity
+ *
+ * @param <G> the gene type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class DiversityStatistics<G extends Gene<?, G>>
+	implements Consumer<EvolutionResult<G, ?>>
+{
+
+	private final Diversity<G> _diversity;
+	private final DoubleMomentStatistics _statistics =
+		new DoubleMomentStatistics();
+
+	private double _last = Double.NaN;
+
+	private DiversityStatistics(final Diversity<G> diversity) {
+		_diversity = requireNonNull(diversity);
+	}
+
+	@Override
+	public void accept(final EvolutionResult<G, ?> result) {
+		_last = _diversity.of(result.population());
+		_statistics.accept(_last);
+	}
+
+	/**
+	 * Return the diversity of the last accepted population.
+	 *
+	 * @return the diversity of the last population, or {@link Double#NaN} if
+	 *         no population has been accepted yet
+	 */
+	public double diversity() {
+		return _last;
+	}
+
+	/**
+	 * Return the statistics of the diversity values of all accepted
+	 * populations.
+	 *
+	 * @return the diversity statistics
+	 */
+	public DoubleMomentStatistics statistics() {
+		return _statistics;
+	}
+
+	@Override
+	public String toString() {
+		final String pattern = "| %22s %-51s|\n";
+		return
+			"+---------------------------------------------------------------------------+\n" +
+			"|  Diversity statistics                                                     |\n" +
+			"+---------------------------------------------------------------------------+\n" +
+			format(pattern, "Generations:", _statistics.count()) +
+			format(pattern, "Last:", d(_last)) +
+			format(pattern, "Min:", d(_statistics.min())) +
+			format(pattern, "Max:", d(_statistics.max())) +
+			format(pattern, "Mean:", d(_statistics.mean())) +
+			"+---------------------------------------------------------------------------+";
+	}
+
+	private static String d(final double value) {
+		return format("%3.12f", value);
+	}
+
+	/**
+	 * Create a new diversity statistics object for the given diversity
+	 * measure.
+	 *
+	 * @param diversity the diversity measure
+	 * @param <G> the gene type
+	 * @return a new diversity statistics object
+	 * @throws NullPointerException if the given {@code diversity} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>> DiversityStatistics<G>
+	of(final Diversity<G> diversity) {
+		return new DiversityStatistics<>(diversity);
+	}
+
+}
@@ -25,6 +25,9 @@ import static java.util.concurrent.CompletableFuture.supplyAsync;
 import static java.util.concurrent.ForkJoinPool.commonPool;
 
 import java.time.InstantSource;
+import java.util.IdentityHashMap;
+import java.util.Map;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Executor;
 import java.util.concurrent.ForkJoinPool;
@@ -33,13 +36,17 @@ import java.util.function.Supplier;
 import java.util.stream.Stream;
 
 import io.jenetics.Alterer;
-import io.jenetics.AltererResult;
 import io.jenetics.Chromosome;
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Optimize;
 import io.jenetics.Phenotype;
+import io.jenetics.Provenance;
 import io.jenetics.Selector;
+import io.jenetics.engine.EvolutionEvents.EvaluationEvent;
+import io.jenetics.engine.EvolutionEvents.EvolveEvent;
+import io.jenetics.engine.EvolutionEvents.PhaseEvent;
+import io.jenetics.engine.EvolutionRandom.Phase;
 import io.jenetics.util.BatchExecutor;
 import io.jenetics.util.Copyable;
 import io.jenetics.util.Factory;
@@ -107,6 +114,16 @@ import io.jenetics.util.Seq;
  *     .build();
  * }
  *
+ * <H2>Monitoring</H2>
+ * The engine emits Java Flight Recorder events for every evolution step
+ * ({@code io.jenetics.Evolve}), every evolution phase
+ * ({@code io.jenetics.EvolutionPhase}) and every fitness evaluation
+ * ({@code io.jenetics.Evaluation}). The events are disabled by default and
+ * can be enabled with the standard JFR tooling.
+ * {@snippet lang="shell":
+ * java -XX:StartFlightRecording:io.jenetics.Evolve#enabled=true,io.jenetics.Evaluation#enabled=true ...
+ * }
+ *
  * @implNote
  *     This class is thread safe: The engine maintains no mutable state.
  *     Therefore, it is safe to create multiple evolution streams with one
@@ -125,7 +142,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 7.0
+ * @version 9.0
  */
 public final class Engine<
 	G extends Gene<?, G>,
@@ -151,6 +168,9 @@ public final class Engine<
 	private final InstantSource _clock;
 	private final EvolutionInterceptor<G, C> _interceptor;
 
+	// Random generators of the reproducible evolution mode, may be null.
+	private final EvolutionRandom _random;
+
 
 	/**
 	 * Create a new GA engine with the given parameters.
@@ -167,7 +187,11 @@ public final class Engine<
 	 * @param clock the clock used for calculating the timing results
 	 * @param interceptor the evolution interceptor, which gives additional
 	 *        possibilities to influence the actual evolution
-	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @param random the random generators of the evolution phases, or
+	 *        {@code null} if the random generators of the
+	 *        {@link io.jenetics.util.RandomRegistry} are used
+	 * @throws NullPointerException if one of the arguments, except
+	 *         {@code random}, is {@code null}
 	 * @throws IllegalArgumentException if the given integer values are smaller
 	 *         than one.
 	 */
@@ -179,7 +203,8 @@ public final class Engine<
 		final EvolutionParams<G, C> evolutionParams,
 		final Executor executor,
 		final InstantSource clock,
-		final EvolutionInterceptor<G, C> interceptor
+		final EvolutionInterceptor<G, C> interceptor,
+		final EvolutionRandom random
 	) {
 		_evaluator = requireNonNull(evaluator);
 		_genotypeFactory = requireNonNull(genotypeFactory);
@@ -189,12 +214,17 @@ public final class Engine<
 		_executor = requireNonNull(executor);
 		_clock = requireNonNull(clock);
 		_interceptor = requireNonNull(interceptor);
+		_random = random;
 	}
 
 	@Override
 	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
 		final EvolutionTiming timing = new EvolutionTiming(_clock);
 		timing.evolve.start();
+		final var event = EvolutionEvents.AVAILABLE ? new EvolveEvent() : null;
+		if (event != null) {
+			event.begin();
+		}
 
 		final EvolutionStart<G, C> interceptedStart = _interceptor.before(start);
 
@@ -203,16 +233,20 @@ public final class Engine<
 			? evolutionStart(interceptedStart)
 			: interceptedStart;
 
+		final long generation = es.generation();
+
 		// Initial evaluation of the population.
 		final ISeq<Phenotype<G, C>> population = es.isDirty()
-			? timing.evaluation.timing(() -> eval(es.population()))
+			? timing.evaluation.timing(() -> eval(es.population(), generation))
 			: es.population();
 
 		// Select the offspring population.
 		final CompletableFuture<ISeq<Phenotype<G, C>>> offspring =
 			supplyAsync(() ->
 				timing.offspringSelection.timing(() ->
-					selectOffspring(population)
+					phase(generation, Phase.OFFSPRING_SELECTION, () ->
+						selectOffspring(population)
+					)
 				),
 				_executor
 			);
@@ -221,16 +255,20 @@ public final class Engine<
 		final CompletableFuture<ISeq<Phenotype<G, C>>> survivors =
 			supplyAsync(() ->
 				timing.survivorsSelection.timing(() ->
-					selectSurvivors(population)
+					phase(generation, Phase.SURVIVORS_SELECTION, () ->
+						selectSurvivors(population)
+					)
 				),
 				_executor
 			);
 
 		// Altering the offspring population.
-		final CompletableFuture<AltererResult<G, C>> alteredOffspring =
+		final CompletableFuture<Provenance.Alteration<G, C>> alteredOffspring =
 			offspring.thenApplyAsync(off ->
 				timing.offspringAlter.timing(() ->
-					_evolutionParams.alterer().alter(off, es.generation())
+					phase(generation, Phase.OFFSPRING_ALTER, () ->
+						alter(off, generation)
+					)
 				),
 				_executor
 			);
@@ -239,7 +277,9 @@ public final class Engine<
 		final CompletableFuture<FilterResult<G, C>> filteredSurvivors =
 			survivors.thenApplyAsync(sur ->
 				timing.survivorFilter.timing(() ->
-					filter(sur, es.generation())
+					phase(generation, Phase.SURVIVOR_FILTER, () ->
+						filter(sur, generation)
+					)
 				),
 				_executor
 			);
@@ -248,7 +288,9 @@ public final class Engine<
 		final CompletableFuture<FilterResult<G, C>> filteredOffspring =
 			alteredOffspring.thenApplyAsync(off ->
 				timing.offspringFilter.timing(() ->
-					filter(off.population(), es.generation())
+					phase(generation, Phase.OFFSPRING_FILTER, () ->
+						filter(off.result().population(), generation)
+					)
 				),
 				_executor
 			);
@@ -261,12 +303,6 @@ public final class Engine<
 				_executor
 			);
 
-		// Evaluate the fitness-function and wait for a result.
-		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
-		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
-			eval(pop)
-		);
-
 		final int killCount =
 			filteredOffspring.join().killCount() +
 			filteredSurvivors.join().killCount();
@@ -275,7 +311,18 @@ public final class Engine<
 			filteredOffspring.join().invalidCount() +
 			filteredSurvivors.join().invalidCount();
 
-		final int alterationCount = alteredOffspring.join().alterations();
+		final int alterationCount =
+			alteredOffspring.join().result().alterations();
+
+		// Evaluate the fitness-function and wait for a result.
+		final ISeq<Phenotype<G, C>> pop = nextPopulation.join();
+		final Map<Phenotype<G, C>, Provenance<G, C>> prov =
+			_evaluator instanceof DeltaEvaluator<G, C>
+				? provenance(offspring.join(), alteredOffspring.join())
+				: Map.of();
+		final ISeq<Phenotype<G, C>> result = timing.evaluation.timing(() ->
+			eval(pop, generation, prov, killCount, invalidCount, alterationCount)
+		);
 
 		EvolutionResult<G, C> er = EvolutionResult.of(
 			_optimize,
@@ -291,23 +338,169 @@ public final class Engine<
 		if (er != interceptedResult) {
 			er = interceptedResult.withPopulation(
 				timing.evaluation.timing(() ->
-					eval(interceptedResult.population())
+					eval(interceptedResult.population(), generation)
 			));
 		}
 
+		// Summarizing the final population lazily, once for all result
+		// consumers.
+		final ISeq<Phenotype<G, C>> summarized = er.population();
+		final long gen = er.generation();
+		er = er.withSummary(() ->
+			PopulationSummary.of(summarized, gen, _optimize, _executor)
+		);
+
 		timing.evolve.stop();
+		if (event != null && event.shouldCommit()) {
+			event.generation = generation;
+			event.populationSize = er.population().size();
+			event.killCount = killCount;
+			event.invalidCount = invalidCount;
+			event.alterationCount = alterationCount;
+			event.commit();
+		}
 
 		return er
 			.withDurations(timing.toDurations())
 			.clean();
 	}
 
+	// Executes the given task with the random generator of the given
+	// generation and phase, if the reproducible evolution mode is enabled.
+	private <T> T random(
+		final long generation,
+		final Phase phase,
+		final Supplier<? extends T> task
+	) {
+		return _random != null
+			? _random.call(generation, phase, task)
+			: task.get();
+	}
+
+	// Executes the given evolution phase with the random generator of the
+	// phase and records it as JFR event, if enabled.
+	private <T> T phase(
+		final long generation,
+		final Phase phase,
+		final Supplier<? extends T> task
+	) {
+		final var event = EvolutionEvents.AVAILABLE ? new PhaseEvent() : null;
+		if (event != null) {
+			event.begin();
+		}
+		try {
+			return random(generation, phase, task);
+		} finally {
+			if (event != null && event.shouldCommit()) {
+				event.generation = generation;
+				event.phase = phase.name();
+				event.commit();
+			}
+		}
+	}
+
+	// Evaluates the population with the random generator of the evaluation
+	// phase, if the reproducible evolution mode is enabled.
+	private ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final long generation
+	) {
+		return eval(population, generation, Map.of(), 0, 0, 0);
+	}
+
+	// The given counts are only used for the JFR evaluation event.
+	private ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Map<Phenotype<G, C>, Provenance<G, C>> provenance,
+		final int killCount,
+		final int invalidCount,
+		final int alterationCount
+	) {
+		final var event = EvolutionEvents.AVAILABLE ? new EvaluationEvent() : null;
+		if (event != null) {
+			event.begin();
+		}
+
+		final ISeq<Phenotype<G, C>> result = random(
+			generation,
+			Phase.EVALUATION,
+			() -> eval(population, provenance)
+		);
+
+		if (event != null && event.shouldCommit()) {
+			event.generation = generation;
+			event.batchSize = (int)population.stream()
+				.filter(Phenotype::nonEvaluated)
+				.count();
+			event.populationSize = population.size();
+			event.killCount = killCount;
+			event.invalidCount = invalidCount;
+			event.alterationCount = alterationCount;
+			event.commit();
+		}
+
+		return result;
+	}
+
+	// Alters the offspring population. The changed genes are only recorded
+	// if the evaluator is able to use them.
+	private Provenance.Alteration<G, C> alter(
+		final Seq<Phenotype<G, C>> offspring,
+		final long generation
+	) {
+		final Alterer<G, C> alterer = _evolutionParams.alterer();
+		if (_evaluator instanceof DeltaEvaluator<G, C>) {
+			return Provenance.Alteration
+				.of(alterer, offspring, generation, _executor);
+		} else {
+			final var result = alterer.alter(offspring, generation, _executor);
+			return new Provenance.Alteration<>(
+				result,
+				ISeq.of(Optional::empty, result.population().size())
+			);
+		}
+	}
+
+	// Determines the provenance of the altered individuals from the gene
+	// changes recorded by the alterer. The map uses the identity of the
+	// offspring phenotypes. Individuals replaced in the filter step are
+	// therefore evaluated from scratch.
+	private Map<Phenotype<G, C>, Provenance<G, C>> provenance(
+		final Seq<Phenotype<G, C>> parents,
+		final Provenance.Alteration<G, C> altered
+	) {
+		final Map<Phenotype<G, C>, Provenance<G, C>> provenance =
+			new IdentityHashMap<>();
+
+		final ISeq<Phenotype<G, C>> offspring = altered.result().population();
+		final int size = Math.min(parents.size(), offspring.size());
+		for (int i = 0; i < size; ++i) {
+			final Phenotype<G, C> parent = parents.get(i);
+			final Phenotype<G, C> child = offspring.get(i);
+
+			if (child != parent && child.nonEvaluated()) {
+				altered.changes().get(i)
+					.flatMap(changes ->
+						Provenance.of(parent, child.genotype(), changes))
+					.ifPresent(p -> provenance.put(child, p));
+			}
+		}
+
+		return provenance;
+	}
+
 	// Selects the survivor population. A new population object is returned.
 	private ISeq<Phenotype<G, C>>
 	selectSurvivors(final ISeq<Phenotype<G, C>> population) {
 		return _evolutionParams.survivorsSize() > 0
 			? _evolutionParams.survivorsSelector()
-				.select(population, _evolutionParams.survivorsSize(), _optimize)
+				.select(
+					population,
+					_evolutionParams.survivorsSize(),
+					_optimize,
+					_executor
+				)
 			: ISeq.empty();
 	}
 
@@ -316,7 +509,12 @@ public final class Engine<
 	selectOffspring(final ISeq<Phenotype<G, C>> population) {
 		return _evolutionParams.offspringSize() > 0
 			? _evolutionParams.offspringSelector()
-				.select(population, _evolutionParams.offspringSize(), _optimize)
+				.select(
+					population,
+					_evolutionParams.offspringSize(),
+					_optimize,
+					_executor
+				)
 			: ISeq.empty();
 	}
 
@@ -370,7 +568,19 @@ public final class Engine<
 	 */
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final ISeq<Phenotype<G, C>> evaluated = _evaluator.eval(population);
+		return eval(population, Map.of());
+	}
+
+	// Evaluates the population, using the provenance of the individuals if
+	// the evaluator is a delta evaluator.
+	private ISeq<Phenotype<G, C>> eval(
+		final Seq<Phenotype<G, C>> population,
+		final Map<Phenotype<G, C>, Provenance<G, C>> provenance
+	) {
+		final ISeq<Phenotype<G, C>> evaluated =
+			_evaluator instanceof DeltaEvaluator<G, C> de && !provenance.isEmpty()
+				? de.eval(population, pt -> Optional.ofNullable(provenance.get(pt)))
+				: _evaluator.eval(population);
 
 		if (population.size() != evaluated.size()) {
 			throw new IllegalStateException(format(
@@ -413,17 +623,19 @@ public final class Engine<
 		final ISeq<Phenotype<G, C>> population = start.population();
 		final long gen = start.generation();
 
-		final Stream<Phenotype<G, C>> stream = Stream.concat(
-			population.stream(),
-			_genotypeFactory.instances()
-				.map(gt -> Phenotype.of(gt, gen))
-		);
+		final Supplier<ISeq<Phenotype<G, C>>> pop = () -> {
+			final Stream<Phenotype<G, C>> stream = Stream.concat(
+				population.stream(),
+				_genotypeFactory.instances()
+					.map(gt -> Phenotype.of(gt, gen))
+			);
 
-		final ISeq<Phenotype<G, C>> pop = stream
-			.limit(populationSize())
-			.collect(ISeq.toISeq());
+			return stream
+				.limit(populationSize())
+				.collect(ISeq.toISeq());
+		};
 
-		return EvolutionStart.of(pop, gen);
+		return EvolutionStart.of(random(gen, Phase.INIT, pop), gen);
 	}
 
 	private EvolutionStart<G, C>
@@ -568,6 +780,19 @@ public final class Engine<
 		return _interceptor;
 	}
 
+	/**
+	 * Return the random generators of the reproducible evolution mode, if
+	 * enabled.
+	 *
+	 * @see Builder#random(EvolutionRandom)
+	 * @since 9.0
+	 *
+	 * @return the random generators of the reproducible evolution mode
+	 */
+	public Optional<EvolutionRandom> random() {
+		return Optional.ofNullable(_random);
+	}
+
 	/**
 	 * Create a new evolution {@code Engine.Builder} initialized with the values
 	 * of the current evolution {@code Engine}. With this method, the evolution
@@ -582,7 +807,8 @@ public final class Engine<
 			.optimize(_optimize)
 			.constraint(_constraint)
 			.evolutionParams(_evolutionParams)
-			.interceptor(_interceptor);
+			.interceptor(_interceptor)
+			.random(_random);
 	}
 
 
@@ -694,7 +920,7 @@ public final class Engine<
 	 *
 	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
 	 * @since 3.0
-	 * @version 6.0
+	 * @version 9.0
 	 */
 	public static final class Builder<
 		G extends Gene<?, G>,
@@ -722,6 +948,8 @@ public final class Engine<
 		private EvolutionInterceptor<G, C> _interceptor =
 			EvolutionInterceptor.identity();
 
+		private EvolutionRandom _random = null;
+
 		/**
 		 * Create a new evolution {@code Engine.Builder} with the given fitness
 		 * evaluator and genotype factory. This is the most general way of
@@ -1061,6 +1289,31 @@ public final class Engine<
 			return this;
 		}
 
+		/**
+		 * Enables the reproducible evolution mode. Every evolution phase of
+		 * every generation is executed with its own random generator, derived
+		 * from the given {@code random} object. The result of the evolution
+		 * is then independent of the used {@link #executor(Executor)} and
+		 * {@link #fitnessExecutor(BatchExecutor)}.
+		 * {@snippet lang="java":
+		 * final Engine<DoubleGene, Double> engine = Engine.builder(fitness, codec)
+		 *     .random(EvolutionRandom.of(123))
+		 *     .build();
+		 * }
+		 *
+		 * @since 9.0
+		 * @see EvolutionRandom
+		 *
+		 * @param random the random generators of the evolution phases. If
+		 *        {@code null}, the reproducible evolution mode is disabled,
+		 *        which is the default.
+		 * @return {@code this} builder, for command chaining
+		 */
+		public Builder<G, C> random(final EvolutionRandom random) {
+			_random = random;
+			return this;
+		}
+
 		/**
 		 * Builds a new {@code Engine} instance from the set properties.
 		 *
@@ -1075,14 +1328,28 @@ public final class Engine<
 				_evolutionParams.build(),
 				_executor,
 				_clock,
-				_interceptor
+				_interceptor,
+				_random
 			);
 		}
 
 		private Evaluator<G, C> __evaluator() {
-			return _evaluator instanceof FitnessEvaluator<G, C> fe
-				? new FitnessEvaluator<>(fe.function(), fitnessExecutor())
-				: _evaluator;
+			return __evaluator(_evaluator);
+		}
+
+		private Evaluator<G, C> __evaluator(final Evaluator<G, C> evaluator) {
+			return switch (evaluator) {
+				case FitnessEvaluator<G, C> fe -> new FitnessEvaluator<>(
+					fe.function(),
+					fitnessExecutor(),
+					_random
+				);
+				case DeltaFitnessEvaluator<G, C> de ->
+					de.with(fitnessExecutor(), _random);
+				case CachedEvaluator<G, C> ce ->
+					ce.with(__evaluator(ce.evaluator()));
+				default -> evaluator;
+			};
 		}
 
 		private Constraint<G, C> __constraint() {
@@ -1251,6 +1518,18 @@ public final class Engine<
 			return _interceptor;
 		}
 
+		/**
+		 * Return the random generators of the reproducible evolution mode, or
+		 * {@code null} if the mode is not enabled.
+		 *
+		 * @since 9.0
+		 *
+		 * @return the random generators of the reproducible evolution mode
+		 */
+		public EvolutionRandom random() {
+			return _random;
+		}
+
 		/**
 		 * Create a new builder, with the current configuration.
 		 *
@@ -1266,7 +1545,8 @@ public final class Engine<
 				.constraint(_constraint)
 				.optimize(_optimize)
 				.evolutionParams(_evolutionParams.build())
-				.interceptor(_interceptor);
+				.interceptor(_interceptor)
+				.random(_random);
 		}
 
 	}
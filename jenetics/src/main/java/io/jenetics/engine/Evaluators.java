@@ -19,12 +19,16 @@
  */
 package io.jenetics.engine;
 
+import static java.util.concurrent.ForkJoinPool.commonPool;
+
 import java.util.concurrent.CompletableFuture;
 import java.util.concurrent.Future;
 import java.util.function.Function;
+import java.util.function.ToLongFunction;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
+import io.jenetics.util.BatchExecutor;
 
 /**
  * This class contains factory methods for creating commonly usable
@@ -33,7 +37,7 @@ import io.jenetics.Genotype;
  * @see Evaluator
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 9.0
  * @since 5.0
  */
 public final class Evaluators {
@@ -163,4 +167,183 @@ public final class Evaluators {
 		return completable(fitness, codec.decoder());
 	}
 
+	/**
+	 * Return a new evaluator, which caches the fitness values of already
+	 * evaluated genotypes. At most {@code maxEntries} fitness values are
+	 * cached, evicting the least recently used ones. If the returned
+	 * evaluator is used for building an {@link Engine}, the fitness function
+	 * is executed with the {@link Engine.Builder#fitnessExecutor()}.
+	 * {@snippet lang="java":
+	 * final CachedEvaluator<DoubleGene, Double> evaluator =
+	 *     Evaluators.cached(fitness, 10_000);
+	 *
+	 * final Engine<DoubleGene, Double> engine =
+	 *     new Engine.Builder<>(evaluator, genotypeFactory)
+	 *         .build();
+	 * }
+	 *
+	 * @see CachedEvaluator
+	 * @since 9.0
+	 *
+	 * @param fitness the fitness function
+	 * @param maxEntries the maximal number of cached fitness values
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if the {@code fitness} function is
+	 *         {@code null}
+	 * @throws IllegalArgumentException if {@code maxEntries} is smaller than
+	 *         one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachedEvaluator<G, C> cached(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final int maxEntries
+	) {
+		return cached(
+			new FitnessEvaluator<G, C>(fitness, BatchExecutor.of(commonPool())),
+			Function.identity(),
+			key -> 1,
+			maxEntries
+		);
+	}
+
+	/**
+	 * Return a new evaluator, which caches the fitness values of already
+	 * evaluated individuals. The decoded value of the given {@code codec} is
+	 * used as cache key. This allows reusing fitness values of different
+	 * genotypes, which are mapped to the same <em>native</em> value. At most
+	 * {@code maxEntries} fitness values are cached, evicting the least
+	 * recently used ones.
+	 *
+	 * @see CachedEvaluator
+	 * @since 9.0
+	 *
+	 * @param fitness the fitness function, working on the <em>native</em>
+	 *        fitness domain
+	 * @param codec the codec used for transforming the fitness domain
+	 * @param maxEntries the maximal number of cached fitness values
+	 * @param <T> the <em>native</em> fitness domain type
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code maxEntries} is smaller than
+	 *         one
+	 */
+	public static <T, G extends Gene<?, G>, C extends Comparable<? super C>>
+	CachedEvaluator<G, C> cached(
+		final Function<? super T, ? extends C> fitness,
+		final Codec<T, G> codec,
+		final int maxEntries
+	) {
+		return cached(
+			new FitnessEvaluator<G, C>(
+				fitness.compose(codec.decoder()),
+				BatchExecutor.of(commonPool())
+			),
+			codec.decoder(),
+			key -> 1,
+			maxEntries
+		);
+	}
+
+	/**
+	 * Return a new evaluator, which caches the fitness values of the given
+	 * {@code evaluator}. The cache key is extracted from the genotype with the
+	 * given {@code key} function, and the least recently used entries are
+	 * evicted, if the sum of the entry weights exceeds the given
+	 * {@code maxWeight}.
+	 * {@snippet lang="java":
+	 * // Caching at most 10 million genes.
+	 * final CachedEvaluator<DoubleGene, Double> evaluator = Evaluators.cached(
+	 *     Evaluators.completable(fitness, codec),
+	 *     Function.identity(),
+	 *     Genotype::geneCount,
+	 *     10_000_000
+	 * );
+	 * }
+	 *
+	 * @see CachedEvaluator
+	 * @since 9.0
+	 *
+	 * @param evaluator the evaluator which calculates the fitness values not
+	 *        found in the cache
+	 * @param key the function which extracts the cache key from the genotype.
+	 *        The returned key must not be {@code null} and must implement
+	 *        {@link Object#equals(Object)} and {@link Object#hashCode()}
+	 *        consistently.
+	 * @param weigher the function which calculates the (non-negative) weight
+	 *        of a cache entry from its key
+	 * @param maxWeight the maximal weight of all cached entries
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @param <K> the cache key type
+	 * @return a new caching fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if {@code maxWeight} is smaller than
+	 *         one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>, K>
+	CachedEvaluator<G, C> cached(
+		final Evaluator<G, C> evaluator,
+		final Function<? super Genotype<G>, ? extends K> key,
+		final ToLongFunction<? super K> weigher,
+		final long maxWeight
+	) {
+		return new CachedEvaluator<>(evaluator, key, weigher, maxWeight);
+	}
+
+	/**
+	 * Return a new evaluator, which calculates the fitness of altered
+	 * individuals <em>incrementally</em>, from the fitness of their parents
+	 * and the changed genes. Individuals without usable
+	 * {@link io.jenetics.Provenance} information, or for which the
+	 * {@code delta} function returns {@code null}, are evaluated with the
+	 * given {@code fitness} function.
+	 * {@snippet lang="java":
+	 * final Function<Genotype<BitGene>, Integer> fitness = gt ->
+	 *     gt.chromosome().as(BitChromosome.class).bitCount();
+	 *
+	 * final DeltaEvaluator<BitGene, Integer> evaluator = Evaluators.delta(
+	 *     fitness,
+	 *     (genotype, provenance) -> {
+	 *         int ones = provenance.parentFitness();
+	 *         for (var change : provenance.changes()) {
+	 *             ones += genotype.get(change.chromosome())
+	 *                 .get(change.gene()).bit() ? 1 : -1;
+	 *         }
+	 *         return ones;
+	 *     }
+	 * );
+	 *
+	 * final Engine<BitGene, Integer> engine =
+	 *     new Engine.Builder<>(evaluator, genotypeFactory)
+	 *         .build();
+	 * }
+	 *
+	 * @see DeltaEvaluator
+	 * @see io.jenetics.Provenance
+	 * @since 9.0
+	 *
+	 * @param fitness the fitness function, used for individuals without
+	 *        provenance information
+	 * @param delta the incremental fitness function
+	 * @param <G> the gene type
+	 * @param <C> the fitness value type
+	 * @return a new delta fitness evaluator
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	DeltaEvaluator<G, C> delta(
+		final Function<? super Genotype<G>, ? extends C> fitness,
+		final DeltaFitness<G, C> delta
+	) {
+		return new DeltaFitnessEvaluator<>(
+			fitness,
+			delta,
+			BatchExecutor.of(commonPool())
+		);
+	}
+
 }
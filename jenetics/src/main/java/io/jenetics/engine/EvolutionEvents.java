@@ -0,0 +1,142 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Enabled;
+import jdk.jfr.Event;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+/**
+ * Java Flight Recorder events of the evolution process. The events are
+ * disabled by default and can be enabled with a custom JFR settings file or
+ * on the command line, e.g.:
+ * {@snippet lang="shell":
+ * java -XX:StartFlightRecording:io.jenetics.Evolve#enabled=true,io.jenetics.EvolutionPhase#enabled=true,io.jenetics.Evaluation#enabled=true ...
+ * }
+ * Disabled events are practically free, since the event objects are
+ * eliminated by the JIT compiler. Event fields, which are expensive to
+ * calculate, are only determined if the event is going to be committed.
+ * <p>
+ * The {@code jdk.jfr} module is an optional dependency. If it is not
+ * available, e.g., in a custom runtime image without JFR, no events are
+ * created at all.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class EvolutionEvents {
+	private EvolutionEvents() {}
+
+	/**
+	 * Indicates whether the {@code jdk.jfr} module can be used. The event
+	 * classes must not be loaded if this is not the case.
+	 */
+	static final boolean AVAILABLE = isAvailable();
+
+	private static boolean isAvailable() {
+		final Module module = EvolutionEvents.class.getModule();
+		final ModuleLayer layer = module.getLayer() != null
+			? module.getLayer()
+			: ModuleLayer.boot();
+
+		return layer.findModule("jdk.jfr")
+			.map(module::canRead)
+			.orElse(false);
+	}
+
+	/**
+	 * Event of one {@link Engine#evolve(EvolutionStart)} call.
+	 */
+	@Name("io.jenetics.Evolve")
+	@Label("Evolve")
+	@Category({"Jenetics", "Evolution"})
+	@Description("Evolution of one generation")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class EvolveEvent extends Event {
+		@Label("Generation")
+		long generation;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Kill Count")
+		int killCount;
+
+		@Label("Invalid Count")
+		int invalidCount;
+
+		@Label("Alteration Count")
+		int alterationCount;
+	}
+
+	/**
+	 * Event of one evolution phase, like selection, alteration and filtering.
+	 */
+	@Name("io.jenetics.EvolutionPhase")
+	@Label("Evolution Phase")
+	@Category({"Jenetics", "Evolution"})
+	@Description("Execution of one phase of the evolution process")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class PhaseEvent extends Event {
+		@Label("Generation")
+		long generation;
+
+		@Label("Phase")
+		String phase;
+	}
+
+	/**
+	 * Event of one fitness evaluation batch.
+	 */
+	@Name("io.jenetics.Evaluation")
+	@Label("Fitness Evaluation")
+	@Category({"Jenetics", "Evolution"})
+	@Description("Fitness evaluation of one population")
+	@Enabled(false)
+	@StackTrace(false)
+	static final class EvaluationEvent extends Event {
+		@Label("Generation")
+		long generation;
+
+		@Label("Batch Size")
+		@Description("Number of individuals, which have to be evaluated")
+		int batchSize;
+
+		@Label("Population Size")
+		int populationSize;
+
+		@Label("Kill Count")
+		int killCount;
+
+		@Label("Invalid Count")
+		int invalidCount;
+
+		@Label("Alteration Count")
+		int alterationCount;
+	}
+
+}
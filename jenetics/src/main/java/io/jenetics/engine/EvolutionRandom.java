@@ -0,0 +1,261 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.function.Supplier;
+import java.util.random.RandomGenerator;
+import java.util.random.RandomGeneratorFactory;
+
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * This class makes the evolution process reproducible, independent of the
+ * used {@link Engine.Builder#executor(java.util.concurrent.Executor)} and
+ * the thread scheduling. Instead of using the (thread-local) random
+ * generators of the {@link RandomRegistry}, every evolution
+ * {@link Phase}, of every generation, gets its own random generator. This
+ * generator is <em>derived</em> from the root seed, the generation, the
+ * phase and, where the phase is split into independent tasks, the task
+ * index. The derived generator is bound to the {@link RandomRegistry} while
+ * the phase is executed.
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = Engine.builder(fitness, codec)
+ *     .random(EvolutionRandom.of(123))
+ *     .build();
+ *
+ * // Produces the same result on every run, with every executor.
+ * final EvolutionResult<DoubleGene, Double> result = engine.stream()
+ *     .limit(100)
+ *     .collect(EvolutionResult.toBestEvolutionResult());
+ * }
+ *
+ * The random generators of two different phases are independent of each
+ * other. This allows executing the phases concurrently, without influencing
+ * each other's random sequences. When the fitness function is evaluated with
+ * the default fitness evaluator, every individual gets its own random
+ * generator, derived from its generation and its index in the evaluated
+ * batch.
+ *
+ * @apiNote
+ * The given {@link RandomGeneratorFactory} must create <em>deterministic</em>
+ * generators from a given seed, which is the case for all algorithms of the
+ * {@code java.util.random} package, except {@code SecureRandom}. Custom
+ * {@link Evaluator} implementations, which execute the fitness function on
+ * different threads, are responsible for binding the random generators
+ * themselves, e.g. with {@link #generator(long, Phase, long)}.
+ *
+ * @see Engine.Builder#random(EvolutionRandom)
+ * @see RandomRegistry#with(RandomGenerator)
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class EvolutionRandom {
+
+	/**
+	 * The phases of one evolution step, which get their own random generator.
+	 *
+	 * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+	 * @version 9.0
+	 * @since 9.0
+	 */
+	public enum Phase {
+
+		/**
+		 * Creation of the initial population.
+		 */
+		INIT,
+
+		/**
+		 * Selection of the offspring population.
+		 */
+		OFFSPRING_SELECTION,
+
+		/**
+		 * Selection of the survivors population.
+		 */
+		SURVIVORS_SELECTION,
+
+		/**
+		 * Altering of the offspring population.
+		 */
+		OFFSPRING_ALTER,
+
+		/**
+		 * Filtering and replacing of invalid and old offspring individuals.
+		 */
+		OFFSPRING_FILTER,
+
+		/**
+		 * Filtering and replacing of invalid and old survivor individuals.
+		 */
+		SURVIVOR_FILTER,
+
+		/**
+		 * Evaluation of the fitness function.
+		 */
+		EVALUATION
+
+	}
+
+	private static final String DEFAULT_GENERATOR = "L64X256MixRandom";
+
+	private final RandomGeneratorFactory<?> _factory;
+	private final long _seed;
+
+	private EvolutionRandom(
+		final RandomGeneratorFactory<?> factory,
+		final long seed
+	) {
+		_factory = requireNonNull(factory);
+		_seed = seed;
+	}
+
+	/**
+	 * Return the factory of the derived random generators.
+	 *
+	 * @return the factory of the derived random generators
+	 */
+	public RandomGeneratorFactory<?> factory() {
+		return _factory;
+	}
+
+	/**
+	 * Return the root seed of the derived random generators.
+	 *
+	 * @return the root seed of the derived random generators
+	 */
+	public long seed() {
+		return _seed;
+	}
+
+	/**
+	 * Return a new random generator for the given {@code generation} and
+	 * evolution {@code phase}. Calling this method twice with the same
+	 * arguments returns two generators, which produce the same random
+	 * sequence.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param phase the evolution phase
+	 * @return a new random generator for the given generation and phase
+	 * @throws NullPointerException if the given {@code phase} is {@code null}
+	 */
+	public RandomGenerator generator(final long generation, final Phase phase) {
+		return generator(generation, phase, -1);
+	}
+
+	/**
+	 * Return a new random generator for the given {@code generation},
+	 * evolution {@code phase} and task {@code index}. This method can be used
+	 * if a phase is split into independent tasks, e.g. for evaluating every
+	 * individual with its own random generator.
+	 *
+	 * @param generation the generation of the evolution step
+	 * @param phase the evolution phase
+	 * @param index the index of the task within the phase
+	 * @return a new random generator for the given generation, phase and
+	 *         task index
+	 * @throws NullPointerException if the given {@code phase} is {@code null}
+	 */
+	public RandomGenerator generator(
+		final long generation,
+		final Phase phase,
+		final long index
+	) {
+		long seed = mix(_seed ^ mix(generation));
+		seed = mix(seed ^ mix(phase.ordinal() + 1));
+		seed = mix(seed ^ mix(index));
+		return _factory.create(seed);
+	}
+
+	/**
+	 * Executes the given {@code task} with the random generator of the given
+	 * generation and phase bound to the {@link RandomRegistry}.
+	 */
+	<T> T call(
+		final long generation,
+		final Phase phase,
+		final Supplier<? extends T> task
+	) {
+		return RandomRegistry
+			.with(generator(generation, phase))
+			.call(task::get);
+	}
+
+	/**
+	 * Executes the given {@code task} with the random generator of the given
+	 * generation, phase and task index bound to the {@link RandomRegistry}.
+	 */
+	<T> T call(
+		final long generation,
+		final Phase phase,
+		final long index,
+		final Supplier<? extends T> task
+	) {
+		return RandomRegistry
+			.with(generator(generation, phase, index))
+			.call(task::get);
+	}
+
+	// The 'mix64' function of the SplitMix64 algorithm.
+	private static long mix(final long value) {
+		long z = value + 0x9E3779B97F4A7C15L;
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return z ^ (z >>> 31);
+	}
+
+	@Override
+	public String toString() {
+		return format("EvolutionRandom[factory=%s, seed=%d]", _factory.name(), _seed);
+	}
+
+	/**
+	 * Create a new evolution random object with the given random generator
+	 * {@code factory} and root {@code seed}.
+	 *
+	 * @param factory the factory used for creating the derived random
+	 *        generators
+	 * @param seed the root seed
+	 * @return a new evolution random object
+	 * @throws NullPointerException if the given {@code factory} is
+	 *         {@code null}
+	 */
+	public static EvolutionRandom
+	of(final RandomGeneratorFactory<?> factory, final long seed) {
+		return new EvolutionRandom(factory, seed);
+	}
+
+	/**
+	 * Create a new evolution random object with the given root {@code seed},
+	 * using the {@code L64X256MixRandom} random generator.
+	 *
+	 * @param seed the root seed
+	 * @return a new evolution random object
+	 */
+	public static EvolutionRandom of(final long seed) {
+		return of(RandomGeneratorFactory.of(DEFAULT_GENERATOR), seed);
+	}
+
+}
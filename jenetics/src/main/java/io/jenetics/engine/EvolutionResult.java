@@ -38,6 +38,7 @@ import java.io.Serializable;
 import java.util.Map;
 import java.util.Objects;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.stream.Collector;
 import java.util.stream.Stream;
 
@@ -94,7 +95,7 @@ import io.jenetics.util.Seq;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 9.0
  */
 public final class EvolutionResult<
 	G extends Gene<?, G>,
@@ -117,8 +118,7 @@ public final class EvolutionResult<
 
 	private final boolean _dirty;
 
-	private final Lazy<Phenotype<G, C>> _best;
-	private final Lazy<Phenotype<G, C>> _worst;
+	private final Lazy<PopulationSummary<G, C>> _summary;
 
 	private EvolutionResult(
 		final Optimize optimize,
@@ -129,7 +129,8 @@ public final class EvolutionResult<
 		final int killCount,
 		final int invalidCount,
 		final int alterCount,
-		final boolean dirty
+		final boolean dirty,
+		final Lazy<PopulationSummary<G, C>> summary
 	) {
 		_optimize = requireNonNull(optimize);
 		_population = requireNonNull(population);
@@ -141,17 +142,65 @@ public final class EvolutionResult<
 		_alterCount = alterCount;
 		_dirty = dirty;
 
-		_best = Lazy.of(() -> _population.stream()
-			.max(_optimize.ascending())
-			.orElse(null)
-		);
+		_summary = summary != null
+			? summary
+			: Lazy.of(() ->
+				PopulationSummary.of(_population, _generation, _optimize));
+	}
 
-		_worst = Lazy.of(() -> _population.stream()
-			.min(_optimize.ascending())
-			.orElse(null)
+	private EvolutionResult(
+		final Optimize optimize,
+		final ISeq<Phenotype<G, C>> population,
+		final long generation,
+		final long totalGenerations,
+		final EvolutionDurations durations,
+		final int killCount,
+		final int invalidCount,
+		final int alterCount,
+		final boolean dirty
+	) {
+		this(
+			optimize,
+			population,
+			generation,
+			totalGenerations,
+			durations,
+			killCount,
+			invalidCount,
+			alterCount,
+			dirty,
+			null
 		);
 	}
 
+	/**
+	 * Return the fitness values of the population as primitive
+	 * {@code double[]} column, or {@code null} if the fitness type can't be
+	 * represented exactly as {@code double} value. The returned array must
+	 * not be changed.
+	 *
+	 * @see io.jenetics.internal.util.FitnessColumn#of(Seq)
+	 *
+	 * @return the fitness column, or {@code null}
+	 */
+	double[] fitnessColumn() {
+		return summary().fitnessColumn();
+	}
+
+	/**
+	 * Return the summary of the result population. The summary is created
+	 * lazily, on the first call, in a single pass over the population. If
+	 * the result is created by the {@link Engine}, large populations are
+	 * summarized concurrently by the engine's executor.
+	 *
+	 * @since 9.0
+	 *
+	 * @return the summary of the result population
+	 */
+	public PopulationSummary<G, C> summary() {
+		return _summary.get();
+	}
+
 	/**
 	 * Return the optimization strategy used.
 	 *
@@ -241,7 +290,7 @@ public final class EvolutionResult<
 	 * @return the best {@code Phenotype} of the result population
 	 */
 	public Phenotype<G, C> bestPhenotype() {
-		return _best.get();
+		return summary().best();
 	}
 
 	/**
@@ -250,7 +299,7 @@ public final class EvolutionResult<
 	 * @return the worst {@code Phenotype} of the result population
 	 */
 	public Phenotype<G, C> worstPhenotype() {
-		return _worst.get();
+		return summary().worst();
 	}
 
 	/**
@@ -259,8 +308,8 @@ public final class EvolutionResult<
 	 * @return The best population fitness.
 	 */
 	public C bestFitness() {
-		return _best.get() != null
-			? _best.get().fitness()
+		return bestPhenotype() != null
+			? bestPhenotype().fitness()
 			: null;
 	}
 
@@ -270,7 +319,7 @@ public final class EvolutionResult<
 	 * @return The worst population fitness.
 	 */
 	public C worstFitness() {
-		return _worst.get() != null ? _worst.get().fitness() : null;
+		return worstPhenotype() != null ? worstPhenotype().fitness() : null;
 	}
 
 	/**
@@ -307,11 +356,11 @@ public final class EvolutionResult<
 	 */
 	@Override
 	public int compareTo(final EvolutionResult<G, C> other) {
-		return _optimize.compare(_best.get(), other._best.get());
+		return _optimize.compare(bestPhenotype(), other.bestPhenotype());
 	}
 
 	private EvolutionResult<G, C> withTotalGenerations(final long total) {
-		return EvolutionResult.of(
+		return new EvolutionResult<>(
 			_optimize,
 			_population,
 			_generation,
@@ -319,7 +368,9 @@ public final class EvolutionResult<
 			_durations,
 			_killCount,
 			_invalidCount,
-			_alterCount
+			_alterCount,
+			true,
+			_summary
 		);
 	}
 
@@ -337,7 +388,7 @@ public final class EvolutionResult<
 	}
 
 	EvolutionResult<G, C> withDurations(final EvolutionDurations durations) {
-		return EvolutionResult.of(
+		return new EvolutionResult<>(
 			optimize(),
 			population(),
 			generation(),
@@ -345,7 +396,26 @@ public final class EvolutionResult<
 			durations,
 			killCount(),
 			invalidCount(),
-			alterCount()
+			alterCount(),
+			true,
+			_summary
+		);
+	}
+
+	EvolutionResult<G, C> withSummary(
+		final Supplier<PopulationSummary<G, C>> summary
+	) {
+		return new EvolutionResult<>(
+			optimize(),
+			population(),
+			generation(),
+			totalGenerations(),
+			durations(),
+			killCount(),
+			invalidCount(),
+			alterCount(),
+			_dirty,
+			Lazy.of(summary)
 		);
 	}
 
@@ -359,7 +429,8 @@ public final class EvolutionResult<
 			killCount(),
 			invalidCount(),
 			alterCount(),
-			false
+			false,
+			_summary
 		);
 	}
 
@@ -26,10 +26,10 @@ import java.text.NumberFormat;
 import java.time.Duration;
 import java.util.function.Consumer;
 
-import io.jenetics.Phenotype;
 import io.jenetics.stat.DoubleMomentStatistics;
 import io.jenetics.stat.IntMomentStatistics;
 import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.QuantileSketch;
 import io.jenetics.stat.MinMax;
 
 /**
@@ -61,6 +61,7 @@ import io.jenetics.stat.MinMax;
  * |             Selection: sum=0.046538278000 s; mean=0.003878189833 s        |
  * |              Altering: sum=0.086155457000 s; mean=0.007179621417 s        |
  * |   Fitness calculation: sum=0.022901606000 s; mean=0.001908467167 s        |
+ * |                        p50=0.001851 s; p90=0.002514 s; p99=0.003122 s     |
  * |     Overall execution: sum=0.147298067000 s; mean=0.012274838917 s        |
  * +---------------------------------------------------------------------------+
  * |  Evolution statistics                                                     |
@@ -79,12 +80,15 @@ import io.jenetics.stat.MinMax;
  * |                      mean = 384.430345078660                              |
  * |                      var  = 13006.132537301528                            |
  * |                      std  = 114.044432                                    |
+ * |                      p50  = 421.581254360611                              |
+ * |                      p90  = 469.107724120843                              |
+ * |                      p99  = 480.932651006417                              |
  * +---------------------------------------------------------------------------+
  * }</pre>
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 6.0
+ * @version 9.0
  */
 public abstract class EvolutionStatistics<
 	C extends Comparable<? super C>,
@@ -108,8 +112,13 @@ public abstract class EvolutionStatistics<
 	private final IntMomentStatistics _invalids = new IntMomentStatistics();
 	private final IntMomentStatistics _altered = new IntMomentStatistics();
 
+	// The percentiles of the fitness calculation duration.
+	private final QuantileSketch
+		_evaluationDurationQuantiles = new QuantileSketch();
+
 	// The population statistics values.
 	final LongMomentStatistics _age = new LongMomentStatistics();
+	final QuantileSketch _fitnessQuantiles = new QuantileSketch();
 	FitnessStatistics _fitness = null;
 
 	EvolutionStatistics() {
@@ -123,12 +132,7 @@ public abstract class EvolutionStatistics<
 		_invalids.accept(result.invalidCount());
 		_altered.accept(result.alterCount());
 
-		result.population()
-			.forEach(pt -> accept(pt, result.generation()));
-	}
-
-	void accept(final Phenotype<?, C> pt, final long generation) {
-		_age.accept(pt.age(generation));
+		_age.combine(result.summary().ageStatistics());
 	}
 
 	// Calculate duration statistics
@@ -144,6 +148,8 @@ public abstract class EvolutionStatistics<
 		_alterDuration.accept(alter);
 		_evaluationDuration
 			.accept(toSeconds(durations.evaluationDuration()));
+		_evaluationDurationQuantiles
+			.accept(toSeconds(durations.evaluationDuration()));
 		_evolveDuration
 			.accept(toSeconds(durations.evolveDuration()));
 	}
@@ -187,6 +193,24 @@ public abstract class EvolutionStatistics<
 		return _evaluationDuration;
 	}
 
+	/**
+	 * Return the quantile sketch of the durations needed for evaluating the
+	 * fitness function of the new individuals, in seconds. It can be used
+	 * for querying percentiles of the evaluation duration.
+	 * {@snippet lang="java":
+	 * final double[] percentiles = statistics
+	 *     .evaluationDurationQuantiles()
+	 *     .quantiles(0.5, 0.9, 0.99);
+	 * }
+	 *
+	 * @since 9.0
+	 *
+	 * @return the quantile sketch of the evaluation durations
+	 */
+	public QuantileSketch evaluationDurationQuantiles() {
+		return _evaluationDurationQuantiles;
+	}
+
 	/**
 	 * Return the duration statistics needed for the whole evolved step, in
 	 * seconds.
@@ -241,6 +265,19 @@ public abstract class EvolutionStatistics<
 		return _age;
 	}
 
+	/**
+	 * Return the quantile sketch of the fitness values of all accepted
+	 * populations. The sketch is only filled by the statistics object
+	 * created with {@link #ofNumber()}, and stays empty otherwise.
+	 *
+	 * @since 9.0
+	 *
+	 * @return the quantile sketch of the fitness values
+	 */
+	public QuantileSketch fitnessQuantiles() {
+		return _fitnessQuantiles;
+	}
+
 	/**
 	 * Return the minimal and maximal fitness.
 	 *
@@ -262,6 +299,7 @@ public abstract class EvolutionStatistics<
 			format(cpattern, "Selection:", d(_selectionDuration)) +
 			format(cpattern, "Altering:", d(_alterDuration)) +
 			format(cpattern, "Fitness calculation:", d(_evaluationDuration)) +
+			format(cpattern, "", q(_evaluationDurationQuantiles)) +
 			format(cpattern, "Overall execution:", d(_evolveDuration)) +
 			"+---------------------------------------------------------------------------+\n" +
 			"|  Evolution statistics                                                     |\n" +
@@ -279,6 +317,14 @@ public abstract class EvolutionStatistics<
 		);
 	}
 
+	private static String q(final QuantileSketch quantiles) {
+		final double[] values = quantiles.quantiles(0.5, 0.9, 0.99);
+		return format(
+			"p50=%.6f s; p90=%.6f s; p99=%.6f s",
+			values[0], values[1], values[2]
+		);
+	}
+
 	private static String i(final IntMomentStatistics statistics) {
 		final NumberFormat nf = NumberFormat.getIntegerInstance();
 		return format(
@@ -328,12 +374,9 @@ public abstract class EvolutionStatistics<
 			}
 
 			super.accept(result);
-		}
 
-		@Override
-		void accept(final Phenotype<?, C> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness());
+			// Every individual is counted by the fitness statistics.
+			result.population().forEach(pt -> _fitness.accept(pt.fitness()));
 		}
 
 		@Override
@@ -358,9 +401,22 @@ public abstract class EvolutionStatistics<
 		}
 
 		@Override
-		void accept(final Phenotype<?, N> pt, final long generation) {
-			super.accept(pt, generation);
-			_fitness.accept(pt.fitness().doubleValue());
+		public void accept(final EvolutionResult<?, N> result) {
+			super.accept(result);
+
+			final DoubleMomentStatistics fitness =
+				result.summary().fitnessStatistics();
+			final QuantileSketch quantiles =
+				result.summary().fitnessQuantiles();
+			if (fitness != null && quantiles != null) {
+				_fitness.combine(fitness);
+				_fitnessQuantiles.combine(quantiles);
+			} else {
+				result.population().forEach(pt -> {
+					_fitness.accept(pt.fitness().doubleValue());
+					_fitnessQuantiles.accept(pt.fitness().doubleValue());
+				});
+			}
 		}
 
 		@Override
@@ -376,6 +432,9 @@ public abstract class EvolutionStatistics<
 				format(spattern, "mean =", d(_fitness.mean())) +
 				format(spattern, "var  =", d(_fitness.variance())) +
 				format(spattern, "std  =", d(sqrt(_fitness.variance()))) +
+				format(spattern, "p50  =", d(_fitnessQuantiles.quantile(0.5))) +
+				format(spattern, "p90  =", d(_fitnessQuantiles.quantile(0.9))) +
+				format(spattern, "p99  =", d(_fitnessQuantiles.quantile(0.99))) +
 				"+---------------------------------------------------------------------------+";
 		}
 
@@ -22,10 +22,12 @@ package io.jenetics.engine;
 import static java.util.Objects.requireNonNull;
 
 import java.util.function.Function;
+import java.util.stream.IntStream;
 
 import io.jenetics.Gene;
 import io.jenetics.Genotype;
 import io.jenetics.Phenotype;
+import io.jenetics.engine.EvolutionRandom.Phase;
 import io.jenetics.util.BatchExecutor;
 import io.jenetics.util.ISeq;
 import io.jenetics.util.Seq;
@@ -35,7 +37,7 @@ import io.jenetics.util.Seq;
  * @param <C> the fitness result type
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 8.0
+ * @version 9.0
  * @since 8.0
  */
 final class FitnessEvaluator<
@@ -47,13 +49,23 @@ final class FitnessEvaluator<
 
 	private final Function<? super Genotype<G>, ? extends C> _function;
 	private final BatchExecutor _executor;
+	private final EvolutionRandom _random;
 
 	FitnessEvaluator(
 		final Function<? super Genotype<G>, ? extends C> function,
-		final BatchExecutor executor
+		final BatchExecutor executor,
+		final EvolutionRandom random
 	) {
 		_function = requireNonNull(function);
 		_executor = requireNonNull(executor);
+		_random = random;
+	}
+
+	FitnessEvaluator(
+		final Function<? super Genotype<G>, ? extends C> function,
+		final BatchExecutor executor
+	) {
+		this(function, executor, null);
 	}
 
 	Function<? super Genotype<G>, ? extends C> function() {
@@ -62,12 +74,12 @@ final class FitnessEvaluator<
 
 	@Override
 	public ISeq<Phenotype<G, C>> eval(final Seq<Phenotype<G, C>> population) {
-		final var tasks = population.stream()
+		final ISeq<Phenotype<G, C>> phenotypes = population.stream()
 			.filter(Phenotype::nonEvaluated)
-			.map(phenotype -> new RunnableFunction<>(
-				phenotype,
-				_function.compose(Phenotype::genotype))
-			)
+			.collect(ISeq.toISeq());
+
+		final var tasks = IntStream.range(0, phenotypes.size())
+			.mapToObj(i -> new RunnableFunction<>(phenotypes.get(i), function(i)))
 			.collect(ISeq.toISeq());
 
 		final ISeq<Phenotype<G, C>> result;
@@ -86,4 +98,17 @@ final class FitnessEvaluator<
 
 		return result;
 	}
+
+	// Every individual gets its own random generator, if the reproducible
+	// evolution mode is enabled.
+	private Function<Phenotype<G, C>, ? extends C> function(final int index) {
+		return _random == null
+			? _function.compose(Phenotype::genotype)
+			: pt -> _random.call(
+				pt.generation(),
+				Phase.EVALUATION,
+				index,
+				() -> _function.apply(pt.genotype())
+			);
+	}
 }
@@ -22,6 +22,7 @@ package io.jenetics.engine;
 import static java.lang.Math.abs;
 import static java.lang.Math.max;
 import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
 
 import java.time.Duration;
 import java.time.InstantSource;
@@ -29,6 +30,7 @@ import java.util.concurrent.atomic.AtomicLong;
 import java.util.function.BiPredicate;
 import java.util.function.Predicate;
 
+import io.jenetics.Gene;
 import io.jenetics.NumericGene;
 import io.jenetics.stat.DoubleMoments;
 import io.jenetics.util.NanoClock;
@@ -43,7 +45,7 @@ import io.jenetics.util.NanoClock;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 3.0
- * @version 3.7
+ * @version 9.0
  */
 public final class Limits {
 	private Limits() {}
@@ -455,4 +457,32 @@ public final class Limits {
 		);
 	}
 
+	/**
+	 * Return a predicate, which will truncate the evolution stream if the
+	 * genotypic diversity of the population falls below the given
+	 * {@code threshold}. Unlike the fitness based convergence predicates, the
+	 * diversity is measured from the genes of the population.
+	 * {@snippet lang="java":
+	 * final Phenotype<BitGene, Integer> result = engine.stream()
+	 *      // Stop if less than 1% of the genotype pairs differ per locus.
+	 *     .limit(byDiversity(Diversity.ofAlleles(), 0.01))
+	 *     .limit(1000)
+	 *     .collect(toBestPhenotype());
+	 * }
+	 *
+	 * @since 9.0
+	 *
+	 * @param diversity the diversity measure
+	 * @param threshold the minimal diversity of the population
+	 * @param <G> the gene type
+	 * @return a new diversity limit predicate
+	 * @throws NullPointerException if the given {@code diversity} is
+	 *         {@code null}
+	 */
+	public static <G extends Gene<?, G>> Predicate<EvolutionResult<G, ?>>
+	byDiversity(final Diversity<G> diversity, final double threshold) {
+		requireNonNull(diversity);
+		return result -> diversity.of(result.population()) >= threshold;
+	}
+
 }
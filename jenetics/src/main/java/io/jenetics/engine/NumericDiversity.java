@@ -0,0 +1,110 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Math.sqrt;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+import io.jenetics.Chromosome;
+import io.jenetics.Genotype;
+import io.jenetics.NumericGene;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Calculates the root mean square of the pairwise, normalized Euclidean
+ * distance of the genotypes. The mean squared distance of all genotype pairs
+ * at one locus is twice the sample variance of the locus, which is updated in
+ * a single pass over the population.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class NumericDiversity<G extends NumericGene<?, G>>
+	implements Diversity<G>
+{
+
+	/**
+	 * The running moments of the loci of one chromosome index.
+	 */
+	private static final class Loci {
+		int[] count = new int[0];
+		double[] mean = new double[0];
+		double[] m2 = new double[0];
+		double[] range = new double[0];
+
+		void accept(final Chromosome<? extends NumericGene<?, ?>> chromosome) {
+			final int length = chromosome.length();
+			if (count.length < length) {
+				final int start = count.length;
+				count = Arrays.copyOf(count, length);
+				mean = Arrays.copyOf(mean, length);
+				m2 = Arrays.copyOf(m2, length);
+				range = Arrays.copyOf(range, length);
+
+				for (int i = start; i < length; ++i) {
+					final NumericGene<?, ?> gene = chromosome.get(i);
+					final double r = gene.max().doubleValue() -
+						gene.min().doubleValue();
+					range[i] = r > 0 && Double.isFinite(r) ? r : 1.0;
+				}
+			}
+
+			for (int i = 0; i < length; ++i) {
+				final double value = chromosome.get(i).doubleValue()/range[i];
+				final double delta = value - mean[i];
+				mean[i] += delta/++count[i];
+				m2[i] += delta*(value - mean[i]);
+			}
+		}
+	}
+
+	@Override
+	public double of(final Seq<? extends Phenotype<G, ?>> population) {
+		final List<Loci> loci = new ArrayList<>();
+		for (Phenotype<G, ?> pt : population) {
+			final Genotype<G> gt = pt.genotype();
+			for (int i = loci.size(); i < gt.length(); ++i) {
+				loci.add(new Loci());
+			}
+			for (int i = 0; i < gt.length(); ++i) {
+				loci.get(i).accept(gt.get(i));
+			}
+		}
+
+		double sum = 0;
+		int count = 0;
+		for (Loci l : loci) {
+			for (int i = 0; i < l.count.length; ++i) {
+				if (l.count[i] > 1) {
+					sum += 2.0*l.m2[i]/(l.count[i] - 1);
+				}
+				++count;
+			}
+		}
+
+		return count > 0 ? sqrt(sum/count) : 0.0;
+	}
+
+}
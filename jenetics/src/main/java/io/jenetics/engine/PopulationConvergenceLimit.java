@@ -29,7 +29,7 @@ import io.jenetics.stat.DoubleMoments;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
- * @version 4.2
+ * @version 9.0
  * @since 3.9
  */
 final class PopulationConvergenceLimit<N extends Number & Comparable<? super N>>
@@ -44,17 +44,28 @@ final class PopulationConvergenceLimit<N extends Number & Comparable<? super N>>
 
 	@Override
 	public boolean test(final EvolutionResult<?, N> result) {
-		final DoubleMomentStatistics fitness = new DoubleMomentStatistics();
-		result.population()
-			.forEach(p -> fitness.accept(p.fitness().doubleValue()));
+		final DoubleMomentStatistics fitness =
+			result.summary().fitnessStatistics();
 
 		return result.totalGenerations() <= 1 ||
 			_proceed.test(
 				result.bestFitness() != null
 					? result.bestFitness().doubleValue()
 					: Double.NaN,
-				DoubleMoments.of(fitness)
+				fitness != null
+					? DoubleMoments.of(fitness)
+					: moments(result)
 			);
 	}
 
+	// Fallback for empty populations, where the summary has no fitness moments.
+	private static <N extends Number & Comparable<? super N>>
+	DoubleMoments moments(final EvolutionResult<?, N> result) {
+		final DoubleMomentStatistics fitness = new DoubleMomentStatistics();
+		result.population()
+			.forEach(p -> fitness.accept(p.fitness().doubleValue()));
+
+		return DoubleMoments.of(fitness);
+	}
+
 }
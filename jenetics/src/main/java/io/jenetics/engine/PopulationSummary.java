@@ -0,0 +1,488 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.Integer.getInteger;
+import static java.lang.Math.max;
+import static java.lang.Math.min;
+import static java.util.Objects.requireNonNull;
+
+import java.util.List;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletionException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.FutureTask;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.stream.IntStream;
+
+import io.jenetics.Gene;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.FitnessColumn;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.stat.QuantileSketch;
+import io.jenetics.util.Seq;
+
+/**
+ * Summary of the population of one generation. The summary contains the best
+ * and the worst phenotype, the moments of the phenotype ages and, for
+ * numeric fitness values, the moments and the estimated quantiles of the
+ * fitness values. All values are collected in one pass over the population. For
+ * large populations, the pass is split into chunks, which are executed
+ * concurrently.
+ * <p>
+ * The {@link Engine} attaches a lazily created summary to every
+ * {@link EvolutionResult}. It is only calculated, once, if it is read. The evolution result, the
+ * {@link EvolutionStatistics} and the convergence predicates of the
+ * {@link Limits} class are using this summary, instead of iterating the
+ * population by itself.
+ *
+ * {@snippet lang="java":
+ * final EvolutionResult<DoubleGene, Double> result = null; // @replace substring='null' replacement="..."
+ * final PopulationSummary<DoubleGene, Double> summary = result.summary();
+ * final double median = summary.fitnessQuantile(0.5);
+ * }
+ *
+ * @see EvolutionResult#summary()
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+public final class PopulationSummary<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+> {
+
+	private final int _size;
+	private final Phenotype<G, C> _best;
+	private final Phenotype<G, C> _worst;
+	private final LongMomentStatistics _ages;
+	private final DoubleMomentStatistics _fitness;
+	private final double[] _column;
+	private final boolean _exact;
+	private final QuantileSketch _quantiles;
+
+	private PopulationSummary(final Accumulator<G, C> accumulator) {
+		_size = accumulator._size;
+		_best = accumulator._best;
+		_worst = accumulator._worst;
+		_ages = accumulator._ages;
+		_fitness = accumulator._numeric ? accumulator._fitness : null;
+		_column = accumulator._numeric ? accumulator._values : null;
+		_exact = accumulator._numeric && accumulator._exact;
+		_quantiles = accumulator._numeric ? accumulator._quantiles : null;
+	}
+
+	/**
+	 * Return the size of the summarized population.
+	 *
+	 * @return the size of the summarized population
+	 */
+	public int size() {
+		return _size;
+	}
+
+	/**
+	 * Return the best phenotype of the population. If more than one phenotype
+	 * is the best, the first one is returned.
+	 *
+	 * @return the best phenotype of the population, or {@code null} if the
+	 *         population is empty
+	 */
+	public Phenotype<G, C> best() {
+		return _best;
+	}
+
+	/**
+	 * Return the worst phenotype of the population. If more than one
+	 * phenotype is the worst, the first one is returned.
+	 *
+	 * @return the worst phenotype of the population, or {@code null} if the
+	 *         population is empty
+	 */
+	public Phenotype<G, C> worst() {
+		return _worst;
+	}
+
+	/**
+	 * Return the moments of the phenotype ages.
+	 *
+	 * @return the moments of the phenotype ages
+	 */
+	public LongMoments ageMoments() {
+		return LongMoments.of(_ages);
+	}
+
+	/**
+	 * Return the moments of the fitness values. The fitness moments are only
+	 * available, if all phenotypes are evaluated and the fitness values are
+	 * {@link Number}s.
+	 *
+	 * @return the moments of the fitness values, or {@code null} if the
+	 *         fitness values are not numeric
+	 */
+	public DoubleMoments fitnessMoments() {
+		return _fitness != null ? DoubleMoments.of(_fitness) : null;
+	}
+
+	/**
+	 * Return the estimated {@code p}-quantile of the fitness values. The
+	 * quantiles are estimated with a {@link QuantileSketch}, which is filled
+	 * in the same pass as the other summary values. They are only available,
+	 * if all phenotypes are evaluated and the fitness values are
+	 * {@link Number}s.
+	 *
+	 * @see QuantileSketch#quantile(double)
+	 *
+	 * @param p the probability of the quantile
+	 * @return the estimated {@code p}-quantile of the fitness values, or
+	 *         {@link Double#NaN} if the fitness values are not numeric or
+	 *         the population is empty
+	 * @throws IllegalArgumentException if {@code p} is not within the range
+	 *         {@code [0, 1]}
+	 */
+	public double fitnessQuantile(final double p) {
+		Requires.probability(p);
+
+		if (_quantiles == null) {
+			return Double.NaN;
+		}
+		synchronized (_quantiles) {
+			return _quantiles.quantile(p);
+		}
+	}
+
+	LongMomentStatistics ageStatistics() {
+		return _ages;
+	}
+
+	DoubleMomentStatistics fitnessStatistics() {
+		return _fitness;
+	}
+
+	QuantileSketch fitnessQuantiles() {
+		return _quantiles;
+	}
+
+	/**
+	 * Return the fitness values as primitive column, if all fitness values
+	 * are exactly representable as {@code double} values.
+	 *
+	 * @see FitnessColumn
+	 */
+	double[] fitnessColumn() {
+		return _exact ? _column : null;
+	}
+
+	@Override
+	public String toString() {
+		return "PopulationSummary[size=%d, best=%s, worst=%s]"
+			.formatted(_size, _best, _worst);
+	}
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new population summary of the given {@code population}.
+	 *
+	 * @param population the population to summarize
+	 * @param generation the current generation, used for calculating the
+	 *        phenotype ages
+	 * @param optimize the optimization strategy, which determines the best
+	 *        and the worst phenotype
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new population summary
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSummary<G, C> of(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Optimize optimize
+	) {
+		requireNonNull(population);
+		requireNonNull(optimize);
+
+		final var accumulator = new Accumulator<>(
+			population, generation, optimize, values(population)
+		);
+		accumulator.accept(0, population.size());
+		return new PopulationSummary<>(accumulator);
+	}
+
+	/**
+	 * Create a new population summary of the given {@code population}. If
+	 * the population is greater than the chunk size, defined by the
+	 * {@code io.jenetics.summary.chunkSize} system property, the population
+	 * is summarized concurrently by the given {@code executor}. The chunks
+	 * are always merged in the same order, which makes the result
+	 * independent of the executor.
+	 *
+	 * @param population the population to summarize
+	 * @param generation the current generation, used for calculating the
+	 *        phenotype ages
+	 * @param optimize the optimization strategy, which determines the best
+	 *        and the worst phenotype
+	 * @param executor the executor used for summarizing the chunks
+	 * @param <G> the gene type
+	 * @param <C> the fitness type
+	 * @return a new population summary
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSummary<G, C> of(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Optimize optimize,
+		final Executor executor
+	) {
+		return of(population, generation, optimize, executor, Env.chunkSize);
+	}
+
+	static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	PopulationSummary<G, C> of(
+		final Seq<Phenotype<G, C>> population,
+		final long generation,
+		final Optimize optimize,
+		final Executor executor,
+		final int chunkSize
+	) {
+		requireNonNull(population);
+		requireNonNull(optimize);
+		requireNonNull(executor);
+
+		final int size = population.size();
+		if (size <= chunkSize) {
+			return of(population, generation, optimize);
+		}
+
+		final double[] values = values(population);
+		final List<FutureTask<Accumulator<G, C>>> chunks = IntStream
+			.iterate(0, i -> i < size, i -> i + chunkSize)
+			.mapToObj(i -> new FutureTask<>(() -> {
+				final var accumulator = new Accumulator<>(
+					population, generation, optimize, values
+				);
+				accumulator.accept(i, min(i + chunkSize, size));
+				return accumulator;
+			}))
+			.toList();
+
+		for (var chunk : chunks.subList(1, chunks.size())) {
+			try {
+				executor.execute(chunk);
+			} catch (RejectedExecutionException ignore) {
+				// The chunk is summarized by the calling thread.
+			}
+		}
+
+		// The calling thread summarizes all chunks, which haven't been started
+		// by the executor, and only waits for the already running ones. This
+		// can't dead-lock, even if it is part of a fully occupied thread pool.
+		final Accumulator<G, C> accumulator = join(chunks.getFirst());
+		for (int i = 1; i < chunks.size(); ++i) {
+			accumulator.combine(join(chunks.get(i)));
+		}
+
+		return new PopulationSummary<>(accumulator);
+	}
+
+	private static <T> T join(final FutureTask<T> task) {
+		task.run();
+		try {
+			return task.get();
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new CancellationException(e.getMessage());
+		} catch (ExecutionException e) {
+			if (e.getCause() instanceof RuntimeException re) {
+				throw re;
+			} else if (e.getCause() instanceof Error err) {
+				throw err;
+			} else {
+				throw new CompletionException(e.getCause());
+			}
+		}
+	}
+
+	// The fitness values are only collected for numeric fitness values.
+	private static double[] values(final Seq<? extends Phenotype<?, ?>> population) {
+		return !population.isEmpty() &&
+			population.get(0).isEvaluated() &&
+			population.get(0).fitness() instanceof Number
+				? new double[population.size()]
+				: null;
+	}
+
+	/**
+	 * Collects the summary values of a population range. The fitness values
+	 * are written into a shared array, at the index of the phenotype.
+	 */
+	private static final class Accumulator<
+		G extends Gene<?, G>,
+		C extends Comparable<? super C>
+	> {
+		private final Seq<Phenotype<G, C>> _population;
+		private final long _generation;
+		private final Optimize _optimize;
+		private final double[] _values;
+
+		private final LongMomentStatistics _ages = new LongMomentStatistics();
+		private final DoubleMomentStatistics _fitness = new DoubleMomentStatistics();
+		private final QuantileSketch _quantiles = new QuantileSketch();
+
+		private int _size = 0;
+		private boolean _numeric;
+		private boolean _exact = true;
+
+		private Phenotype<G, C> _best;
+		private double _bestValue;
+		private boolean _bestExact;
+
+		private Phenotype<G, C> _worst;
+		private double _worstValue;
+		private boolean _worstExact;
+
+		Accumulator(
+			final Seq<Phenotype<G, C>> population,
+			final long generation,
+			final Optimize optimize,
+			final double[] values
+		) {
+			_population = population;
+			_generation = generation;
+			_optimize = optimize;
+			_values = values;
+			_numeric = values != null;
+		}
+
+		void accept(final int from, final int to) {
+			for (int i = from; i < to; ++i) {
+				final Phenotype<G, C> pt = _population.get(i);
+				final C fitness = pt.isEvaluated() ? pt.fitness() : null;
+
+				double value = Double.NaN;
+				if (fitness instanceof Number number) {
+					value = number.doubleValue();
+					if (_numeric) {
+						_values[i] = value;
+						_fitness.accept(value);
+						_quantiles.accept(value);
+					}
+				} else {
+					_numeric = false;
+				}
+
+				final boolean exact = FitnessColumn.isExact(fitness);
+				_exact &= exact;
+				_ages.accept(pt.age(_generation));
+				++_size;
+
+				if (_best == null) {
+					_best = _worst = pt;
+					_bestValue = _worstValue = value;
+					_bestExact = _worstExact = exact;
+				} else {
+					if (compare(pt, value, exact, _best, _bestValue, _bestExact) > 0) {
+						_best = pt;
+						_bestValue = value;
+						_bestExact = exact;
+					}
+					if (compare(pt, value, exact, _worst, _worstValue, _worstExact) < 0) {
+						_worst = pt;
+						_worstValue = value;
+						_worstExact = exact;
+					}
+				}
+			}
+		}
+
+		// The chunk of the 'other' accumulator must follow the chunk of
+		// 'this' accumulator.
+		void combine(final Accumulator<G, C> other) {
+			_ages.combine(other._ages);
+			_fitness.combine(other._fitness);
+			_quantiles.combine(other._quantiles);
+			_size += other._size;
+			_numeric &= other._numeric;
+			_exact &= other._exact;
+
+			if (_best == null) {
+				_best = other._best;
+				_bestValue = other._bestValue;
+				_bestExact = other._bestExact;
+				_worst = other._worst;
+				_worstValue = other._worstValue;
+				_worstExact = other._worstExact;
+			} else if (other._best != null) {
+				if (compare(
+						other._best, other._bestValue, other._bestExact,
+						_best, _bestValue, _bestExact) > 0)
+				{
+					_best = other._best;
+					_bestValue = other._bestValue;
+					_bestExact = other._bestExact;
+				}
+				if (compare(
+						other._worst, other._worstValue, other._worstExact,
+						_worst, _worstValue, _worstExact) < 0)
+				{
+					_worst = other._worst;
+					_worstValue = other._worstValue;
+					_worstExact = other._worstExact;
+				}
+			}
+		}
+
+		// Compares the primitive fitness values, if both are exact, and the
+		// phenotypes otherwise.
+		private int compare(
+			final Phenotype<G, C> a, final double av, final boolean ae,
+			final Phenotype<G, C> b, final double bv, final boolean be
+		) {
+			return ae && be
+				? FitnessColumn.compare(av, bv, _optimize)
+				: _optimize.compare(a, b);
+		}
+	}
+
+	private static final class Env {
+		private static final int chunkSize = max(
+			getInteger(
+				"io.jenetics.summary.chunkSize",
+				1 << 16
+			),
+			1
+		);
+	}
+
+}
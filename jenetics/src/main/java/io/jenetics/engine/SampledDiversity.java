@@ -0,0 +1,193 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.lang.String.format;
+
+import java.util.Arrays;
+import java.util.function.ToDoubleBiFunction;
+import java.util.random.RandomGenerator;
+
+import io.jenetics.Chromosome;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.RandomRegistry;
+import io.jenetics.util.Seq;
+
+/**
+ * Estimates the mean pairwise distance of the genotypes from a fixed number of
+ * randomly chosen genotype pairs. Since the population is randomly
+ * accessible, the pairs are drawn directly and no reservoir is needed.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+final class SampledDiversity<G extends Gene<?, G>> implements Diversity<G> {
+
+	private final ToDoubleBiFunction<? super Genotype<G>, ? super Genotype<G>> _distance;
+	private final int _pairs;
+
+	SampledDiversity(
+		final ToDoubleBiFunction<? super Genotype<G>, ? super Genotype<G>> distance,
+		final int pairs
+	) {
+		if (pairs < 1) {
+			throw new IllegalArgumentException(format(
+				"Number of pairs must be greater than zero, but was %d.", pairs
+			));
+		}
+
+		_distance = distance;
+		_pairs = pairs;
+	}
+
+	@Override
+	public double of(final Seq<? extends Phenotype<G, ?>> population) {
+		final int size = population.size();
+		if (size < 2) {
+			return 0.0;
+		}
+
+		double sum = 0;
+		if ((long)size*(size - 1)/2 <= _pairs) {
+			for (int i = 0; i < size; ++i) {
+				final Genotype<G> gt = population.get(i).genotype();
+				for (int j = i + 1; j < size; ++j) {
+					sum += _distance
+						.applyAsDouble(gt, population.get(j).genotype());
+				}
+			}
+
+			return sum/((long)size*(size - 1)/2);
+		} else {
+			final RandomGenerator random = RandomRegistry.random();
+			for (int k = 0; k < _pairs; ++k) {
+				final int i = random.nextInt(size);
+				int j = random.nextInt(size - 1);
+				if (j >= i) {
+					++j;
+				}
+
+				sum += _distance.applyAsDouble(
+					population.get(i).genotype(),
+					population.get(j).genotype()
+				);
+			}
+
+			return sum/_pairs;
+		}
+	}
+
+	/**
+	 * Return the normalized Kendall tau distance of the given permutation
+	 * genotypes, averaged over the chromosomes. Only the alleles contained
+	 * in both chromosomes are taken into account.
+	 *
+	 * @param a the first genotype
+	 * @param b the second genotype
+	 * @return the normalized Kendall tau distance, in the range {@code [0, 1]}
+	 */
+	static <A> double kendallTau(
+		final Genotype<EnumGene<A>> a,
+		final Genotype<EnumGene<A>> b
+	) {
+		final int length = Math.min(a.length(), b.length());
+
+		double sum = 0;
+		for (int i = 0; i < length; ++i) {
+			sum += kendallTau(a.get(i), b.get(i));
+		}
+
+		return length > 0 ? sum/length : 0.0;
+	}
+
+	private static double kendallTau(
+		final Chromosome<? extends EnumGene<?>> a,
+		final Chromosome<? extends EnumGene<?>> b
+	) {
+		int alleles = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			alleles = Math.max(alleles, a.get(i).alleleIndex() + 1);
+		}
+
+		final int[] positions = new int[alleles];
+		Arrays.fill(positions, -1);
+		for (int i = 0; i < a.length(); ++i) {
+			positions[a.get(i).alleleIndex()] = i;
+		}
+
+		// The positions, in the first chromosome, of the alleles of the
+		// second chromosome. The number of inversions of this sequence is the
+		// Kendall tau distance.
+		final int[] sequence = new int[b.length()];
+		int k = 0;
+		for (int i = 0; i < b.length(); ++i) {
+			final int allele = b.get(i).alleleIndex();
+			if (allele < alleles && positions[allele] >= 0) {
+				sequence[k++] = positions[allele];
+			}
+		}
+
+		return k > 1
+			? (double)inversions(sequence, new int[k], 0, k)/((long)k*(k - 1)/2)
+			: 0.0;
+	}
+
+	// Counts the inversions of the given array range with merge sort.
+	private static long inversions(
+		final int[] array,
+		final int[] buffer,
+		final int from,
+		final int to
+	) {
+		if (to - from < 2) {
+			return 0;
+		}
+
+		final int mid = (from + to) >>> 1;
+		long count = inversions(array, buffer, from, mid) +
+			inversions(array, buffer, mid, to);
+
+		int i = from;
+		int j = mid;
+		int k = from;
+		while (i < mid && j < to) {
+			if (array[i] <= array[j]) {
+				buffer[k++] = array[i++];
+			} else {
+				buffer[k++] = array[j++];
+				count += mid - i;
+			}
+		}
+		while (i < mid) {
+			buffer[k++] = array[i++];
+		}
+		while (j < to) {
+			buffer[k++] = array[j++];
+		}
+		System.arraycopy(buffer, from, array, from, to - from);
+
+		return count;
+	}
+
+}
@@ -0,0 +1,433 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static java.util.Objects.requireNonNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Deque;
+import java.util.List;
+import java.util.PriorityQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.CancellationException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.LinkedBlockingQueue;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import io.jenetics.AltererResult;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+
+/**
+ * Asynchronous, <em>steady-state</em> evolution, without a generational
+ * barrier. Instead of evaluating a whole generation at once and waiting for
+ * its slowest fitness evaluation, this evolution keeps a given number of
+ * fitness evaluations in flight. Every time an evaluation completes, the
+ * evaluated individual replaces the worst individual of the population, if
+ * it is not worse, and a new offspring is bred and submitted for evaluation
+ * right away. Selected parents, which are not changed by the alterer, are
+ * not evaluated again.
+ * <p>
+ * After every {@link #interval()} completed evaluations, a snapshot of the
+ * population is emitted as {@link EvolutionResult}. This allows to use the
+ * existing {@link Limits} and {@link EvolutionStatistics} with the
+ * steady-state evolution.
+ *
+ * {@snippet lang="java":
+ * final Engine<DoubleGene, Double> engine = Engine.builder(problem)
+ *     .populationSize(100)
+ *     .build();
+ *
+ * final SteadyStateEvolution<DoubleGene, Double> evolution =
+ *     SteadyStateEvolution.of(
+ *         engine,
+ *         gt -> CompletableFuture.supplyAsync(() -> fitness(gt), executor),
+ *         16
+ *     );
+ *
+ * final Phenotype<DoubleGene, Double> best = evolution.stream()
+ *     .limit(Limits.bySteadyFitness(50))
+ *     .collect(EvolutionResult.toBestPhenotype());
+ * }
+ *
+ * The evolution uses the genotype factory, constraint, optimization
+ * strategy, offspring selector, alterer, population size and clock of the
+ * given {@link Engine}. The survivors selector and the maximal phenotype age
+ * are not used, since individuals are only removed by the replacement of the
+ * worst individual. The fitness function is evaluated with the
+ * {@link Evaluators#completable(Function)} machinery.
+ * <p>
+ * Within an {@link EvolutionStream}, the evaluations are kept in flight
+ * across the emitted snapshots. A single {@link #evolve(EvolutionStart)}
+ * call submits at most {@link #interval()} offspring evaluations and waits
+ * for their completion.
+ *
+ * @see Evaluators#completable(Function)
+ *
+ * @param <G> the gene type
+ * @param <C> the fitness result type
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+public final class SteadyStateEvolution<
+	G extends Gene<?, G>,
+	C extends Comparable<? super C>
+>
+	implements Evolution<G, C>, EvolutionStreamable<G, C>
+{
+
+	// The number of parents selected for breeding new offspring.
+	private static final int PARENTS = 2;
+
+	private final Engine<G, C> _engine;
+	private final CompletableFutureEvaluator<G, C> _evaluator;
+	private final int _concurrency;
+	private final int _interval;
+
+	/**
+	 * Create a new steady-state evolution.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param fitness the asynchronous fitness function
+	 * @param concurrency the number of fitness evaluations kept in flight
+	 * @param interval the number of completed evaluations between two
+	 *        emitted evolution results
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code concurrency} or the
+	 *         {@code interval} is smaller than one
+	 */
+	public SteadyStateEvolution(
+		final Engine<G, C> engine,
+		final Function<
+			? super Genotype<G>,
+			? extends CompletableFuture<C>> fitness,
+		final int concurrency,
+		final int interval
+	) {
+		_engine = requireNonNull(engine);
+		_evaluator = new CompletableFutureEvaluator<>(fitness);
+		_concurrency = Requires.positive(concurrency);
+		_interval = Requires.positive(interval);
+	}
+
+	/**
+	 * Return the engine, which defines the evolution parameters.
+	 *
+	 * @return the engine, which defines the evolution parameters
+	 */
+	public Engine<G, C> engine() {
+		return _engine;
+	}
+
+	/**
+	 * Return the number of fitness evaluations kept in flight.
+	 *
+	 * @return the number of fitness evaluations kept in flight
+	 */
+	public int concurrency() {
+		return _concurrency;
+	}
+
+	/**
+	 * Return the number of completed evaluations between two emitted
+	 * evolution results.
+	 *
+	 * @return the number of completed evaluations of one evolution step
+	 */
+	public int interval() {
+		return _interval;
+	}
+
+	/**
+	 * Performs up to {@link #interval()} offspring evaluations, starting with the
+	 * given population. Missing individuals of the start population are
+	 * created and evaluated first. This method waits for all submitted
+	 * evaluations, before it returns the evolution result.
+	 *
+	 * @param start the evolution start object
+	 * @return the evolution result
+	 * @throws java.lang.NullPointerException if the given evolution
+	 *         {@code start} is {@code null}
+	 */
+	@Override
+	public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+		requireNonNull(start);
+		return new Run(false).evolve(start);
+	}
+
+	@Override
+	public EvolutionStream<G, C>
+	stream(final Supplier<EvolutionStart<G, C>> start) {
+		requireNonNull(start);
+		return EvolutionStream.ofEvolution(start, new Run(true));
+	}
+
+	@Override
+	public EvolutionStream<G, C> stream(final EvolutionInit<G> init) {
+		requireNonNull(init);
+		return stream(() -> EvolutionStart.of(
+			init.population().map(gt -> Phenotype.of(gt, init.generation())),
+			init.generation()
+		));
+	}
+
+	/**
+	 * The state of one steady-state evolution run. A run is only accessed
+	 * by one thread at a time. The fitness evaluations are completed by other
+	 * threads and are handed over with a blocking queue.
+	 */
+	private final class Run implements Evolution<G, C> {
+		private final boolean _continuous;
+
+		private final BlockingQueue<CompletableFuture<Phenotype<G, C>>>
+			_completed = new LinkedBlockingQueue<>();
+		private final Deque<Phenotype<G, C>> _offspring = new ArrayDeque<>();
+
+		private MSeq<Phenotype<G, C>> _population;
+		// The population indexes, with the worst individual at the head.
+		private PriorityQueue<Integer> _worst;
+		private long _generation;
+		private int _pending;
+
+		private int _invalidCount;
+		private int _alterCount;
+
+		Run(final boolean continuous) {
+			_continuous = continuous;
+		}
+
+		/**
+		 * Performs the next evolution step. The given {@code start} object
+		 * is only used for the first step of a <em>continuous</em> run. The
+		 * following steps are continuing with the current population.
+		 */
+		@Override
+		public EvolutionResult<G, C> evolve(final EvolutionStart<G, C> start) {
+			final var timing = new EvolutionTiming(_engine.clock());
+			timing.evolve.start();
+
+			if (_population == null) {
+				_generation = start.generation();
+				_population = timing.evaluation.timing(() -> init(start));
+				_worst = new PriorityQueue<>(
+					Math.max(_population.size(), 1),
+					(i, j) -> _engine.optimize().compare(
+						_population.get(i).fitness(),
+						_population.get(j).fitness()
+					)
+				);
+				for (int i = 0; i < _population.size(); ++i) {
+					_worst.add(i);
+				}
+			}
+
+			_invalidCount = 0;
+			_alterCount = 0;
+			int submitted = 0;
+			int completed = 0;
+			while (completed < _interval) {
+				while (_pending < _concurrency &&
+					(_continuous || submitted < _interval))
+				{
+					final Phenotype<G, C> offspring = offspring(timing);
+					if (offspring == null) {
+						break;
+					}
+					submit(offspring);
+					++submitted;
+				}
+
+				// No new offspring could be bred.
+				if (_pending == 0) {
+					break;
+				}
+
+				replace(timing.evaluation.timing(this::take));
+				++completed;
+			}
+
+			timing.evolve.stop();
+
+			final EvolutionResult<G, C> result = EvolutionResult.of(
+				_engine.optimize(),
+				_population.toISeq(),
+				_generation,
+				timing.toDurations(),
+				0,
+				_invalidCount,
+				_alterCount
+			);
+
+			++_generation;
+			return result;
+		}
+
+		// Creates the missing individuals and evaluates the start population,
+		// with at most `concurrency` evaluations in flight.
+		private MSeq<Phenotype<G, C>> init(final EvolutionStart<G, C> start) {
+			final long generation = start.generation();
+			final ISeq<Phenotype<G, C>> population = Stream
+				.concat(
+					start.population().stream(),
+					_engine.genotypeFactory().instances()
+						.map(gt -> Phenotype.<G, C>of(gt, generation))
+				)
+				.limit(_engine.populationSize())
+				.collect(ISeq.toISeq());
+
+			final List<Phenotype<G, C>> evaluated = new ArrayList<>();
+			for (var individual : population) {
+				if (_pending >= _concurrency) {
+					evaluated.add(take());
+				}
+				submit(individual);
+			}
+			while (_pending > 0) {
+				evaluated.add(take());
+			}
+
+			return MSeq.of(evaluated);
+		}
+
+		// Returns the next offspring, which is waiting for evaluation, or
+		// null if the alterer didn't change any of the selected parents
+		// within `populationSize` attempts.
+		private Phenotype<G, C> offspring(final EvolutionTiming timing) {
+			int attempts = 0;
+			while (_offspring.isEmpty() && attempts++ < _engine.populationSize()) {
+				final ISeq<Phenotype<G, C>> parents =
+					timing.offspringSelection.timing(() ->
+						_engine.offspringSelector().select(
+							_population,
+							PARENTS,
+							_engine.optimize()
+						)
+					);
+
+				final AltererResult<G, C> altered =
+					timing.offspringAlter.timing(() ->
+						_engine.alterer().alter(parents, _generation)
+					);
+				_alterCount += altered.alterations();
+
+				// Unchanged parents are already evaluated and are skipped.
+				timing.offspringFilter.timing(() -> {
+					for (var individual : altered.population()) {
+						if (!individual.isEvaluated()) {
+							_offspring.add(repair(individual));
+						}
+					}
+					return null;
+				});
+			}
+
+			return _offspring.pollFirst();
+		}
+
+		private Phenotype<G, C> repair(final Phenotype<G, C> individual) {
+			if (!_engine.constraint().test(individual)) {
+				++_invalidCount;
+				return _engine.constraint().repair(individual, _generation);
+			} else {
+				return individual;
+			}
+		}
+
+		private void submit(final Phenotype<G, C> individual) {
+			final var future = _evaluator.eval(individual);
+			future.whenComplete((_, _) -> _completed.add(future));
+			++_pending;
+		}
+
+		private Phenotype<G, C> take() {
+			try {
+				final var individual = _completed.take().join();
+				--_pending;
+				return individual;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				final var ce = new CancellationException(e.getMessage());
+				ce.initCause(e);
+				throw ce;
+			}
+		}
+
+		// Replaces the worst individual of the population, if the given
+		// individual is not worse.
+		private void replace(final Phenotype<G, C> individual) {
+			if (_worst.isEmpty()) {
+				return;
+			}
+
+			final int worst = _worst.peek();
+			final C fitness = _population.get(worst).fitness();
+			if (_engine.optimize().compare(individual.fitness(), fitness) >= 0) {
+				_worst.poll();
+				_population.set(worst, individual);
+				_worst.add(worst);
+			}
+		}
+	}
+
+
+	/* *************************************************************************
+	 * Static factory methods.
+	 * ************************************************************************/
+
+	/**
+	 * Create a new steady-state evolution, which emits an evolution result
+	 * after every {@link Engine#populationSize()} completed evaluations.
+	 *
+	 * @param engine the engine which defines the evolution parameters
+	 * @param fitness the asynchronous fitness function
+	 * @param concurrency the number of fitness evaluations kept in flight
+	 * @param <G> the gene type
+	 * @param <C> the fitness result type
+	 * @return a new steady-state evolution
+	 * @throws NullPointerException if one of the arguments is {@code null}
+	 * @throws IllegalArgumentException if the {@code concurrency} is smaller
+	 *         than one
+	 */
+	public static <G extends Gene<?, G>, C extends Comparable<? super C>>
+	SteadyStateEvolution<G, C> of(
+		final Engine<G, C> engine,
+		final Function<
+			? super Genotype<G>,
+			? extends CompletableFuture<C>> fitness,
+		final int concurrency
+	) {
+		return new SteadyStateEvolution<>(
+			engine,
+			fitness,
+			concurrency,
+			engine.populationSize()
+		);
+	}
+
+}
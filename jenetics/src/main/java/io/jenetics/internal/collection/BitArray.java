@@ -26,6 +26,7 @@ import java.util.Arrays;
 import java.util.Objects;
 
 import io.jenetics.internal.util.Bits;
+import io.jenetics.internal.util.MurmurHash64;
 import io.jenetics.util.Copyable;
 
 /**
@@ -42,7 +43,7 @@ import io.jenetics.util.Copyable;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 7.0
- * @version 7.0
+ * @version 9.0
  */
 public final class BitArray implements Copyable<BitArray> {
 
@@ -288,6 +289,31 @@ public final class BitArray implements Copyable<BitArray> {
 		return Bits.copy(_data, _start, _end);
 	}
 
+	/**
+	 * Mixes the bits of {@code this} bit-array into the given {@code hasher}.
+	 * If the bit-array starts at a byte boundary, which is the usual case,
+	 * the bits are read directly from the underlying {@code byte[]} array,
+	 * without copying it.
+	 *
+	 * @since 9.0
+	 *
+	 * @param hasher the hasher which consumes the bits
+	 * @return the given {@code hasher}, for command chaining
+	 */
+	public MurmurHash64 hash(final MurmurHash64 hasher) {
+		final boolean aligned = (_start & 7) == 0;
+		final byte[] data = aligned ? _data : toByteArray();
+		final int offset = aligned ? _start >>> 3 : 0;
+		final int bytes = length() >>> 3;
+		final int bits = length() & 7;
+
+		hasher.update(data, offset, bytes);
+		if (bits > 0) {
+			hasher.update(data[offset + bytes] & (0xFF >>> (Byte.SIZE - bits)));
+		}
+		return hasher;
+	}
+
 	/**
 	 * Create a new copy of {@code this} bit-array.
 	 *
@@ -0,0 +1,136 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.math;
+
+import static java.lang.Math.min;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * Implementation of the <em>alias method</em> for sampling from a discrete
+ * probability distribution, using the numerically stable variant of Vose.
+ * Creating the table takes {@code O(n)} time, drawing a sample {@code O(1)}
+ * time, with exactly one random {@code double} per sample.
+ *
+ * @see <a href="https://www.keithschwarz.com/darts-dice-coins/">
+ *     Darts, Dice, and Coins: Sampling from a Discrete Distribution</a>
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+public final class AliasTable {
+
+	private final double[] _probabilities;
+	private final int[] _aliases;
+
+	private AliasTable(final double[] probabilities, final int[] aliases) {
+		_probabilities = probabilities;
+		_aliases = aliases;
+	}
+
+	/**
+	 * Return the number of elements of the sampled distribution.
+	 *
+	 * @return the number of elements of the sampled distribution
+	 */
+	public int size() {
+		return _probabilities.length;
+	}
+
+	/**
+	 * Draws the index of the next sample.
+	 *
+	 * @param random the random generator used for drawing the sample
+	 * @return the index of the next sample
+	 */
+	public int next(final RandomGenerator random) {
+		final double u = random.nextDouble()*_probabilities.length;
+		final int index = min((int)u, _probabilities.length - 1);
+
+		return u - index < _probabilities[index] ? index : _aliases[index];
+	}
+
+	/**
+	 * Create a new alias table from the given {@code probabilities}. The
+	 * probabilities must be non-negative and sum to one. The given array is
+	 * not changed.
+	 *
+	 * @param probabilities the probabilities of the distribution
+	 * @return a new alias table
+	 * @throws IllegalArgumentException if the given {@code probabilities}
+	 *         array is empty
+	 */
+	public static AliasTable of(final double[] probabilities) {
+		final int n = probabilities.length;
+		if (n == 0) {
+			throw new IllegalArgumentException("Probabilities must not be empty.");
+		}
+
+		final double[] prob = new double[n];
+		final int[] alias = new int[n];
+
+		// Scaled probabilities and the two work-lists, sharing one array. The
+		// small indexes are growing from the start, the large ones from the
+		// end of the array.
+		final double[] scaled = new double[n];
+		final int[] work = new int[n];
+		int small = 0;
+		int large = n;
+		for (int i = 0; i < n; ++i) {
+			scaled[i] = probabilities[i]*n;
+			if (scaled[i] < 1.0) {
+				work[small++] = i;
+			} else {
+				work[--large] = i;
+			}
+		}
+
+		while (small > 0 && large < n) {
+			final int s = work[--small];
+			final int l = work[large++];
+
+			prob[s] = scaled[s];
+			alias[s] = l;
+
+			scaled[l] = (scaled[l] + scaled[s]) - 1.0;
+			if (scaled[l] < 1.0) {
+				work[small++] = l;
+			} else {
+				work[--large] = l;
+			}
+		}
+
+		// The remaining entries have, up to rounding errors, probability one.
+		while (large < n) {
+			final int l = work[large++];
+			prob[l] = 1.0;
+			alias[l] = l;
+		}
+		while (small > 0) {
+			final int s = work[--small];
+			prob[s] = 1.0;
+			alias[s] = s;
+		}
+
+		return new AliasTable(prob, alias);
+	}
+
+}
@@ -25,6 +25,8 @@ import static io.jenetics.internal.math.Probabilities.isZero;
 import static io.jenetics.internal.util.Requires.probability;
 
 import java.util.random.RandomGenerator;
+import java.util.random.RandomGenerator.SplittableGenerator;
+import java.util.random.RandomGeneratorFactory;
 import java.util.stream.IntStream;
 
 /**
@@ -32,7 +34,7 @@ import java.util.stream.IntStream;
  *
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  * @since 1.4
- * @version 7.0
+ * @version 9.0
  */
 public final class Randoms {
 	private Randoms() {
@@ -150,6 +152,32 @@ public final class Randoms {
 		return seed(new byte[length]);
 	}
 
+	/**
+	 * Return a new random generator, which is derived from the given
+	 * {@code random} generator. If the given generator is a
+	 * {@link SplittableGenerator}, the new generator is created by
+	 * <em>splitting</em> it. Otherwise, the new generator is seeded with the
+	 * next {@code long} value of the given generator. In both cases, the
+	 * derived generator only depends on the state of the given one.
+	 *
+	 * @since 9.0
+	 *
+	 * @param random the random generator to derive the new one from
+	 * @return a new, derived random generator
+	 * @throws NullPointerException if the given {@code random} generator is
+	 *         {@code null}
+	 */
+	public static RandomGenerator split(final RandomGenerator random) {
+		return random instanceof SplittableGenerator splittable
+			? splittable.split()
+			: SplitFactory.FACTORY.create(random.nextLong());
+	}
+
+	private static final class SplitFactory {
+		private static final RandomGeneratorFactory<RandomGenerator>
+			FACTORY = RandomGeneratorFactory.of("L64X256MixRandom");
+	}
+
 	/**
 	 * Fills the given byte array with random bytes, created by successive
 	 * calls of the {@link #seed()} method.
@@ -0,0 +1,162 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.Seq;
+
+/**
+ * Helper methods for the primitive fitness path. If the fitness values of a
+ * population are numbers, which can be represented <em>exactly</em> as
+ * {@code double} values, the fitness values are copied into a
+ * {@code double[]} column. Comparing the column values with
+ * {@link Double#compare(double, double)} leads to the same ordering as the
+ * {@link Comparable#compareTo(Object)} method of the boxed fitness values,
+ * without the unboxing and the megamorphic {@code compareTo} calls.
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+public final class FitnessColumn {
+	private FitnessColumn() {}
+
+	// Long values with a higher magnitude lose precision when converted to
+	// double, which might change the ordering of two values.
+	private static final long MAX_EXACT_LONG = 1L << 53;
+
+	/**
+	 * Return the fitness values of the given {@code population} as
+	 * {@code double[]} column. The fitness column is only created, if all
+	 * phenotypes are evaluated and the fitness values are of type
+	 * {@link Double}, {@link Float}, {@link Integer}, {@link Short},
+	 * {@link Byte} or {@link Long}, within the range exactly representable
+	 * by a {@code double}.
+	 *
+	 * @param population the population
+	 * @return the fitness column of the given {@code population}, or
+	 *         {@code null} if the fitness values can't be represented as
+	 *         {@code double} column
+	 */
+	public static double[] of(final Seq<? extends Phenotype<?, ?>> population) {
+		final double[] column = new double[population.size()];
+		for (int i = 0; i < column.length; ++i) {
+			final Phenotype<?, ?> pt = population.get(i);
+			if (!pt.isEvaluated() || !isExact(pt.fitness())) {
+				return null;
+			}
+			column[i] = ((Number)pt.fitness()).doubleValue();
+		}
+
+		return column;
+	}
+
+	/**
+	 * Test whether the given {@code fitness} value is a number, which can be
+	 * represented exactly as {@code double} value.
+	 *
+	 * @see #of(Seq)
+	 *
+	 * @param fitness the fitness value to test, may be {@code null}
+	 * @return {@code true} if the given {@code fitness} value is exactly
+	 *         representable as {@code double} value, {@code false} otherwise
+	 */
+	public static boolean isExact(final Object fitness) {
+		if (fitness == null) {
+			return false;
+		}
+
+		final Class<?> type = fitness.getClass();
+		if (type == Double.class ||
+			type == Float.class ||
+			type == Integer.class ||
+			type == Short.class ||
+			type == Byte.class)
+		{
+			return true;
+		} else if (type == Long.class) {
+			final long value = (Long)fitness;
+			return value <= MAX_EXACT_LONG && value >= -MAX_EXACT_LONG;
+		} else {
+			return false;
+		}
+	}
+
+	/**
+	 * Compares the two fitness values according the given optimization
+	 * strategy. This is the primitive version of
+	 * {@link Optimize#compare(Comparable, Comparable)}.
+	 *
+	 * @param a the first value to compare
+	 * @param b the second value to compare
+	 * @param opt the optimization strategy
+	 * @return a negative integer, zero, or a positive integer as the first
+	 *         value is worse than, equal to, or better than the second
+	 */
+	public static int compare(
+		final double a,
+		final double b,
+		final Optimize opt
+	) {
+		return opt == Optimize.MAXIMUM
+			? Double.compare(a, b)
+			: Double.compare(b, a);
+	}
+
+	/**
+	 * Return the index of the best fitness value. If more than one value is
+	 * the best, the first index is returned.
+	 *
+	 * @param column the fitness column
+	 * @param opt the optimization strategy
+	 * @return the index of the best value, or {@code -1} if the column is
+	 *         empty
+	 */
+	public static int best(final double[] column, final Optimize opt) {
+		int index = column.length > 0 ? 0 : -1;
+		for (int i = 1; i < column.length; ++i) {
+			if (compare(column[i], column[index], opt) > 0) {
+				index = i;
+			}
+		}
+		return index;
+	}
+
+	/**
+	 * Return the index of the worst fitness value. If more than one value is
+	 * the worst, the first index is returned.
+	 *
+	 * @param column the fitness column
+	 * @param opt the optimization strategy
+	 * @return the index of the worst value, or {@code -1} if the column is
+	 *         empty
+	 */
+	public static int worst(final double[] column, final Optimize opt) {
+		int index = column.length > 0 ? 0 : -1;
+		for (int i = 1; i < column.length; ++i) {
+			if (compare(column[i], column[index], opt) < 0) {
+				index = i;
+			}
+		}
+		return index;
+	}
+
+}
@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.util.Objects;
+
+/**
+ * Streaming 64-bit hash function, which uses the block mixing and the
+ * finalization step of the <em>MurmurHash3</em> algorithm. Every
+ * {@code update} call consumes exactly one 64-bit block, which makes the
+ * hashing of primitive values allocation free. Instances of this class are
+ * <em>not</em> thread-safe and are meant to be used as local variables.
+ *
+ * {@snippet lang="java":
+ * final long hash = new MurmurHash64()
+ *     .update(values.length)
+ *     .update(values)
+ *     .digest();
+ * }
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @version 9.0
+ * @since 9.0
+ */
+public final class MurmurHash64 {
+
+	private static final long C1 = 0x87c37b91114253d5L;
+	private static final long C2 = 0x4cf5ad432745937fL;
+	private static final long DEFAULT_SEED = 0x9e3779b97f4a7c15L;
+
+	private long _hash;
+	private long _blocks;
+
+	/**
+	 * Create a new hasher with the given {@code seed} value.
+	 *
+	 * @param seed the seed of the hash function
+	 */
+	public MurmurHash64(final long seed) {
+		_hash = seed;
+	}
+
+	/**
+	 * Create a new hasher with a default seed value.
+	 */
+	public MurmurHash64() {
+		this(DEFAULT_SEED);
+	}
+
+	/**
+	 * Mix the given {@code value} into the current hash state.
+	 *
+	 * @param value the value to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final long value) {
+		long k = value;
+		k *= C1;
+		k = Long.rotateLeft(k, 31);
+		k *= C2;
+
+		_hash ^= k;
+		_hash = Long.rotateLeft(_hash, 27);
+		_hash = _hash*5 + 0x52dce729;
+		++_blocks;
+		return this;
+	}
+
+	/**
+	 * Mix the given {@code value} into the current hash state.
+	 *
+	 * @param value the value to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final int value) {
+		return update((long)value);
+	}
+
+	/**
+	 * Mix the bits of the given {@code value} into the current hash state.
+	 * All {@code NaN} values are mapped to the same hash.
+	 *
+	 * @param value the value to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final double value) {
+		return update(Double.doubleToLongBits(value));
+	}
+
+	/**
+	 * Mix the given {@code values} into the current hash state.
+	 *
+	 * @param values the values to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final double[] values) {
+		for (double value : values) {
+			update(value);
+		}
+		return this;
+	}
+
+	/**
+	 * Mix the given {@code values} into the current hash state.
+	 *
+	 * @param values the values to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final int[] values) {
+		for (int value : values) {
+			update(value);
+		}
+		return this;
+	}
+
+	/**
+	 * Mix the given {@code values} into the current hash state.
+	 *
+	 * @param values the values to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final long[] values) {
+		for (long value : values) {
+			update(value);
+		}
+		return this;
+	}
+
+	/**
+	 * Mix the given {@code bytes} into the current hash state. The bytes are
+	 * consumed in (little-endian) blocks of eight bytes.
+	 *
+	 * @param bytes the bytes to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 */
+	public MurmurHash64 update(final byte[] bytes) {
+		return update(bytes, 0, bytes.length);
+	}
+
+	/**
+	 * Mix the given range of {@code bytes} into the current hash state. The
+	 * bytes are consumed in (little-endian) blocks of eight bytes.
+	 *
+	 * @param bytes the bytes to mix into the hash
+	 * @param offset the index of the first byte to mix into the hash
+	 * @param length the number of bytes to mix into the hash
+	 * @return {@code this} hasher, for command chaining
+	 * @throws IndexOutOfBoundsException if the given range is not within
+	 *         the {@code bytes} array
+	 */
+	public MurmurHash64 update(
+		final byte[] bytes,
+		final int offset,
+		final int length
+	) {
+		Objects.checkFromIndexSize(offset, length, bytes.length);
+
+		final int blocks = length >>> 3;
+		for (int i = 0; i < blocks; ++i) {
+			update(block(bytes, offset + (i << 3), Long.BYTES));
+		}
+
+		final int tail = length & 7;
+		if (tail > 0) {
+			update(block(bytes, offset + (blocks << 3), tail));
+		}
+		return this;
+	}
+
+	private static long block(final byte[] bytes, final int offset, final int length) {
+		long block = 0;
+		for (int i = length; --i >= 0;) {
+			block = (block << 8) | (bytes[offset + i] & 0xFFL);
+		}
+		return block;
+	}
+
+	/**
+	 * Return the finalized hash value of all values given so far. The state
+	 * of the hasher is not changed by this method.
+	 *
+	 * @return the current 64-bit hash value
+	 */
+	public long digest() {
+		return mix(_hash ^ _blocks);
+	}
+
+	/**
+	 * The finalization mix of the <em>MurmurHash3</em> algorithm. It forces
+	 * all bits of the given {@code value} to avalanche.
+	 *
+	 * @param value the value to mix
+	 * @return the mixed value
+	 */
+	public static long mix(final long value) {
+		long k = value;
+		k ^= k >>> 33;
+		k *= 0xff51afd7ed558ccdL;
+		k ^= k >>> 33;
+		k *= 0xc4ceb9fe1a85ec53L;
+		k ^= k >>> 33;
+		return k;
+	}
+
+}
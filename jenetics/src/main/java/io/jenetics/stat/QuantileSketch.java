@@ -0,0 +1,444 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import static java.lang.Math.ceil;
+import static java.lang.Math.pow;
+import static java.lang.String.format;
+import static java.util.Objects.requireNonNull;
+
+import java.util.Arrays;
+import java.util.function.DoubleConsumer;
+import java.util.function.ToDoubleFunction;
+import java.util.stream.Collector;
+
+import io.jenetics.internal.util.Requires;
+import io.jenetics.util.ProxySorter;
+
+/**
+ * Mergeable, memory bounded sketch for estimating arbitrary many quantiles of
+ * a stream of {@code double} values. The implementation follows the sketch
+ * published by
+ * <p>
+ * <strong>Zohar KARNIN, Kevin LANG and Edo LIBERTY</strong>:
+ * <em>Optimal Quantile Approximation in Streams</em>
+ * <br>
+ * [<a href="https://arxiv.org/abs/1603.05346">FOCS 2016</a>]
+ * <p>
+ * The sketch keeps at most about {@code 3k} values, independent of the
+ * number of accepted values. The quantiles are estimated with a normalized
+ * rank error of roughly {@code 2/k}, which is about one percent for the
+ * default {@code k = 200}. In contrast to the {@link Quantile} class, the
+ * sketch can estimate every quantile and can be combined without loss of
+ * accuracy. The sketch is deterministic: accepting the same values in the
+ * same order leads to the same estimations.
+ * <p>
+ * This class is designed to work with (though does not require) streams. For
+ * example, you can estimate the quantiles of a stream of doubles with:
+ * {@snippet lang="java":
+ * final DoubleStream stream = null; // @replace substring='null' replacement="..."
+ * final QuantileSketch sketch = stream.collect(
+ *         QuantileSketch::new,
+ *         QuantileSketch::accept,
+ *         QuantileSketch::combine
+ *     );
+ * final double[] percentiles = sketch.quantiles(0.5, 0.9, 0.99);
+ * }
+ *
+ * @implNote
+ * This implementation is not thread safe. However, it is safe to use
+ * {@link #toQuantileSketch(ToDoubleFunction)} on a parallel stream,
+ * because the parallel implementation of
+ * {@link java.util.stream.Stream#collect Stream.collect()}
+ * provides the necessary partitioning, isolation, and merging of results for
+ * safe and efficient parallel execution.
+ *
+ * @see Quantile
+ *
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ * @since 9.0
+ * @version 9.0
+ */
+public final class QuantileSketch implements DoubleConsumer {
+
+	/**
+	 * The default accuracy parameter of the sketch.
+	 */
+	public static final int DEFAULT_K = 200;
+
+	// The capacity shrink factor of the lower levels.
+	private static final double C = 2.0/3.0;
+
+	private final int _k;
+
+	// The compactor levels. The values of level h have the weight 2^h.
+	private double[][] _levels = new double[0][];
+	private int[] _sizes = new int[0];
+	private int _size = 0;
+	private int _maxSize = 0;
+
+	private long _count = 0;
+	private double _min = Double.POSITIVE_INFINITY;
+	private double _max = Double.NEGATIVE_INFINITY;
+
+	// State of the generator, which decides which half of the values are
+	// promoted when a level is compacted.
+	private long _seed = 0x9E3779B97F4A7C15L;
+
+	// Sorted view of the retained values, created for quantile queries.
+	private double[] _values;
+	private long[] _ranks;
+
+	/**
+	 * Create a new quantile sketch with the given accuracy parameter. The
+	 * normalized rank error is roughly {@code 2/k}.
+	 *
+	 * @param k the accuracy parameter of the sketch
+	 * @throws IllegalArgumentException if {@code k < 8}
+	 */
+	public QuantileSketch(final int k) {
+		if (k < 8) {
+			throw new IllegalArgumentException(format(
+				"The accuracy parameter must be at least 8, but was %d.", k
+			));
+		}
+		_k = k;
+		grow();
+	}
+
+	/**
+	 * Create a new quantile sketch with the default accuracy parameter
+	 * {@link #DEFAULT_K}.
+	 */
+	public QuantileSketch() {
+		this(DEFAULT_K);
+	}
+
+	/**
+	 * Return the accuracy parameter of the sketch.
+	 *
+	 * @return the accuracy parameter of the sketch
+	 */
+	public int k() {
+		return _k;
+	}
+
+	/**
+	 * Return the number of accepted values.
+	 *
+	 * @return the number of accepted values
+	 */
+	public long count() {
+		return _count;
+	}
+
+	/**
+	 * Return the minimum value recorded, or {@code Double.POSITIVE_INFINITY}
+	 * if no values have been recorded.
+	 *
+	 * @return the minimum value, or {@code Double.POSITIVE_INFINITY} if none
+	 */
+	public double min() {
+		return _min;
+	}
+
+	/**
+	 * Return the maximum value recorded, or {@code Double.NEGATIVE_INFINITY}
+	 * if no values have been recorded.
+	 *
+	 * @return the maximum value, or {@code Double.NEGATIVE_INFINITY} if none
+	 */
+	public double max() {
+		return _max;
+	}
+
+	/**
+	 * Return the number of values currently retained by the sketch.
+	 *
+	 * @return the number of values retained by the sketch
+	 */
+	public int retained() {
+		return _size;
+	}
+
+	@Override
+	public void accept(final double value) {
+		append(0, value);
+		++_size;
+		++_count;
+		_min = Math.min(_min, value);
+		_max = Math.max(_max, value);
+		_values = null;
+
+		if (_size >= _maxSize) {
+			compress();
+		}
+	}
+
+	/**
+	 * Combine two quantile sketches. The accuracy parameter of {@code this}
+	 * sketch is kept.
+	 *
+	 * @param other the other quantile sketch to combine with {@code this} one
+	 * @return {@code this} quantile sketch
+	 * @throws NullPointerException if the {@code other} sketch is {@code null}
+	 */
+	public QuantileSketch combine(final QuantileSketch other) {
+		requireNonNull(other);
+
+		while (_levels.length < other._levels.length) {
+			grow();
+		}
+		for (int h = 0; h < other._levels.length; ++h) {
+			for (int i = 0; i < other._sizes[h]; ++i) {
+				append(h, other._levels[h][i]);
+			}
+			_size += other._sizes[h];
+		}
+
+		_count += other._count;
+		_min = Math.min(_min, other._min);
+		_max = Math.max(_max, other._max);
+		_values = null;
+
+		while (_size >= _maxSize) {
+			compress();
+		}
+
+		return this;
+	}
+
+	/**
+	 * Return the estimated {@code p}-quantile of the accepted values. The
+	 * returned value is always one of the accepted values. The quantiles
+	 * {@code 0} and {@code 1} are the exact minimum and maximum.
+	 *
+	 * @param p the probability of the quantile
+	 * @return the estimated {@code p}-quantile, or {@link Double#NaN} if no
+	 *         value has been accepted yet
+	 * @throws IllegalArgumentException if {@code p} is not within the range
+	 *         {@code [0, 1]}
+	 */
+	public double quantile(final double p) {
+		Requires.probability(p);
+
+		if (_count == 0) {
+			return Double.NaN;
+		}
+		if (p == 0.0) {
+			return _min;
+		}
+		if (p == 1.0) {
+			return _max;
+		}
+
+		sortedView();
+		final double rank = p*_count;
+		int low = 0;
+		int high = _ranks.length - 1;
+		while (low < high) {
+			final int mid = (low + high) >>> 1;
+			if (_ranks[mid] < rank) {
+				low = mid + 1;
+			} else {
+				high = mid;
+			}
+		}
+
+		return _values[low];
+	}
+
+	/**
+	 * Return the estimated quantiles for the given {@code probabilities}.
+	 *
+	 * @see #quantile(double)
+	 *
+	 * @param probabilities the quantile probabilities
+	 * @return the estimated quantiles, in the order of the given
+	 *         {@code probabilities}
+	 * @throws IllegalArgumentException if one of the probabilities is not
+	 *         within the range {@code [0, 1]}
+	 */
+	public double[] quantiles(final double... probabilities) {
+		final double[] quantiles = new double[probabilities.length];
+		for (int i = 0; i < probabilities.length; ++i) {
+			quantiles[i] = quantile(probabilities[i]);
+		}
+		return quantiles;
+	}
+
+	/**
+	 * Return the estimated normalized rank of the given {@code value}, which
+	 * is the fraction of the accepted values, which are smaller or equal than
+	 * the given {@code value}.
+	 *
+	 * @param value the value to rank
+	 * @return the normalized rank of the given value, or {@link Double#NaN}
+	 *         if no value has been accepted yet
+	 */
+	public double rank(final double value) {
+		if (_count == 0) {
+			return Double.NaN;
+		}
+
+		long weight = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			for (int i = 0; i < _sizes[h]; ++i) {
+				if (Double.compare(_levels[h][i], value) <= 0) {
+					weight += 1L << h;
+				}
+			}
+		}
+
+		return (double)weight/_count;
+	}
+
+	private void append(final int level, final double value) {
+		if (_sizes[level] == _levels[level].length) {
+			_levels[level] = Arrays.copyOf(
+				_levels[level],
+				Math.max(8, 2*_levels[level].length)
+			);
+		}
+		_levels[level][_sizes[level]++] = value;
+	}
+
+	private int capacity(final int level) {
+		final int depth = _levels.length - level - 1;
+		return (int)ceil(_k*pow(C, depth)) + 1;
+	}
+
+	private void grow() {
+		final int height = _levels.length;
+		_levels = Arrays.copyOf(_levels, height + 1);
+		_levels[height] = new double[8];
+		_sizes = Arrays.copyOf(_sizes, height + 1);
+
+		_maxSize = 0;
+		for (int h = 0; h <= height; ++h) {
+			_maxSize += capacity(h);
+		}
+	}
+
+	private void compress() {
+		for (int h = 0; h < _levels.length; ++h) {
+			if (_sizes[h] >= capacity(h)) {
+				if (h + 1 >= _levels.length) {
+					grow();
+				}
+				compact(h);
+				if (_size < _maxSize) {
+					break;
+				}
+			}
+		}
+	}
+
+	// Sorts the values of the given level and promotes every second value to
+	// the next level. For an odd number of values, the smallest value stays
+	// in the given level.
+	private void compact(final int level) {
+		final double[] values = _levels[level];
+		final int size = _sizes[level];
+		Arrays.sort(values, 0, size);
+
+		final int keep = size%2;
+		final int offset = nextBit();
+		for (int i = keep + offset; i < size; i += 2) {
+			append(level + 1, values[i]);
+		}
+
+		_sizes[level] = keep;
+		_size -= (size - keep)/2;
+	}
+
+	// SplitMix64 step, see https://prng.di.unimi.it/splitmix64.c
+	private int nextBit() {
+		long z = (_seed += 0x9E3779B97F4A7C15L);
+		z = (z ^ (z >>> 30))*0xBF58476D1CE4E5B9L;
+		z = (z ^ (z >>> 27))*0x94D049BB133111EBL;
+		return (int)((z ^ (z >>> 31)) >>> 63);
+	}
+
+	private void sortedView() {
+		if (_values != null) {
+			return;
+		}
+
+		final double[] values = new double[_size];
+		final long[] weights = new long[_size];
+		int index = 0;
+		for (int h = 0; h < _levels.length; ++h) {
+			for (int i = 0; i < _sizes[h]; ++i) {
+				values[index] = _levels[h][i];
+				weights[index] = 1L << h;
+				++index;
+			}
+		}
+
+		final int[] proxy = ProxySorter.sort(values);
+		final double[] sorted = new double[_size];
+		final long[] ranks = new long[_size];
+		long rank = 0;
+		for (int i = 0; i < proxy.length; ++i) {
+			sorted[i] = values[proxy[i]];
+			rank += weights[proxy[i]];
+			ranks[i] = rank;
+		}
+
+		_values = sorted;
+		_ranks = ranks;
+	}
+
+	@Override
+	public String toString() {
+		return format(
+			"QuantileSketch[k=%d, N=%d, retained=%d, ∧=%s, ∨=%s]",
+			_k, _count, _size, _min, _max
+		);
+	}
+
+	/**
+	 * Return a {@code Collector} which applies a double-producing mapping
+	 * function to each input element, and returns a quantile sketch for the
+	 * resulting values.
+	 * {@snippet lang="java":
+	 * final Stream<SomeObject> stream = null; // @replace substring='null' replacement="..."
+	 * final QuantileSketch sketch = stream
+	 *     .collect(toQuantileSketch(v -> v.doubleValue()));
+	 * }
+	 *
+	 * @param mapper a mapping function to apply to each element
+	 * @param <T> the type of the input elements
+	 * @return a {@code Collector} implementing the quantile sketch reduction
+	 * @throws java.lang.NullPointerException if the given {@code mapper} is
+	 *         {@code null}
+	 */
+	public static <T> Collector<T, ?, QuantileSketch>
+	toQuantileSketch(final ToDoubleFunction<? super T> mapper) {
+		requireNonNull(mapper);
+		return Collector.of(
+			QuantileSketch::new,
+			(r, t) -> r.accept(mapper.applyAsDouble(t)),
+			QuantileSketch::combine
+		);
+	}
+
+}
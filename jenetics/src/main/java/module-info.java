@@ -24,6 +24,8 @@
  */
 @SuppressWarnings("module")
 module io.jenetics.base {
+	requires static jdk.jfr;
+
 	exports io.jenetics;
 	exports io.jenetics.engine;
 	exports io.jenetics.stat;
@@ -31,7 +33,7 @@ module io.jenetics.base {
 
 	exports io.jenetics.internal.engine to io.jenetics.ext;
 	exports io.jenetics.internal.math to
-		io.jenetics.ext, io.jenetics.incubator;
+		io.jenetics.ext, io.jenetics.prog, io.jenetics.incubator;
 	exports io.jenetics.internal.util to
 		io.jenetics.ext, io.jenetics.prog, io.jenetics.incubator;
 }
@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.nio.ReadOnlyBufferException;
+import java.util.Arrays;
+import java.util.Random;
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.DoubleRange;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DoubleArrayChromosomeTest
+	extends NumericChromosomeTester<Double, DoubleGene>
+{
+
+	private final DoubleArrayChromosome _factory = DoubleArrayChromosome.of(
+		0.0, 1000.0, 500
+	);
+
+	@Override
+	protected DoubleArrayChromosome factory() {
+		return _factory;
+	}
+
+	@Test
+	public void genes() {
+		final var ch = DoubleArrayChromosome.of(
+			new DoubleRange(0, 10),
+			new double[]{1, 2, 3}
+		);
+
+		Assert.assertEquals(ch.length(), 3);
+		Assert.assertEquals(ch.get(1), DoubleGene.of(2, 0, 10));
+		Assert.assertEquals(ch.doubleValue(2), 3.0);
+		Assert.assertEquals(ch.intValue(0), 1);
+		Assert.assertEquals(ch.newInstance(ISeq.of(ch)), ch);
+		Assert.assertEquals(ch.toString(), "[1.0,2.0,3.0]");
+	}
+
+	@Test
+	public void validity() {
+		final var ch = DoubleArrayChromosome.of(
+			new DoubleRange(0, 10),
+			new double[]{1, 10, Double.NaN}
+		);
+
+		Assert.assertTrue(ch.isValid(0));
+		Assert.assertFalse(ch.isValid(1));
+		Assert.assertFalse(ch.isValid(2));
+		Assert.assertFalse(ch.isValid());
+	}
+
+	@Test
+	public void buffer() {
+		final var ch = DoubleArrayChromosome.of(0, 1, 100);
+		final var buffer = ch.buffer();
+
+		Assert.assertTrue(buffer.isReadOnly());
+		Assert.assertEquals(buffer.limit(), 100);
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(buffer.get(i), ch.doubleValue(i));
+		}
+	}
+
+	@Test(expectedExceptions = ReadOnlyBufferException.class)
+	public void bufferIsReadOnly() {
+		DoubleArrayChromosome.of(0, 1, 100).buffer().put(0, 2.0);
+	}
+
+	@Test
+	public void toArray() {
+		final var ch = DoubleArrayChromosome.of(0, 1, 100);
+		final double[] array = ch.toArray();
+		array[0] = 5;
+
+		Assert.assertNotEquals(ch.doubleValue(0), 5.0);
+		Assert.assertEquals(ch.toArray(new double[200]).length, 200);
+		Assert.assertEquals(ch.doubleStream().toArray(), ch.toArray());
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidLength() {
+		DoubleArrayChromosome.of(0, 1, new IntRange(5, 10))
+			.newInstance(new double[20]);
+	}
+
+	@Test(dataProvider = "alterers")
+	public void alter(final Alterer<DoubleGene, Double> alterer) {
+		// The array fast path must give the same result as the gene path.
+		final var random = new Random(1234);
+		final var values = new double[50][];
+		for (int i = 0; i < values.length; ++i) {
+			values[i] = random.doubles(20, 0, 10).toArray();
+		}
+
+		final var range = new DoubleRange(0, 10);
+		final var expected = alter(alterer, values, v ->
+			DoubleChromosome.of(
+				Arrays.stream(v)
+					.mapToObj(a -> DoubleGene.of(a, range))
+					.collect(ISeq.toISeq())
+			)
+		);
+		final var actual = alter(alterer, values, v ->
+			DoubleArrayChromosome.of(range, v)
+		);
+
+		for (int i = 0; i < values.length; ++i) {
+			final var ch = actual.get(i).genotype().chromosome();
+			Assert.assertTrue(ch instanceof DoubleArrayChromosome);
+			Assert.assertEquals(
+				ch.as(DoubleArrayChromosome.class).toArray(),
+				expected.get(i).genotype().chromosome()
+					.as(DoubleChromosome.class).toArray()
+			);
+		}
+	}
+
+	@Test
+	public void alterWithOverriddenGeneMutation() {
+		final var mutator = new SamplerMutator<DoubleGene, Double>(1.0) {
+			@Override
+			protected DoubleGene mutate(
+				final DoubleGene gene,
+				final RandomGenerator random
+			) {
+				return gene.newInstance(0.0);
+			}
+		};
+
+		final var values = new double[50][];
+		Arrays.fill(values, new double[]{1, 2, 3, 4, 5});
+		final var altered = alter(mutator, values, v ->
+			DoubleArrayChromosome.of(new DoubleRange(0, 10), v)
+		);
+
+		for (var pt : altered) {
+			final var ch = pt.genotype().chromosome()
+				.as(NumericChromosome.class);
+			for (int i = 0; i < ch.length(); ++i) {
+				Assert.assertEquals(ch.doubleValue(i), 0.0);
+			}
+		}
+	}
+
+	@Test
+	public void alterWithOverriddenGeneCrossover() {
+		final var crossover = new LineCrossover<DoubleGene, Double>(1.0) {
+			@Override
+			protected int crossover(final MSeq<DoubleGene> v, final MSeq<DoubleGene> w) {
+				v.set(0, v.get(0).newInstance(0.0));
+				return 1;
+			}
+		};
+
+		final var values = new double[50][];
+		Arrays.fill(values, new double[]{1, 2, 3, 4, 5});
+		final var altered = alter(crossover, values, v ->
+			DoubleArrayChromosome.of(new DoubleRange(0, 10), v)
+		);
+
+		Assert.assertTrue(altered.stream()
+			.anyMatch(pt -> pt.genotype().gene().doubleValue() == 0.0));
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>> alter(
+		final Alterer<DoubleGene, Double> alterer,
+		final double[][] values,
+		final Function<double[], Chromosome<DoubleGene>> chromosome
+	) {
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			Arrays.stream(values)
+				.map(v -> Phenotype.<DoubleGene, Double>of(
+					Genotype.of(chromosome.apply(v)), 1
+				))
+				.collect(ISeq.toISeq());
+
+		return RandomRegistry.with(new Random(5678)).call(() ->
+			alterer.alter(population, 1).population()
+		);
+	}
+
+	@DataProvider
+	public Object[][] alterers() {
+		return new Object[][] {
+			{new GaussianMutator<DoubleGene, Double>(0.5)},
+			{new MeanAlterer<DoubleGene, Double>(0.5)},
+			{new IntermediateCrossover<DoubleGene, Double>(0.5, 0.5)},
+			{new LineCrossover<DoubleGene, Double>(0.5, 0.5)}
+		};
+	}
+
+}
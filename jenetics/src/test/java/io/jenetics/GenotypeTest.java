@@ -24,10 +24,16 @@ import static org.testng.Assert.assertEquals;
 import static org.testng.Assert.assertNotEquals;
 import static org.testng.Assert.assertNotSame;
 
+import java.util.HashSet;
+import java.util.Set;
+
 import org.testng.Assert;
+import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.DoubleRange;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.ObjectTester;
 
 /**
@@ -144,4 +150,72 @@ public class GenotypeTest extends ObjectTester<Genotype<DoubleGene>> {
 		assertThat(slice).isEqualTo(expected);
 	}
 
+	@Test
+	public void fingerprint() {
+		final var gt1 = Genotype.of(
+			DoubleArrayChromosome.of(0, 1, 20),
+			DoubleArrayChromosome.of(0, 1, 30)
+		);
+		final var gt2 = Genotype.of(
+			DoubleArrayChromosome.of(
+				new DoubleRange(0, 1),
+				((DoubleArrayChromosome)gt1.get(0)).toArray()
+			),
+			DoubleArrayChromosome.of(
+				new DoubleRange(0, 1),
+				((DoubleArrayChromosome)gt1.get(1)).toArray()
+			)
+		);
+
+		assertThat(gt2).isEqualTo(gt1);
+		assertThat(gt2.fingerprint()).isEqualTo(gt1.fingerprint());
+		assertThat(gt2.hashCode()).isEqualTo(gt1.hashCode());
+		assertThat(gt1.fingerprint()).isEqualTo(gt1.fingerprint());
+	}
+
+	@Test(dataProvider = "genotypes")
+	public void fingerprintOfEqualGenotypes(final Genotype<?> factory) {
+		for (int i = 0; i < 100; ++i) {
+			final var gt1 = factory.newInstance();
+			final var gt2 = copy(gt1);
+
+			assertThat(gt2).isEqualTo(gt1);
+			assertThat(gt2).isNotSameAs(gt1);
+			assertThat(gt2.fingerprint()).isEqualTo(gt1.fingerprint());
+			assertThat(gt2.hashCode()).isEqualTo(gt1.hashCode());
+		}
+	}
+
+	private static <G extends Gene<?, G>> Genotype<G> copy(final Genotype<G> gt) {
+		return new Genotype<>(
+			gt.stream()
+				.map(ch -> ch.newInstance(ISeq.of(ch)))
+				.collect(ISeq.toISeq())
+		);
+	}
+
+	@Test(dataProvider = "genotypes")
+	public void fingerprintOfDifferentGenotypes(final Genotype<?> factory) {
+		final Set<Genotype<?>> genotypes = new HashSet<>();
+		final Set<Long> fingerprints = new HashSet<>();
+		for (int i = 0; i < 1000; ++i) {
+			final var gt = factory.newInstance();
+			if (genotypes.add(gt)) {
+				assertThat(fingerprints.add(gt.fingerprint())).isTrue();
+			}
+		}
+	}
+
+	@DataProvider
+	public Object[][] genotypes() {
+		return new Object[][] {
+			{Genotype.of(DoubleChromosome.of(0, 1, 5), DoubleChromosome.of(0, 1, 3))},
+			{Genotype.of(IntegerArrayChromosome.of(0, 1000, 10))},
+			{Genotype.of(LongChromosome.of(0, 1000, 10), LongChromosome.of(0, 10, 3))},
+			{Genotype.of(BitChromosome.of(20), BitChromosome.of(70))},
+			{Genotype.of(CharacterChromosome.of(5))},
+			{Genotype.of(PermutationChromosome.ofInteger(10))}
+		};
+	}
+
 }
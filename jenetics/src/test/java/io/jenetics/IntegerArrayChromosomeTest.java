@@ -0,0 +1,109 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class IntegerArrayChromosomeTest
+	extends NumericChromosomeTester<Integer, IntegerGene>
+{
+
+	private final IntegerArrayChromosome _factory = IntegerArrayChromosome.of(
+		0, 1000, 500
+	);
+
+	@Override
+	protected IntegerArrayChromosome factory() {
+		return _factory;
+	}
+
+	@Test
+	public void genes() {
+		final var ch = IntegerArrayChromosome.of(
+			new IntRange(0, 10),
+			new int[]{1, 2, 3}
+		);
+
+		Assert.assertEquals(ch.length(), 3);
+		Assert.assertEquals(ch.get(1), IntegerGene.of(2, 0, 10));
+		Assert.assertEquals(ch.intValue(2), 3);
+		Assert.assertEquals(ch.newInstance(ISeq.of(ch)), ch);
+		Assert.assertEquals(ch.toString(), "[1,2,3]");
+	}
+
+	@Test
+	public void buffer() {
+		final var ch = IntegerArrayChromosome.of(0, 100, 100);
+		final var buffer = ch.buffer();
+
+		Assert.assertTrue(buffer.isReadOnly());
+		for (int i = 0; i < ch.length(); ++i) {
+			Assert.assertEquals(buffer.get(i), ch.intValue(i));
+		}
+	}
+
+	@Test
+	public void mean() {
+		final var range = new IntRange(0, Integer.MAX_VALUE);
+		final var a = IntegerArrayChromosome.of(range, new int[]{Integer.MAX_VALUE - 1, 2, 7});
+		final var b = IntegerArrayChromosome.of(range, new int[]{Integer.MAX_VALUE - 3, 4, 0});
+
+		Assert.assertEquals(
+			a.mean(b).toArray(),
+			new int[]{Integer.MAX_VALUE - 2, 3, 3}
+		);
+	}
+
+	@Test
+	public void mutate() {
+		// The array fast path must give the same result as the gene path.
+		final var range = new IntRange(0, Integer.MAX_VALUE);
+		final var array = IntegerArrayChromosome.of(
+			range,
+			new int[]{Integer.MAX_VALUE - 1, Integer.MAX_VALUE - 2, 1, 2, 3, 4, 5, 6, 7, 8}
+		);
+		final var genes = IntegerChromosome.of(array);
+		final var mutator = new GaussianMutator<IntegerGene, Integer>(0.5);
+
+		final var expected = RandomRegistry.with(new Random(123)).call(() ->
+			mutator.mutate(genes, 0.5, RandomRegistry.random())
+		);
+		final var actual = RandomRegistry.with(new Random(123)).call(() ->
+			mutator.mutate(array, 0.5, RandomRegistry.random())
+		);
+
+		Assert.assertEquals(actual.mutations(), expected.mutations());
+		Assert.assertEquals(
+			actual.result().as(IntegerArrayChromosome.class).toArray(),
+			expected.result().as(IntegerChromosome.class).toArray()
+		);
+	}
+
+}
@@ -19,8 +19,19 @@
  */
 package io.jenetics;
 
+import static io.jenetics.TestUtils.newDoubleGenePopulation;
+
+import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+
+import org.testng.Assert;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.RandomRegistry;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -32,4 +43,72 @@ public class MutatorTest extends MutatorTester {
 		return new Mutator<>(p);
 	}
 
+	@Test
+	public void parallelAlter() {
+		final var population = newDoubleGenePopulation(5, 2, 1000);
+		final var mutator = new Mutator<DoubleGene, Double>(0.3, 64);
+
+		final var expected = RandomRegistry.with(new Random(123)).call(() ->
+			mutator.alter(population, 1, Runnable::run)
+		);
+		Assert.assertEquals(expected.population().size(), population.size());
+		Assert.assertTrue(expected.alterations() > 0);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (var exec : new Executor[] {
+				executor, ForkJoinPool.commonPool(), Runnable::run })
+			{
+				final var result = RandomRegistry.with(new Random(123)).call(() ->
+					mutator.alter(population, 1, exec)
+				);
+				Assert.assertEquals(result, expected);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void parallelAlterWithinExecutor() throws Exception {
+		final var population = newDoubleGenePopulation(5, 2, 1000);
+		final var mutator = new Mutator<DoubleGene, Double>(0.3, 64);
+
+		final var expected = RandomRegistry.with(new Random(123)).call(() ->
+			mutator.alter(population, 1, Runnable::run)
+		);
+
+		// The altering task is occupying the only executor thread.
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final var result = executor.submit(() ->
+				RandomRegistry.with(new Random(123)).call(() ->
+					mutator.alter(population, 1, executor)
+				)
+			).get();
+			Assert.assertEquals(result, expected);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void parallelAlterSmallPopulation() {
+		final var population = newDoubleGenePopulation(5, 2, 50);
+		final var mutator = new Mutator<DoubleGene, Double>(0.3, 64);
+
+		final var expected = RandomRegistry.with(new Random(123)).call(() ->
+			mutator.alter(population, 1)
+		);
+		final var result = RandomRegistry.with(new Random(123)).call(() ->
+			mutator.alter(population, 1, ForkJoinPool.commonPool())
+		);
+		Assert.assertEquals(result, expected);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidChunkSize() {
+		new Mutator<DoubleGene, Double>(0.3, 0);
+	}
+
 }
@@ -25,11 +25,15 @@ import static io.jenetics.internal.util.Arrays.shuffle;
 import java.util.Arrays;
 import java.util.Random;
 import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
 
 import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
  */
@@ -91,4 +95,52 @@ public class ProbabilitySelectorTest {
 		);
 	}
 
+	@Test(dataProvider = "sampling")
+	public void selectionDistribution(
+		final ProbabilitySelector.Sampling sampling,
+		final Optimize opt
+	) {
+		final int size = 20;
+		final ISeq<Phenotype<DoubleGene, Double>> population =
+			IntStream.range(0, size)
+				.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+					Genotype.of(DoubleChromosome.of(0, 1)),
+					1,
+					i + 1.0
+				))
+				.collect(ISeq.toISeq());
+
+		final var selector = new RouletteWheelSelector<DoubleGene, Double>(sampling);
+		Assert.assertEquals(selector.sampling(), sampling);
+
+		final int count = 200_000;
+		final var selection = RandomRegistry.with(new Random(123)).call(() ->
+			selector.select(population, count, opt)
+		);
+		Assert.assertEquals(selection.size(), count);
+
+		final double[] histogram = new double[size];
+		for (var pt : selection) {
+			histogram[pt.fitness().intValue() - 1] += 1.0/count;
+		}
+
+		final double[] fitness = IntStream.range(0, size)
+			.mapToDouble(i -> opt == Optimize.MAXIMUM ? i + 1.0 : size - i)
+			.toArray();
+		final double sum = Arrays.stream(fitness).sum();
+		for (int i = 0; i < size; ++i) {
+			Assert.assertEquals(histogram[i], fitness[i]/sum, 0.005);
+		}
+	}
+
+	@DataProvider(name = "sampling")
+	public Object[][] sampling() {
+		return new Object[][] {
+			{ProbabilitySelector.Sampling.CDF, Optimize.MAXIMUM},
+			{ProbabilitySelector.Sampling.CDF, Optimize.MINIMUM},
+			{ProbabilitySelector.Sampling.ALIAS, Optimize.MAXIMUM},
+			{ProbabilitySelector.Sampling.ALIAS, Optimize.MINIMUM}
+		};
+	}
+
 }
@@ -0,0 +1,296 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics;
+
+import java.util.HashSet;
+import java.util.List;
+import java.util.Random;
+import java.util.Set;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ForkJoinPool;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.Provenance.Change;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class ProvenanceTest {
+
+	private static IntegerChromosome chromosome(final int... values) {
+		return IntegerChromosome.of(
+			IntStream.of(values)
+				.mapToObj(v -> IntegerGene.of(v, 0, 100))
+				.collect(ISeq.toISeq())
+		);
+	}
+
+	@Test
+	public void changes() {
+		final var parent = Phenotype.<IntegerGene, Integer>of(
+			Genotype.of(chromosome(1, 2, 3), chromosome(4, 5, 6)),
+			1,
+			21
+		);
+		final var genotype = Genotype.of(
+			parent.genotype().get(0),
+			chromosome(6, 5, 4)
+		);
+
+		final var provenance = Provenance.of(
+			parent,
+			genotype,
+			List.of(new Change(1, 0), new Change(1, 1), new Change(1, 2))
+		).orElseThrow();
+		Assert.assertSame(provenance.parent(), parent);
+		Assert.assertEquals(provenance.parentFitness(), Integer.valueOf(21));
+		Assert.assertEquals(
+			provenance.changes(),
+			ISeq.of(new Change(1, 0), new Change(1, 2))
+		);
+	}
+
+	@Test
+	public void noChanges() {
+		final var parent = Phenotype.<IntegerGene, Integer>of(
+			Genotype.of(chromosome(1, 2, 3)),
+			1,
+			6
+		);
+		final var genotype = Genotype.of(chromosome(1, 2, 3));
+
+		final var provenance = Provenance
+			.of(parent, genotype, List.of(new Change(0, 2)))
+			.orElseThrow();
+		Assert.assertTrue(provenance.changes().isEmpty());
+	}
+
+	@Test
+	public void notEvaluatedParent() {
+		final var parent = Phenotype.<IntegerGene, Integer>of(
+			Genotype.of(chromosome(1, 2, 3)),
+			1
+		);
+
+		Assert.assertTrue(
+			Provenance.of(
+				parent,
+				Genotype.of(chromosome(1, 2, 4)),
+				List.of(new Change(0, 2))
+			).isEmpty()
+		);
+	}
+
+	@Test
+	public void changedStructure() {
+		final var parent = Phenotype.<IntegerGene, Integer>of(
+			Genotype.of(chromosome(1, 2, 3)),
+			1,
+			6
+		);
+
+		Assert.assertTrue(
+			Provenance.of(
+				parent,
+				Genotype.of(chromosome(1, 2)),
+				List.of(new Change(0, 1))
+			).isEmpty()
+		);
+		Assert.assertTrue(
+			Provenance.of(
+				parent,
+				Genotype.of(chromosome(1, 2, 3), chromosome(1)),
+				List.of()
+			).isEmpty()
+		);
+		Assert.assertTrue(
+			Provenance.of(
+				parent,
+				Genotype.of(chromosome(1, 2, 3)),
+				List.of(new Change(0, 3))
+			).isEmpty()
+		);
+	}
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population() {
+		return ISeq.of(
+			() -> Phenotype.<IntegerGene, Integer>of(
+				Genotype.of(
+					IntegerChromosome.of(0, 100, 20),
+					IntegerChromosome.of(0, 100, 10)
+				),
+				1,
+				0
+			),
+			50
+		);
+	}
+
+	@Test(dataProvider = "executors")
+	public void recordedChanges(final Executor executor) {
+		final var population = population();
+		final Alterer<IntegerGene, Integer> alterer = Alterer.of(
+			new Mutator<IntegerGene, Integer>(0.2, 7),
+			new SinglePointCrossover<IntegerGene, Integer>(0.3),
+			new MultiPointCrossover<IntegerGene, Integer>(0.3, 3)
+		);
+
+		final var alteration = RandomRegistry.with(new Random(123)).call(() ->
+			Provenance.Alteration.of(alterer, population, 2, executor)
+		);
+		final var result = alteration.result();
+
+		int altered = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			final var parent = population.get(i);
+			final var child = result.population().get(i);
+			final var changes = alteration.changes().get(i).orElseThrow();
+
+			final var provenance = Provenance
+				.of(parent, child.genotype(), changes)
+				.orElseThrow();
+			Assert.assertEquals(
+				Set.copyOf(provenance.changes().asList()),
+				diff(parent.genotype(), child.genotype())
+			);
+			if (child != parent) {
+				++altered;
+			}
+		}
+		Assert.assertTrue(altered > 0);
+	}
+
+	@DataProvider
+	public Object[][] executors() {
+		return new Object[][] {
+			{(Executor)Runnable::run},
+			{ForkJoinPool.commonPool()}
+		};
+	}
+
+	@Test
+	public void recordingDoesNotChangeAlteration() {
+		final var population = population();
+		final Alterer<IntegerGene, Integer> alterer = Alterer.of(
+			new Mutator<IntegerGene, Integer>(0.2),
+			new SinglePointCrossover<IntegerGene, Integer>(0.3)
+		);
+
+		final var expected = RandomRegistry.with(new Random(123)).call(() ->
+			alterer.alter(population, 2)
+		);
+		final var alteration = RandomRegistry.with(new Random(123)).call(() ->
+			Provenance.Alteration.of(alterer, population, 2, Runnable::run)
+		);
+		Assert.assertEquals(alteration.result(), expected);
+	}
+
+	@Test
+	public void overriddenMutation() {
+		final var population = population();
+		final var alterer = new Mutator<IntegerGene, Integer>(0.5) {
+			@Override
+			protected MutatorResult<Chromosome<IntegerGene>> mutate(
+				final Chromosome<IntegerGene> chromosome,
+				final double p,
+				final RandomGenerator random
+			) {
+				// Changes the result of the default mutation.
+				return super.mutate(chromosome, p, random)
+					.map(ch -> ch.newInstance(MSeq.of(ch).reverse().toISeq()));
+			}
+		};
+
+		final var alteration = RandomRegistry.with(new Random(123)).call(() ->
+			Provenance.Alteration.of(alterer, population, 2, Runnable::run)
+		);
+
+		int unknown = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			final var parent = population.get(i);
+			final var child = alteration.result().population().get(i);
+			final var changes = alteration.changes().get(i);
+
+			if (changes.isPresent()) {
+				final var provenance = Provenance
+					.of(parent, child.genotype(), changes.get())
+					.orElseThrow();
+				Assert.assertEquals(
+					Set.copyOf(provenance.changes().asList()),
+					diff(parent.genotype(), child.genotype())
+				);
+			} else {
+				++unknown;
+			}
+		}
+		Assert.assertTrue(unknown > 0);
+	}
+
+	@Test
+	public void partialAlterer() {
+		final var population = population();
+		final Alterer<IntegerGene, Integer> alterer = PartialAlterer.of(
+			new Mutator<IntegerGene, Integer>(0.5),
+			1
+		);
+
+		final var alteration = RandomRegistry.with(new Random(123)).call(() ->
+			Provenance.Alteration.of(alterer, population, 2, Runnable::run)
+		);
+
+		for (int i = 0; i < population.size(); ++i) {
+			final var parent = population.get(i);
+			final var child = alteration.result().population().get(i);
+			Assert.assertEquals(
+				alteration.changes().get(i).isPresent(),
+				child == parent
+			);
+		}
+	}
+
+	private static Set<Change> diff(
+		final Genotype<IntegerGene> a,
+		final Genotype<IntegerGene> b
+	) {
+		final Set<Change> changes = new HashSet<>();
+		for (int i = 0; i < a.length(); ++i) {
+			for (int j = 0; j < a.get(i).length(); ++j) {
+				if (!a.get(i).get(j).equals(b.get(i).get(j))) {
+					changes.add(new Change(i, j));
+				}
+			}
+		}
+		return changes;
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidChange() {
+		new Change(0, -1);
+	}
+
+}
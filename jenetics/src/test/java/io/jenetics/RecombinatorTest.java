@@ -1,13 +1,25 @@
 package io.jenetics;
 
 import static java.lang.String.format;
+import static io.jenetics.TestUtils.newDoubleGenePopulation;
 
+import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
 import java.util.Random;
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
+import io.jenetics.util.MSeq;
+import io.jenetics.util.RandomRegistry;
+
 public class RecombinatorTest {
 
 	private final Random _random = new Random();
@@ -30,6 +42,76 @@ public class RecombinatorTest {
 		}
 	}
 
+	@Test(dataProvider = "individualParams")
+	public void waves(final int size, final int order) {
+		final List<int[]> recombinations = new ArrayList<>();
+		for (int i = 0; i < 10*size; ++i) {
+			recombinations.add(Recombinator.individuals(
+				_random.nextInt(size), size, order, _random
+			));
+		}
+
+		final var waves = Recombinator.waves(recombinations, size);
+		Assert.assertEquals(
+			waves.stream().mapToInt(List::size).sum(),
+			recombinations.size()
+		);
+
+		final int[] last = new int[size];
+		Arrays.fill(last, -1);
+		for (int w = 0; w < waves.size(); ++w) {
+			final var indexes = new HashSet<Integer>();
+			for (var ind : waves.get(w)) {
+				for (int i : ind) {
+					Assert.assertTrue(indexes.add(i), "Index in wave twice.");
+				}
+
+				// Check the preserved order of conflicting recombinations.
+				final int position = recombinations.indexOf(ind);
+				for (int i : ind) {
+					Assert.assertTrue(last[i] < position);
+					last[i] = position;
+				}
+			}
+		}
+	}
+
+	@Test
+	public void parallelAlter() {
+		final var population = newDoubleGenePopulation(5, 2, 1000);
+		final var alterer = new Crossover<DoubleGene, Double>(0.3, 32) {
+			@Override
+			protected int crossover(
+				final MSeq<DoubleGene> that,
+				final MSeq<DoubleGene> other
+			) {
+				final int index = RandomRegistry.random().nextInt(that.length());
+				SinglePointCrossover.crossover(that, other, index);
+				return 2;
+			}
+		};
+
+		final var expected = RandomRegistry.with(new Random(123)).call(() ->
+			alterer.alter(population, 1, Runnable::run)
+		);
+		Assert.assertEquals(expected.population().size(), population.size());
+		Assert.assertTrue(expected.alterations() > 0);
+
+		final ExecutorService executor = Executors.newFixedThreadPool(4);
+		try {
+			for (var exec : new Executor[] {
+				executor, ForkJoinPool.commonPool(), Runnable::run })
+			{
+				final var result = RandomRegistry.with(new Random(123)).call(() ->
+					alterer.alter(population, 1, exec)
+				);
+				Assert.assertEquals(result, expected);
+			}
+		} finally {
+			executor.shutdown();
+		}
+	}
+
 	@DataProvider
 	public Object[][] individualParams() {
 		return new Object[][] {
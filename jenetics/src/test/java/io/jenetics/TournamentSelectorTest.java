@@ -23,10 +23,15 @@ import static java.lang.String.format;
 import static io.jenetics.distassert.assertion.Assertions.assertThat;
 
 import java.util.Arrays;
+import java.util.Comparator;
 import java.util.List;
+import java.util.Random;
+import java.util.concurrent.ForkJoinPool;
 import java.util.random.RandomGeneratorFactory;
 import java.util.stream.IntStream;
+import java.util.stream.Stream;
 
+import org.testng.Assert;
 import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
@@ -34,6 +39,7 @@ import io.jenetics.distassert.distribution.EmpiricalDistribution;
 import io.jenetics.distassert.observation.Observer;
 import io.jenetics.internal.util.Named;
 import io.jenetics.util.Factory;
+import io.jenetics.util.ISeq;
 import io.jenetics.util.RandomRegistry;
 import io.jenetics.util.StableRandomExecutor;
 import io.jenetics.util.TestData;
@@ -76,6 +82,123 @@ public class TournamentSelectorTest
 		assertThat(observation).follows(distribution);
 	}
 
+	@Test(dataProvider = "selectParameters")
+	public void selectLikeSingleTournaments(
+		final Integer size,
+		final Integer count,
+		final Optimize opt
+	) {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(size);
+		final var selector = new TournamentSelector<DoubleGene, Double>(3);
+
+		final var expected = RandomRegistry.with(new Random(1234)).call(() -> {
+			if (population.isEmpty()) {
+				return ISeq.<Phenotype<DoubleGene, Double>>empty();
+			}
+
+			final var random = RandomRegistry.random();
+			final Comparator<Phenotype<DoubleGene, Double>> cmp =
+				opt == Optimize.MAXIMUM
+					? Comparator.naturalOrder()
+					: Comparator.reverseOrder();
+
+			return Stream.generate(() ->
+					Stream.generate(() -> population.get(random.nextInt(size)))
+						.limit(3)
+						.max(cmp)
+						.orElseThrow())
+				.limit(count)
+				.collect(ISeq.toISeq());
+		});
+
+		final var actual = RandomRegistry.with(new Random(1234)).call(() ->
+			selector.select(population, count, opt)
+		);
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@Test(dataProvider = "selectParameters")
+	public void primitiveSelectLikeGenericSelect(
+		final Integer size,
+		final Integer count,
+		final Optimize opt
+	) {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(size);
+		final var primitive = new TournamentSelector<DoubleGene, Double>(3);
+		final var generic = new TournamentSelector<DoubleGene, Double>(
+			(a, b) -> a.compareTo(b), 3
+		);
+
+		final var expected = RandomRegistry.with(new Random(4321)).call(() ->
+			generic.select(population, count, opt)
+		);
+		final var actual = RandomRegistry.with(new Random(4321)).call(() ->
+			primitive.select(population, count, opt)
+		);
+
+		Assert.assertEquals(actual, expected);
+	}
+
+	@Test
+	public void smallSelectLikeGenericSelect() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(1000);
+		final var primitive = new TournamentSelector<DoubleGene, Double>();
+		final var generic = new TournamentSelector<DoubleGene, Double>(
+			(a, b) -> a.compareTo(b), 2
+		);
+
+		for (var opt : Optimize.values()) {
+			for (int count = 0; count < 10; ++count) {
+				final int n = count;
+				final var expected = RandomRegistry.with(new Random(4321))
+					.call(() -> generic.select(population, n, opt));
+				final var actual = RandomRegistry.with(new Random(4321))
+					.call(() -> primitive.select(population, n, opt));
+
+				Assert.assertEquals(actual, expected);
+			}
+		}
+	}
+
+	@Test(dataProvider = "selectParameters")
+	public void parallelSelect(
+		final Integer size,
+		final Integer count,
+		final Optimize opt
+	) {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(size);
+		final var selector = new TournamentSelector<DoubleGene, Double>(
+			Phenotype::compareTo, 3, 7
+		);
+
+		final var expected = RandomRegistry.with(new Random(1234)).call(() ->
+			selector.select(population, count, opt, Runnable::run)
+		);
+		final var actual = RandomRegistry.with(new Random(1234)).call(() ->
+			selector.select(population, count, opt, ForkJoinPool.commonPool())
+		);
+
+		Assert.assertEquals(actual.size(), size == 0 ? 0 : count);
+		Assert.assertEquals(actual, expected);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidChunkSize() {
+		new TournamentSelector<DoubleGene, Double>(Phenotype::compareTo, 3, 0);
+	}
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	population(final int size) {
+		return IntStream.range(0, size)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, size)),
+				1,
+				(double)(i%17)
+			))
+			.collect(ISeq.toISeq());
+	}
+
 //	@Test
 //	public void foo() {
 //		var seed = 5000L;
@@ -76,6 +76,33 @@ public class TruncationSelectorTest
 		}
 	}
 
+	@Test(dataProvider = "optimize")
+	public void primitiveSortLikeGenericSort(final Optimize opt) {
+		final var random = new Random(123);
+		final ISeq<Phenotype<DoubleGene, Double>> population = random
+			.ints(500, 0, 20)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 10)),
+				1,
+				i == 0 ? Double.NaN : i/2.0
+			))
+			.collect(ISeq.toISeq());
+
+		final MSeq<Phenotype<DoubleGene, Double>> expected = population.copy();
+		expected.sort((a, b) ->
+			opt.<Double>descending().compare(a.fitness(), b.fitness()));
+
+		final var selected = new TruncationSelector<DoubleGene, Double>()
+			.select(population, population.size(), opt);
+
+		Assert.assertEquals(selected, expected.toISeq());
+	}
+
+	@DataProvider(name = "optimize")
+	public Object[][] optimize() {
+		return new Object[][] {{Optimize.MAXIMUM}, {Optimize.MINIMUM}};
+	}
+
 	@Test(dataProvider = "expectedDistribution")
 	public void selectDistribution(final Named<double[]> expected, final Optimize opt) {
 		final var observation = Observer
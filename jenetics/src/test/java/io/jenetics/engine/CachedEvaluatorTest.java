@@ -0,0 +1,211 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.IntegerChromosome;
+import io.jenetics.IntegerGene;
+import io.jenetics.Genotype;
+import io.jenetics.Phenotype;
+import io.jenetics.util.BatchExecutor;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.IntRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class CachedEvaluatorTest {
+
+	private static ISeq<Phenotype<IntegerGene, Integer>> population(final int size) {
+		return Genotype.of(IntegerChromosome.of(0, 10)).instances()
+			.limit(size)
+			.map(gt -> Phenotype.<IntegerGene, Integer>of(gt, 1))
+			.collect(ISeq.toISeq());
+	}
+
+	private static int fitness(final Genotype<IntegerGene> gt) {
+		return gt.gene().intValue();
+	}
+
+	@Test
+	public void eval() {
+		final var count = new AtomicInteger();
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			gt -> {
+				count.incrementAndGet();
+				return fitness(gt);
+			},
+			100
+		);
+
+		final var population = population(1_000);
+		final var evaluated = evaluator.eval(population);
+
+		Assert.assertEquals(evaluated.size(), population.size());
+		for (int i = 0; i < population.size(); ++i) {
+			final var pt = evaluated.get(i);
+			Assert.assertSame(pt.genotype(), population.get(i).genotype());
+			Assert.assertEquals(pt.fitness().intValue(), fitness(pt.genotype()));
+		}
+
+		// Only 10 different genotypes exist.
+		final var stats = evaluator.stats();
+		Assert.assertEquals(count.get(), 10);
+		Assert.assertEquals(stats.misses(), 10);
+		Assert.assertEquals(stats.hits(), 990);
+		Assert.assertEquals(stats.evictions(), 0);
+		Assert.assertEquals(stats.size(), 10);
+
+		evaluator.eval(population(1_000));
+		Assert.assertEquals(count.get(), 10);
+		Assert.assertEquals(evaluator.stats().hits(), 1_990);
+		Assert.assertEquals(evaluator.stats().hitRate(), 1_990.0/2_000.0);
+	}
+
+	@Test
+	public void evalEvaluatedPopulation() {
+		final CachedEvaluator<IntegerGene, Integer> evaluator =
+			Evaluators.cached(CachedEvaluatorTest::fitness, 100);
+
+		final var population = population(10).map(pt -> pt.withFitness(-1));
+		final var evaluated = evaluator.eval(population);
+
+		Assert.assertEquals(evaluated, population);
+		Assert.assertEquals(evaluator.stats().hits(), 0);
+		Assert.assertEquals(evaluator.stats().misses(), 0);
+	}
+
+	@Test
+	public void eviction() {
+		final var count = new AtomicInteger();
+		final Evaluator<IntegerGene, Integer> delegate = population -> {
+			count.addAndGet(population.size());
+			return population
+				.map(pt -> pt.withFitness(fitness(pt.genotype())))
+				.asISeq();
+		};
+
+		final CachedEvaluator<IntegerGene, Integer> evaluator =
+			Evaluators.cached(delegate, Function.identity(), key -> 1, 5);
+
+		final Function<Integer, Phenotype<IntegerGene, Integer>> phenotype = v ->
+			Phenotype.of(Genotype.of(IntegerChromosome.of(IntegerGene.of(v, 0, 10))), 1);
+
+		for (int i = 0; i < 10; ++i) {
+			evaluator.eval(ISeq.of(phenotype.apply(i)));
+		}
+		Assert.assertEquals(count.get(), 10);
+		Assert.assertEquals(evaluator.stats().evictions(), 5);
+		Assert.assertEquals(evaluator.stats().size(), 5);
+
+		// The least recently used values has been evicted.
+		evaluator.eval(ISeq.of(phenotype.apply(9)));
+		Assert.assertEquals(count.get(), 10);
+		evaluator.eval(ISeq.of(phenotype.apply(0)));
+		Assert.assertEquals(count.get(), 11);
+
+		evaluator.clear();
+		Assert.assertEquals(evaluator.stats().size(), 0);
+		evaluator.eval(ISeq.of(phenotype.apply(9)));
+		Assert.assertEquals(count.get(), 12);
+	}
+
+	@Test
+	public void weightedEviction() {
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			new FitnessEvaluator<>(CachedEvaluatorTest::fitness, BatchExecutor.of(Runnable::run)),
+			gt -> gt.gene().intValue(),
+			key -> key,
+			10
+		);
+
+		evaluator.eval(population(1_000));
+		Assert.assertTrue(evaluator.stats().weight() <= 10);
+		Assert.assertTrue(evaluator.stats().evictions() > 0);
+	}
+
+	@Test
+	public void codecKey() {
+		final var count = new AtomicInteger();
+		final Codec<Integer, IntegerGene> codec = Codecs.ofScalar(new IntRange(0, 10));
+
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			(Integer value) -> {
+				count.incrementAndGet();
+				return value;
+			},
+			codec,
+			100
+		);
+
+		final var population = population(100);
+		final var evaluated = evaluator.eval(population);
+		evaluated.forEach(pt ->
+			Assert.assertEquals(pt.fitness(), codec.decode(pt.genotype()))
+		);
+
+		final long distinct = population.stream()
+			.map(pt -> codec.decode(pt.genotype()))
+			.distinct()
+			.count();
+		Assert.assertEquals(count.get(), distinct);
+	}
+
+	@Test
+	public void concurrentEngines() throws InterruptedException {
+		final var count = new AtomicInteger();
+		final CachedEvaluator<IntegerGene, Integer> evaluator = Evaluators.cached(
+			gt -> {
+				count.incrementAndGet();
+				return fitness(gt);
+			},
+			1_000
+		);
+
+		final Engine<IntegerGene, Integer> engine =
+			new Engine.Builder<>(evaluator, Genotype.of(IntegerChromosome.of(0, 10, 2)))
+				.fitnessExecutor(BatchExecutor.ofVirtualThreads())
+				.populationSize(200)
+				.build();
+
+		try (var executor = Executors.newFixedThreadPool(4)) {
+			for (int i = 0; i < 8; ++i) {
+				executor.execute(() -> engine.stream()
+					.limit(20)
+					.collect(EvolutionResult.toBestEvolutionResult())
+				);
+			}
+		}
+
+		// Only 100 different genotypes exist.
+		final var stats = evaluator.stats();
+		Assert.assertTrue(stats.size() <= 100, "Cache size: " + stats.size());
+		Assert.assertEquals(stats.evictions(), 0);
+		Assert.assertEquals(stats.misses(), count.get());
+		Assert.assertTrue(stats.hits() > stats.misses(), stats.toString());
+	}
+
+}
@@ -0,0 +1,157 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.Provenance;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DeltaFitnessEvaluatorTest {
+
+	private static int count(final Genotype<BitGene> gt) {
+		return gt.chromosome().as(BitChromosome.class).bitCount();
+	}
+
+	private static DeltaFitness<BitGene, Integer> delta(final AtomicInteger calls) {
+		return (genotype, provenance) -> {
+			calls.incrementAndGet();
+			int ones = provenance.parentFitness();
+			for (var change : provenance.changes()) {
+				ones += genotype.get(change.chromosome())
+					.get(change.gene()).bit() ? 1 : -1;
+			}
+			return ones;
+		};
+	}
+
+	@Test
+	public void evolve() {
+		final var full = new AtomicInteger();
+		final var deltas = new AtomicInteger();
+
+		final Function<Genotype<BitGene>, Integer> fitness = gt -> {
+			full.incrementAndGet();
+			return count(gt);
+		};
+
+		final Engine<BitGene, Integer> engine = new Engine.Builder<>(
+				Evaluators.delta(fitness, delta(deltas)),
+				Genotype.of(BitChromosome.of(200, 0.5))
+			)
+			.populationSize(50)
+			.alterers(
+				new Mutator<>(0.01),
+				new SinglePointCrossover<>(0.2)
+			)
+			.build();
+
+		engine.stream()
+			.limit(25)
+			.forEach(result -> {
+				for (var pt : result.population()) {
+					Assert.assertEquals(pt.fitness().intValue(), count(pt.genotype()));
+				}
+			});
+
+		Assert.assertTrue(deltas.get() > 0);
+		Assert.assertTrue(full.get() >= 50);
+	}
+
+	@Test
+	public void fallback() {
+		final var full = new AtomicInteger();
+		final Function<Genotype<BitGene>, Integer> fitness = gt -> {
+			full.incrementAndGet();
+			return count(gt);
+		};
+
+		final var evaluator = Evaluators.<BitGene, Integer>delta(
+			fitness,
+			(genotype, provenance) -> null
+		);
+
+		final var parent = Phenotype.<BitGene, Integer>of(
+			Genotype.of(BitChromosome.of(10, 0.5)),
+			1
+		).eval(DeltaFitnessEvaluatorTest::count);
+		final var child = Phenotype.<BitGene, Integer>of(
+			Genotype.of(BitChromosome.of(10, 0.5)),
+			1
+		);
+
+		final ISeq<Phenotype<BitGene, Integer>> result = evaluator.eval(
+			ISeq.of(parent, child),
+			pt -> pt == child
+				? Provenance.of(
+					parent,
+					child.genotype(),
+					IntStream.range(0, 10)
+						.mapToObj(i -> new Provenance.Change(0, i))
+						.toList()
+				)
+				: Optional.empty()
+		);
+
+		Assert.assertEquals(full.get(), 1);
+		Assert.assertEquals(result.size(), 2);
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+		Assert.assertEquals(
+			result.get(1).fitness().intValue(),
+			count(child.genotype())
+		);
+	}
+
+	@Test
+	public void evalWithoutProvenance() {
+		final var deltas = new AtomicInteger();
+		final var evaluator = Evaluators.<BitGene, Integer>delta(
+			DeltaFitnessEvaluatorTest::count,
+			delta(deltas)
+		);
+
+		final ISeq<Phenotype<BitGene, Integer>> population = Genotype
+			.of(BitChromosome.of(10, 0.5))
+			.instances()
+			.limit(10)
+			.map(gt -> Phenotype.<BitGene, Integer>of(gt, 1))
+			.collect(ISeq.toISeq());
+
+		final var result = evaluator.eval(population);
+		Assert.assertEquals(deltas.get(), 0);
+		Assert.assertTrue(result.forAll(Phenotype::isEvaluated));
+	}
+
+}
@@ -0,0 +1,233 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Objects;
+import java.util.function.ToDoubleBiFunction;
+
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.CharacterChromosome;
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.EnumGene;
+import io.jenetics.Gene;
+import io.jenetics.Genotype;
+import io.jenetics.IntegerChromosome;
+import io.jenetics.NumericGene;
+import io.jenetics.Optimize;
+import io.jenetics.PermutationChromosome;
+import io.jenetics.Phenotype;
+import io.jenetics.util.CharSeq;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class DiversityTest {
+
+	private static <G extends Gene<?, G>> ISeq<Phenotype<G, Double>>
+	population(final Genotype<G> factory, final int size) {
+		return factory.instances()
+			.limit(size)
+			.map(gt -> Phenotype.<G, Double>of(gt, 1, 0.0))
+			.collect(ISeq.toISeq());
+	}
+
+	// Naive O(N^2) mean pairwise distance.
+	private static <G extends Gene<?, G>> double meanDistance(
+		final ISeq<Phenotype<G, Double>> population,
+		final ToDoubleBiFunction<Genotype<G>, Genotype<G>> distance
+	) {
+		double sum = 0;
+		long count = 0;
+		for (int i = 0; i < population.size(); ++i) {
+			for (int j = i + 1; j < population.size(); ++j) {
+				sum += distance.applyAsDouble(
+					population.get(i).genotype(),
+					population.get(j).genotype()
+				);
+				++count;
+			}
+		}
+		return sum/count;
+	}
+
+	private static <G extends Gene<?, G>> double hamming(
+		final Genotype<G> a,
+		final Genotype<G> b
+	) {
+		int count = 0;
+		int genes = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			for (int j = 0; j < a.get(i).length(); ++j) {
+				if (!Objects.equals(a.get(i).get(j).allele(), b.get(i).get(j).allele())) {
+					++count;
+				}
+				++genes;
+			}
+		}
+		return (double)count/genes;
+	}
+
+	private static <G extends NumericGene<?, G>> double squaredEuclidean(
+		final Genotype<G> a,
+		final Genotype<G> b
+	) {
+		double sum = 0;
+		int genes = 0;
+		for (int i = 0; i < a.length(); ++i) {
+			for (int j = 0; j < a.get(i).length(); ++j) {
+				final G gene = a.get(i).get(j);
+				final double range = gene.max().doubleValue() - gene.min().doubleValue();
+				final double d = (gene.doubleValue() - b.get(i).get(j).doubleValue())/range;
+				sum += d*d;
+				++genes;
+			}
+		}
+		return sum/genes;
+	}
+
+	private static <A> double kendallTau(
+		final Genotype<EnumGene<A>> a,
+		final Genotype<EnumGene<A>> b
+	) {
+		final var ca = a.chromosome();
+		final var cb = b.chromosome();
+		final int[] positions = new int[ca.length()];
+		for (int i = 0; i < ca.length(); ++i) {
+			positions[ca.get(i).alleleIndex()] = i;
+		}
+
+		int discordant = 0;
+		for (int i = 0; i < cb.length(); ++i) {
+			for (int j = i + 1; j < cb.length(); ++j) {
+				if (positions[cb.get(i).alleleIndex()] > positions[cb.get(j).alleleIndex()]) {
+					++discordant;
+				}
+			}
+		}
+		return discordant/(cb.length()*(cb.length() - 1)/2.0);
+	}
+
+	@DataProvider
+	public Object[][] alleleGenotypes() {
+		return new Object[][] {
+			{Genotype.of(BitChromosome.of(50, 0.3), BitChromosome.of(20, 0.9))},
+			{Genotype.of(CharacterChromosome.of(new CharSeq("abc"), 30))},
+			{Genotype.of(IntegerChromosome.of(0, 3, 10), IntegerChromosome.of(0, 100, 5))}
+		};
+	}
+
+	@Test(dataProvider = "alleleGenotypes")
+	public <G extends Gene<?, G>> void ofAlleles(final Genotype<G> factory) {
+		final ISeq<Phenotype<G, Double>> population = population(factory, 200);
+
+		assertThat(Diversity.<G>ofAlleles().of(population))
+			.isCloseTo(meanDistance(population, DiversityTest::hamming), 1e-12);
+	}
+
+	@Test
+	public void ofNumeric() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(
+			Genotype.of(DoubleChromosome.of(0, 1, 10), DoubleChromosome.of(-5, 5, 3)),
+			200
+		);
+
+		assertThat(Diversity.<DoubleGene>ofNumeric().of(population))
+			.isCloseTo(
+				Math.sqrt(meanDistance(population, DiversityTest::squaredEuclidean)),
+				1e-12
+			);
+	}
+
+	@Test
+	public void ofPermutations() {
+		final ISeq<Phenotype<EnumGene<Integer>, Double>> population =
+			population(Genotype.of(PermutationChromosome.ofInteger(40)), 50);
+
+		assertThat(Diversity.<Integer>ofPermutations(50*49/2).of(population))
+			.isCloseTo(meanDistance(population, DiversityTest::kendallTau), 1e-12);
+	}
+
+	@Test
+	public void ofPermutationsSampled() {
+		final ISeq<Phenotype<EnumGene<Integer>, Double>> population =
+			population(Genotype.of(PermutationChromosome.ofInteger(40)), 500);
+
+		// Random permutations have an expected Kendall tau distance of 0.5.
+		assertThat(Diversity.<Integer>ofPermutations(2_000).of(population))
+			.isCloseTo(0.5, 0.02);
+	}
+
+	@Test
+	public void convergedPopulation() {
+		final var gt = Genotype.of(BitChromosome.of(30), BitChromosome.of(10));
+		final ISeq<Phenotype<BitGene, Double>> population = ISeq
+			.<Phenotype<BitGene, Double>>of(() -> Phenotype.of(gt, 1, 0.0), 100);
+
+		assertThat(Diversity.<BitGene>ofAlleles().of(population)).isEqualTo(0.0);
+		assertThat(Diversity.<BitGene>ofSampled(
+			(a, b) -> a.equals(b) ? 0 : 1, 10
+		).of(population)).isEqualTo(0.0);
+	}
+
+	@Test
+	public void byDiversity() {
+		final ISeq<Phenotype<BitGene, Double>> population = population(
+			Genotype.of(BitChromosome.of(50, 0.5)), 100
+		);
+		final var diversity = Diversity.<BitGene>ofAlleles().of(population);
+
+		final var result = EvolutionResult.<BitGene, Double>of(
+			Optimize.MAXIMUM, population, 1, EvolutionDurations.ZERO, 0, 0, 0
+		);
+
+		assertThat(Limits.byDiversity(Diversity.<BitGene>ofAlleles(), diversity - 0.01)
+			.test(result)).isTrue();
+		assertThat(Limits.byDiversity(Diversity.<BitGene>ofAlleles(), diversity + 0.01)
+			.test(result)).isFalse();
+	}
+
+	@Test
+	public void statistics() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = population(
+			Genotype.of(DoubleChromosome.of(0, 1, 10)), 100
+		);
+		final var result = EvolutionResult.<DoubleGene, Double>of(
+			Optimize.MAXIMUM, population, 1, EvolutionDurations.ZERO, 0, 0, 0
+		);
+
+		final var statistics = DiversityStatistics.of(Diversity.<DoubleGene>ofNumeric());
+		assertThat(statistics.diversity()).isNaN();
+
+		statistics.accept(result);
+		statistics.accept(result);
+		assertThat(statistics.statistics().count()).isEqualTo(2L);
+		assertThat(statistics.diversity())
+			.isEqualTo(Diversity.<DoubleGene>ofNumeric().of(population));
+	}
+
+}
@@ -0,0 +1,99 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Map;
+import java.util.stream.Collectors;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleGene;
+import io.jenetics.engine.EvolutionEvents.EvaluationEvent;
+import io.jenetics.engine.EvolutionEvents.EvolveEvent;
+import io.jenetics.engine.EvolutionEvents.PhaseEvent;
+import io.jenetics.util.DoubleRange;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionEventsTest {
+
+	@Test
+	public void available() {
+		Assert.assertTrue(EvolutionEvents.AVAILABLE);
+	}
+
+	@Test
+	public void events() throws IOException {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(x -> x*x, Codecs.ofScalar(new DoubleRange(0, 10)))
+			.populationSize(50)
+			.build();
+
+		final Path file = Files.createTempFile("jenetics-", ".jfr");
+		try (var recording = new Recording()) {
+			recording.enable(EvolveEvent.class);
+			recording.enable(PhaseEvent.class);
+			recording.enable(EvaluationEvent.class);
+			recording.start();
+
+			engine.stream()
+				.limit(5)
+				.forEach(result -> {});
+
+			recording.stop();
+			recording.dump(file);
+
+			final Map<String, List<RecordedEvent>> events = RecordingFile
+				.readAllEvents(file).stream()
+				.filter(e -> e.getEventType().getName().startsWith("io.jenetics."))
+				.collect(Collectors.groupingBy(e -> e.getEventType().getName()));
+
+			final var evolve = events.get("io.jenetics.Evolve");
+			Assert.assertEquals(evolve.size(), 5);
+			for (var event : evolve) {
+				Assert.assertEquals(event.getInt("populationSize"), 50);
+			}
+
+			Assert.assertEquals(events.get("io.jenetics.EvolutionPhase").size(), 25);
+
+			// Initial evaluation plus one evaluation per generation.
+			final var evaluation = events.get("io.jenetics.Evaluation");
+			Assert.assertEquals(evaluation.size(), 6);
+			for (var event : evaluation) {
+				Assert.assertEquals(event.getInt("populationSize"), 50);
+				Assert.assertTrue(event.getInt("batchSize") <= 50);
+			}
+			Assert.assertEquals(evaluation.getFirst().getInt("batchSize"), 50);
+		} finally {
+			Files.deleteIfExists(file);
+		}
+	}
+
+}
@@ -0,0 +1,199 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.Executor;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.function.Supplier;
+import java.util.random.RandomGeneratorFactory;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.GaussianMutator;
+import io.jenetics.Genotype;
+import io.jenetics.MeanAlterer;
+import io.jenetics.Mutator;
+import io.jenetics.Phenotype;
+import io.jenetics.SinglePointCrossover;
+import io.jenetics.TournamentSelector;
+import io.jenetics.engine.EvolutionRandom.Phase;
+import io.jenetics.util.BatchExecutor;
+import io.jenetics.util.ISeq;
+import io.jenetics.util.RandomRegistry;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionRandomTest {
+
+	@Test
+	public void generator() {
+		final var random = EvolutionRandom.of(123);
+
+		final var a = random.generator(10, Phase.OFFSPRING_ALTER).longs(100).toArray();
+		final var b = random.generator(10, Phase.OFFSPRING_ALTER).longs(100).toArray();
+		final var c = random.generator(11, Phase.OFFSPRING_ALTER).longs(100).toArray();
+		final var d = random.generator(10, Phase.SURVIVOR_FILTER).longs(100).toArray();
+		final var e = random.generator(10, Phase.OFFSPRING_ALTER, 0).longs(100).toArray();
+		final var f = EvolutionRandom.of(124)
+			.generator(10, Phase.OFFSPRING_ALTER).longs(100).toArray();
+
+		Assert.assertEquals(a, b);
+		Assert.assertNotEquals(ISeq.of(a), ISeq.of(c));
+		Assert.assertNotEquals(ISeq.of(a), ISeq.of(d));
+		Assert.assertNotEquals(ISeq.of(a), ISeq.of(e));
+		Assert.assertNotEquals(ISeq.of(a), ISeq.of(f));
+	}
+
+	@Test
+	public void factory() {
+		final var factory = RandomGeneratorFactory.of("Xoshiro256PlusPlus");
+		final var random = EvolutionRandom.of(factory, 123);
+
+		Assert.assertEquals(random.factory(), factory);
+		Assert.assertEquals(random.seed(), 123L);
+		Assert.assertEquals(
+			random.generator(1, Phase.INIT).getClass().getSimpleName(),
+			"Xoshiro256PlusPlus"
+		);
+	}
+
+	@Test(dataProvider = "executors")
+	public void reproducibleEvolution(
+		final Supplier<Executor> executor,
+		final Supplier<BatchExecutor> fitnessExecutor
+	) {
+		final ISeq<Genotype<DoubleGene>> expected = evolve(
+			Runnable::run,
+			BatchExecutor.of(Runnable::run)
+		);
+		final Executor exec = executor.get();
+		try {
+			final ISeq<Genotype<DoubleGene>> population = evolve(
+				exec,
+				fitnessExecutor.get()
+			);
+
+			Assert.assertEquals(population, expected);
+		} finally {
+			if (exec instanceof ExecutorService service) {
+				service.shutdown();
+			}
+		}
+	}
+
+	@DataProvider
+	public Object[][] executors() {
+		final Supplier<Executor> serial = () -> Runnable::run;
+		final Supplier<Executor> common = ForkJoinPool::commonPool;
+		final Supplier<Executor> pool = () -> new ForkJoinPool(7);
+		final Supplier<Executor> fixed = () -> Executors.newFixedThreadPool(3);
+
+		final Supplier<BatchExecutor> virtual = BatchExecutor::ofVirtualThreads;
+		final Supplier<BatchExecutor> batch = () ->
+			BatchExecutor.of(ForkJoinPool.commonPool());
+
+		return new Object[][] {
+			{serial, virtual},
+			{common, batch},
+			{common, virtual},
+			{pool, batch},
+			{fixed, virtual}
+		};
+	}
+
+	private static ISeq<Genotype<DoubleGene>> evolve(
+		final Executor executor,
+		final BatchExecutor fitnessExecutor
+	) {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(
+				gt -> {
+					// Fitness function which is also using random numbers.
+					final double noise = RandomRegistry.random().nextDouble();
+					return gt.chromosome().as(DoubleChromosome.class)
+						.doubleStream().sum() + noise*0.001;
+				},
+				DoubleChromosome.of(0, 10, 20)
+			)
+			.selector(new TournamentSelector<>(3))
+			.alterers(
+				new SinglePointCrossover<>(0.2),
+				new GaussianMutator<>(0.1),
+				new MeanAlterer<>(0.05),
+				new Mutator<>(0.01)
+			)
+			.populationSize(100)
+			.maximalPhenotypeAge(5)
+			.executor(executor)
+			.fitnessExecutor(fitnessExecutor)
+			.random(EvolutionRandom.of(1234567))
+			.build();
+
+		return engine.stream()
+			.limit(25)
+			.reduce((a, b) -> b)
+			.orElseThrow()
+			.population()
+			.map(Phenotype::genotype);
+	}
+
+	@Test
+	public void reproducibleInitialPopulation() {
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.populationSize(20)
+			.random(EvolutionRandom.of(42))
+			.build();
+
+		final var populations = IntStream.range(0, 3)
+			.mapToObj(_ -> engine.stream()
+				.limit(1)
+				.findFirst()
+				.orElseThrow()
+				.population())
+			.toList();
+
+		Assert.assertEquals(populations.get(0), populations.get(1));
+		Assert.assertEquals(populations.get(1), populations.get(2));
+	}
+
+	@Test
+	public void toBuilder() {
+		final var random = EvolutionRandom.of(42);
+		final Engine<DoubleGene, Double> engine = Engine
+			.builder(gt -> gt.gene().doubleValue(), DoubleChromosome.of(0, 1))
+			.random(random)
+			.build();
+
+		Assert.assertEquals(engine.random().orElseThrow(), random);
+		Assert.assertEquals(engine.toBuilder().random(), random);
+		Assert.assertEquals(engine.toBuilder().copy().random(), random);
+		Assert.assertTrue(engine.toBuilder().random(null).build().random().isEmpty());
+	}
+
+}
@@ -160,6 +160,35 @@ public class EvolutionResultTest
 		Assert.assertEquals(minResult.worstFitness().intValue(), length - 1);
 	}
 
+	@Test
+	public void bestWorstPhenotypeWithTies() {
+		final var random = new Random(456);
+		final ISeq<Phenotype<DoubleGene, Double>> population = random
+			.ints(100, 0, 10)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				1,
+				(double)i
+			))
+			.collect(ISeq.toISeq());
+
+		for (Optimize opt : Optimize.values()) {
+			final EvolutionResult<DoubleGene, Double> result = EvolutionResult.of(
+				opt, population, 0, 0, EvolutionDurations.ZERO, 0, 0, 0
+			);
+
+			Assert.assertNotNull(result.fitnessColumn());
+			Assert.assertSame(
+				result.bestPhenotype(),
+				population.stream().max(opt.ascending()).orElseThrow()
+			);
+			Assert.assertSame(
+				result.worstPhenotype(),
+				population.stream().min(opt.ascending()).orElseThrow()
+			);
+		}
+	}
+
 	@Test
 	public void compareTo() {
 		final int length = 100;
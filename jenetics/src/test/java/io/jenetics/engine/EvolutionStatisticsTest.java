@@ -0,0 +1,56 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.BitChromosome;
+import io.jenetics.BitGene;
+import io.jenetics.Genotype;
+import io.jenetics.stat.MinMax;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class EvolutionStatisticsTest {
+
+	@Test
+	public void comparableFitnessCount() {
+		final Engine<BitGene, String> engine = Engine
+			.builder(
+				gt -> gt.chromosome().toString(),
+				Genotype.of(BitChromosome.of(20, 0.5))
+			)
+			.populationSize(50)
+			.build();
+
+		final EvolutionStatistics<String, MinMax<String>> statistics =
+			EvolutionStatistics.ofComparable();
+		engine.stream()
+			.limit(10)
+			.peek(statistics)
+			.forEach(result -> {});
+
+		Assert.assertEquals(statistics.fitness().count(), 10*50L);
+		Assert.assertEquals(statistics.phenotypeAge().count(), 10*50L);
+	}
+
+}
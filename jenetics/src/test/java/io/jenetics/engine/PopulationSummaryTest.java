@@ -0,0 +1,222 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RejectedExecutionException;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.stat.DoubleMomentStatistics;
+import io.jenetics.stat.DoubleMoments;
+import io.jenetics.stat.LongMomentStatistics;
+import io.jenetics.stat.LongMoments;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class PopulationSummaryTest {
+
+	private static ISeq<Phenotype<DoubleGene, Double>>
+	population(final int size, final long seed) {
+		final var random = new Random(seed);
+		return random.ints(size, 0, 50)
+			.mapToObj(i -> Phenotype.<DoubleGene, Double>of(
+				Genotype.of(DoubleChromosome.of(0, 1)),
+				random.nextInt(10),
+				i/4.0
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test(dataProvider = "parameters")
+	public void summary(final Integer size, final Optimize opt) {
+		final long generation = 12;
+		final var population = population(size, 123);
+		final var summary = PopulationSummary.of(population, generation, opt);
+
+		Assert.assertEquals(summary.size(), size.intValue());
+		Assert.assertSame(
+			summary.best(),
+			population.stream().max(opt.ascending()).orElse(null)
+		);
+		Assert.assertSame(
+			summary.worst(),
+			population.stream().min(opt.ascending()).orElse(null)
+		);
+
+		final var ages = new LongMomentStatistics();
+		final var fitness = new DoubleMomentStatistics();
+		for (var pt : population) {
+			ages.accept(pt.age(generation));
+			fitness.accept(pt.fitness());
+		}
+		Assert.assertEquals(summary.ageMoments(), LongMoments.of(ages));
+		if (size > 0) {
+			Assert.assertEquals(summary.fitnessMoments(), DoubleMoments.of(fitness));
+		}
+	}
+
+	@Test(dataProvider = "parameters")
+	public void parallelSummary(final Integer size, final Optimize opt) {
+		final long generation = 12;
+		final var population = population(size, 456);
+		final var expected = PopulationSummary.of(population, generation, opt);
+
+		final var summary = PopulationSummary.of(
+			population, generation, opt, ForkJoinPool.commonPool(), 7
+		);
+
+		Assert.assertEquals(summary.size(), expected.size());
+		Assert.assertSame(summary.best(), expected.best());
+		Assert.assertSame(summary.worst(), expected.worst());
+		Assert.assertEquals(
+			summary.ageMoments().mean(),
+			expected.ageMoments().mean(),
+			1e-10
+		);
+		Assert.assertEquals(
+			summary.ageMoments().variance(),
+			expected.ageMoments().variance(),
+			1e-10
+		);
+		if (size > 0) {
+			Assert.assertEquals(
+				summary.fitnessMoments().mean(),
+				expected.fitnessMoments().mean(),
+				1e-10
+			);
+			Assert.assertEquals(
+				summary.fitnessMoments().variance(),
+				expected.fitnessMoments().variance(),
+				1e-10
+			);
+			Assert.assertEquals(
+				summary.fitnessQuantile(0.5),
+				expected.fitnessQuantile(0.5),
+				0.5
+			);
+		}
+	}
+
+	@Test(timeOut = 10_000)
+	public void parallelSummaryWithinExecutor() throws Exception {
+		final var population = population(100, 789);
+		final var expected = PopulationSummary.of(population, 12, Optimize.MAXIMUM);
+
+		final ExecutorService executor = Executors.newSingleThreadExecutor();
+		try {
+			final var summary = executor.submit(() -> PopulationSummary.of(
+				population, 12, Optimize.MAXIMUM, executor, 7
+			)).get();
+
+			Assert.assertEquals(summary.size(), expected.size());
+			Assert.assertSame(summary.best(), expected.best());
+			Assert.assertSame(summary.worst(), expected.worst());
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+
+	@Test
+	public void parallelSummaryWithRejectingExecutor() {
+		final var population = population(100, 789);
+		final var expected = PopulationSummary.of(population, 12, Optimize.MAXIMUM);
+
+		final var summary = PopulationSummary.of(
+			population,
+			12,
+			Optimize.MAXIMUM,
+			task -> { throw new RejectedExecutionException(); },
+			7
+		);
+
+		Assert.assertEquals(summary.size(), expected.size());
+		Assert.assertSame(summary.best(), expected.best());
+		Assert.assertSame(summary.worst(), expected.worst());
+	}
+
+	@DataProvider(name = "parameters")
+	public Object[][] parameters() {
+		return Arrays.stream(new Integer[]{0, 1, 2, 7, 8, 100, 1000})
+			.flatMap(size -> Arrays.stream(Optimize.values())
+				.map(opt -> new Object[]{size, opt}))
+			.toArray(Object[][]::new);
+	}
+
+	@Test
+	public void fitnessQuantile() {
+		final ISeq<Phenotype<DoubleGene, Integer>> population = ISeq.of(4, 1, 3, 2, 5)
+			.map(i -> Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, i));
+		final var summary = PopulationSummary.of(population, 1, Optimize.MAXIMUM);
+
+		Assert.assertEquals(summary.fitnessQuantile(0.0), 1.0);
+		Assert.assertEquals(summary.fitnessQuantile(0.25), 2.0);
+		Assert.assertEquals(summary.fitnessQuantile(0.5), 3.0);
+		Assert.assertEquals(summary.fitnessQuantile(0.625), 4.0);
+		Assert.assertEquals(summary.fitnessQuantile(1.0), 5.0);
+		Assert.assertEquals(summary.fitnessColumn(), new double[]{4, 1, 3, 2, 5});
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidQuantile() {
+		PopulationSummary.of(population(10, 1), 1, Optimize.MAXIMUM)
+			.fitnessQuantile(1.1);
+	}
+
+	@Test
+	public void nonNumericFitness() {
+		final ISeq<Phenotype<DoubleGene, String>> population = ISeq.of("b", "a", "c")
+			.map(s -> Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, s));
+		final var summary = PopulationSummary.of(population, 1, Optimize.MINIMUM);
+
+		Assert.assertEquals(summary.best().fitness(), "a");
+		Assert.assertEquals(summary.worst().fitness(), "c");
+		Assert.assertNull(summary.fitnessMoments());
+		Assert.assertNull(summary.fitnessColumn());
+		Assert.assertTrue(Double.isNaN(summary.fitnessQuantile(0.5)));
+	}
+
+	@Test
+	public void inexactLongFitness() {
+		final long big = (1L << 53) + 1;
+		final ISeq<Phenotype<DoubleGene, Long>> population = ISeq.of(big - 1, big, 3L)
+			.map(l -> Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, l));
+		final var summary = PopulationSummary.of(population, 1, Optimize.MAXIMUM);
+
+		Assert.assertEquals(summary.best().fitness().longValue(), big);
+		Assert.assertEquals(summary.worst().fitness().longValue(), 3L);
+		Assert.assertNotNull(summary.fitnessMoments());
+		Assert.assertNull(summary.fitnessColumn());
+	}
+
+}
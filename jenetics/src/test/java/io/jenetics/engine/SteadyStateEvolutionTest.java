@@ -0,0 +1,189 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.engine;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.Function;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Mutator;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class SteadyStateEvolutionTest {
+
+	private static final Engine<DoubleGene, Double> ENGINE = Engine
+		.builder(
+			gt -> gt.gene().doubleValue(),
+			Genotype.of(DoubleChromosome.of(0, 1))
+		)
+		.populationSize(20)
+		.build();
+
+	private static CompletableFuture<Double> eval(final Genotype<DoubleGene> gt) {
+		return CompletableFuture.completedFuture(gt.gene().doubleValue());
+	}
+
+	@Test
+	public void evolve() {
+		final var evolution = new SteadyStateEvolution<>(
+			ENGINE,
+			SteadyStateEvolutionTest::eval,
+			4,
+			50
+		);
+
+		final EvolutionResult<DoubleGene, Double> result =
+			evolution.evolve(EvolutionStart.empty());
+
+		Assert.assertEquals(result.population().size(), 20);
+		Assert.assertEquals(result.generation(), 1L);
+		Assert.assertTrue(result.population().forAll(pt -> pt.isEvaluated()));
+
+		final EvolutionResult<DoubleGene, Double> next =
+			evolution.evolve(result.next());
+
+		Assert.assertEquals(next.generation(), 2L);
+		Assert.assertTrue(
+			next.bestFitness() >= result.bestFitness(),
+			"Best fitness must not decrease."
+		);
+	}
+
+	@Test
+	public void stream() {
+		final var result = SteadyStateEvolution
+			.of(ENGINE, SteadyStateEvolutionTest::eval, 8)
+			.stream()
+			.limit(Limits.byFixedGeneration(30))
+			.collect(EvolutionResult.toBestEvolutionResult());
+
+		Assert.assertEquals(result.totalGenerations(), 30L);
+		Assert.assertTrue(result.bestFitness() > 0.9);
+	}
+
+	@Test
+	public void concurrency() {
+		final int concurrency = 3;
+		final AtomicInteger pending = new AtomicInteger();
+		final AtomicInteger maxPending = new AtomicInteger();
+
+		final ExecutorService executor = Executors.newFixedThreadPool(8);
+		try {
+			final Function<Genotype<DoubleGene>, CompletableFuture<Double>>
+				fitness = gt -> {
+					maxPending.accumulateAndGet(
+						pending.incrementAndGet(),
+						Math::max
+					);
+					return CompletableFuture.supplyAsync(() -> {
+						pending.decrementAndGet();
+						return gt.gene().doubleValue();
+					}, executor);
+				};
+
+			final long count = SteadyStateEvolution.of(ENGINE, fitness, concurrency)
+				.stream()
+				.limit(10)
+				.count();
+
+			Assert.assertEquals(count, 10L);
+			Assert.assertTrue(maxPending.get() <= concurrency, "" + maxPending);
+		} finally {
+			executor.shutdown();
+		}
+	}
+
+	@Test
+	public void noGenerationalBarrier() {
+		// The first offspring evaluation never completes.
+		final AtomicInteger evaluations = new AtomicInteger();
+		final Function<Genotype<DoubleGene>, CompletableFuture<Double>>
+			fitness = gt -> evaluations.incrementAndGet() ==
+				ENGINE.populationSize() + 1
+					? new CompletableFuture<>()
+					: eval(gt);
+
+		final long count = SteadyStateEvolution.of(ENGINE, fitness, 4)
+			.stream()
+			.limit(5)
+			.count();
+
+		Assert.assertEquals(count, 5L);
+	}
+
+	@Test
+	public void unalteredOffspringNotEvaluated() {
+		final Engine<DoubleGene, Double> engine = ENGINE.toBuilder()
+			.alterers(new Mutator<>(0.0))
+			.build();
+
+		final AtomicInteger evaluations = new AtomicInteger();
+		final var result = SteadyStateEvolution
+			.of(
+				engine,
+				gt -> {
+					evaluations.incrementAndGet();
+					return eval(gt);
+				},
+				4
+			)
+			.evolve(EvolutionStart.empty());
+
+		Assert.assertEquals(evaluations.get(), engine.populationSize());
+		Assert.assertEquals(result.population().size(), engine.populationSize());
+	}
+
+	@Test
+	public void worseOffspringNotReplacing() {
+		final var evolution = SteadyStateEvolution.of(
+			ENGINE,
+			SteadyStateEvolutionTest::eval,
+			4
+		);
+
+		EvolutionResult<DoubleGene, Double> result =
+			evolution.evolve(EvolutionStart.empty());
+		for (int i = 0; i < 10; ++i) {
+			final double worst = result.worstFitness();
+			result = evolution.evolve(result.next());
+
+			Assert.assertTrue(
+				result.worstFitness() >= worst,
+				"Worst fitness must not decrease."
+			);
+		}
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidConcurrency() {
+		SteadyStateEvolution.of(ENGINE, SteadyStateEvolutionTest::eval, 0);
+	}
+
+}
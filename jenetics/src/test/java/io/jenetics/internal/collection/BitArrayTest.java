@@ -35,6 +35,7 @@ import org.testng.annotations.DataProvider;
 import org.testng.annotations.Test;
 
 import io.jenetics.internal.util.EquivalentValidator;
+import io.jenetics.internal.util.MurmurHash64;
 
 /**
  * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
@@ -262,6 +263,27 @@ public class BitArrayTest {
 		Assert.assertEquals(bits.hashCode(), value);
 	}
 
+	@Test
+	public void murmurHash() {
+		final var random = new Random();
+		final var bytes = new byte[10];
+		random.nextBytes(bytes);
+
+		final var unaligned = new BitArray(bytes, 6, 65);
+		final var aligned = BitArray.of(unaligned.toByteArray(), unaligned.length());
+		Assert.assertEquals(
+			unaligned.hash(new MurmurHash64()).digest(),
+			aligned.hash(new MurmurHash64()).digest()
+		);
+
+		final var inverted = BitArray.ofLength(10);
+		inverted.invert();
+		Assert.assertEquals(
+			inverted.hash(new MurmurHash64()).digest(),
+			BitArray.of("1111111111").hash(new MurmurHash64()).digest()
+		);
+	}
+
 	@Test(expectedExceptions = IllegalArgumentException.class)
 	public void fromEmptyString() {
 		BitArray.of("");
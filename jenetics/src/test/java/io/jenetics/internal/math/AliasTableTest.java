@@ -0,0 +1,75 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.math;
+
+import static io.jenetics.internal.math.Basics.normalize;
+
+import java.util.Random;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class AliasTableTest {
+
+	@Test(dataProvider = "probabilities")
+	public void distribution(final double[] probabilities) {
+		final AliasTable table = AliasTable.of(probabilities);
+		Assert.assertEquals(table.size(), probabilities.length);
+
+		final int samples = 500_000;
+		final double[] histogram = new double[probabilities.length];
+		final var random = new Random(1234);
+		for (int i = 0; i < samples; ++i) {
+			histogram[table.next(random)] += 1.0/samples;
+		}
+
+		for (int i = 0; i < probabilities.length; ++i) {
+			if (probabilities[i] == 0) {
+				Assert.assertEquals(histogram[i], 0.0);
+			} else {
+				Assert.assertEquals(histogram[i], probabilities[i], 0.005);
+			}
+		}
+	}
+
+	@DataProvider(name = "probabilities")
+	public Object[][] probabilities() {
+		final var random = new Random(567);
+
+		return new Object[][] {
+			{new double[]{1.0}},
+			{new double[]{0.5, 0.5}},
+			{new double[]{0.0, 0.25, 0.0, 0.75}},
+			{new double[]{0.1, 0.2, 0.3, 0.4}},
+			{normalize(random.doubles(50).toArray())},
+			{normalize(random.doubles(100).map(v -> v*v*v).toArray())}
+		};
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void empty() {
+		AliasTable.of(new double[0]);
+	}
+
+}
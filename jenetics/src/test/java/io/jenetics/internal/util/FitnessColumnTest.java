@@ -0,0 +1,115 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import java.util.List;
+
+import org.testng.Assert;
+import org.testng.annotations.Test;
+
+import io.jenetics.DoubleChromosome;
+import io.jenetics.DoubleGene;
+import io.jenetics.Genotype;
+import io.jenetics.Optimize;
+import io.jenetics.Phenotype;
+import io.jenetics.util.ISeq;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class FitnessColumnTest {
+
+	private static <C extends Comparable<? super C>>
+	ISeq<Phenotype<DoubleGene, C>> population(final List<C> fitness) {
+		return fitness.stream()
+			.map(f -> Phenotype.<DoubleGene, C>of(
+				Genotype.of(DoubleChromosome.of(0, 1)), 1, f
+			))
+			.collect(ISeq.toISeq());
+	}
+
+	@Test
+	public void ofDouble() {
+		final double[] column = FitnessColumn.of(population(List.of(1.0, 3.5, -2.0)));
+		Assert.assertEquals(column, new double[]{1.0, 3.5, -2.0});
+	}
+
+	@Test
+	public void ofInteger() {
+		final double[] column = FitnessColumn.of(population(List.of(1, 3, -2)));
+		Assert.assertEquals(column, new double[]{1.0, 3.0, -2.0});
+	}
+
+	@Test
+	public void ofLong() {
+		Assert.assertEquals(
+			FitnessColumn.of(population(List.of(1L, 1L << 53))),
+			new double[]{1.0, 0x1p53}
+		);
+		Assert.assertNull(FitnessColumn.of(population(List.of(1L, (1L << 53) + 1))));
+	}
+
+	@Test
+	public void ofNonNumber() {
+		Assert.assertNull(FitnessColumn.of(population(List.of("a", "b"))));
+	}
+
+	@Test
+	public void ofNotEvaluated() {
+		final ISeq<Phenotype<DoubleGene, Double>> population = ISeq.of(
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1, 1.0),
+			Phenotype.of(Genotype.of(DoubleChromosome.of(0, 1)), 1)
+		);
+		Assert.assertNull(FitnessColumn.of(population));
+	}
+
+	@Test
+	public void ofEmpty() {
+		final double[] column = FitnessColumn.of(ISeq.<Phenotype<DoubleGene, Double>>empty());
+		Assert.assertEquals(column.length, 0);
+		Assert.assertEquals(FitnessColumn.best(column, Optimize.MAXIMUM), -1);
+		Assert.assertEquals(FitnessColumn.worst(column, Optimize.MAXIMUM), -1);
+	}
+
+	@Test
+	public void compare() {
+		final double[] values = {Double.NaN, -0.0, 0.0, 1.0, Double.NEGATIVE_INFINITY};
+		for (double a : values) {
+			for (double b : values) {
+				for (Optimize opt : Optimize.values()) {
+					Assert.assertEquals(
+						Integer.signum(FitnessColumn.compare(a, b, opt)),
+						Integer.signum(opt.compare(a, b))
+					);
+				}
+			}
+		}
+	}
+
+	@Test
+	public void bestWorst() {
+		final double[] column = {3, 1, 5, 1, 5, 2};
+		Assert.assertEquals(FitnessColumn.best(column, Optimize.MAXIMUM), 2);
+		Assert.assertEquals(FitnessColumn.worst(column, Optimize.MAXIMUM), 1);
+		Assert.assertEquals(FitnessColumn.best(column, Optimize.MINIMUM), 1);
+		Assert.assertEquals(FitnessColumn.worst(column, Optimize.MINIMUM), 2);
+	}
+
+}
@@ -0,0 +1,84 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.internal.util;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.random.RandomGenerator;
+
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class MurmurHash64Test {
+
+	@Test
+	public void deterministic() {
+		final var random = RandomGenerator.of("L64X256MixRandom");
+		final long[] values = random.longs(100).toArray();
+
+		assertThat(new MurmurHash64().update(values).digest())
+			.isEqualTo(new MurmurHash64().update(values).digest());
+		assertThat(new MurmurHash64(1).update(values).digest())
+			.isNotEqualTo(new MurmurHash64(2).update(values).digest());
+	}
+
+	@Test
+	public void bytesLikeLongBlocks() {
+		final byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10};
+
+		assertThat(new MurmurHash64().update(bytes).digest())
+			.isEqualTo(new MurmurHash64()
+				.update(0x0807060504030201L)
+				.update(0x0A09L)
+				.digest());
+	}
+
+	@Test
+	public void bytesRange() {
+		final byte[] bytes = {1, 2, 3, 4, 5, 6, 7, 8, 9, 10, 11, 12, 13};
+
+		assertThat(new MurmurHash64().update(bytes, 2, 10).digest())
+			.isEqualTo(new MurmurHash64()
+				.update(Arrays.copyOfRange(bytes, 2, 12))
+				.digest());
+	}
+
+	@Test
+	public void orderSensitive() {
+		assertThat(new MurmurHash64().update(1).update(2).digest())
+			.isNotEqualTo(new MurmurHash64().update(2).update(1).digest());
+		assertThat(new MurmurHash64().update(0).digest())
+			.isNotEqualTo(new MurmurHash64().update(0).update(0).digest());
+	}
+
+	@Test
+	public void noCollisions() {
+		final Set<Long> hashes = new HashSet<>();
+		for (int i = 0; i < 100_000; ++i) {
+			assertThat(hashes.add(new MurmurHash64().update(i).digest())).isTrue();
+		}
+	}
+
+}
@@ -0,0 +1,146 @@
+/*
+ * Java Genetic Algorithm Library (@__identifier__@).
+ * Copyright (c) @__year__@ Franz Wilhelmstötter
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ *      http://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Unless required by applicable law or agreed to in writing, software
+ * distributed under the License is distributed on an "AS IS" BASIS,
+ * WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ * See the License for the specific language governing permissions and
+ * limitations under the License.
+ *
+ * Author:
+ *    Franz Wilhelmstötter (franz.wilhelmstoetter@gmail.com)
+ */
+package io.jenetics.stat;
+
+import java.util.Arrays;
+import java.util.Random;
+import java.util.stream.IntStream;
+
+import org.testng.Assert;
+import org.testng.annotations.DataProvider;
+import org.testng.annotations.Test;
+
+/**
+ * @author <a href="mailto:franz.wilhelmstoetter@gmail.com">Franz Wilhelmstötter</a>
+ */
+public class QuantileSketchTest {
+
+	@Test
+	public void empty() {
+		final var sketch = new QuantileSketch();
+		Assert.assertEquals(sketch.count(), 0);
+		Assert.assertTrue(Double.isNaN(sketch.quantile(0.5)));
+		Assert.assertTrue(Double.isNaN(sketch.rank(0.5)));
+	}
+
+	@Test
+	public void exactForSmallInputs() {
+		final double[] values = new Random(123).doubles(100).toArray();
+		final var sketch = new QuantileSketch();
+		Arrays.stream(values).forEach(sketch);
+
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+		for (int i = 1; i <= sorted.length; ++i) {
+			final double p = (i - 0.5)/sorted.length;
+			Assert.assertEquals(sketch.quantile(p), sorted[i - 1]);
+		}
+		Assert.assertEquals(sketch.quantile(0), sorted[0]);
+		Assert.assertEquals(sketch.rank(sorted[49]), 0.5);
+	}
+
+	@Test(dataProvider = "sizes")
+	public void accuracy(final Integer size) {
+		final var sketch = new QuantileSketch();
+		final double[] values = new Random(size).doubles(size).toArray();
+		Arrays.stream(values).forEach(sketch);
+
+		assertAccuracy(sketch, values);
+		Assert.assertTrue(sketch.retained() <= 4*sketch.k(), "" + sketch.retained());
+	}
+
+	@Test(dataProvider = "sizes")
+	public void combinedAccuracy(final Integer size) {
+		final double[] values = new Random(size).doubles(size).toArray();
+		final QuantileSketch sketch = IntStream.range(0, 10)
+			.mapToObj(i -> Arrays.stream(values, i*size/10, (i + 1)*size/10)
+				.collect(
+					QuantileSketch::new,
+					QuantileSketch::accept,
+					QuantileSketch::combine))
+			.reduce(new QuantileSketch(), QuantileSketch::combine);
+
+		assertAccuracy(sketch, values);
+	}
+
+	@Test
+	public void parallelCollector() {
+		final int size = 1_000_000;
+		final double[] values = new Random(567).doubles(size).toArray();
+		final QuantileSketch sketch = Arrays.stream(values).boxed()
+			.parallel()
+			.collect(QuantileSketch.toQuantileSketch(Double::doubleValue));
+
+		assertAccuracy(sketch, values);
+	}
+
+	private static void assertAccuracy(
+		final QuantileSketch sketch,
+		final double[] values
+	) {
+		final double[] sorted = values.clone();
+		Arrays.sort(sorted);
+
+		Assert.assertEquals(sketch.count(), values.length);
+		Assert.assertEquals(sketch.min(), sorted[0]);
+		Assert.assertEquals(sketch.max(), sorted[sorted.length - 1]);
+		Assert.assertEquals(sketch.quantile(0), sorted[0]);
+		Assert.assertEquals(sketch.quantile(1), sorted[sorted.length - 1]);
+
+		for (int i = 1; i < 100; ++i) {
+			final double p = i/100.0;
+			final double quantile = sketch.quantile(p);
+			final int rank = Arrays.binarySearch(sorted, quantile) + 1;
+
+			Assert.assertTrue(rank > 0, "Quantile must be an accepted value.");
+			Assert.assertEquals((double)rank/sorted.length, p, 0.02);
+		}
+	}
+
+	@DataProvider(name = "sizes")
+	public Object[][] sizes() {
+		return new Object[][] {
+			{1_000}, {10_000}, {100_000}, {1_000_000}
+		};
+	}
+
+	@Test
+	public void deterministic() {
+		final double[] values = new Random(789).doubles(100_000).toArray();
+		final var sketch1 = new QuantileSketch();
+		final var sketch2 = new QuantileSketch();
+		Arrays.stream(values).forEach(sketch1);
+		Arrays.stream(values).forEach(sketch2);
+
+		final double[] p = {0.1, 0.5, 0.9, 0.99};
+		Assert.assertEquals(sketch1.quantiles(p), sketch2.quantiles(p));
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidK() {
+		new QuantileSketch(7);
+	}
+
+	@Test(expectedExceptions = IllegalArgumentException.class)
+	public void invalidProbability() {
+		new QuantileSketch().quantile(-0.1);
+	}
+
+}